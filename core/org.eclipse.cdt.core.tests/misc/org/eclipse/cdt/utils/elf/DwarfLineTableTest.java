@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.utils.elf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.cdt.core.IAddressFactory;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfLineTable;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Line table built from the debug information of the ELF files of
+ * {@link ElfTest}, whose lines are those of resources/elf/unit_test/simple.c,
+ * and of a <code>gcc simple.c -g -gdwarf-5 -no-pie</code> build of it, whose
+ * line table is a version 5 one
+ */
+@RunWith(Parameterized.class)
+public class DwarfLineTableTest {
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> elfArchitectures() {
+		return Arrays.asList(new Object[][] {
+				{ "BE32", "resources/elf/unit_test/simple-be32.elf", "0x100004ec", "0x10000518", "0x1000052c",
+						"0x10000554" },
+				{ "BE64", "resources/elf/unit_test/simple-be64.elf", "0x10000598", "0x100005d4", "0x100005e8",
+						"0x10000618" },
+				{ "LE32", "resources/elf/unit_test/simple-le32.elf", "0x80483db", "0x80483e5", "0x80483e8",
+						"0x80483f4" },
+				{ "LE64", "resources/elf/unit_test/simple-le64.elf", "0x4004d6", "0x4004e4", "0x4004e8",
+						"0x4004f4" },
+				{ "LE64 DWARF 5", "resources/elf/unit_test/simple-le64-dwarf5.elf", "0x401106", "0x401114",
+						"0x401118", "0x401124" }, });
+	}
+
+	private final String arch;
+	private final Elf elf;
+	private final IAddressFactory factory;
+	private final String functionAddress;
+	private final String mainAddress;
+	private final String returnAddress;
+	private final String endAddress;
+
+	public DwarfLineTableTest(String arch, String path, String functionAddress, String mainAddress,
+			String returnAddress, String endAddress) throws IOException {
+		this.arch = arch;
+		this.elf = new Elf(path);
+		this.factory = elf.getAttributes().getAddressFactory();
+		this.functionAddress = functionAddress;
+		this.mainAddress = mainAddress;
+		this.returnAddress = returnAddress;
+		this.endAddress = endAddress;
+	}
+
+	@After
+	public void tearDown() {
+		elf.dispose();
+	}
+
+	@Test
+	public void testLines() throws IOException {
+		DwarfLineTable table = DwarfLineTable.getLineTable(elf);
+		assertFalse(arch, table.isEmpty());
+		assertEquals(arch + ": function", 2, table.getLineNumber(factory.createAddress(functionAddress)));
+		assertEquals(arch + ": main", 7, table.getLineNumber(factory.createAddress(mainAddress)));
+		assertEquals(arch + ": within main", 7,
+				table.getLineNumber(factory.createAddress(mainAddress).add(1)));
+		assertEquals(arch + ": return", 8, table.getLineNumber(factory.createAddress(returnAddress)));
+		assertEquals(arch + ": end", -1, table.getLineNumber(factory.createAddress(endAddress)));
+		assertEquals(arch + ": before", -1,
+				table.getLineNumber(factory.createAddress(functionAddress).add(-1)));
+	}
+
+	@Test
+	public void testFileNames() throws IOException {
+		DwarfLineTable table = DwarfLineTable.getLineTable(elf);
+		String fileName = table.getFileName(factory.createAddress(mainAddress));
+		assertTrue(arch + ": " + fileName, fileName.endsWith("simple.c"));
+		assertNull(arch, table.getFileName(factory.createAddress(endAddress)));
+	}
+
+	@Test
+	public void testCached() throws IOException {
+		assertSame(arch, DwarfLineTable.getLineTable(elf), DwarfLineTable.getLineTable(elf));
+	}
+}
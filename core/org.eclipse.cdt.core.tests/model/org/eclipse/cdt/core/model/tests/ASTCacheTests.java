@@ -27,6 +27,7 @@ import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
 import org.eclipse.cdt.internal.core.model.ASTCache;
 import org.eclipse.cdt.internal.core.model.ASTCache.ASTRunnable;
+import org.eclipse.cdt.internal.core.model.TranslationUnit;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
@@ -148,6 +149,9 @@ public class ASTCacheTests extends BaseTestCase {
 		checkSingleThreadAccess();
 		checkAccessWithSequentialReconciler();
 		checkAccessWithConcurrentReconciler();
+		checkInactiveASTReuse();
+		checkLatestAST();
+		checkInactiveASTWithoutContents();
 	}
 
 	private void checkActiveElement() throws Exception {
@@ -318,6 +322,163 @@ public class ASTCacheTests extends BaseTestCase {
 		}
 	}
 
+	private void checkInactiveASTReuse() throws Exception {
+		final ASTCache cache = new ASTCache();
+		final IASTTranslationUnit[] asts = new IASTTranslationUnit[2];
+		cache.setActiveElement(fTU1);
+		cache.runOnAST(fTU1, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				asts[0] = ast;
+				return Status.OK_STATUS;
+			}
+		});
+
+		// The AST of an inactive element is created once and shared.
+		cache.runOnAST(fTU2, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				asts[1] = ast;
+				return Status.OK_STATUS;
+			}
+		});
+		cache.runOnAST(fTU2, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[1], ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// Switching the active element keeps the AST of the previously active element.
+		cache.setActiveElement(fTU2);
+		cache.runOnAST(fTU2, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[1], ast);
+				return Status.OK_STATUS;
+			}
+		});
+		cache.setActiveElement(fTU1);
+		cache.runOnAST(fTU1, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[0], ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// A change of the contents of an inactive element discards its AST.
+		cache.aboutToBeReconciled(fTU2);
+		cache.runOnAST(fTU2, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+	}
+
+	private void checkLatestAST() throws Exception {
+		final ASTCache cache = new ASTCache();
+		final IASTTranslationUnit[] asts = new IASTTranslationUnit[1];
+		cache.setActiveElement(fTU1);
+		cache.runOnLatestAST(fTU1, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+		cache.runOnAST(fTU1, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				asts[0] = ast;
+				return Status.OK_STATUS;
+			}
+		});
+
+		// While reconciling, the AST of the previous contents is still returned.
+		cache.aboutToBeReconciled(fTU1);
+		cache.runOnAST(fTU1, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+		cache.runOnLatestAST(fTU1, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[0], ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// Only the AST of the active element is returned.
+		cache.runOnLatestAST(fTU2, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// Once reconciled, the new AST replaces the previous one.
+		final IASTTranslationUnit reconciledAST = cache.createAST(fTU1, fIndex, null);
+		assertNotNull(reconciledAST);
+		cache.reconciled(reconciledAST, fTU1);
+		cache.runOnLatestAST(fTU1, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(reconciledAST, ast);
+				return Status.OK_STATUS;
+			}
+		});
+	}
+
+	private void checkInactiveASTWithoutContents() throws Exception {
+		final ASTCache cache = new ASTCache();
+		cache.setActiveElement(fTU1);
+		// A translation unit whose buffer is not available.
+		final ITranslationUnit tu = new TranslationUnit(fProject, (IFile) fTU2.getResource(),
+				fTU2.getContentTypeId()) {
+			@Override
+			public char[] getContents() {
+				return null;
+			}
+		};
+		assertNull(tu.getContents());
+
+		// Its AST can't be compared with the contents, so it is created again each time.
+		final IASTTranslationUnit[] asts = new IASTTranslationUnit[2];
+		Thread thread = new Thread("ASTCacheTests-no-contents") {
+			@Override
+			public void run() {
+				for (int i = 0; i < asts.length; i++) {
+					final int index = i;
+					cache.runOnAST(tu, true, null, new ASTRunnable() {
+						@Override
+						public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+							asts[index] = ast;
+							return Status.OK_STATUS;
+						}
+					});
+				}
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+		thread.join(10000);
+		assertFalse("getAST() does not return", thread.isAlive());
+		assertNotNull(asts[0]);
+		assertNotNull(asts[1]);
+		assertNotSame(asts[0], asts[1]);
+	}
+
 	private void waitForAST(ASTCache cache, ITranslationUnit tUnit, ASTRunnable runnable) {
 		if (DEBUG)
 			System.out.println("waiting for " + tUnit.getElementName());
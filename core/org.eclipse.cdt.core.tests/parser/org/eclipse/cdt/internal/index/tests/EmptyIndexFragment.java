@@ -194,6 +194,16 @@ public class EmptyIndexFragment implements IIndexFragment {
 		return IIndexFragmentFile.EMPTY_ARRAY;
 	}
 
+	@Override
+	public int getUnresolvedIncludesCount() {
+		return 0;
+	}
+
+	@Override
+	public int getProblemBindingsCount() {
+		return 0;
+	}
+
 	@Override
 	public Object getCachedResult(Object key) {
 		return null;
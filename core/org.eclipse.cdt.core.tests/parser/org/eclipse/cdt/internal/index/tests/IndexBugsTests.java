@@ -2563,6 +2563,42 @@ public class IndexBugsTests extends BaseTestCase {
 		}
 	}
 
+	//	// test.cpp
+	//	#include "missing1.h"
+	//	#include "a.h"
+	//	int x = undeclared1;
+
+	//	// a.h
+	//	#include "missing2.h"
+	//	int y = undeclared2 + undeclared3;
+
+	//	// test.cpp
+	//	#include "a.h"
+	//	int x = y;
+	public void testUnresolvedIncludesAndProblemBindingsCounts() throws Exception {
+		String[] contents = getContentsForTest(3);
+		TestSourceReader.createFile(fCProject.getProject(), "a.h", contents[1]);
+		IFile test = TestSourceReader.createFile(fCProject.getProject(), "test.cpp", contents[0]);
+		waitUntilFileIsIndexed(test, INDEXER_TIMEOUT_SEC * 1000);
+		fIndex.acquireReadLock();
+		try {
+			assertEquals(2, fIndex.getUnresolvedIncludesCount());
+			assertEquals(3, fIndex.getProblemBindingsCount());
+		} finally {
+			fIndex.releaseReadLock();
+		}
+
+		test = TestSourceReader.createFile(fCProject.getProject(), "test.cpp", contents[2]);
+		waitUntilFileIsIndexed(test, INDEXER_TIMEOUT_SEC * 1000);
+		fIndex.acquireReadLock();
+		try {
+			assertEquals(1, fIndex.getUnresolvedIncludesCount());
+			assertEquals(2, fIndex.getProblemBindingsCount());
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
 	// extern int h1;
 
 	// extern int h2;
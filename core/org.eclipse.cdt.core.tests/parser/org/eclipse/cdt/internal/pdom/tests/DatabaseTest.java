@@ -98,6 +98,31 @@ public class DatabaseTest extends BaseTestCase {
 		assertEquals(mem + blocksize, db.getRecPtr((freeDeltas - Database.MIN_BLOCK_DELTAS + 1) * Database.INT_SIZE));
 	}
 
+	public void testClearFreeBlocks() throws Exception {
+		final int realsize = 42;
+		long mem1 = db.malloc(realsize);
+		long mem2 = db.malloc(realsize);
+		for (int i = 0; i < realsize; i++) {
+			db.putByte(mem1 + i, (byte) 0x55);
+			db.putByte(mem2 + i, (byte) 0x55);
+		}
+		db.free(mem1);
+
+		assertTrue(db.clearFreeBlocks() > 0);
+		// The links of the free list are kept.
+		assertEquals(mem1, db.getRecPtr(
+				(db.getShort(mem1 - Database.BLOCK_HEADER_SIZE) / Database.BLOCK_SIZE_DELTA - Database.MIN_BLOCK_DELTAS
+						+ 1) * Database.INT_SIZE));
+		for (int i = 2 * Database.INT_SIZE; i < realsize; i++) {
+			assertEquals(0, db.getByte(mem1 + i));
+		}
+		// Records in use are not touched.
+		for (int i = 0; i < realsize; i++) {
+			assertEquals(0x55, db.getByte(mem2 + i));
+		}
+		assertEquals(mem1, db.malloc(realsize));
+	}
+
 	public void testBug192437() throws Exception {
 		File tmp = File.createTempFile("readOnlyEmpty", ".db");
 		try {
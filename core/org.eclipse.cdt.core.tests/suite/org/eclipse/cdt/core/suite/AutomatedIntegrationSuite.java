@@ -41,6 +41,7 @@ import org.eclipse.cdt.utils.FindProgramLocationTest;
 import org.eclipse.cdt.utils.StorableCdtVariablesTest;
 import org.eclipse.cdt.utils.UNCPathConverterTest;
 import org.eclipse.cdt.utils.WeakHashSetTest;
+import org.eclipse.cdt.utils.elf.DwarfLineTableTest;
 import org.eclipse.cdt.utils.elf.ElfParserTest;
 import org.eclipse.cdt.utils.elf.ElfTest;
 
@@ -102,6 +103,7 @@ public class AutomatedIntegrationSuite extends TestSuite {
 		suite.addTest(ScopeOfBuildConfigResourceChangesPreferenceTests.suite());
 		suite.addTest(ElfParserTest.suite());
 		suite.addTest(new JUnit4TestAdapter(ElfTest.class));
+		suite.addTest(new JUnit4TestAdapter(DwarfLineTableTest.class));
 
 		// Add in PDOM tests
 		suite.addTest(PDOMTestSuite.suite());
@@ -15,6 +15,13 @@
  ******************************************************************************/
 package org.eclipse.cdt.internal.core.model;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.function.Function;
+
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.index.IIndex;
@@ -33,7 +40,10 @@ import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 
 /**
- * Provides a shared AST of a single translation unit at a time.
+ * Provides a shared AST of the active translation unit. In addition, the ASTs of a few recently
+ * active or requested translation units are kept, so that switching between editors does not
+ * require a full parse each time. Concurrent requests for the AST of the same translation unit
+ * share a single parse.
  *
  * @since 4.0
  */
@@ -51,6 +61,14 @@ public class ASTCache {
 			| ITranslationUnit.AST_SKIP_TRIVIAL_EXPRESSIONS_IN_AGGREGATE_INITIALIZERS
 			| ITranslationUnit.AST_PARSE_INACTIVE_CODE;
 
+	/** Default maximum number of ASTs kept for translation units other than the active one. */
+	public static final int DEFAULT_MAX_INACTIVE_ASTS = 4;
+	/**
+	 * Default limit for the total source length (in characters) of translation units with
+	 * cached ASTs other than the active one. Used as a measure of the memory held by the ASTs.
+	 */
+	public static final long DEFAULT_MAX_INACTIVE_SOURCE_LENGTH = 4 * 1024 * 1024;
+
 	/**
 	 * Do something with an AST.
 	 *
@@ -82,12 +100,72 @@ public class ASTCache {
 	private long fLastWriteOnIndex;
 	/** Indicates whether the AST is currently being computed */
 	private boolean fIsReconciling;
+	/** Fingerprint of the contents the cached AST was created from */
+	private long fContentsStamp = STAMP_NOT_COMPUTED;
+	/** Fingerprint of the contents at the time reconciling of the active element started */
+	private long fReconcilingContentsStamp = STAMP_NOT_COMPUTED;
+	/**
+	 * The last AST of the active element that was superseded by a change to the contents.
+	 * Returned by {@link #acquireLatestSharedAST(ITranslationUnit, IIndex)} while a new AST
+	 * is being computed.
+	 */
+	private IASTTranslationUnit fPreviousAST;
+	private long fPreviousLastWriteOnIndex;
+
+	/** Contents stamp of a translation unit whose contents were not fingerprinted */
+	private static final long STAMP_NOT_COMPUTED = -1;
+	/**
+	 * Contents stamp of a translation unit whose contents are not available. An AST with this
+	 * stamp can't be compared with the contents, so it is never reused.
+	 */
+	private static final long STAMP_UNKNOWN = -2;
+
+	private final int fMaxInactiveASTs;
+	private final long fMaxInactiveSourceLength;
+	/** ASTs of translation units other than the active one, in least recently used order */
+	private final LinkedHashMap<ITranslationUnit, InactiveAST> fInactiveASTs = new LinkedHashMap<>(16, 0.75f, true);
+	private long fInactiveSourceLength;
+	/** Translation units other than the active one for which an AST is being created */
+	private final Set<ITranslationUnit> fPendingTUs = new HashSet<>();
+
+	/**
+	 * An AST cached for a translation unit that is not the active element.
+	 */
+	private static class InactiveAST {
+		final IASTTranslationUnit fAST;
+		final long fLastWriteOnIndex;
+		final long fContentsStamp;
+
+		InactiveAST(IASTTranslationUnit ast, long lastWriteOnIndex, long contentsStamp) {
+			fAST = ast;
+			fLastWriteOnIndex = lastWriteOnIndex;
+			fContentsStamp = contentsStamp;
+		}
+
+		long getSourceLength() {
+			return fContentsStamp >>> 32;
+		}
+	}
 
 	/**
 	 * Create a new AST cache.
 	 */
 	public ASTCache() {
+		this(DEFAULT_MAX_INACTIVE_ASTS, DEFAULT_MAX_INACTIVE_SOURCE_LENGTH);
+	}
+
+	/**
+	 * Create a new AST cache.
+	 *
+	 * @param maxInactiveASTs  the maximum number of ASTs kept for translation units other than
+	 *     the active one, zero to cache the AST of the active element only
+	 * @param maxInactiveSourceLength  the maximum total source length of the translation units
+	 *     other than the active one with cached ASTs
+	 */
+	public ASTCache(int maxInactiveASTs, long maxInactiveSourceLength) {
 		fParseMode = PARSE_MODE;
+		fMaxInactiveASTs = maxInactiveASTs;
+		fMaxInactiveSourceLength = maxInactiveSourceLength;
 	}
 
 	/**
@@ -113,6 +191,8 @@ public class ASTCache {
 			if (progressMonitor != null && progressMonitor.isCanceled())
 				return null;
 
+			// Computing the fingerprint of the contents may access the buffer, don't hold the mutex.
+			final long contentsStamp = isInactiveASTCached(tUnit) ? computeContentsStamp(tUnit) : STAMP_NOT_COMPUTED;
 			final boolean isActiveElement;
 			synchronized (fCacheMutex) {
 				isActiveElement = tUnit.equals(fActiveTU);
@@ -159,13 +239,43 @@ public class ASTCache {
 					} catch (InterruptedException e) {
 						return null; // thread has been interrupted don't compute AST
 					}
-				} else if (!wait) {
-					return null;
+				} else if (!isActiveElement) {
+					if (contentsStamp == STAMP_NOT_COMPUTED && fInactiveASTs.containsKey(tUnit)) {
+						// An AST got cached concurrently, compute the fingerprint for it first.
+						continue;
+					}
+					IASTTranslationUnit ast = getInactiveAST(tUnit, index, contentsStamp);
+					if (ast != null) {
+						if (DEBUG)
+							System.out.println(DEBUG_PREFIX + getThreadName() + "returning cached inactive AST: " //$NON-NLS-1$
+									+ toString(ast) + " for: " + tUnit.getElementName()); //$NON-NLS-1$
+						return ast;
+					}
+					if (!wait)
+						return null;
+					if (fPendingTUs.contains(tUnit)) {
+						// Another thread is creating the AST, share its result.
+						try {
+							if (DEBUG)
+								System.out.println(DEBUG_PREFIX + getThreadName() + "waiting for pending AST for: " //$NON-NLS-1$
+										+ tUnit.getElementName());
+							fCacheMutex.wait();
+							continue;
+						} catch (InterruptedException e) {
+							return null;
+						}
+					}
+					fPendingTUs.add(tUnit);
 				}
 			}
 
-			if (isActiveElement)
+			final long parsedContentsStamp;
+			if (isActiveElement) {
 				aboutToBeReconciled(tUnit);
+				parsedContentsStamp = STAMP_NOT_COMPUTED;
+			} else {
+				parsedContentsStamp = computeContentsStamp(tUnit);
+			}
 
 			if (DEBUG)
 				System.err.println(DEBUG_PREFIX + getThreadName() + "creating AST for " + tUnit.getElementName()); //$NON-NLS-1$
@@ -178,7 +288,14 @@ public class ASTCache {
 				else if (DEBUG && ast != null)
 					System.err.println(DEBUG_PREFIX + getThreadName() + "created AST for: " + tUnit.getElementName()); //$NON-NLS-1$
 			} finally {
-				if (isActiveElement) {
+				if (!isActiveElement) {
+					synchronized (fCacheMutex) {
+						fPendingTUs.remove(tUnit);
+						if (ast != null)
+							putInactiveAST(tUnit, ast, parsedContentsStamp);
+						fCacheMutex.notifyAll();
+					}
+				} else {
 					if (fAST != null) {
 						if (DEBUG)
 							System.out.println(DEBUG_PREFIX + getThreadName() + "Ignore created AST for " //$NON-NLS-1$
@@ -208,6 +325,26 @@ public class ASTCache {
 	 * @return the status returned by the ASTRunnable
 	 */
 	public IStatus runOnAST(ITranslationUnit tUnit, boolean wait, IProgressMonitor monitor, ASTRunnable astRunnable) {
+		return runOnAST(tUnit, index -> acquireSharedAST(tUnit, index, wait, monitor), astRunnable);
+	}
+
+	/**
+	 * Executes {@link ASTRunnable#runOnAST(ILanguage, IASTTranslationUnit)} with the most
+	 * recent AST of the active translation unit, see
+	 * {@link #acquireLatestSharedAST(ITranslationUnit, IIndex)}. Never waits for an AST
+	 * to be computed. Handles acquiring and releasing the index read-lock for the client.
+	 *
+	 * @param tUnit  the translation unit
+	 * @param astRunnable  the runnable taking the AST, which may not reflect the current
+	 *            contents of the translation unit
+	 * @return the status returned by the ASTRunnable
+	 */
+	public IStatus runOnLatestAST(ITranslationUnit tUnit, ASTRunnable astRunnable) {
+		return runOnAST(tUnit, index -> acquireLatestSharedAST(tUnit, index), astRunnable);
+	}
+
+	private IStatus runOnAST(ITranslationUnit tUnit, Function<IIndex, IASTTranslationUnit> acquire,
+			ASTRunnable astRunnable) {
 		IIndex index;
 		try {
 			index = CCorePlugin.getIndexManager().getIndex(tUnit.getCProject(),
@@ -220,7 +357,7 @@ public class ASTCache {
 		}
 
 		try {
-			IASTTranslationUnit ast = acquireSharedAST(tUnit, index, wait, monitor);
+			IASTTranslationUnit ast = acquire.apply(index);
 			ILanguage lang = (tUnit instanceof TranslationUnit) ? ((TranslationUnit) tUnit).getLanguageOfContext()
 					: tUnit.getLanguage();
 			if (ast == null) {
@@ -279,6 +416,47 @@ public class ASTCache {
 		return ast;
 	}
 
+	/**
+	 * Returns the most recent AST of the active translation unit without waiting and locks it
+	 * for exclusive access. While a new AST is being computed after a change to the contents,
+	 * the previous AST is returned, so the AST may not reflect the current contents of the
+	 * translation unit. Suitable for features that can tolerate slightly outdated information.
+	 * An AST obtained from this method has to be released by calling
+	 * {@link #releaseSharedAST(IASTTranslationUnit)}.
+	 * <p>
+	 * Clients are not allowed to modify the AST and must hold an index read
+	 * lock prior to calling this method and continue to hold the lock as long
+	 * as the AST is being used.
+	 * </p>
+	 *
+	 * @param tUnit  the translation unit
+	 * @param index  the index used to create the AST, needs to be read-locked
+	 * @return the AST or <code>null</code> if no AST is available or it is in use
+	 */
+	public final IASTTranslationUnit acquireLatestSharedAST(ITranslationUnit tUnit, IIndex index) {
+		if (tUnit == null)
+			return null;
+		IASTTranslationUnit ast = null;
+		synchronized (fCacheMutex) {
+			if (!tUnit.equals(fActiveTU))
+				return null;
+			if (fAST != null && fLastWriteOnIndex >= index.getLastWriteAccess()) {
+				ast = fAST;
+			} else if (fPreviousAST != null && fPreviousLastWriteOnIndex >= index.getLastWriteAccess()) {
+				ast = fPreviousAST;
+			}
+		}
+		if (ast != null) {
+			try {
+				if (!((ASTTranslationUnit) ast).tryBeginExclusiveAccess(0))
+					return null;
+			} catch (InterruptedException e) {
+				throw new OperationCanceledException();
+			}
+		}
+		return ast;
+	}
+
 	/**
 	 * Releases a shared AST previously acquired by calling
 	 * {@link #acquireSharedAST(ITranslationUnit, IIndex, boolean, IProgressMonitor)}.
@@ -298,6 +476,17 @@ public class ASTCache {
 	 * @param tUnit  the translation unit
 	 */
 	private void cache(IASTTranslationUnit ast, ITranslationUnit tUnit) {
+		cache(ast, tUnit, STAMP_NOT_COMPUTED);
+	}
+
+	/**
+	 * Caches the given AST for the given translation unit.
+	 *
+	 * @param ast    the AST
+	 * @param tUnit  the translation unit
+	 * @param contentsStamp  the fingerprint of the contents the AST was created from
+	 */
+	private void cache(IASTTranslationUnit ast, ITranslationUnit tUnit, long contentsStamp) {
 		assert Thread.holdsLock(fCacheMutex);
 		if (fActiveTU != null && !fActiveTU.equals(tUnit)) {
 			if (DEBUG && tUnit != null) // don't report call from disposeAST()
@@ -314,6 +503,9 @@ public class ASTCache {
 
 		fAST = ast;
 		fLastWriteOnIndex = fAST == null ? 0 : fAST.getIndex().getLastWriteAccess();
+		fContentsStamp = contentsStamp;
+		if (fAST != null)
+			fPreviousAST = null;
 
 		// Signal AST change
 		fCacheMutex.notifyAll();
@@ -331,6 +523,8 @@ public class ASTCache {
 				System.out.println(DEBUG_PREFIX + getThreadName() + "disposing AST: " + toString(fAST) + " for: " //$NON-NLS-1$//$NON-NLS-2$
 						+ toString(fActiveTU));
 
+			fPreviousAST = fAST;
+			fPreviousLastWriteOnIndex = fLastWriteOnIndex;
 			fAST = null;
 			cache(null, null);
 		}
@@ -385,10 +579,25 @@ public class ASTCache {
 		if (tUnit == fActiveTU) {
 			return;
 		}
+		final long contentsStamp = isInactiveASTCached(tUnit) ? computeContentsStamp(tUnit) : STAMP_NOT_COMPUTED;
 		synchronized (fCacheMutex) {
+			if (fActiveTU != null && fAST != null && !fIsReconciling)
+				putInactiveAST(fActiveTU, fAST, fContentsStamp);
+			fAST = null;
+			fPreviousAST = null;
 			fIsReconciling = false;
 			fActiveTU = tUnit;
-			cache(null, tUnit);
+			InactiveAST entry = tUnit != null ? removeInactiveAST(tUnit) : null;
+			if (entry != null && contentsStamp >= 0 && entry.fContentsStamp == contentsStamp) {
+				if (DEBUG)
+					System.out.println(DEBUG_PREFIX + getThreadName() + "reusing AST of formerly inactive: " //$NON-NLS-1$
+							+ toString(tUnit));
+				cache(entry.fAST, tUnit, contentsStamp);
+				// Index write access after the AST was created is checked when the AST is requested.
+				fLastWriteOnIndex = entry.fLastWriteOnIndex;
+			} else {
+				cache(null, tUnit);
+			}
 		}
 		if (DEBUG)
 			System.out.println(DEBUG_PREFIX + getThreadName() + "active element is: " + toString(tUnit)); //$NON-NLS-1$
@@ -416,8 +625,11 @@ public class ASTCache {
 		if (tUnit == null)
 			return;
 
+		final long contentsStamp = isActiveElement(tUnit) ? computeContentsStamp(tUnit) : STAMP_NOT_COMPUTED;
 		synchronized (fCacheMutex) {
 			if (fActiveTU == null || !fActiveTU.equals(tUnit)) {
+				// The contents of an inactive element is changing, its AST becomes outdated.
+				removeInactiveAST(tUnit);
 				return;
 			}
 
@@ -425,6 +637,7 @@ public class ASTCache {
 				System.out.println(DEBUG_PREFIX + getThreadName() + "about to reconcile: " + toString(tUnit)); //$NON-NLS-1$
 
 			fIsReconciling = true;
+			fReconcilingContentsStamp = contentsStamp;
 			cache(null, tUnit);
 		}
 	}
@@ -447,10 +660,84 @@ public class ASTCache {
 						DEBUG_PREFIX + getThreadName() + "reconciled: " + toString(tUnit) + ", AST: " + toString(ast)); //$NON-NLS-1$ //$NON-NLS-2$
 
 			fIsReconciling = false;
-			cache(ast, tUnit);
+			cache(ast, tUnit, fReconcilingContentsStamp);
+		}
+	}
+
+	/**
+	 * Removes the AST cached for the given translation unit, if it is not the active element.
+	 * To be called when the translation unit is no longer open.
+	 *
+	 * @param tUnit  the translation unit
+	 */
+	public void removeInactiveElement(ITranslationUnit tUnit) {
+		synchronized (fCacheMutex) {
+			removeInactiveAST(tUnit);
+		}
+	}
+
+	private boolean isInactiveASTCached(ITranslationUnit tUnit) {
+		synchronized (fCacheMutex) {
+			return tUnit != null && fInactiveASTs.containsKey(tUnit);
 		}
 	}
 
+	/**
+	 * Returns the AST cached for the given inactive translation unit, provided that it is still
+	 * valid for the given index and contents.
+	 */
+	private IASTTranslationUnit getInactiveAST(ITranslationUnit tUnit, IIndex index, long contentsStamp) {
+		assert Thread.holdsLock(fCacheMutex);
+		InactiveAST entry = fInactiveASTs.get(tUnit);
+		if (entry == null)
+			return null;
+		if (entry.fLastWriteOnIndex < index.getLastWriteAccess() || contentsStamp < 0
+				|| entry.fContentsStamp != contentsStamp) {
+			removeInactiveAST(tUnit);
+			return null;
+		}
+		return entry.fAST;
+	}
+
+	private void putInactiveAST(ITranslationUnit tUnit, IASTTranslationUnit ast, long contentsStamp) {
+		assert Thread.holdsLock(fCacheMutex);
+		removeInactiveAST(tUnit);
+		if (fMaxInactiveASTs <= 0 || contentsStamp < 0 || tUnit.equals(fActiveTU))
+			return;
+		InactiveAST entry = new InactiveAST(ast, ast.getIndex().getLastWriteAccess(), contentsStamp);
+		if (entry.getSourceLength() > fMaxInactiveSourceLength)
+			return;
+		fInactiveASTs.put(tUnit, entry);
+		fInactiveSourceLength += entry.getSourceLength();
+		// Evict least recently used entries.
+		for (Iterator<InactiveAST> it = fInactiveASTs.values().iterator(); it.hasNext();) {
+			if (fInactiveASTs.size() <= fMaxInactiveASTs && fInactiveSourceLength <= fMaxInactiveSourceLength)
+				break;
+			fInactiveSourceLength -= it.next().getSourceLength();
+			it.remove();
+		}
+	}
+
+	private InactiveAST removeInactiveAST(ITranslationUnit tUnit) {
+		assert Thread.holdsLock(fCacheMutex);
+		InactiveAST entry = fInactiveASTs.remove(tUnit);
+		if (entry != null)
+			fInactiveSourceLength -= entry.getSourceLength();
+		return entry;
+	}
+
+	/**
+	 * Computes a fingerprint of the current contents of the given translation unit. The upper
+	 * 32 bits hold the length of the contents. Returns {@link #STAMP_UNKNOWN} if the contents
+	 * are not available.
+	 */
+	private static long computeContentsStamp(ITranslationUnit tUnit) {
+		char[] contents = tUnit.getContents();
+		if (contents == null)
+			return STAMP_UNKNOWN;
+		return ((long) contents.length << 32) | (Arrays.hashCode(contents) & 0xFFFFFFFFL);
+	}
+
 	/**
 	 * Tells whether the given C element is the one
 	 * reported as currently being reconciled.
@@ -474,6 +474,20 @@ public interface IIndex {
 	 */
 	public IIndexFile[] getFilesWithUnresolvedIncludes() throws CoreException;
 
+	/**
+	 * Returns the number of active includes that could not be resolved in the files of this
+	 * index. The number is maintained while indexing, so no file is visited.
+	 * @since 7.5
+	 */
+	public int getUnresolvedIncludesCount() throws CoreException;
+
+	/**
+	 * Returns the number of names that resolve to problem bindings in the files of this index.
+	 * The number is maintained while indexing, so no file is visited.
+	 * @since 7.5
+	 */
+	public int getProblemBindingsCount() throws CoreException;
+
 	/**
 	 * Returns the global inline c++ namespaces.
 	 * @throws CoreException
@@ -790,6 +790,24 @@ public class CIndex implements IIndex {
 		return result.values().toArray(new IIndexFile[result.size()]);
 	}
 
+	@Override
+	public int getUnresolvedIncludesCount() throws CoreException {
+		int count = 0;
+		for (IIndexFragment fragment : fFragments) {
+			count += fragment.getUnresolvedIncludesCount();
+		}
+		return count;
+	}
+
+	@Override
+	public int getProblemBindingsCount() throws CoreException {
+		int count = 0;
+		for (IIndexFragment fragment : fFragments) {
+			count += fragment.getProblemBindingsCount();
+		}
+		return count;
+	}
+
 	@Override
 	public IIndexScope[] getInlineNamespaces() throws CoreException {
 		if (SPECIALCASE_SINGLES && fFragments.length == 1) {
@@ -200,6 +200,16 @@ final public class EmptyCIndex implements IIndex {
 		return IIndexFile.EMPTY_FILE_ARRAY;
 	}
 
+	@Override
+	public int getUnresolvedIncludesCount() {
+		return 0;
+	}
+
+	@Override
+	public int getProblemBindingsCount() {
+		return 0;
+	}
+
 	@Override
 	public IIndexBinding[] findBindings(char[] name, boolean fileScopeOnly, IndexFilter filter,
 			IProgressMonitor monitor) {
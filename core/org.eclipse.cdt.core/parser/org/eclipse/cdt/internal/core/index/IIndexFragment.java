@@ -334,6 +334,19 @@ public interface IIndexFragment {
 	 */
 	IIndexFragmentFile[] getFilesWithUnresolvedIncludes() throws CoreException;
 
+	/**
+	 * Returns the number of active includes in this fragment that could not be resolved.
+	 * The count is maintained while files are written, it does not require a traversal of the files.
+	 */
+	int getUnresolvedIncludesCount() throws CoreException;
+
+	/**
+	 * Returns the number of names in this fragment that resolved to problem bindings when the files
+	 * were indexed. The count is maintained while files are written, it does not require a traversal
+	 * of the files.
+	 */
+	int getProblemBindingsCount() throws CoreException;
+
 	/**
 	 * Caches an object with the key, the cache must be cleared at latest when the fragment no
 	 * longer holds a locks.
@@ -79,6 +79,26 @@ public interface IIndexFragmentFile extends IIndexFile {
 	 */
 	boolean hasUnresolvedInclude() throws CoreException;
 
+	/**
+	 * Returns the number of active includes in this file that could not be resolved when it was indexed.
+	 */
+	int getUnresolvedIncludeCount() throws CoreException;
+
+	/**
+	 * Sets the number of active includes in this file that could not be resolved.
+	 */
+	void setUnresolvedIncludeCount(int count) throws CoreException;
+
+	/**
+	 * Returns the number of names in this file that resolved to problem bindings when it was indexed.
+	 */
+	int getProblemBindingCount() throws CoreException;
+
+	/**
+	 * Sets the number of names in this file that resolved to problem bindings.
+	 */
+	void setProblemBindingCount(int count) throws CoreException;
+
 	/**
 	 * Returns the id of the linkage this file belongs to.
 	 */
@@ -311,10 +311,13 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 *
 	 *  CDT 10.4 development
 	 *  220.0 - Changed marshalling of CPPBasicType to store new "from literal" flag, bug 573764
+	 *
+	 *  CDT 10.7 development
+	 *  221.0 - Counts of unresolved includes and problem bindings per file and per index.
 	 */
-	private static final int MIN_SUPPORTED_VERSION = version(220, 0);
-	private static final int MAX_SUPPORTED_VERSION = version(220, Short.MAX_VALUE);
-	private static final int DEFAULT_VERSION = version(220, 0);
+	private static final int MIN_SUPPORTED_VERSION = version(221, 0);
+	private static final int MAX_SUPPORTED_VERSION = version(221, Short.MAX_VALUE);
+	private static final int DEFAULT_VERSION = version(221, 0);
 
 	private static int version(int major, int minor) {
 		return (major << 16) + minor;
@@ -351,7 +354,9 @@ public class PDOM extends PlatformObject implements IPDOM {
 	public static final int INDEX_OF_FILES_WITH_UNRESOLVED_INCLUDES = Database.DATA_AREA + 12;
 	public static final int PROPERTIES = Database.DATA_AREA + 16;
 	public static final int TAG_INDEX = Database.DATA_AREA + 20;
-	public static final int END = Database.DATA_AREA + 24;
+	public static final int UNRESOLVED_INCLUDES_COUNT = Database.DATA_AREA + 24;
+	public static final int PROBLEM_BINDINGS_COUNT = Database.DATA_AREA + 28;
+	public static final int END = Database.DATA_AREA + 32;
 	static {
 		assert END <= Database.CHUNK_SIZE;
 	}
@@ -623,6 +628,31 @@ public class PDOM extends PlatformObject implements IPDOM {
 		return getFiles(getIndexOfFilesWithUnresolvedIncludes());
 	}
 
+	@Override
+	public int getUnresolvedIncludesCount() throws CoreException {
+		return db.getInt(UNRESOLVED_INCLUDES_COUNT);
+	}
+
+	@Override
+	public int getProblemBindingsCount() throws CoreException {
+		return db.getInt(PROBLEM_BINDINGS_COUNT);
+	}
+
+	/**
+	 * Adjusts the index-wide counts of unresolved includes and problem bindings.
+	 */
+	protected void adjustProblemCounts(int unresolvedIncludesDelta, int problemBindingsDelta)
+			throws CoreException {
+		assert lockCount < 0; // needs write-lock.
+		if (unresolvedIncludesDelta != 0) {
+			db.putInt(UNRESOLVED_INCLUDES_COUNT,
+					Math.max(0, db.getInt(UNRESOLVED_INCLUDES_COUNT) + unresolvedIncludesDelta));
+		}
+		if (problemBindingsDelta != 0) {
+			db.putInt(PROBLEM_BINDINGS_COUNT, Math.max(0, db.getInt(PROBLEM_BINDINGS_COUNT) + problemBindingsDelta));
+		}
+	}
+
 	private IIndexFragmentFile[] getFiles(BTree index) throws CoreException {
 		final List<PDOMFile> files = new ArrayList<>();
 		index.accept(new IBTreeVisitor() {
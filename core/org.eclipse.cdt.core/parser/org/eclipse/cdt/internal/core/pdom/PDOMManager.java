@@ -141,6 +141,8 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		}
 	}
 
+	private static final int IMPORT_BUFFER_SIZE = 64 * 1024;
+
 	private static final QualifiedName dbNameProperty = new QualifiedName(CCorePlugin.PLUGIN_ID, "pdomName"); //$NON-NLS-1$
 
 	public static final int[] IDS_FOR_LINKAGES_TO_INDEX = { ILinkage.CPP_LINKAGE_ID, ILinkage.C_LINKAGE_ID,
@@ -1310,6 +1312,8 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 			newPDOM.acquireWriteLock(null);
 			try {
 				newPDOM.rewriteLocations(newConverter);
+				// Stale contents of freed records would only inflate the archive.
+				newPDOM.getDB().clearFreeBlocks();
 
 				// Ensure that fragment id has a sensible value, in case callee's do not
 				// overwrite with their own values.
@@ -1355,7 +1359,7 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 						CCorePlugin.getResourceString("PDOMManager.unsupportedVersion"), null); //$NON-NLS-1$
 				throw new CoreException(status);
 			}
-			byte[] buffer = new byte[2048];
+			byte[] buffer = new byte[IMPORT_BUFFER_SIZE];
 			int read;
 			while ((read = stream.read(buffer)) >= 0) {
 				out.write(buffer, 0, read);
@@ -332,6 +332,20 @@ public class PDOMProxy implements IPDOM {
 		return IIndexFragmentFile.EMPTY_ARRAY;
 	}
 
+	@Override
+	public synchronized int getUnresolvedIncludesCount() throws CoreException {
+		if (fDelegate != null)
+			return fDelegate.getUnresolvedIncludesCount();
+		return 0;
+	}
+
+	@Override
+	public synchronized int getProblemBindingsCount() throws CoreException {
+		if (fDelegate != null)
+			return fDelegate.getProblemBindingsCount();
+		return 0;
+	}
+
 	@Override
 	public synchronized IIndexFragmentBinding[] findMacroContainers(Pattern pattern, IndexFilter filter,
 			IProgressMonitor monitor) throws CoreException {
@@ -151,6 +151,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 		final ArrayList<IASTName[]> fNames = new ArrayList<>();
 		final ArrayList<IASTPreprocessorStatement> fMacros = new ArrayList<>();
 		final ArrayList<IASTPreprocessorIncludeStatement> fIncludes = new ArrayList<>();
+		int fProblemBindingCount;
 	}
 
 	protected static class Data implements IIndexSymbols {
@@ -395,6 +396,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 							if (REPORT_UNKNOWN_BUILTINS || problemBinding.getID() != IProblemBinding.BINDING_NOT_FOUND
 									|| !CharArrayUtils.startsWith(problemBinding.getNameCharArray(), "__builtin_")) { //$NON-NLS-1$
 								fStatistics.fProblemBindingCount++;
+								symbols.fProblemBindingCount++;
 								if (fShowProblems) {
 									reportProblem(problemBinding);
 								}
@@ -657,9 +659,12 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 				}
 
 				List<IncludeInformation> includeInfos = new ArrayList<>();
+				int unresolvedIncludes = 0;
 				for (int i = 0; i < lists.fIncludes.size(); i++) {
 					final IASTPreprocessorIncludeStatement stmt = lists.fIncludes.get(i);
 					if (!stmt.isResolved()) {
+						if (stmt.isActive())
+							unresolvedIncludes++;
 						includeInfos.add(new IncludeInformation(stmt, null, ISignificantMacros.NONE, false));
 					} else {
 						IIndexFileLocation targetLoc = fResolver.resolveASTPath(stmt.getPath());
@@ -677,6 +682,8 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 				IncludeInformation[] includeInfoArray = includeInfos
 						.toArray(new IncludeInformation[includeInfos.size()]);
 				index.setFileContent(file, storageLinkageID, includeInfoArray, macros, names, fResolver, lock);
+				file.setUnresolvedIncludeCount(unresolvedIncludes);
+				file.setProblemBindingCount(lists.fProblemBindingCount);
 			}
 			file.setTimestamp(astFile.hasError ? 0 : astFile.timestamp);
 			file.setSourceReadTime(astFile.sourceReadTime);
@@ -63,6 +63,7 @@ public class TeamPDOMExportOperation implements IWorkspaceRunnable {
 	private static final String RESOURCE_PREFIX = "res-"; //$NON-NLS-1$
 	private static final String CDT_PREFIX = "cdt-"; //$NON-NLS-1$
 	private static final String RESOURCE_SNAP_EXTENSION = "snap.zip"; //$NON-NLS-1$
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
 	private ICProject fProject;
 	private String fTargetLocation;
@@ -259,7 +260,7 @@ public class TeamPDOMExportOperation implements IWorkspaceRunnable {
 		ZipEntry e = new ZipEntry(name);
 		out.putNextEntry(e);
 		int read = 0;
-		byte[] buffer = new byte[4096];
+		byte[] buffer = new byte[COPY_BUFFER_SIZE];
 		InputStream in = new FileInputStream(input);
 		try {
 			while ((read = in.read(buffer)) >= 0) {
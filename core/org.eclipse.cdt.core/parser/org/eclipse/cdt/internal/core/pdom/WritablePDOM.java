@@ -97,6 +97,8 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 
 		int defectiveStateChange = uncommittedFile.getTimestamp() == 0 ? 1 : 0;
 		int unresolvedIncludeStateChange = uncommittedFile.hasUnresolvedInclude() ? 1 : 0;
+		int unresolvedIncludesDelta = uncommittedFile.getUnresolvedIncludeCount();
+		int problemBindingsDelta = uncommittedFile.getProblemBindingCount();
 
 		PDOMFile file;
 		if (fileBeingUpdated == null) {
@@ -109,6 +111,8 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 				defectiveStateChange -= 1;
 			if (fileBeingUpdated.hasUnresolvedInclude())
 				unresolvedIncludeStateChange -= 1;
+			unresolvedIncludesDelta -= fileBeingUpdated.getUnresolvedIncludeCount();
+			problemBindingsDelta -= fileBeingUpdated.getProblemBindingCount();
 			fileBeingUpdated.replaceContentsFrom(uncommittedFile);
 			file = fileBeingUpdated;
 			fileBeingUpdated = null;
@@ -123,6 +127,7 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		} else if (unresolvedIncludeStateChange < 0) {
 			getIndexOfFilesWithUnresolvedIncludes().delete(file.getRecord());
 		}
+		adjustProblemCounts(unresolvedIncludesDelta, problemBindingsDelta);
 
 		fEvent.fFilesWritten.add(uncommittedKey.getLocation());
 		uncommittedFile = null;
@@ -174,6 +179,7 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		assert file.getIndexFragment() == this;
 		IIndexFileLocation location = file.getLocation();
 		PDOMFile pdomFile = (PDOMFile) file;
+		adjustProblemCounts(-pdomFile.getUnresolvedIncludeCount(), -pdomFile.getProblemBindingCount());
 		pdomFile.clear();
 		IIndexInclude include = pdomFile.getParsedInContext();
 		if (include != null) {
@@ -245,6 +251,7 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		// remove content where converter returns null
 		for (PDOMFile file : notConverted) {
 			file.convertIncludersToUnresolved();
+			adjustProblemCounts(-file.getUnresolvedIncludeCount(), -file.getProblemBindingCount());
 			file.clear();
 		}
 	}
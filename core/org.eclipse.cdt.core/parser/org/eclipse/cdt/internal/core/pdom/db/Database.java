@@ -637,6 +637,31 @@ public class Database {
 		return string;
 	}
 
+	/**
+	 * Overwrites the unused part of all free blocks with zeros. The stale contents of freed
+	 * records do not compress well, so this is done on copies of the database before they
+	 * are archived.
+	 *
+	 * @return the number of bytes that have been cleared
+	 */
+	public long clearFreeBlocks() throws CoreException {
+		assert fExclusiveLock;
+		final int linkSize = BLOCK_NEXT_OFFSET + INT_SIZE;
+		long cleared = 0;
+		for (int bs = MIN_BLOCK_DELTAS * BLOCK_SIZE_DELTA; bs <= CHUNK_SIZE; bs += BLOCK_SIZE_DELTA) {
+			long block = getFirstBlock(bs);
+			while (block != 0) {
+				Chunk chunk = getChunk(block);
+				if (bs > linkSize) {
+					chunk.clear(block + linkSize, bs - linkSize);
+					cleared += bs - linkSize;
+				}
+				block = chunk.getFreeRecPtr(block + BLOCK_NEXT_OFFSET);
+			}
+		}
+		return cleared;
+	}
+
 	/**
 	 * For debugging purposes, only.
 	 */
@@ -84,7 +84,9 @@ public class PDOMFile implements IIndexFragmentFile {
 	private static final int FIRST_MACRO_REFERENCE = LAST_USING_DIRECTIVE + Database.PTR_SIZE;
 	private static final int SIGNIFICANT_MACROS = FIRST_MACRO_REFERENCE + Database.PTR_SIZE;
 	private static final int REPLACEMENT_HEADER = SIGNIFICANT_MACROS + Database.PTR_SIZE;
-	private static final int RECORD_SIZE = REPLACEMENT_HEADER + Database.PTR_SIZE; // 9*PTR_SIZE + 3+1+8+8+8+4 = 68
+	private static final int UNRESOLVED_INCLUDE_COUNT = REPLACEMENT_HEADER + Database.PTR_SIZE; // int
+	private static final int PROBLEM_BINDING_COUNT = UNRESOLVED_INCLUDE_COUNT + 4; // int
+	private static final int RECORD_SIZE = PROBLEM_BINDING_COUNT + 4; // 9*PTR_SIZE + 3+1+8+8+8+4+4+4 = 76
 
 	private static final int FLAG_PRAGMA_ONCE_SEMANTICS = 0x01;
 
@@ -216,6 +218,8 @@ public class PDOMFile implements IIndexFragmentFile {
 		setSourceReadTime(sourceFile.getSourceReadTime());
 		setSizeAndEncodingHashcode(sourceFile.getSizeAndEncodingHashcode());
 		setContentsHash(sourceFile.getContentsHash());
+		setUnresolvedIncludeCount(sourceFile.getUnresolvedIncludeCount());
+		setProblemBindingCount(sourceFile.getProblemBindingCount());
 
 		// Transfer the flags.
 		Database db = fLinkage.getDB();
@@ -346,6 +350,30 @@ public class PDOMFile implements IIndexFragmentFile {
 		db.putLong(record + CONTENT_HASH, hash);
 	}
 
+	@Override
+	public int getUnresolvedIncludeCount() throws CoreException {
+		Database db = fLinkage.getDB();
+		return db.getInt(record + UNRESOLVED_INCLUDE_COUNT);
+	}
+
+	@Override
+	public void setUnresolvedIncludeCount(int count) throws CoreException {
+		Database db = fLinkage.getDB();
+		db.putInt(record + UNRESOLVED_INCLUDE_COUNT, count);
+	}
+
+	@Override
+	public int getProblemBindingCount() throws CoreException {
+		Database db = fLinkage.getDB();
+		return db.getInt(record + PROBLEM_BINDING_COUNT);
+	}
+
+	@Override
+	public void setProblemBindingCount(int count) throws CoreException {
+		Database db = fLinkage.getDB();
+		db.putInt(record + PROBLEM_BINDING_COUNT, count);
+	}
+
 	@Override
 	public int getScannerConfigurationHashcode() throws CoreException {
 		return 0;
@@ -618,6 +646,8 @@ public class PDOMFile implements IIndexFragmentFile {
 		setFirstMacroReference(null);
 		setSourceReadTime(0);
 		setTimestamp(-1);
+		setUnresolvedIncludeCount(0);
+		setProblemBindingCount(0);
 	}
 
 	/**
@@ -46,6 +46,7 @@ public class Dwarf {
 	final static String DWARF_DEBUG_ABBREV = ".debug_abbrev"; //$NON-NLS-1$
 	final static String DWARF_DEBUG_ARANGES = ".debug_aranges"; //$NON-NLS-1$
 	final static String DWARF_DEBUG_LINE = ".debug_line"; //$NON-NLS-1$
+	final static String DWARF_DEBUG_LINE_STR = ".debug_line_str"; //$NON-NLS-1$
 	final static String DWARF_DEBUG_FRAME = ".debug_frame"; //$NON-NLS-1$
 	final static String DWARF_EH_FRAME = ".eh_frame"; //$NON-NLS-1$
 	final static String DWARF_DEBUG_LOC = ".debug_loc"; //$NON-NLS-1$
@@ -0,0 +1,606 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.utils.debug.dwarf;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.utils.elf.Elf;
+import org.eclipse.cdt.utils.elf.Elf.Section;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Index of the line number information of an executable, built once from the
+ * line number programs of its .debug_line section, so that addresses are
+ * resolved to source lines in-process rather than by an addr2line process.
+ * <p>
+ * The rows of the line number programs are kept in primitive arrays sorted by
+ * address, and looked up by binary search. The tables are cached by the GNU
+ * build-id of the executable, or by its path, size and modification time when
+ * it has none. Dwarf versions 2 to 5 are supported.
+ *
+ * @since 7.5
+ */
+public class DwarfLineTable {
+
+	/** Maximum number of tables cached, the least recently used are dropped */
+	private static final int MAX_CACHED_TABLES = 16;
+
+	private static final DwarfLineTable EMPTY = new DwarfLineTable(new long[0], new int[0], new int[0],
+			new String[0]);
+
+	private static final Map<String, SoftReference<DwarfLineTable>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SoftReference<DwarfLineTable>> eldest) {
+			return size() > MAX_CACHED_TABLES;
+		}
+	};
+
+	/** Addresses of the rows, in ascending unsigned order */
+	private final long[] addresses;
+	/** Lines of the rows, 0 when the address isn't attributed to a line */
+	private final int[] lines;
+	/** Indexes in fileNames of the files of the rows, -1 at the end of a sequence */
+	private final int[] files;
+	private final String[] fileNames;
+
+	private DwarfLineTable(long[] addresses, int[] lines, int[] files, String[] fileNames) {
+		this.addresses = addresses;
+		this.lines = lines;
+		this.files = files;
+		this.fileNames = fileNames;
+	}
+
+	/**
+	 * Returns the line table of the given executable, from the cache if it was
+	 * built before. The debug information in separate files, found as
+	 * {@link DwarfReader} does, is used.
+	 *
+	 * @return the line table, empty if the executable has no line information
+	 */
+	public static DwarfLineTable getLineTable(Elf elf) throws IOException {
+		if (elf.getELFhdr().e_type == Elf.ELFhdr.ET_REL) {
+			// The addresses of relocatable objects aren't final
+			return EMPTY;
+		}
+		String key = getCacheKey(elf);
+		synchronized (cache) {
+			SoftReference<DwarfLineTable> reference = cache.get(key);
+			DwarfLineTable table = reference != null ? reference.get() : null;
+			if (table != null) {
+				return table;
+			}
+		}
+		DwarfReader reader = new DwarfReader(elf);
+		DwarfLineTable table = parse(reader.dwarfSections.get(Dwarf.DWARF_DEBUG_LINE),
+				reader.dwarfSections.get(Dwarf.DWARF_DEBUG_LINE_STR), reader.dwarfSections.get(Dwarf.DWARF_DEBUG_STR),
+				reader.isLE, reader::getCompileDirectory);
+		synchronized (cache) {
+			cache.put(key, new SoftReference<>(table));
+		}
+		return table;
+	}
+
+	/**
+	 * @return whether the table has no line information
+	 */
+	public boolean isEmpty() {
+		return addresses.length == 0;
+	}
+
+	/**
+	 * @return the line of the given address, or -1 if unknown
+	 */
+	public int getLineNumber(IAddress address) {
+		return getLineNumber(address.getValue().longValue());
+	}
+
+	/**
+	 * @return the source file of the given address, or <code>null</code> if
+	 *         unknown
+	 */
+	public String getFileName(IAddress address) {
+		return getFileName(address.getValue().longValue());
+	}
+
+	private int getLineNumber(long address) {
+		int row = findRow(address);
+		return row >= 0 && lines[row] > 0 ? lines[row] : -1;
+	}
+
+	private String getFileName(long address) {
+		int row = findRow(address);
+		return row >= 0 && files[row] >= 0 ? fileNames[files[row]] : null;
+	}
+
+	/**
+	 * @return the index of the last row at or before the given address, or -1
+	 */
+	private int findRow(long address) {
+		int low = 0;
+		int high = addresses.length - 1;
+		int found = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (Long.compareUnsigned(addresses[mid], address) <= 0) {
+				found = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return found;
+	}
+
+	private static String getCacheKey(Elf elf) throws IOException {
+		boolean isLE = elf.getELFhdr().e_ident[Elf.ELFhdr.EI_DATA] == Elf.ELFhdr.ELFDATA2LSB;
+		for (Section section : elf.getSections(Section.SHT_NOTE)) {
+			ByteBuffer data = section.mapSectionData().order(isLE ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+			while (data.remaining() >= 12) {
+				int nameSize = data.getInt();
+				int descSize = data.getInt();
+				int type = data.getInt();
+				int namePosition = data.position();
+				int descPosition = namePosition + ((nameSize + 3) & ~3);
+				if (nameSize < 0 || descSize < 0 || descPosition + descSize > data.limit()) {
+					break;
+				}
+				if (type == Section.NT_GNU_BUILD_ID && nameSize == 4 && data.get(namePosition) == 'G'
+						&& data.get(namePosition + 1) == 'N' && data.get(namePosition + 2) == 'U') {
+					StringBuilder buildId = new StringBuilder("build-id:"); //$NON-NLS-1$
+					for (int i = 0; i < descSize; i++) {
+						buildId.append(String.format("%02x", data.get(descPosition + i) & 0xff)); //$NON-NLS-1$
+					}
+					return buildId.toString();
+				}
+				data.position(descPosition + ((descSize + 3) & ~3));
+			}
+		}
+		File file = new File(elf.getFilename());
+		return file.getCanonicalPath() + ':' + file.length() + ':' + file.lastModified();
+	}
+
+	/**
+	 * Builds the table of the given .debug_line section.
+	 *
+	 * @param lineStr the .debug_line_str section, or <code>null</code>
+	 * @param str the .debug_str section, or <code>null</code>
+	 * @param compileDirectories gives the compilation directory of the line
+	 *            table at the given offset, for the versions of Dwarf before 5
+	 *            where it isn't part of the line table
+	 */
+	static DwarfLineTable parse(ByteBuffer debugLine, ByteBuffer lineStr, ByteBuffer str, boolean isLE,
+			LongFunction<String> compileDirectories) {
+		if (debugLine == null) {
+			return EMPTY;
+		}
+		ByteOrder order = isLE ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		Builder builder = new Builder(lineStr != null ? lineStr.duplicate().order(order) : null,
+				str != null ? str.duplicate().order(order) : null, compileDirectories);
+		ByteBuffer data = debugLine.duplicate().order(order);
+		data.position(0);
+		while (data.remaining() >= 4) {
+			int unitStart = data.position();
+			long unitEnd = data.limit();
+			try {
+				long length = data.getInt() & 0xffffffffL;
+				boolean dwarf64 = length == 0xffffffffL;
+				if (dwarf64) {
+					length = data.getLong();
+				}
+				unitEnd = data.position() + length;
+				if (length < 0 || unitEnd > data.limit()) {
+					break;
+				}
+				data.limit((int) unitEnd);
+				builder.parseUnit(data, unitStart, dwarf64);
+			} catch (IOException | BufferUnderflowException | IllegalArgumentException
+					| IndexOutOfBoundsException e) {
+				// Skip to the next line table
+				CCorePlugin.log("Failed to parse the line table at offset " + unitStart, e); //$NON-NLS-1$
+			} finally {
+				data.limit(data.capacity());
+			}
+			data.position((int) unitEnd);
+		}
+		return builder.build();
+	}
+
+	/** Accumulates the rows of the line number programs */
+	private static class Builder {
+		private final ByteBuffer lineStr;
+		private final ByteBuffer str;
+		private final LongFunction<String> compileDirectories;
+
+		private long[] addresses = new long[1024];
+		private int[] lines = new int[1024];
+		private int[] files = new int[1024];
+		private int rowCount;
+
+		/** Start rows of the sequences, each sorted by address */
+		private int[] sequences = new int[64];
+		private int sequenceCount;
+
+		private final List<String> fileNames = new ArrayList<>();
+		private final Map<String, Integer> fileIndexes = new HashMap<>();
+
+		Builder(ByteBuffer lineStr, ByteBuffer str, LongFunction<String> compileDirectories) {
+			this.lineStr = lineStr;
+			this.str = str;
+			this.compileDirectories = compileDirectories;
+		}
+
+		/**
+		 * Parses the line number program following the unit length, the
+		 * limit of the data is the end of the unit.
+		 */
+		void parseUnit(ByteBuffer data, int unitStart, boolean dwarf64) throws IOException {
+			int version = data.getShort() & 0xffff;
+			if (version < 2 || version > 5) {
+				return;
+			}
+			if (version >= 5) {
+				data.get(); // address_size
+				data.get(); // segment_selector_size
+			}
+			long headerLength = dwarf64 ? data.getLong() : data.getInt() & 0xffffffffL;
+			int programStart = (int) (data.position() + headerLength);
+			int minInstructionLength = data.get() & 0xff;
+			if (version >= 4) {
+				data.get(); // maximum_operations_per_instruction, only for VLIW
+			}
+			data.get(); // default_is_stmt
+			int lineBase = data.get();
+			int lineRange = data.get() & 0xff;
+			int opcodeBase = data.get() & 0xff;
+			if (lineRange == 0 || opcodeBase == 0) {
+				return;
+			}
+			int[] opcodeLengths = new int[opcodeBase];
+			for (int i = 1; i < opcodeBase; i++) {
+				opcodeLengths[i] = data.get() & 0xff;
+			}
+
+			// Indexes in fileNames of the files of the unit
+			List<Integer> unitFiles = new ArrayList<>();
+			if (version >= 5) {
+				List<String> directories = new ArrayList<>();
+				for (Entry entry : readEntries(data, dwarf64)) {
+					directories.add(resolveDirectory(directories, entry.path));
+				}
+				for (Entry entry : readEntries(data, dwarf64)) {
+					unitFiles.add(addFile(directories, entry.directory, entry.path));
+				}
+			} else {
+				List<String> directories = new ArrayList<>();
+				String compileDirectory = compileDirectories != null ? compileDirectories.apply(unitStart) : null;
+				directories.add(compileDirectory != null ? compileDirectory : ""); //$NON-NLS-1$
+				String name;
+				while (!(name = readString(data)).isEmpty()) {
+					directories.add(resolveDirectory(directories, name));
+				}
+				// The files are numbered from 1
+				unitFiles.add(Integer.valueOf(-1));
+				while (!(name = readString(data)).isEmpty()) {
+					int directory = (int) readUnsignedLeb128(data);
+					readUnsignedLeb128(data); // modification time
+					readUnsignedLeb128(data); // length
+					unitFiles.add(addFile(directories, directory, name));
+				}
+			}
+
+			data.position(programStart);
+			runProgram(data, version, minInstructionLength, lineBase, lineRange, opcodeBase, opcodeLengths,
+					unitFiles);
+		}
+
+		private void runProgram(ByteBuffer data, int version, int minInstructionLength, int lineBase,
+				int lineRange, int opcodeBase, int[] opcodeLengths, List<Integer> unitFiles) {
+			long address = 0;
+			int file = 1;
+			int line = 1;
+			boolean sequenceStarted = false;
+			while (data.hasRemaining()) {
+				int opcode = data.get() & 0xff;
+				if (opcode >= opcodeBase) {
+					int adjusted = opcode - opcodeBase;
+					address += (long) (adjusted / lineRange) * minInstructionLength;
+					line += lineBase + adjusted % lineRange;
+					sequenceStarted = addRow(sequenceStarted, address, line, unitFile(unitFiles, file));
+					continue;
+				}
+				switch (opcode) {
+				case 0: {
+					int length = (int) readUnsignedLeb128(data);
+					if (length == 0) {
+						break;
+					}
+					int next = data.position() + length;
+					int extended = data.get() & 0xff;
+					switch (extended) {
+					case DwarfConstants.DW_LNE_end_sequence:
+						if (sequenceStarted) {
+							addRow(true, address, 0, -1);
+						}
+						sequenceStarted = false;
+						address = 0;
+						file = 1;
+						line = 1;
+						break;
+					case DwarfConstants.DW_LNE_set_address:
+						address = readAddress(data, length - 1);
+						break;
+					default:
+						// DW_LNE_define_file is obsolete, the others don't affect lines
+						break;
+					}
+					data.position(next);
+					break;
+				}
+				case DwarfConstants.DW_LNS_copy:
+					sequenceStarted = addRow(sequenceStarted, address, line, unitFile(unitFiles, file));
+					break;
+				case DwarfConstants.DW_LNS_advance_pc:
+					address += readUnsignedLeb128(data) * minInstructionLength;
+					break;
+				case DwarfConstants.DW_LNS_advance_line:
+					line += (int) readSignedLeb128(data);
+					break;
+				case DwarfConstants.DW_LNS_set_file:
+					file = (int) readUnsignedLeb128(data);
+					break;
+				case DwarfConstants.DW_LNS_const_add_pc:
+					address += (long) ((255 - opcodeBase) / lineRange) * minInstructionLength;
+					break;
+				case DwarfConstants.DW_LNS_fixed_advance_pc:
+					address += data.getShort() & 0xffff;
+					break;
+				default:
+					// Skip the operands of the other opcodes
+					for (int i = 0; i < opcodeLengths[opcode]; i++) {
+						readUnsignedLeb128(data);
+					}
+					break;
+				}
+			}
+		}
+
+		private static int unitFile(List<Integer> unitFiles, int file) {
+			return file >= 0 && file < unitFiles.size() ? unitFiles.get(file).intValue() : -1;
+		}
+
+		/**
+		 * @return whether a sequence is started, i.e. always true
+		 */
+		private boolean addRow(boolean sequenceStarted, long address, int line, int file) {
+			if (!sequenceStarted) {
+				if (sequenceCount == sequences.length) {
+					sequences = Arrays.copyOf(sequences, sequenceCount * 2);
+				}
+				sequences[sequenceCount++] = rowCount;
+			}
+			if (rowCount == addresses.length) {
+				addresses = Arrays.copyOf(addresses, rowCount * 2);
+				lines = Arrays.copyOf(lines, rowCount * 2);
+				files = Arrays.copyOf(files, rowCount * 2);
+			}
+			addresses[rowCount] = address;
+			lines[rowCount] = line;
+			files[rowCount] = file;
+			rowCount++;
+			return true;
+		}
+
+		/** Directory or file entry of a Dwarf 5 line table header */
+		private static class Entry {
+			String path;
+			int directory;
+		}
+
+		private List<Entry> readEntries(ByteBuffer data, boolean dwarf64) throws IOException {
+			int formatCount = data.get() & 0xff;
+			int[] contentTypes = new int[formatCount];
+			int[] forms = new int[formatCount];
+			for (int i = 0; i < formatCount; i++) {
+				contentTypes[i] = (int) readUnsignedLeb128(data);
+				forms[i] = (int) readUnsignedLeb128(data);
+			}
+			long count = readUnsignedLeb128(data);
+			List<Entry> entries = new ArrayList<>();
+			for (long i = 0; i < count; i++) {
+				Entry entry = new Entry();
+				for (int j = 0; j < formatCount; j++) {
+					Object value = readForm(data, forms[j], dwarf64);
+					if (contentTypes[j] == DwarfConstants.DW_LNCT_path && value instanceof String) {
+						entry.path = (String) value;
+					} else if (contentTypes[j] == DwarfConstants.DW_LNCT_directory_index && value instanceof Long) {
+						entry.directory = ((Long) value).intValue();
+					}
+				}
+				entries.add(entry);
+			}
+			return entries;
+		}
+
+		private Object readForm(ByteBuffer data, int form, boolean dwarf64) throws IOException {
+			switch (form) {
+			case DwarfConstants.DW_FORM_string:
+				return readString(data);
+			case DwarfConstants.DW_FORM_line_strp:
+				return readString(lineStr, dwarf64 ? data.getLong() : data.getInt() & 0xffffffffL);
+			case DwarfConstants.DW_FORM_strp:
+				return readString(str, dwarf64 ? data.getLong() : data.getInt() & 0xffffffffL);
+			case DwarfConstants.DW_FORM_udata:
+				return Long.valueOf(readUnsignedLeb128(data));
+			case DwarfConstants.DW_FORM_data1:
+				return Long.valueOf(data.get() & 0xff);
+			case DwarfConstants.DW_FORM_data2:
+				return Long.valueOf(data.getShort() & 0xffff);
+			case DwarfConstants.DW_FORM_data4:
+				return Long.valueOf(data.getInt() & 0xffffffffL);
+			case DwarfConstants.DW_FORM_data8:
+				return Long.valueOf(data.getLong());
+			case DwarfConstants.DW_FORM_data16:
+				data.position(data.position() + 16);
+				return null;
+			case DwarfConstants.DW_FORM_block:
+				data.position(data.position() + (int) readUnsignedLeb128(data));
+				return null;
+			default:
+				throw new IOException("Unsupported form in line table header: 0x" + Integer.toHexString(form)); //$NON-NLS-1$
+			}
+		}
+
+		private static String resolveDirectory(List<String> directories, String directory) {
+			if (directory == null) {
+				return ""; //$NON-NLS-1$
+			}
+			// The directories are relative to the compilation directory, which is the first one
+			IPath path = new Path(directory);
+			if (!path.isAbsolute() && !directories.isEmpty() && !directories.get(0).isEmpty()) {
+				path = new Path(directories.get(0)).append(path);
+			}
+			return path.toString();
+		}
+
+		private Integer addFile(List<String> directories, int directory, String name) {
+			if (name == null) {
+				return Integer.valueOf(-1);
+			}
+			IPath path = new Path(name);
+			if (!path.isAbsolute() && directory >= 0 && directory < directories.size()
+					&& !directories.get(directory).isEmpty()) {
+				path = new Path(directories.get(directory)).append(path);
+			}
+			String fileName = path.toOSString();
+			Integer index = fileIndexes.get(fileName);
+			if (index == null) {
+				index = Integer.valueOf(fileNames.size());
+				fileNames.add(fileName);
+				fileIndexes.put(fileName, index);
+			}
+			return index;
+		}
+
+		DwarfLineTable build() {
+			if (rowCount == 0) {
+				return EMPTY;
+			}
+			// The rows are sorted within the sequences, which are sorted here by start address
+			Integer[] order = new Integer[sequenceCount];
+			for (int i = 0; i < sequenceCount; i++) {
+				order[i] = Integer.valueOf(i);
+			}
+			Arrays.sort(order, (a, b) -> Long.compareUnsigned(addresses[sequences[a]], addresses[sequences[b]]));
+			long[] sortedAddresses = new long[rowCount];
+			int[] sortedLines = new int[rowCount];
+			int[] sortedFiles = new int[rowCount];
+			int row = 0;
+			for (Integer sequence : order) {
+				int start = sequences[sequence];
+				int end = sequence + 1 < sequenceCount ? sequences[sequence + 1] : rowCount;
+				System.arraycopy(addresses, start, sortedAddresses, row, end - start);
+				System.arraycopy(lines, start, sortedLines, row, end - start);
+				System.arraycopy(files, start, sortedFiles, row, end - start);
+				row += end - start;
+			}
+			return new DwarfLineTable(sortedAddresses, sortedLines, sortedFiles, fileNames.toArray(new String[0]));
+		}
+	}
+
+	private static long readAddress(ByteBuffer data, int size) {
+		switch (size) {
+		case 4:
+			return data.getInt() & 0xffffffffL;
+		case 8:
+			return data.getLong();
+		default:
+			long address = 0;
+			for (int i = 0; i < size; i++) {
+				int shift = data.order() == ByteOrder.LITTLE_ENDIAN ? 8 * i : 8 * (size - 1 - i);
+				address |= (long) (data.get() & 0xff) << shift;
+			}
+			return address;
+		}
+	}
+
+	private static String readString(ByteBuffer data) {
+		int start = data.position();
+		int end = start;
+		while (end < data.limit() && data.get(end) != 0) {
+			end++;
+		}
+		byte[] bytes = new byte[end - start];
+		data.get(bytes);
+		if (data.hasRemaining()) {
+			// Skip the terminating zero
+			data.get();
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String readString(ByteBuffer section, long offset) throws IOException {
+		if (section == null || offset < 0 || offset >= section.limit()) {
+			throw new IOException("Invalid string offset in line table header: " + offset); //$NON-NLS-1$
+		}
+		section.position((int) offset);
+		return readString(section);
+	}
+
+	private static long readUnsignedLeb128(ByteBuffer data) {
+		long result = 0;
+		int shift = 0;
+		while (true) {
+			byte b = data.get();
+			if (shift < 64) {
+				result |= (long) (b & 0x7f) << shift;
+			}
+			shift += 7;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+	}
+
+	private static long readSignedLeb128(ByteBuffer data) {
+		long result = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = data.get();
+			if (shift < 64) {
+				result |= (long) (b & 0x7f) << shift;
+			}
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		if (shift < 64 && (b & 0x40) != 0) {
+			result |= -1L << shift;
+		}
+		return result;
+	}
+}
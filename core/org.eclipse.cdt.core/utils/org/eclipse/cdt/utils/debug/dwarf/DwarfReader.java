@@ -50,12 +50,14 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 	// These are sections that need be parsed to get the source file list.
 	final static String[] DWARF_SectionsToParse = { DWARF_DEBUG_INFO, DWARF_DEBUG_LINE, DWARF_DEBUG_ABBREV,
 			DWARF_DEBUG_STR, // this is optional. Some compilers don't generate it.
+			DWARF_DEBUG_LINE_STR, // only for Dwarf 5, used by DwarfLineTable
 			DWARF_DEBUG_MACRO, };
 
 	final static String[] DWARF_ALT_SectionsToParse = { DWARF_DEBUG_STR, DWARF_DEBUG_MACRO };
 
 	private final Collection<String> m_fileCollection = new HashSet<>();
 	private final Map<Long, String> m_stmtFileMap = new HashMap<>();
+	private final Map<Long, String> m_stmtCompDirMap = new HashMap<>();
 	private final Map<String, ArrayList<String>> m_compileOptionsMap = new HashMap<>();
 	private String[] m_fileNames = null;
 	private boolean m_parsed = false;
@@ -651,10 +653,20 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		}
 
 		addSourceFileWithStmt(cuCompDir, cuName, stmtList);
+		m_stmtCompDirMap.put(Long.valueOf(stmtList), cuCompDir);
 		if (stmtList > -1) // this CU has "stmt_list" attribute
 			parseSourceInCULineInfo(cuCompDir, stmtList);
 	}
 
+	/**
+	 * Returns the compilation directory of the CU whose line table is at the
+	 * given offset in the .debug_line section, parsing the CUs if needed.
+	 */
+	String getCompileDirectory(long stmtList) {
+		getSourceFiles();
+		return m_stmtCompDirMap.get(Long.valueOf(stmtList));
+	}
+
 	/**
 	 * @since 5.2
 	 */
@@ -26,6 +26,7 @@ import org.eclipse.cdt.utils.CPPFilt;
 import org.eclipse.cdt.utils.IGnuToolFactory;
 import org.eclipse.cdt.utils.Objdump;
 import org.eclipse.cdt.utils.Symbol;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfLineTable;
 import org.eclipse.cdt.utils.elf.Elf;
 import org.eclipse.cdt.utils.elf.ElfHelper;
 import org.eclipse.core.runtime.IPath;
@@ -39,6 +40,7 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 	private Addr2line autoDisposeAddr2line;
 	private Addr2line symbolLoadingAddr2line;
 	private CPPFilt symbolLoadingCPPFilt;
+	private DwarfLineTable lineTable;
 	long starttime;
 
 	/**
@@ -142,9 +144,28 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 		return stream;
 	}
 
+	/**
+	 * Returns the line table built from the debug information of the binary,
+	 * or <code>null</code> if it has none and addr2line must be used.
+	 */
+	DwarfLineTable getLineTable() {
+		return lineTable;
+	}
+
+	private static DwarfLineTable loadLineTable(Elf elf) {
+		try {
+			DwarfLineTable table = DwarfLineTable.getLineTable(elf);
+			return table.isEmpty() ? null : table;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	@Override
 	protected void loadSymbols(ElfHelper helper) throws IOException {
-		symbolLoadingAddr2line = getAddr2line(false);
+		lineTable = loadLineTable(helper.getElf());
+		// The line table spares running addr2line for the lines of each symbol
+		symbolLoadingAddr2line = lineTable == null ? getAddr2line(false) : null;
 		symbolLoadingCPPFilt = getCPPFilt();
 		try {
 			super.loadSymbols(helper);
@@ -174,7 +195,13 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 			}
 			IAddress addr = element.st_value;
 			long size = element.st_size;
-			if (symbolLoadingAddr2line != null) {
+			if (lineTable != null) {
+				String filename = lineTable.getFileName(addr);
+				IPath file = filename != null ? new Path(filename) : Path.EMPTY;
+				int startLine = lineTable.getLineNumber(addr);
+				int endLine = lineTable.getLineNumber(addr.add(size - 1));
+				list.add(new GNUSymbol(this, name, type, addr, size, file, startLine, endLine));
+			} else if (symbolLoadingAddr2line != null) {
 				try {
 					String filename = symbolLoadingAddr2line.getFileName(addr);
 					// Addr2line returns the funny "??" when it can not find
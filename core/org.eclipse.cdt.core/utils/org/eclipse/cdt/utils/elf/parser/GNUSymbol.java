@@ -18,6 +18,7 @@ import java.io.IOException;
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.utils.Addr2line;
 import org.eclipse.cdt.utils.Symbol;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfLineTable;
 import org.eclipse.core.runtime.IPath;
 
 public class GNUSymbol extends Symbol {
@@ -34,6 +35,10 @@ public class GNUSymbol extends Symbol {
 	@Override
 	public int getLineNumber(long offset) {
 		int line = -1;
+		DwarfLineTable lineTable = ((GNUElfBinaryObject) binary).getLineTable();
+		if (lineTable != null) {
+			return lineTable.getLineNumber(getAddress().add(offset));
+		}
 		Addr2line addr2line = ((GNUElfBinaryObject) binary).getAddr2line(true);
 		if (addr2line != null) {
 			try {
@@ -20,6 +20,9 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.IPDOMManager;
@@ -32,6 +35,7 @@ import org.eclipse.cdt.internal.ui.search.CSearchPatternQuery;
 import org.eclipse.cdt.internal.ui.search.CSearchQuery;
 import org.eclipse.cdt.internal.ui.search.CSearchResult;
 import org.eclipse.cdt.internal.ui.search.CSearchViewPage;
+import org.eclipse.cdt.internal.ui.search.LineSearchElement;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IStatus;
@@ -359,6 +363,22 @@ public class BasicSearchTest extends SearchTestBase {
 		assertOccurrences(query, 6);
 	}
 
+	// void foo() {}
+
+	//	#include "header.h"
+	//	void bar() {
+	//	    foo();
+	//	}
+	public void testLineContentOfMatches() throws Exception {
+		CSearchResult result = runQuery(makeProjectQuery("foo"));
+		Set<String> lines = new HashSet<>();
+		for (Object element : result.getElements()) {
+			if (element instanceof LineSearchElement)
+				lines.add(((LineSearchElement) element).getContent());
+		}
+		assertEquals(new HashSet<>(Arrays.asList("void foo() {}", "foo();")), lines);
+	}
+
 	//	struct S {
 	//		bool operator<(const S&, const S&);
 	//	};
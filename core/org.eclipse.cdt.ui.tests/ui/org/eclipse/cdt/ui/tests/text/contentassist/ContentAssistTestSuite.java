@@ -24,6 +24,8 @@ import org.junit.runners.Suite;
 
 		CompletionProposalComputerPreferenceParserTest.class,
 
+		ProposalUsageHistoryTest.class,
+
 })
 public class ContentAssistTestSuite {
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.ui.tests.text.contentassist;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.cdt.internal.ui.text.contentassist.ProposalUsageHistory;
+import org.eclipse.cdt.internal.ui.text.contentassist.RelevanceConstants;
+import org.eclipse.jface.dialogs.DialogSettings;
+import org.junit.Test;
+
+public class ProposalUsageHistoryTest {
+
+	@Test
+	public void testUseCounts() {
+		ProposalUsageHistory history = new ProposalUsageHistory(10);
+		history.remember("foo()");
+		history.remember("foo()");
+		history.remember("bar");
+		history.remember(null);
+		history.remember("");
+		assertEquals(2, history.getUseCount("foo()"));
+		assertEquals(1, history.getUseCount("bar"));
+		assertEquals(0, history.getUseCount("baz"));
+		assertEquals(0, history.getUseCount(null));
+		history.clear();
+		assertEquals(0, history.getUseCount("foo()"));
+	}
+
+	@Test
+	public void testRelevanceIsBounded() {
+		ProposalUsageHistory history = new ProposalUsageHistory(10);
+		assertEquals(0, history.computeRelevance("foo"));
+		history.remember("foo");
+		assertEquals(RelevanceConstants.USAGE_RELEVANCE, history.computeRelevance("foo"));
+		for (int i = 0; i < 3 * ProposalUsageHistory.MAX_COUNTED_USES; i++) {
+			history.remember("foo");
+		}
+		assertEquals(ProposalUsageHistory.MAX_COUNTED_USES * RelevanceConstants.USAGE_RELEVANCE,
+				history.computeRelevance("foo"));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreDropped() {
+		ProposalUsageHistory history = new ProposalUsageHistory(2);
+		history.remember("a");
+		history.remember("b");
+		history.getUseCount("a");
+		history.remember("c");
+		assertEquals(1, history.getUseCount("a"));
+		assertEquals(0, history.getUseCount("b"));
+		assertEquals(1, history.getUseCount("c"));
+	}
+
+	@Test
+	public void testSaveAndLoad() {
+		ProposalUsageHistory history = new ProposalUsageHistory(2);
+		history.remember("a");
+		history.remember("b");
+		history.remember("b");
+		DialogSettings settings = new DialogSettings("test");
+		history.save(settings);
+
+		ProposalUsageHistory loaded = new ProposalUsageHistory(2);
+		loaded.remember("x");
+		loaded.load(settings);
+		assertEquals(0, loaded.getUseCount("x"));
+		assertEquals(2, loaded.getUseCount("b"));
+		// The order of use is kept, "a" is still the least recently used
+		loaded.remember("c");
+		assertEquals(0, loaded.getUseCount("a"));
+		assertEquals(2, loaded.getUseCount("b"));
+	}
+}
@@ -117,6 +117,11 @@ public final class ASTProvider {
 			if (isActiveEditor(ref)) {
 				activeEditorChanged(null);
 			}
+			if (isCEditor(ref)) {
+				ITranslationUnit tu = getTranslationUnit(ref.getPart(false));
+				if (tu != null)
+					fCache.removeInactiveElement(tu);
+			}
 		}
 
 		@Override
@@ -236,17 +241,24 @@ public final class ASTProvider {
 		}
 	}
 
-	private void activeEditorChanged(IWorkbenchPart editor) {
-		ITranslationUnit tu = null;
+	private static ITranslationUnit getTranslationUnit(IWorkbenchPart editor) {
 		if (editor != null) {
 			ITranslationUnitHolder provider = editor.getAdapter(ITranslationUnitHolder.class);
 			if (provider != null)
-				tu = provider.getTranslationUnit();
+				return provider.getTranslationUnit();
 		}
+		return null;
+	}
+
+	private void activeEditorChanged(IWorkbenchPart editor) {
+		ITranslationUnit tu = getTranslationUnit(editor);
 
 		synchronized (this) {
 			fActiveEditor = editor;
-			fTimeStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+			// The AST cache may reuse an AST created before the editor was deactivated, provided
+			// it matches the current contents. Capture the modification stamp before that check,
+			// so any later change of the document invalidates the AST.
+			fTimeStamp = getModificationStamp(editor);
 			fCache.setActiveElement(tu);
 		}
 
@@ -268,6 +280,16 @@ public final class ASTProvider {
 		updateModificationStamp();
 	}
 
+	private static long getModificationStamp(IWorkbenchPart editor) {
+		if (editor instanceof ITextEditor) {
+			ITextEditor textEditor = (ITextEditor) editor;
+			IDocument document = textEditor.getDocumentProvider().getDocument(textEditor.getEditorInput());
+			if (document instanceof IDocumentExtension4)
+				return ((IDocumentExtension4) document).getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
 	private boolean updateModificationStamp() {
 		long timeStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 		ITextEditor textEditor = null;
@@ -361,6 +383,25 @@ public final class ASTProvider {
 		return fCache.acquireSharedAST(tu, index, waitFlag != WAIT_NO, monitor);
 	}
 
+	/**
+	 * Executes {@link ASTRunnable#runOnAST(ILanguage, IASTTranslationUnit)} with the most
+	 * recent shared AST of the active editor, without waiting. While the AST is being
+	 * recomputed after a change, the previous AST is passed, so the AST may not match
+	 * the current contents of the editor. Handles acquiring and releasing the index
+	 * read-lock for the client.
+	 *
+	 * @param cElement     the translation unit
+	 * @param astRunnable  the runnable taking the AST, which is {@code null} if no AST is available
+	 * @return the status  returned by the ASTRunnable
+	 */
+	public IStatus runOnLatestAST(ICElement cElement, ASTCache.ASTRunnable astRunnable) {
+		Assert.isTrue(cElement instanceof ITranslationUnit);
+		final ITranslationUnit tu = (ITranslationUnit) cElement;
+		if (!tu.isOpen())
+			return Status.CANCEL_STATUS;
+		return fCache.runOnLatestAST(tu, astRunnable);
+	}
+
 	/**
 	 * Releases a shared AST previously acquired by calling
 	 * {@link #acquireSharedAST(ITranslationUnit, IIndex, WAIT_FLAG, IProgressMonitor)}.
@@ -74,6 +74,7 @@ public class CElementHyperlinkDetector extends AbstractHyperlinkDetector {
 		}
 
 		final IRegion[] hyperlinkRegion = { null };
+		final boolean[] astAvailable = { false };
 		// Do not wait for AST if it's not available yet. Waiting for AST would block the UI thread
 		// for the duration of the parsing.
 		IStatus status = ASTProvider.getASTProvider().runOnAST(workingCopy, ASTProvider.WAIT_NO, null,
@@ -82,33 +83,26 @@ public class CElementHyperlinkDetector extends AbstractHyperlinkDetector {
 					public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) {
 						if (ast == null)
 							return Status.CANCEL_STATUS;
-
-						IASTNode linkASTNode = getLinkASTNode(document, ast, region);
-
-						IASTNodeLocation linkLocation = null;
-						if (linkASTNode != null) {
-							if (linkASTNode instanceof IASTName) {
-								IASTName astName = (IASTName) linkASTNode;
-								IASTImageLocation imageLocation = astName.getImageLocation();
-								if (imageLocation != null) {
-									linkLocation = imageLocation;
-								}
-							}
-							if (linkLocation == null) {
-								linkLocation = linkASTNode.getFileLocation();
-							}
-						}
-
-						if (linkLocation == null) {
-							// Consider a fallback way of finding the hyperlink
-							// (see http://bugs.eclipse.org/bugs/show_bug.cgi?id=333050).
-							return Status.CANCEL_STATUS;
-						}
-
-						hyperlinkRegion[0] = new Region(linkLocation.getNodeOffset(), linkLocation.getNodeLength());
-						return Status.OK_STATUS;
+						astAvailable[0] = true;
+						hyperlinkRegion[0] = getLinkRegion(document, ast, region, false);
+						// Consider a fallback way of finding the hyperlink
+						// (see http://bugs.eclipse.org/bugs/show_bug.cgi?id=333050).
+						return hyperlinkRegion[0] == null ? Status.CANCEL_STATUS : Status.OK_STATUS;
 					}
 				});
+		if (!astAvailable[0]) {
+			// While the editor is reconciled, the AST of its previous contents can still locate
+			// the name, as long as the name is unchanged in the document.
+			status = ASTProvider.getASTProvider().runOnLatestAST(workingCopy, new ASTRunnable() {
+				@Override
+				public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) {
+					if (ast == null)
+						return Status.CANCEL_STATUS;
+					hyperlinkRegion[0] = getLinkRegion(document, ast, region, true);
+					return hyperlinkRegion[0] == null ? Status.CANCEL_STATUS : Status.OK_STATUS;
+				}
+			});
+		}
 
 		if (status == Status.CANCEL_STATUS) {
 			// AST was not available yet or didn't help us to find the hyperlink, try to compute
@@ -151,6 +145,50 @@ public class CElementHyperlinkDetector extends AbstractHyperlinkDetector {
 		return new IHyperlink[] { new CElementHyperlink(hyperlinkRegion[0], openAction) };
 	}
 
+	/**
+	 * Returns the region of the node to link at the given region, or {@code null} if there is none.
+	 *
+	 * @param outdated whether the AST may not reflect the contents of the document, in which
+	 *     case the region is returned only if the document still has the node's text there
+	 */
+	private static IRegion getLinkRegion(IDocument document, IASTTranslationUnit ast, IRegion region,
+			boolean outdated) {
+		IASTNode linkASTNode = getLinkASTNode(document, ast, region);
+		if (linkASTNode == null)
+			return null;
+
+		IASTNodeLocation linkLocation = null;
+		String text = null;
+		if (linkASTNode instanceof IASTName) {
+			IASTName astName = (IASTName) linkASTNode;
+			IASTImageLocation imageLocation = astName.getImageLocation();
+			if (imageLocation != null) {
+				linkLocation = imageLocation;
+				text = new String(astName.getSimpleID());
+			}
+		}
+		if (linkLocation == null) {
+			linkLocation = linkASTNode.getFileLocation();
+			if (linkLocation == null)
+				return null;
+			text = linkASTNode.getRawSignature();
+		}
+
+		int offset = linkLocation.getNodeOffset();
+		int length = linkLocation.getNodeLength();
+		if (outdated) {
+			if (region.getOffset() < offset || region.getOffset() > offset + length)
+				return null;
+			try {
+				if (!document.get(offset, length).equals(text))
+					return null;
+			} catch (BadLocationException e) {
+				return null;
+			}
+		}
+		return new Region(offset, length);
+	}
+
 	private static IASTNode getLinkASTNode(IDocument document, IASTTranslationUnit ast, IRegion region) {
 		final int offset = region.getOffset();
 		final int length = Math.max(1, region.getLength());
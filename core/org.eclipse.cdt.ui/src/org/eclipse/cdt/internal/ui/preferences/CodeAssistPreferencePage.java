@@ -74,6 +74,10 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 				ContentAssistPreference.ORDER_PROPOSALS));
 		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
 				ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES));
+		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
+				ContentAssistPreference.RANK_BY_USAGE));
+		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.INT,
+				ContentAssistPreference.PROPOSALS_TIME_BUDGET));
 		//		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN, ContentAssistPreference.ADD_INCLUDE));
 		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
 				ContentAssistPreference.CURRENT_FILE_SEARCH_SCOPE));
@@ -142,6 +146,12 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_showCamelCaseMatches;
 		addCheckBox(sortingGroup, label, ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES, 0);
 
+		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_rankByUsage;
+		addCheckBox(sortingGroup, label, ContentAssistPreference.RANK_BY_USAGE, 0);
+
+		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_timeBudget;
+		addTextField(sortingGroup, label, ContentAssistPreference.PROPOSALS_TIME_BUDGET, 5, 0, true);
+
 		//&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&
 		// The following items are grouped for Auto Activation
 		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_autoActivationGroupTitle;
@@ -208,5 +218,7 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 		store.setDefault(ContentAssistPreference.PROPOSALS_FILTER,
 				ProposalFilterPreferencesUtil.getProposalFilternamesAsString());
 		store.setDefault(ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES, true);
+		store.setDefault(ContentAssistPreference.RANK_BY_USAGE, false);
+		store.setDefault(ContentAssistPreference.PROPOSALS_TIME_BUDGET, 0);
 	}
 }
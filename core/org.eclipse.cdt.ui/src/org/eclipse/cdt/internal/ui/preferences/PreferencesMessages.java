@@ -48,6 +48,8 @@ public final class PreferencesMessages extends NLS {
 	public static String CEditorPreferencePage_ContentAssistPage_guessArguments;
 	public static String CEditorPreferencePage_ContentAssistPage_showProposalsInAlphabeticalOrder;
 	public static String CEditorPreferencePage_ContentAssistPage_showCamelCaseMatches;
+	public static String CEditorPreferencePage_ContentAssistPage_rankByUsage;
+	public static String CEditorPreferencePage_ContentAssistPage_timeBudget;
 	public static String CEditorPreferencePage_ContentAssistPage_autoActivationGroupTitle;
 	public static String CEditorPreferencePage_ContentAssistPage_autoActivationEnableDot;
 	public static String CEditorPreferencePage_ContentAssistPage_autoActivationEnableArrow;
@@ -23,9 +23,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -65,6 +65,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Region;
@@ -86,6 +87,11 @@ public abstract class CSearchQuery implements ISearchQuery {
 	protected static final long LABEL_FLAGS = CElementLabels.M_PARAMETER_TYPES | CElementLabels.ALL_FULLY_QUALIFIED
 			| CElementLabels.TEMPLATE_ARGUMENTS;
 
+	/** Number of matches after which found matches are reported to the search result */
+	private static final int MATCH_BATCH_SIZE = 500;
+	/** Time in milliseconds after which found matches are reported to the search result */
+	private static final long MATCH_BATCH_DELAY = 200;
+
 	protected CSearchResult result;
 	protected int flags;
 
@@ -220,8 +226,8 @@ public abstract class CSearchQuery implements ISearchQuery {
 		return false; // i.e. keep it
 	}
 
-	private void createMatchesFromNames(IIndex index, Map<IIndexFile, Set<Match>> fileMatches,
-			Collection<IIndexName> names, boolean isPolymorphicOnly) throws CoreException {
+	private void createMatchesFromNames(IIndex index, Set<Match> matches, Collection<IIndexName> names,
+			boolean isPolymorphicOnly, Map<Integer, ICElement> enclosingElements) throws CoreException {
 		if (names == null)
 			return;
 
@@ -233,18 +239,20 @@ public abstract class CSearchQuery implements ISearchQuery {
 					if (loc == null) {
 						continue;
 					}
-					IIndexFile file = name.getFile();
-					Set<Match> matches = fileMatches.get(file);
-					if (matches == null) {
-						matches = new HashSet<>();
-						fileMatches.put(file, matches);
-					}
 					int nodeOffset = loc.getNodeOffset();
 					int nodeLength = loc.getNodeLength();
 					ICElement enclosingElement = null;
 					IIndexName enclosingDefinition = name.getEnclosingDefinition();
 					if (enclosingDefinition != null) {
-						enclosingElement = IndexUI.getCElementForName(preferred, index, enclosingDefinition);
+						// Many names of a file share the same enclosing definition, which is located
+						// in the same file. Compute its element only once.
+						Integer key = enclosingDefinition.getNodeOffset();
+						if (enclosingElements.containsKey(key)) {
+							enclosingElement = enclosingElements.get(key);
+						} else {
+							enclosingElement = IndexUI.getCElementForName(preferred, index, enclosingDefinition);
+							enclosingElements.put(key, enclosingElement);
+						}
 					} else {
 						// Get names from the external search providers.
 						for (IExternalSearchProvider provider : CSearchProviderManager.INSTANCE
@@ -283,12 +291,30 @@ public abstract class CSearchQuery implements ISearchQuery {
 		return matches;
 	}
 
-	private void collectNames(IIndex index, Collection<IIndexName> names, Collection<IIndexName> polymorphicNames)
+	private static void groupNamesByFile(Collection<IIndexName> names, Map<IIndexFile, List<IIndexName>> fileNames)
 			throws CoreException {
+		if (names == null)
+			return;
+		for (IIndexName name : names) {
+			IIndexFile file = name.getFile();
+			List<IIndexName> list = fileNames.get(file);
+			if (list == null) {
+				list = new ArrayList<>();
+				fileNames.put(file, list);
+			}
+			list.add(name);
+		}
+	}
+
+	private void collectNames(IIndex index, Collection<IIndexName> names, Collection<IIndexName> polymorphicNames,
+			IProgressMonitor monitor) throws CoreException {
 		// group all matched names by files
-		Map<IIndexFile, Set<Match>> fileMatches = new HashMap<>();
-		createMatchesFromNames(index, fileMatches, names, false);
-		createMatchesFromNames(index, fileMatches, polymorphicNames, true);
+		Map<IIndexFile, List<IIndexName>> fileNames = new HashMap<>();
+		Map<IIndexFile, List<IIndexName>> filePolymorphicNames = new HashMap<>();
+		groupNamesByFile(names, fileNames);
+		groupNamesByFile(polymorphicNames, filePolymorphicNames);
+		Set<IIndexFile> files = new LinkedHashSet<>(fileNames.keySet());
+		files.addAll(filePolymorphicNames.keySet());
 		// compute mapping from paths to dirty text editors
 		IEditorPart[] dirtyEditors = CUIPlugin.getDirtyEditors();
 		Map<IPath, ITextEditor> pathsDirtyEditors = new HashMap<>();
@@ -302,55 +328,94 @@ public abstract class CSearchQuery implements ISearchQuery {
 				}
 			}
 		}
-		// for each file with matches create line elements with matches
-		for (Entry<IIndexFile, Set<Match>> entry : fileMatches.entrySet()) {
-			IIndexFile file = entry.getKey();
-			Set<Match> matches = entry.getValue();
-			LineSearchElement[] lineElements = {};
-			// check if there is dirty text editor corresponding to file and convert matches
-			IPath absolutePath = IndexLocationFactory.getAbsolutePath(file.getLocation());
-			if (pathsDirtyEditors.containsKey(absolutePath)) {
-				matches = convertMatchesPositions(file, matches);
-				// scan dirty editor and group matches by line elements
-				ITextEditor textEditor = pathsDirtyEditors.get(absolutePath);
-				IEditorInput input = textEditor.getEditorInput();
-				IDocument document = textEditor.getDocumentProvider().getDocument(input);
-				Match[] matchesArray = matches.toArray(new Match[matches.size()]);
-				lineElements = LineSearchElement.createElements(file.getLocation(), matchesArray, document);
-			} else {
-				// scan file and group matches by line elements
-				Match[] matchesArray = matches.toArray(new Match[matches.size()]);
-				lineElements = LineSearchElement.createElements(file.getLocation(), matchesArray);
-			}
-			// create real PDOMSearchMatch with corresponding line elements
-			for (LineSearchElement searchElement : lineElements) {
-				for (Match lineMatch : searchElement.getMatches()) {
-					int offset = lineMatch.getOffset();
-					int length = lineMatch.getLength();
-					CSearchMatch match = new CSearchMatch(searchElement, offset, length);
-					if (lineMatch.isPolymorphicCall())
-						match.setIsPolymorphicCall();
-					if (lineMatch.isWriteAccess()) {
-						match.setIsWriteAccess();
+		// for each file with matches create line elements with matches, reporting them in batches
+		SubMonitor progress = SubMonitor.convert(monitor, files.size());
+		MatchBatch batch = new MatchBatch();
+		for (IIndexFile file : files) {
+			if (progress.isCanceled())
+				throw new OperationCanceledException();
+			Set<Match> matches = new HashSet<>();
+			Map<Integer, ICElement> enclosingElements = new HashMap<>();
+			createMatchesFromNames(index, matches, fileNames.get(file), false, enclosingElements);
+			createMatchesFromNames(index, matches, filePolymorphicNames.get(file), true, enclosingElements);
+			if (!matches.isEmpty()) {
+				LineSearchElement[] lineElements = {};
+				// check if there is dirty text editor corresponding to file and convert matches
+				IPath absolutePath = IndexLocationFactory.getAbsolutePath(file.getLocation());
+				if (pathsDirtyEditors.containsKey(absolutePath)) {
+					matches = convertMatchesPositions(file, matches);
+					// scan dirty editor and group matches by line elements
+					ITextEditor textEditor = pathsDirtyEditors.get(absolutePath);
+					IEditorInput input = textEditor.getEditorInput();
+					IDocument document = textEditor.getDocumentProvider().getDocument(input);
+					Match[] matchesArray = matches.toArray(new Match[matches.size()]);
+					lineElements = LineSearchElement.createElements(file.getLocation(), matchesArray, document);
+				} else {
+					// scan file and group matches by line elements
+					Match[] matchesArray = matches.toArray(new Match[matches.size()]);
+					lineElements = LineSearchElement.createElements(file.getLocation(), matchesArray);
+				}
+				// create real PDOMSearchMatch with corresponding line elements
+				for (LineSearchElement searchElement : lineElements) {
+					for (Match lineMatch : searchElement.getMatches()) {
+						int offset = lineMatch.getOffset();
+						int length = lineMatch.getLength();
+						CSearchMatch match = new CSearchMatch(searchElement, offset, length);
+						if (lineMatch.isPolymorphicCall())
+							match.setIsPolymorphicCall();
+						if (lineMatch.isWriteAccess()) {
+							match.setIsWriteAccess();
+						}
+						batch.add(match);
 					}
-					result.addMatch(match);
 				}
 			}
+			progress.worked(1);
 		}
+		batch.flush();
 	}
 
 	protected void createMatches(IIndex index, IBinding binding) throws CoreException {
-		createMatches(index, new IBinding[] { binding });
+		createMatches(index, binding, null);
 	}
 
 	protected void createMatches(IIndex index, IBinding[] bindings) throws CoreException {
+		createMatches(index, bindings, null);
+	}
+
+	/**
+	 * Creates matches for all names of the given binding and reports them to the search result
+	 * in batches while they are found.
+	 *
+	 * @param index the index, needs to be read-locked
+	 * @param binding the binding to search for
+	 * @param monitor a progress monitor to report progress and check for cancellation, may be {@code null}
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	protected void createMatches(IIndex index, IBinding binding, IProgressMonitor monitor) throws CoreException {
+		createMatches(index, new IBinding[] { binding }, monitor);
+	}
+
+	/**
+	 * Creates matches for all names of the given bindings and reports them to the search result
+	 * in batches while they are found.
+	 *
+	 * @param index the index, needs to be read-locked
+	 * @param bindings the bindings to search for
+	 * @param monitor a progress monitor to report progress and check for cancellation, may be {@code null}
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	protected void createMatches(IIndex index, IBinding[] bindings, IProgressMonitor monitor) throws CoreException {
 		if (bindings == null)
 			return;
+		SubMonitor progress = SubMonitor.convert(monitor, 10);
 		List<IIndexName> names = new ArrayList<>();
 		List<IIndexName> polymorphicNames = null;
 		HashSet<IBinding> handled = new HashSet<>();
 
 		for (IBinding binding : bindings) {
+			if (progress.isCanceled())
+				throw new OperationCanceledException();
 			if (binding != null && handled.add(binding)) {
 				createMatches1(index, binding, names);
 			}
@@ -358,6 +423,8 @@ public abstract class CSearchQuery implements ISearchQuery {
 
 		if ((flags & FIND_REFERENCES) != 0) {
 			for (IBinding binding : bindings) {
+				if (progress.isCanceled())
+					throw new OperationCanceledException();
 				if (binding != null) {
 					List<? extends IBinding> specializations = IndexUI.findSpecializations(index, binding);
 					for (IBinding spec : specializations) {
@@ -391,8 +458,9 @@ public abstract class CSearchQuery implements ISearchQuery {
 			}
 		}
 
+		progress.setWorkRemaining(9);
 		if (!(names.isEmpty() && (polymorphicNames == null || polymorphicNames.isEmpty()))) {
-			collectNames(index, names, polymorphicNames);
+			collectNames(index, names, polymorphicNames, progress.split(9));
 		}
 	}
 
@@ -484,6 +552,7 @@ public abstract class CSearchQuery implements ISearchQuery {
 				lineElements = LineSearchElement.createElements(fileLocation, matchesArray);
 			}
 			// Create real PDOMSearchMatch with corresponding line elements
+			MatchBatch batch = new MatchBatch();
 			for (LineSearchElement searchElement : lineElements) {
 				for (Match lineMatch : searchElement.getMatches()) {
 					int offset = lineMatch.getOffset();
@@ -492,9 +561,33 @@ public abstract class CSearchQuery implements ISearchQuery {
 					if (lineMatch.isWriteAccess()) {
 						match.setIsWriteAccess();
 					}
-					result.addMatch(match);
+					batch.add(match);
 				}
 			}
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Collects matches and adds them to the search result in batches, so that the search view
+	 * is updated while the search is running without being flooded with events.
+	 */
+	private class MatchBatch {
+		private final List<org.eclipse.search.ui.text.Match> fMatches = new ArrayList<>();
+		private long fLastFlush = System.currentTimeMillis();
+
+		void add(CSearchMatch match) {
+			fMatches.add(match);
+			if (fMatches.size() >= MATCH_BATCH_SIZE || System.currentTimeMillis() - fLastFlush >= MATCH_BATCH_DELAY)
+				flush();
+		}
+
+		void flush() {
+			if (!fMatches.isEmpty()) {
+				result.addMatches(fMatches.toArray(new org.eclipse.search.ui.text.Match[fMatches.size()]));
+				fMatches.clear();
+			}
+			fLastFlush = System.currentTimeMillis();
 		}
 	}
 
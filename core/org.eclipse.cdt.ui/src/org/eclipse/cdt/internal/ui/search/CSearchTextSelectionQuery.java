@@ -80,7 +80,7 @@ public class CSearchTextSelectionQuery extends CSearchQuery {
 								binding = CPPTemplates.findDeclarationForSpecialization(binding);
 								if (binding != null) {
 									label = labelForBinding(index, binding, label);
-									createMatches(index, binding);
+									createMatches(index, binding, monitor);
 									return Status.OK_STATUS;
 								}
 							}
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -39,9 +40,17 @@ public class CSearchUnresolvedIncludesQuery extends CSearchQuery {
 	@Override
 	protected IStatus runWithIndex(final IIndex index, IProgressMonitor monitor) {
 		try {
+			// The index counts the unresolved includes, don't look at the files if there are none.
+			int count = index.getUnresolvedIncludesCount();
+			if (count == 0)
+				return Status.OK_STATUS;
+			SubMonitor progress = SubMonitor.convert(monitor, count);
 			for (IIndexFile file : index.getFilesWithUnresolvedIncludes()) {
+				if (progress.isCanceled())
+					return Status.CANCEL_STATUS;
 				for (IIndexInclude include : file.getIncludes()) {
 					if (include.isActive() && !include.isResolved()) {
+						progress.worked(1);
 						result.addMatch(new CSearchMatch(
 								new ProblemSearchElement(IProblem.PREPROCESSOR_INCLUSION_NOT_FOUND,
 										include.getFullName(), include.getIncludedByLocation()),
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.ui.search;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -93,16 +94,64 @@ public class LineSearchElement extends CSearchElement {
 		}
 	}
 
+	/**
+	 * Provides the contents of a file to the line elements of the file. The contents is only
+	 * softly referenced and read again if needed, so that the text of a line is computed only
+	 * when the line is displayed.
+	 */
+	private static final class LazyFileContent {
+		private final IIndexFileLocation fLocation;
+		private SoftReference<AbstractCharArray> fSource;
+
+		LazyFileContent(IIndexFileLocation location, AbstractCharArray source) {
+			fLocation = location;
+			fSource = new SoftReference<>(source);
+		}
+
+		synchronized AbstractCharArray getSource() {
+			AbstractCharArray source = fSource.get();
+			if (source == null) {
+				FileContent content = FileContent.create(fLocation);
+				if (content != null)
+					source = ((InternalFileContent) content).getSource();
+				if (source != null)
+					fSource = new SoftReference<>(source);
+			}
+			return source;
+		}
+	}
+
 	private final int fOffset;
 	private final int fNumber;
-	private final String fContent;
+	private String fContent;
+	private final LazyFileContent fFileContent;
+	private final int fEndOffset;
 	private final Match[] fMatches;
 	private final static MatchesComparator MATCHES_COMPARATOR = new MatchesComparator();
 
+	private LineSearchElement(IIndexFileLocation file, Match[] matches, int number, LazyFileContent fileContent,
+			AbstractCharArray buf, int offset, int length) {
+		super(file);
+		fMatches = matches;
+		fNumber = number;
+		fFileContent = fileContent;
+		fEndOffset = offset + length;
+		// Skip whitespace at the beginning.
+		int firstMatchOffset = matches[0].getOffset();
+		while (offset < firstMatchOffset && offset < fEndOffset) {
+			if (!Character.isWhitespace(buf.get(offset)))
+				break;
+			offset++;
+		}
+		fOffset = offset;
+	}
+
 	private LineSearchElement(IIndexFileLocation file, Match[] matches, int number, String content, int offset) {
 		super(file);
 		fMatches = matches;
 		fNumber = number;
+		fFileContent = null;
+		fEndOffset = offset + content.length();
 		// Skip whitespace at the beginning.
 		int index = 0;
 		int length = content.length();
@@ -126,7 +175,17 @@ public class LineSearchElement extends CSearchElement {
 		return fNumber;
 	}
 
-	public String getContent() {
+	public synchronized String getContent() {
+		if (fContent == null) {
+			AbstractCharArray buf = fFileContent.getSource();
+			if (buf != null && buf.isValidOffset(fEndOffset - 1)) {
+				char[] lineChars = new char[fEndOffset - fOffset];
+				buf.arraycopy(fOffset, lineChars, 0, lineChars.length);
+				fContent = new String(lineChars).trim();
+			} else {
+				fContent = ""; //$NON-NLS-1$
+			}
+		}
 		return fContent;
 	}
 
@@ -136,7 +195,7 @@ public class LineSearchElement extends CSearchElement {
 
 	@Override
 	public String toString() {
-		return fNumber + ": " + fContent; //$NON-NLS-1$
+		return fNumber + ": " + getContent(); //$NON-NLS-1$
 	}
 
 	@Override
@@ -226,6 +285,7 @@ public class LineSearchElement extends CSearchElement {
 		List<LineSearchElement> result = new ArrayList<>();
 		List<Match> matchCollector = new ArrayList<>();
 
+		LazyFileContent fileContent = new LazyFileContent(fileLocation, buf);
 		boolean skipLF = false;
 		int lineNumber = 1;
 		int lineOffset = 0;
@@ -265,10 +325,8 @@ public class LineSearchElement extends CSearchElement {
 				if (!matchCollector.isEmpty()) {
 					int lineLength = pos - lineOffset;
 					Match[] lineMatches = matchCollector.toArray(new Match[matchCollector.size()]);
-					char[] lineChars = new char[lineLength];
-					buf.arraycopy(lineOffset, lineChars, 0, lineLength);
-					String lineContent = new String(lineChars);
-					result.add(new LineSearchElement(fileLocation, lineMatches, lineNumber, lineContent, lineOffset));
+					result.add(new LineSearchElement(fileLocation, lineMatches, lineNumber, fileContent, buf, lineOffset,
+							lineLength));
 					matchCollector.clear();
 					if (match == null)
 						break;
@@ -284,10 +342,8 @@ public class LineSearchElement extends CSearchElement {
 		if (!matchCollector.isEmpty()) {
 			int lineLength = buf.getLength() - lineOffset;
 			Match[] lineMatches = matchCollector.toArray(new Match[matchCollector.size()]);
-			char[] lineChars = new char[lineLength];
-			buf.arraycopy(lineOffset, lineChars, 0, lineLength);
-			String lineContent = new String(lineChars);
-			result.add(new LineSearchElement(fileLocation, lineMatches, lineNumber, lineContent, lineOffset));
+			result.add(new LineSearchElement(fileLocation, lineMatches, lineNumber, fileContent, buf, lineOffset,
+					lineLength));
 		}
 		return result.toArray(new LineSearchElement[result.size()]);
 	}
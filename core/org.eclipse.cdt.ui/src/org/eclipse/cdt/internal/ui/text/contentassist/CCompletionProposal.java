@@ -179,6 +179,7 @@ public class CCompletionProposal implements ICCompletionProposal, ICompletionPro
 
 	@Override
 	public void apply(IDocument document, char trigger, int offset) {
+		ProposalUsageHistory.getDefault().remember(fIdString);
 		try {
 			// patch replacement length
 			int delta = offset - (fReplacementOffset + fReplacementLength);
@@ -83,6 +83,14 @@ public class ContentAssistPreference {
 	/** Key for boolean preference telling whether camel case/underscore matches are to be shown by content assist features or not*/
 	public static final String SHOW_CAMEL_CASE_MATCHES = "contentAssist.showCamelCaseMatches"; //$NON-NLS-1$
 
+	/** Preference key for boosting the relevance of proposals that have been applied before */
+	public final static String RANK_BY_USAGE = "content_assist_rank_by_usage"; //$NON-NLS-1$
+	/**
+	 * Preference key for the time (in ms) the DOM proposal computer may spend on fully resolving
+	 * proposals before it falls back to plain name proposals. A value of zero disables the budget.
+	 */
+	public final static String PROPOSALS_TIME_BUDGET = "content_assist_proposals_time_budget"; //$NON-NLS-1$
+
 	private static Color getColor(IPreferenceStore store, String key, IColorManager manager) {
 		RGB rgb = PreferenceConverter.getColor(store, key);
 		return manager.getColor(rgb);
@@ -131,6 +131,8 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 	private static final String ELLIPSIS = "..."; //$NON-NLS-1$;
 	private String fPrefix = ""; //$NON-NLS-1$
 	private boolean fGuessArguments;
+	private boolean fRankByUsage;
+	private long fDeadline;
 	private List<IBinding> fAvailableElements;
 
 	/**
@@ -144,6 +146,9 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 			IASTCompletionNode completionNode, String prefix) {
 		fPrefix = prefix;
 		fGuessArguments = getPreferenceStore().getBoolean(ContentAssistPreference.GUESS_ARGUMENTS);
+		fRankByUsage = getPreferenceStore().getBoolean(ContentAssistPreference.RANK_BY_USAGE);
+		int timeBudget = getPreferenceStore().getInt(ContentAssistPreference.PROPOSALS_TIME_BUDGET);
+		fDeadline = timeBudget > 0 ? System.currentTimeMillis() + timeBudget : Long.MAX_VALUE;
 		fAvailableElements = fGuessArguments ? getDefinedElements(context) : Collections.<IBinding>emptyList();
 		List<ICompletionProposal> proposals = new ArrayList<>();
 
@@ -186,10 +191,19 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 					IBinding[] bindings = astContext.findBindings(name, !context.isContextInformationStyle());
 
 					if (bindings != null) {
+						if (fDeadline != Long.MAX_VALUE)
+							sortLocalBindingsFirst(bindings);
 						AccessContext accessibilityContext = new AccessContext(name, true);
 						for (IBinding binding : bindings) {
-							if (accessibilityContext.isAccessible(binding))
+							if (!accessibilityContext.isAccessible(binding))
+								continue;
+							// Parameter hints are always computed, the budget only limits
+							// the resolution of completion proposals
+							if (isOverTimeBudget() && !context.isContextInformationStyle()) {
+								handleBindingByName(binding, context, prefix, proposals);
+							} else {
 								handleBinding(binding, context, prefix, astContext, proposals);
+							}
 						}
 					}
 				} finally {
@@ -349,12 +363,7 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 
 	protected void handleBinding(IBinding binding, CContentAssistInvocationContext cContext, String prefix,
 			IASTCompletionContext astContext, List<ICompletionProposal> proposals) {
-		if ((binding instanceof CPPImplicitFunction || binding instanceof CPPImplicitTypedef
-				|| binding instanceof CPPBuiltinVariable || binding instanceof CPPBuiltinParameter
-				|| binding instanceof CImplicitFunction || binding instanceof CImplicitTypedef
-				|| binding instanceof CBuiltinVariable || binding instanceof CBuiltinParameter
-				|| binding instanceof ICPPClassTemplatePartialSpecialization)
-				&& !(binding instanceof CPPImplicitMethod)) {
+		if (isImplicitBinding(binding)) {
 			return;
 		}
 
@@ -389,6 +398,55 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 		}
 	}
 
+	/**
+	 * Checks whether the time budget for computing fully resolved proposals has been used up.
+	 */
+	private boolean isOverTimeBudget() {
+		return fDeadline != Long.MAX_VALUE && System.currentTimeMillis() > fDeadline;
+	}
+
+	/**
+	 * Moves bindings from local scopes to the front, so they are fully resolved while the
+	 * time budget lasts.
+	 */
+	private static void sortLocalBindingsFirst(IBinding[] bindings) {
+		List<IBinding> others = new ArrayList<>();
+		int next = 0;
+		for (IBinding binding : bindings) {
+			if (binding instanceof IVariable && isLocalVariable((IVariable) binding)) {
+				bindings[next++] = binding;
+			} else {
+				others.add(binding);
+			}
+		}
+		for (IBinding binding : others) {
+			bindings[next++] = binding;
+		}
+	}
+
+	/**
+	 * Creates a proposal for the plain name of the binding. Used instead of
+	 * {@link #handleBinding} once the time budget has been exceeded, because it needs
+	 * no further semantic analysis of the binding.
+	 */
+	private void handleBindingByName(IBinding binding, CContentAssistInvocationContext cContext, String prefix,
+			List<ICompletionProposal> proposals) {
+		if (isAnonymousBinding(binding) || isImplicitBinding(binding))
+			return;
+		final String name = binding.getName();
+		proposals.add(createProposal(name, name, getImage(binding),
+				computeBaseRelevance(prefix, name) + RelevanceConstants.DEFAULT_TYPE_RELEVANCE, cContext));
+	}
+
+	private static boolean isImplicitBinding(IBinding binding) {
+		return (binding instanceof CPPImplicitFunction || binding instanceof CPPImplicitTypedef
+				|| binding instanceof CPPBuiltinVariable || binding instanceof CPPBuiltinParameter
+				|| binding instanceof CImplicitFunction || binding instanceof CImplicitTypedef
+				|| binding instanceof CBuiltinVariable || binding instanceof CBuiltinParameter
+				|| binding instanceof ICPPClassTemplatePartialSpecialization)
+				&& !(binding instanceof CPPImplicitMethod);
+	}
+
 	private boolean isAnonymousBinding(IBinding binding) {
 		char[] name = binding.getNameCharArray();
 		return name.length == 0 || name[0] == '{';
@@ -986,6 +1044,8 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 		int repLength = doReplacement ? prefixLength : 0;
 		int repOffset = doReplacement ? parseOffset - repLength : invocationOffset;
 		repString = doReplacement ? repString : ""; //$NON-NLS-1$
+		if (fRankByUsage)
+			relevance += ProposalUsageHistory.getDefault().computeRelevance(idString != null ? idString : dispString);
 
 		return new CCompletionProposal(repString, repOffset, repLength, image, dispString, idString, relevance,
 				context.getViewer());
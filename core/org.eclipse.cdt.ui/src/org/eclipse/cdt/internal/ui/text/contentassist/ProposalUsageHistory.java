@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.ui.text.contentassist;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.ui.CUIPlugin;
+import org.eclipse.jface.dialogs.IDialogSettings;
+
+/**
+ * Remembers how often completion proposals have been applied, so that frequently used
+ * proposals can be ranked higher in later content assist sessions. The history is bounded;
+ * the least recently used entries are dropped first. The default history is kept in the
+ * dialog settings of the plug-in, so it survives a restart.
+ */
+public final class ProposalUsageHistory {
+	/** Maximum number of distinct proposals remembered. */
+	public static final int MAX_ENTRIES = 1000;
+	/** Number of uses after which the relevance boost no longer grows. */
+	public static final int MAX_COUNTED_USES = 10;
+
+	private static final String SETTINGS_SECTION = "ProposalUsageHistory"; //$NON-NLS-1$
+	private static final String SETTINGS_IDS = "ids"; //$NON-NLS-1$
+	private static final String SETTINGS_COUNTS = "counts"; //$NON-NLS-1$
+
+	private static ProposalUsageHistory fgDefault;
+
+	private final Map<String, Integer> fUseCounts;
+
+	public static synchronized ProposalUsageHistory getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new ProposalUsageHistory(MAX_ENTRIES);
+			fgDefault.load(CUIPlugin.getDefault().getDialogSettingsSection(SETTINGS_SECTION));
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stores the default history in the dialog settings of the plug-in, if it was used.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.save(CUIPlugin.getDefault().getDialogSettingsSection(SETTINGS_SECTION));
+		}
+	}
+
+	public ProposalUsageHistory(final int maxEntries) {
+		fUseCounts = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Records that the proposal with the given id has been applied.
+	 *
+	 * @param idString the id string of the proposal, may be {@code null}
+	 */
+	public synchronized void remember(String idString) {
+		if (idString == null || idString.isEmpty())
+			return;
+		Integer count = fUseCounts.get(idString);
+		fUseCounts.put(idString, count == null ? 1 : count + 1);
+	}
+
+	/**
+	 * Returns how often the proposal with the given id has been applied.
+	 */
+	public synchronized int getUseCount(String idString) {
+		if (idString == null)
+			return 0;
+		Integer count = fUseCounts.get(idString);
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * Computes the relevance increment for a proposal depending on how often it was used.
+	 *
+	 * @param idString the id string of the proposal, may be {@code null}
+	 * @return a relevance increment between zero and
+	 *     {@code MAX_COUNTED_USES * RelevanceConstants.USAGE_RELEVANCE}
+	 */
+	public int computeRelevance(String idString) {
+		return Math.min(getUseCount(idString), MAX_COUNTED_USES) * RelevanceConstants.USAGE_RELEVANCE;
+	}
+
+	public synchronized void clear() {
+		fUseCounts.clear();
+	}
+
+	/**
+	 * Replaces the content of this history with the one stored in the given settings.
+	 */
+	public synchronized void load(IDialogSettings settings) {
+		fUseCounts.clear();
+		String[] ids = settings.getArray(SETTINGS_IDS);
+		String[] counts = settings.getArray(SETTINGS_COUNTS);
+		if (ids == null || counts == null || ids.length != counts.length)
+			return;
+		// The entries are stored from the least to the most recently used
+		for (int i = 0; i < ids.length; i++) {
+			try {
+				int count = Integer.parseInt(counts[i]);
+				if (count > 0)
+					fUseCounts.put(ids[i], count);
+			} catch (NumberFormatException e) {
+				// Skip the entry
+			}
+		}
+	}
+
+	/**
+	 * Stores the content of this history in the given settings.
+	 */
+	public synchronized void save(IDialogSettings settings) {
+		String[] ids = new String[fUseCounts.size()];
+		String[] counts = new String[ids.length];
+		int i = 0;
+		for (Map.Entry<String, Integer> entry : fUseCounts.entrySet()) {
+			ids[i] = entry.getKey();
+			counts[i++] = entry.getValue().toString();
+		}
+		settings.put(SETTINGS_IDS, ids);
+		settings.put(SETTINGS_COUNTS, counts);
+	}
+}
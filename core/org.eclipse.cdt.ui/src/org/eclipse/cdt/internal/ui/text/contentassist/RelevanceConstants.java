@@ -27,6 +27,12 @@ public interface RelevanceConstants {
 	/** Relevance increment for exact name matches (disregarding case) */
 	final int EXACT_NAME_MATCH_RELEVANCE = 40;
 
+	/**
+	 * Relevance increment per recorded use of a proposal, see {@link ProposalUsageHistory}.
+	 * Ten uses outweigh the difference between two neighboring proposal kinds.
+	 */
+	final int USAGE_RELEVANCE = 2;
+
 	/** Relevance constant for proposals contributed by help provider */
 	final int HELP_TYPE_RELEVANCE = 200;
 
@@ -57,6 +57,7 @@ import org.eclipse.cdt.internal.ui.refactoring.CTextFileChangeFactory;
 import org.eclipse.cdt.internal.ui.text.CTextTools;
 import org.eclipse.cdt.internal.ui.text.c.hover.CEditorTextHoverDescriptor;
 import org.eclipse.cdt.internal.ui.text.contentassist.ContentAssistPreference;
+import org.eclipse.cdt.internal.ui.text.contentassist.ProposalUsageHistory;
 import org.eclipse.cdt.internal.ui.text.doctools.DocCommentOwnerManager;
 import org.eclipse.cdt.internal.ui.text.doctools.EditorReopener;
 import org.eclipse.cdt.internal.ui.text.folding.CFoldingStructureProviderRegistry;
@@ -680,6 +681,7 @@ public class CUIPlugin extends AbstractUIPlugin {
 		}
 
 		ContentAssistPreference.shutdown();
+		ProposalUsageHistory.shutdown();
 
 		if (fThemeListener != null) {
 			PlatformUI.getWorkbench().getThemeManager().removePropertyChangeListener(fThemeListener);
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.core.model.provisional;
+
+import java.math.BigInteger;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+
+/**
+ * An extension of IMemoryBlockExtension for memory blocks whose backend can
+ * search the target memory for a pattern, which saves transferring the memory
+ * to the client to search it there.
+ */
+public interface ISearchableMemoryBlock extends IMemoryBlockExtension {
+
+	/**
+	 * @return whether {@link #findPattern(BigInteger, BigInteger, byte[], int)}
+	 *         can currently be used
+	 */
+	boolean supportsFindPattern();
+
+	/**
+	 * Searches the given range of memory for a sequence of bytes.
+	 *
+	 * @param start the first address to search
+	 * @param end the last address to search, inclusive
+	 * @param pattern the bytes to search for
+	 * @param maxCount the maximum number of matches to return
+	 * @return the addresses of the first matches, in increasing order
+	 * @throws DebugException if the backend fails to search the range, e.g.
+	 *             because part of it cannot be read
+	 */
+	BigInteger[] findPattern(BigInteger start, BigInteger end, byte[] pattern, int maxCount) throws DebugException;
+}
@@ -14,7 +14,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.UnaryOperator;
 
@@ -27,14 +29,35 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
 import org.eclipse.debug.core.model.IMemoryBlockRetrievalExtension;
+import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.lsp4e.debug.debugmodel.DSPDebugTarget;
+import org.eclipse.lsp4j.debug.ContinuedEventArguments;
+import org.eclipse.lsp4j.debug.EvaluateArguments;
+import org.eclipse.lsp4j.debug.EvaluateArgumentsContext;
+import org.eclipse.lsp4j.debug.InvalidatedEventArguments;
+import org.eclipse.lsp4j.debug.MemoryEventArguments;
+import org.eclipse.lsp4j.debug.StoppedEventArguments;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolServer;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.debug.DebugLauncher;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 
 public class DapDebugTarget extends DSPDebugTarget implements IMemoryBlockRetrievalExtension, ICDTDebugProtocolClient {
 
+	/**
+	 * Memory read by the memory blocks of this target, kept while the target is
+	 * stopped, so that refreshing the views doesn't request it again.
+	 */
+	private final DapMemoryCache memoryCache = new DapMemoryCache(this::fetchMemory);
+
+	/**
+	 * Ids of the requests sent to the debug adapter which may change the
+	 * memory, and whose responses weren't received yet.
+	 */
+	private final Set<String> memoryChangingRequests = ConcurrentHashMap.newKeySet();
+
 	public DapDebugTarget(ILaunch launch, Runnable processCleanup, InputStream in, OutputStream out,
 			Map<String, Object> dspParameters) {
 		super(launch, processCleanup, in, out, dspParameters);
@@ -43,16 +66,84 @@ public class DapDebugTarget extends DSPDebugTarget implements IMemoryBlockRetrie
 	@Override
 	protected Launcher<? extends IDebugProtocolServer> createLauncher(UnaryOperator<MessageConsumer> wrapper,
 			InputStream in, OutputStream out, ExecutorService threadPool) {
+		UnaryOperator<MessageConsumer> memoryWrapper = consumer -> invalidateMemoryOnChange(
+				wrapper != null ? wrapper.apply(consumer) : consumer);
 		Launcher<ICDTDebugProtocolServer> debugProtocolLauncher = DebugLauncher.createLauncher(this,
-				ICDTDebugProtocolServer.class, in, out, threadPool, wrapper);
+				ICDTDebugProtocolServer.class, in, out, threadPool, memoryWrapper);
 		return debugProtocolLauncher;
 	}
 
+	/**
+	 * Wraps the given consumer of the messages exchanged with the debug adapter
+	 * to clear the memory cache when a request which may change the memory is
+	 * sent, and again when it is answered, as memory may have been read in
+	 * between.
+	 */
+	private MessageConsumer invalidateMemoryOnChange(MessageConsumer consumer) {
+		return message -> {
+			if (message instanceof RequestMessage && mayChangeMemory((RequestMessage) message)) {
+				memoryChangingRequests.add(((RequestMessage) message).getId());
+				memoryCache.invalidate();
+			} else if (message instanceof ResponseMessage
+					&& memoryChangingRequests.remove(((ResponseMessage) message).getId())) {
+				memoryCache.invalidate();
+			}
+			consumer.consume(message);
+		};
+	}
+
+	/**
+	 * @return whether the given request may change the memory of the target;
+	 *         the expressions of hovers and watches are evaluated on every
+	 *         refresh and are assumed to have no side effects
+	 */
+	private static boolean mayChangeMemory(RequestMessage request) {
+		switch (request.getMethod()) {
+		case "setVariable": //$NON-NLS-1$
+		case "setExpression": //$NON-NLS-1$
+		case "writeMemory": //$NON-NLS-1$
+			return true;
+		case "evaluate": //$NON-NLS-1$
+			if (request.getParams() instanceof EvaluateArguments) {
+				String context = ((EvaluateArguments) request.getParams()).getContext();
+				return !EvaluateArgumentsContext.HOVER.equals(context)
+						&& !EvaluateArgumentsContext.WATCH.equals(context);
+			}
+			return true;
+		default:
+			return false;
+		}
+	}
+
 	@Override
 	public ICDTDebugProtocolServer getDebugProtocolServer() {
 		return (ICDTDebugProtocolServer) super.getDebugProtocolServer();
 	}
 
+	@Override
+	public void stopped(StoppedEventArguments body) {
+		memoryCache.reset(true);
+		super.stopped(body);
+	}
+
+	@Override
+	public void continued(ContinuedEventArguments body) {
+		memoryCache.reset(false);
+		super.continued(body);
+	}
+
+	@Override
+	public void memory(MemoryEventArguments body) {
+		memoryCache.invalidate();
+		super.memory(body);
+	}
+
+	@Override
+	public void invalidated(InvalidatedEventArguments body) {
+		memoryCache.invalidate();
+		super.invalidated(body);
+	}
+
 	@Override
 	public boolean supportsStorageRetrieval() {
 		return true;
@@ -94,4 +185,73 @@ public class DapDebugTarget extends DSPDebugTarget implements IMemoryBlockRetrie
 		}
 		return new MemoryBlock(this, expression, bigBaseAddress, context);
 	}
+
+	/**
+	 * Reads memory, from the cache while the target is stopped.
+	 *
+	 * @param address the first address to read
+	 * @param length the number of bytes to read
+	 */
+	MemoryByte[] readMemory(BigInteger address, int length) throws DebugException {
+		return memoryCache.read(address, length);
+	}
+
+	private MemoryByte[] fetchMemory(BigInteger address, long length) throws DebugException {
+		MemoryRequestArguments memoryRequestArguments = new MemoryRequestArguments();
+		memoryRequestArguments.setAddress("0x" + address.toString(16)); //$NON-NLS-1$
+		memoryRequestArguments.setLength(length);
+		CompletableFuture<MemoryContents> memory = getDebugProtocolServer().memory(memoryRequestArguments);
+		MemoryContents body = complete(memory);
+		String resultAddress = body.getAddress();
+		String contents = body.getData();
+		BigInteger bigResultAddress;
+		try {
+			bigResultAddress = BigInteger.valueOf(Long.decode(resultAddress));
+		} catch (NumberFormatException nfexc) {
+			// TODO
+			bigResultAddress = address;
+		}
+		int numRequestedBytes = (int) length;
+		MemoryByte[] bytes = new MemoryByte[numRequestedBytes];
+		int resultOffsetFromRequest = bigResultAddress.subtract(address).intValue();
+		int resultEnd = Math.min(resultOffsetFromRequest + contents.length() / 2, numRequestedBytes);
+
+		for (int i = 0; i < numRequestedBytes; i++) {
+			if (i >= resultOffsetFromRequest && i < resultEnd) {
+				int k = (i - resultOffsetFromRequest) * 2;
+				byte b = (byte) ((Character.digit(contents.charAt(k), 16) << 4)
+						| Character.digit(contents.charAt(k + 1), 16));
+				bytes[i] = new MemoryByte(b);
+			} else {
+				bytes[i] = new MemoryByte((byte) 0, (byte) (0 & ~MemoryByte.READABLE));
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the number of memory requests sent to the debug adapter
+	 * @since 1.3
+	 */
+	public long getMemoryRequestCount() {
+		return memoryCache.getRequestCount();
+	}
+
+	/**
+	 * @return the total time spent waiting for the debug adapter to answer
+	 *         memory requests, in milliseconds
+	 * @since 1.3
+	 */
+	public long getMemoryRequestTime() {
+		return memoryCache.getRequestNanos() / 1_000_000;
+	}
+
+	/**
+	 * @return the number of lines of memory read from the cache rather than
+	 *         requested
+	 * @since 1.3
+	 */
+	public long getMemoryCacheHitCount() {
+		return memoryCache.getHitCount();
+	}
 }
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.dap;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Cache of the memory of a debug target, by lines of {@link #LINE_SIZE}
+ * bytes. The lines missing for a read are fetched from the debug adapter in as
+ * few requests as possible.
+ * <p>
+ * The memory is only cached while the target is stopped, the cache is cleared
+ * when it stops or resumes, and when the memory is changed meanwhile. The lock of the cache is never held while waiting
+ * for the debug adapter, whose messages may be handled by the thread that
+ * clears the cache.
+ */
+final class DapMemoryCache {
+
+	/** Number of bytes per line, a power of two */
+	static final int LINE_SIZE = 512;
+
+	private static final int LINE_SHIFT = Integer.numberOfTrailingZeros(LINE_SIZE);
+
+	/** Maximum number of lines kept, the least recently used are evicted */
+	private static final int MAX_LINES = 2048;
+
+	/** Maximum number of lines fetched per request */
+	private static final int MAX_REQUEST_LINES = 128;
+
+	interface MemoryFetcher {
+		/**
+		 * @return the given number of bytes, the bytes which could not be read
+		 *         are flagged as such
+		 */
+		MemoryByte[] fetch(BigInteger address, long length) throws DebugException;
+	}
+
+	private static final class Line {
+		final byte[] values = new byte[LINE_SIZE];
+		final byte[] flags = new byte[LINE_SIZE];
+	}
+
+	private final MemoryFetcher fetcher;
+
+	private final Map<BigInteger, Line> lines = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<BigInteger, Line> eldest) {
+			return size() > MAX_LINES;
+		}
+	};
+
+	private boolean enabled;
+
+	/** Incremented when the cache is cleared, so that fetches in flight are not cached */
+	private long generation;
+
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong requestNanos = new AtomicLong();
+	private final AtomicLong hitCount = new AtomicLong();
+
+	DapMemoryCache(MemoryFetcher fetcher) {
+		this.fetcher = fetcher;
+	}
+
+	/**
+	 * Clears the cache.
+	 *
+	 * @param enabled whether the memory can be cached until the next reset,
+	 *            i.e. whether the target is stopped
+	 */
+	synchronized void reset(boolean enabled) {
+		this.enabled = enabled;
+		invalidate();
+	}
+
+	/**
+	 * Clears the cache, after the memory was changed while the target is
+	 * stopped.
+	 */
+	synchronized void invalidate() {
+		lines.clear();
+		generation++;
+	}
+
+	/**
+	 * @return the given number of bytes from the given address
+	 */
+	MemoryByte[] read(BigInteger address, int length) throws DebugException {
+		if (length <= 0) {
+			return new MemoryByte[0];
+		}
+		BigInteger first = address.shiftRight(LINE_SHIFT);
+		BigInteger last = address.add(BigInteger.valueOf(length - 1)).shiftRight(LINE_SHIFT);
+		int count = last.subtract(first).intValue() + 1;
+
+		Map<BigInteger, Line> found = new HashMap<>();
+		long readGeneration;
+		boolean cached;
+		synchronized (this) {
+			cached = enabled;
+			readGeneration = generation;
+			for (int i = 0; cached && i < count; i++) {
+				BigInteger index = first.add(BigInteger.valueOf(i));
+				Line line = lines.get(index);
+				if (line != null) {
+					found.put(index, line);
+				}
+			}
+		}
+		if (!cached) {
+			return fetchTimed(address, length);
+		}
+		hitCount.addAndGet(found.size());
+
+		// Fetch the runs of missing lines
+		for (int i = 0; i < count;) {
+			BigInteger index = first.add(BigInteger.valueOf(i));
+			if (found.containsKey(index)) {
+				i++;
+				continue;
+			}
+			int run = 1;
+			while (i + run < count && run < MAX_REQUEST_LINES
+					&& !found.containsKey(first.add(BigInteger.valueOf(i + run)))) {
+				run++;
+			}
+			MemoryByte[] bytes;
+			try {
+				bytes = fetchTimed(index.shiftLeft(LINE_SHIFT), run * LINE_SIZE);
+			} catch (DebugException e) {
+				// The whole lines may not be readable while the requested range is
+				return fetchTimed(address, length);
+			}
+			List<BigInteger> fetched = new ArrayList<>(run);
+			for (int j = 0; j < run; j++) {
+				Line line = new Line();
+				for (int k = 0; k < LINE_SIZE; k++) {
+					MemoryByte b = bytes[j * LINE_SIZE + k];
+					line.values[k] = b.getValue();
+					line.flags[k] = b.getFlags();
+				}
+				BigInteger lineIndex = index.add(BigInteger.valueOf(j));
+				found.put(lineIndex, line);
+				fetched.add(lineIndex);
+			}
+			synchronized (this) {
+				if (enabled && readGeneration == generation) {
+					for (BigInteger lineIndex : fetched) {
+						lines.put(lineIndex, found.get(lineIndex));
+					}
+				}
+			}
+			i += run;
+		}
+
+		MemoryByte[] result = new MemoryByte[length];
+		int offset = address.subtract(first.shiftLeft(LINE_SHIFT)).intValue();
+		for (int i = 0; i < length; i++) {
+			int position = offset + i;
+			Line line = found.get(first.add(BigInteger.valueOf(position >> LINE_SHIFT)));
+			int k = position & (LINE_SIZE - 1);
+			result[i] = new MemoryByte(line.values[k], line.flags[k]);
+		}
+		return result;
+	}
+
+	private MemoryByte[] fetchTimed(BigInteger address, long length) throws DebugException {
+		long start = System.nanoTime();
+		try {
+			return fetcher.fetch(address, length);
+		} finally {
+			requestCount.incrementAndGet();
+			requestNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * @return the number of memory requests sent to the debug adapter
+	 */
+	long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * @return the total time spent waiting for memory requests, in nanoseconds
+	 */
+	long getRequestNanos() {
+		return requestNanos.get();
+	}
+
+	/**
+	 * @return the number of lines read from the cache rather than requested
+	 */
+	long getHitCount() {
+		return hitCount.get();
+	}
+}
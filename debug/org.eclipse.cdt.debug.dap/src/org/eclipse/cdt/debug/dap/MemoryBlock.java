@@ -12,10 +12,7 @@ package org.eclipse.cdt.debug.dap;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.concurrent.CompletableFuture;
 
-import org.eclipse.cdt.debug.dap.CDTDebugProtocol.MemoryContents;
-import org.eclipse.cdt.debug.dap.CDTDebugProtocol.MemoryRequestArguments;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
 import org.eclipse.debug.core.model.IMemoryBlockRetrieval;
@@ -135,37 +132,7 @@ public class MemoryBlock extends CDTDebugElement implements IMemoryBlockExtensio
 
 	@Override
 	public MemoryByte[] getBytesFromAddress(BigInteger address, long units) throws DebugException {
-		MemoryRequestArguments memoryRequestArguments = new MemoryRequestArguments();
-		memoryRequestArguments.setAddress("0x" + address.toString(16)); //$NON-NLS-1$
-		memoryRequestArguments.setLength(units);
-		CompletableFuture<MemoryContents> memory = getDebugProtocolServer().memory(memoryRequestArguments);
-		MemoryContents body = complete(memory);
-		String resultAddress = body.getAddress();
-		String contents = body.getData();
-		BigInteger bigResultAddress;
-		BigInteger.valueOf(Long.decode(resultAddress));
-		try {
-			bigResultAddress = BigInteger.valueOf(Long.decode(resultAddress));
-		} catch (NumberFormatException nfexc) {
-			// TODO
-			bigResultAddress = address;
-		}
-		int numRequestedBytes = (int) (units * getAddressableSize());
-		MemoryByte[] bytes = new MemoryByte[numRequestedBytes];
-		int resultOffsetFromRequest = bigResultAddress.subtract(address).intValue();
-
-		for (int i = 0; i < resultOffsetFromRequest; i++) {
-			bytes[i] = new MemoryByte((byte) 0, (byte) (0 & ~MemoryByte.READABLE));
-		}
-		for (int i = resultOffsetFromRequest, k = 0; i < resultOffsetFromRequest + (contents.length() / 2)
-				&& i < numRequestedBytes; i++, k += 2) {
-			byte b = (byte) Integer.parseInt(contents.substring(k, k + 2), 16);
-			bytes[i] = new MemoryByte(b);
-		}
-		for (int i = resultOffsetFromRequest + (contents.length() / 2); i < numRequestedBytes; i++) {
-			bytes[i] = new MemoryByte((byte) 0, (byte) (0 & ~MemoryByte.READABLE));
-		}
-		return bytes;
+		return debugTarget.readMemory(address, (int) (units * getAddressableSize()));
 	}
 
 	@Override
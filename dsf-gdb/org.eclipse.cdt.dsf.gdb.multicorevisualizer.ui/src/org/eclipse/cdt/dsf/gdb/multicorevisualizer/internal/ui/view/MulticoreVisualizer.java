@@ -169,6 +169,16 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 	// geometry each time we want to update the load information.
 	protected List<IDMContext> m_cpuCoreContextsCache = null;
 
+	/** Lock guarding the state of the model updates */
+	private final Object m_updateLock = new Object();
+
+	/** Whether the model is being re-created */
+	private boolean m_updateOngoing = false;
+
+	/** Whether the model must be re-created again once the ongoing update is done,
+	 *  the requests received in the meantime are coalesced into it */
+	private boolean m_updatePending = false;
+
 	/** Main switch that determines if we should display the load meters */
 	private PersistentParameter<Boolean> m_loadMetersEnabled;
 
@@ -1064,6 +1074,11 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 		if (m_sessionState != null && !m_sessionState.getSessionID().equals(sessionId)) {
 			// stop timer that updates the load meters
 			disposeLoadMeterTimer();
+			// an update of the previous session may never complete
+			synchronized (m_updateLock) {
+				m_updateOngoing = false;
+				m_updatePending = false;
+			}
 
 			m_sessionState.removeServiceEventListener(fEventListener);
 			m_sessionState.dispose();
@@ -1084,7 +1099,9 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 
 	// --- Update methods ---
 
-	/** Updates visualizer canvas state. */
+	/** Updates visualizer canvas state.
+	 *  While the model is being re-created, further updates are coalesced
+	 *  into a single one, done once the ongoing update completes. */
 	public void update() {
 		// Create new VisualizerModel and hand it to canvas,
 		// TODO: cache the VisualizerModel somehow and update it,
@@ -1094,6 +1111,13 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 			setCanvasModel(null);
 			return;
 		}
+		synchronized (m_updateLock) {
+			if (m_updateOngoing) {
+				m_updatePending = true;
+				return;
+			}
+			m_updateOngoing = true;
+		}
 		// clear CPU/core cache
 		m_cpuCoreContextsCache.clear();
 
@@ -1101,6 +1125,18 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 		getVisualizerModel(fDataModel);
 	}
 
+	/** Invoked when the model has been re-created, starts the pending update if any. */
+	protected void updateDone() {
+		synchronized (m_updateLock) {
+			m_updateOngoing = false;
+			if (!m_updatePending) {
+				return;
+			}
+			m_updatePending = false;
+		}
+		update();
+	}
+
 	/** Sets canvas model. (Also updates canvas selection.) */
 	protected void setCanvasModel(VisualizerModel model) {
 		final VisualizerModel model_f = model;
@@ -1152,7 +1188,7 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 	 * Starts visualizer model request.
 	 */
 	protected void getVisualizerModel(final VisualizerModel model) {
-		m_sessionState.execute(new DsfRunnable() {
+		boolean started = m_sessionState.execute(new DsfRunnable() {
 			@Override
 			public void run() {
 				// get model asynchronously starting at the top of the hierarchy
@@ -1163,10 +1199,18 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 						updateLoads(model);
 						model.sort();
 						setCanvasModel(model);
+						updateDone();
 					}
 				});
 			}
 		});
+		if (!started) {
+			// the session is shut down, the update will never complete
+			synchronized (m_updateLock) {
+				m_updateOngoing = false;
+				m_updatePending = false;
+			}
+		}
 	}
 
 	@ConfinedToDsfExecutor("getSession().getExecutor()")
@@ -1394,10 +1438,14 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 					m_canvas.refreshLoadMeters();
 					m_canvas.requestUpdate();
 				}
-				if (m_updateLoadMeterTimer != null) {
-					// re-start timer
-					m_updateLoadMeterTimer.start();
-				}
+				// re-start timer from the UI thread, once it has handled the
+				// requests above, so that the next sample is not taken while
+				// the UI is still busy with this one
+				GUIUtils.exec(() -> {
+					if (m_updateLoadMeterTimer != null) {
+						m_updateLoadMeterTimer.start();
+					}
+				});
 			}
 		};
 		crm.setDoneCount(m_cpuCoreContextsCache.size());
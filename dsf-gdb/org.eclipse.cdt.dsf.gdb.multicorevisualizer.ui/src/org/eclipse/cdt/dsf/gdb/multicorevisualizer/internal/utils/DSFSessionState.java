@@ -141,19 +141,22 @@ public class DSFSessionState {
 		return DsfSession.getSession(m_sessionId);
 	}
 
-	/** Executes DsfRunnable. */
-	public void execute(DsfRunnable runnable) {
+	/** Executes DsfRunnable.
+	 *  Returns false if the session is gone or rejected the runnable, which then never runs. */
+	public boolean execute(DsfRunnable runnable) {
 		try {
 			DsfSession session = getDsfSession();
 			if (session == null) {
 				// TODO: log this?
 			} else {
 				session.getExecutor().execute(runnable);
+				return true;
 			}
 		} catch (RejectedExecutionException e) {
 			// TODO: log or handle this properly.
 			System.err.println("DSFSessionState.execute(): session rejected execution request."); //$NON-NLS-1$
 		}
+		return false;
 	}
 
 	/** Gets service of the specified type. */
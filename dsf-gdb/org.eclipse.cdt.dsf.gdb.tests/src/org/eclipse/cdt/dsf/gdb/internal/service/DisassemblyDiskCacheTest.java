@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIList;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MITuple;
+import org.junit.Test;
+
+public class DisassemblyDiskCacheTest {
+
+	/**
+	 * Builds a minimal 64-bit little-endian ELF file whose only sections are a
+	 * GNU build-id note and the section name table.
+	 */
+	private static byte[] elfWithBuildId(byte[] buildId) {
+		byte[] names = "\0.note\0.shstrtab\0".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		int noteOffset = 64;
+		int noteSize = 12 + 4 + buildId.length;
+		int namesOffset = noteOffset + noteSize;
+		int sectionsOffset = (namesOffset + names.length + 7) & ~7;
+
+		ByteBuffer elf = ByteBuffer.allocate(sectionsOffset + 3 * 64).order(ByteOrder.LITTLE_ENDIAN);
+		elf.put(new byte[] { 0x7f, 'E', 'L', 'F', 2, 1, 1 });
+		elf.position(16);
+		elf.putShort((short) 2); // e_type
+		elf.putShort((short) 62); // e_machine
+		elf.putInt(1); // e_version
+		elf.putLong(0); // e_entry
+		elf.putLong(0); // e_phoff
+		elf.putLong(sectionsOffset); // e_shoff
+		elf.putInt(0); // e_flags
+		elf.putShort((short) 64); // e_ehsize
+		elf.putShort((short) 56); // e_phentsize
+		elf.putShort((short) 0); // e_phnum
+		elf.putShort((short) 64); // e_shentsize
+		elf.putShort((short) 3); // e_shnum
+		elf.putShort((short) 2); // e_shstrndx
+
+		elf.position(noteOffset);
+		elf.putInt(4).putInt(buildId.length).putInt(3);
+		elf.put("GNU\0".getBytes(StandardCharsets.US_ASCII)); //$NON-NLS-1$
+		elf.put(buildId);
+		elf.put(names);
+
+		elf.position(sectionsOffset + 64);
+		putSection(elf, 1, 7, noteOffset, noteSize);
+		putSection(elf, 7, 3, namesOffset, names.length);
+		return elf.array();
+	}
+
+	private static void putSection(ByteBuffer elf, int name, int type, long offset, long size) {
+		elf.putInt(name).putInt(type);
+		elf.putLong(0); // sh_flags
+		elf.putLong(0); // sh_addr
+		elf.putLong(offset).putLong(size);
+		elf.putInt(0).putInt(0); // sh_link, sh_info
+		elf.putLong(4).putLong(0); // sh_addralign, sh_entsize
+	}
+
+	private static File createBinary(byte[] content) throws IOException {
+		File file = File.createTempFile("binary", null); //$NON-NLS-1$
+		file.deleteOnExit();
+		Files.write(file.toPath(), content);
+		return file;
+	}
+
+	private static File createRoot() throws IOException {
+		File root = Files.createTempDirectory("disassembly").toFile(); //$NON-NLS-1$
+		root.deleteOnExit();
+		return root;
+	}
+
+	private static File createDirectory(File root, String name, long size, long lastModified) throws IOException {
+		File directory = new File(root, name);
+		directory.mkdir();
+		try (RandomAccessFile entry = new RandomAccessFile(new File(directory, "entry.mi"), "rw")) { //$NON-NLS-1$ //$NON-NLS-2$
+			entry.setLength(size);
+		}
+		directory.setLastModified(lastModified);
+		return directory;
+	}
+
+	private static String getString(MITuple tuple, String field) {
+		return ((MIConst) tuple.getField(field)).getCString();
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		DisassemblyDiskCache cache = new DisassemblyDiskCache(createRoot(), "key"); //$NON-NLS-1$
+		assertTrue(cache.isReady());
+		BigInteger start = BigInteger.valueOf(0x401000);
+		BigInteger end = BigInteger.valueOf(0x401010);
+		byte[] code = { 0x55, 0x48, (byte) 0x89, (byte) 0xe5 };
+		assertNull(cache.get(0, null, start, end, code));
+
+		String line = "5^done,asm_insns=[src_and_asm_line={line=\"3\",file=\"\\\\\\\\server\\\\share\\\\a.c\"," //$NON-NLS-1$
+				+ "line_asm_insn=[{address=\"0x401000\",func-name=\"operator\\\"\\\"_x\",offset=\"0\"," //$NON-NLS-1$
+				+ "inst=\"lea    0x1(%rip),%rdi        # \\\"a\\\\\\\\b\\\\n\\\"\"}]}]"; //$NON-NLS-1$
+		MIResultRecord record = new MIParser().parseMIResultRecord(line);
+		cache.put(0, null, start, end, code, record);
+
+		MIResultRecord cached = cache.get(0, null, start, end, code);
+		assertEquals(MIResultRecord.DONE, cached.getResultClass());
+		MIList lines = (MIList) cached.getField("asm_insns"); //$NON-NLS-1$
+		assertEquals(1, lines.getMIResults().length);
+		MITuple source = (MITuple) lines.getMIResults()[0].getMIValue();
+		assertEquals("\\\\server\\share\\a.c", getString(source, "file")); //$NON-NLS-1$ //$NON-NLS-2$
+		MIList instructions = (MIList) source.getField("line_asm_insn"); //$NON-NLS-1$
+		assertEquals(1, instructions.getMIValues().length);
+		MITuple instruction = (MITuple) instructions.getMIValues()[0];
+		assertEquals("operator\"\"_x", getString(instruction, "func-name")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("lea    0x1(%rip),%rdi        # \"a\\\\b\\n\"", getString(instruction, "inst")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// The entry is keyed by the code in memory
+		assertNull(cache.get(0, null, start, end, new byte[] { 0x55 }));
+	}
+
+	@Test
+	public void testMixedModeKeyedBySourceLookup() throws IOException {
+		DisassemblyDiskCache cache = new DisassemblyDiskCache(createRoot(), "key"); //$NON-NLS-1$
+		BigInteger start = BigInteger.valueOf(0x401000);
+		BigInteger end = BigInteger.valueOf(0x401010);
+		byte[] code = { 0x55, 0x48, (byte) 0x89, (byte) 0xe5 };
+		MIResultRecord record = new MIParser().parseMIResultRecord("5^done,asm_insns=[src_and_asm_line={" //$NON-NLS-1$
+				+ "line=\"3\",file=\"a.c\",fullname=\"/a/a.c\",line_asm_insn=[]}]"); //$NON-NLS-1$
+		cache.put(1, "mapping a", start, end, code, record); //$NON-NLS-1$
+
+		assertNotNull(cache.get(1, "mapping a", start, end, code)); //$NON-NLS-1$
+		assertNull(cache.get(1, "mapping b", start, end, code)); //$NON-NLS-1$
+		assertNull(cache.get(1, null, start, end, code));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedDirectoriesEvicted() throws IOException {
+		File root = createRoot();
+		long now = System.currentTimeMillis();
+		long half = DisassemblyDiskCache.MAX_CACHE_SIZE / 2;
+		File oldest = createDirectory(root, "oldest", half + 1, now - 3_000_000); //$NON-NLS-1$
+		File older = createDirectory(root, "older", half - 1, now - 2_000_000); //$NON-NLS-1$
+		File current = createDirectory(root, "current", 1, now - 4_000_000); //$NON-NLS-1$
+
+		new DisassemblyDiskCache(root, "current"); //$NON-NLS-1$
+		assertTrue(current.isDirectory());
+		assertTrue(older.isDirectory());
+		assertFalse(oldest.exists());
+	}
+
+	@Test
+	public void testBuildIdKey() throws IOException {
+		byte[] buildId = { 0x51, (byte) 0xa4, 0x57, (byte) 0x8f, (byte) 0xe2, 0x00, 0x10, (byte) 0xff };
+		File binary = createBinary(elfWithBuildId(buildId));
+		assertEquals("51a4578fe20010ff", DisassemblyDiskCache.getBinaryKey(binary)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testContentHashKey() throws IOException {
+		File binary = createBinary("not an ELF file".getBytes(StandardCharsets.US_ASCII)); //$NON-NLS-1$
+		String key = DisassemblyDiskCache.getBinaryKey(binary);
+		assertTrue(key.startsWith("sha1-")); //$NON-NLS-1$
+		assertEquals(key, DisassemblyDiskCache.getBinaryKey(binary));
+
+		// A binary that is rebuilt gets a new identity
+		Files.write(binary.toPath(), "another content".getBytes(StandardCharsets.US_ASCII)); //$NON-NLS-1$
+		binary.setLastModified(binary.lastModified() + 2000);
+		assertNotEquals(key, DisassemblyDiskCache.getBinaryKey(binary));
+	}
+}
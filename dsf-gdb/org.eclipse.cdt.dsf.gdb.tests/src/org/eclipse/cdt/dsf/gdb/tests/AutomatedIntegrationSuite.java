@@ -13,13 +13,21 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.tests;
 
+import org.eclipse.cdt.dsf.gdb.internal.service.DisassemblyDiskCacheTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_NoContainerTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithAlternativeProcessIdTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithContainerDMContextTest;
+import org.eclipse.cdt.dsf.mi.service.DebuggerPathCacheTest;
+import org.eclipse.cdt.dsf.mi.service.MemoryRangeCacheTest;
+import org.eclipse.cdt.dsf.mi.service.RegisterValueTableTest;
+import org.eclipse.cdt.dsf.mi.service.command.MICommandStatisticsTest;
+import org.eclipse.cdt.dsf.mi.service.command.RingBufferPipeTest;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIBreakInsertCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMICommandConstructCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIGDBSetSysroot;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIFindInfoTest;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParserTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStringHandlerTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadTests;
 import org.junit.runner.RunWith;
@@ -30,9 +38,11 @@ import org.junit.runners.Suite.SuiteClasses;
 
 // Add additional test case classes below
 @SuiteClasses({ MIThreadTests.class, TestMIBreakInsertCommand.class, TestMICommandConstructCommand.class,
-		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, ProcStatParserTest.class,
-		FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
-		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class, })
+		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, MIParserTests.class,
+		ProcStatParserTest.class, FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
+		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class,
+		MICommandStatisticsTest.class, MemoryRangeCacheTest.class, DisassemblyDiskCacheTest.class,
+		RegisterValueTableTest.class, CLIFindInfoTest.class, RingBufferPipeTest.class, DebuggerPathCacheTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
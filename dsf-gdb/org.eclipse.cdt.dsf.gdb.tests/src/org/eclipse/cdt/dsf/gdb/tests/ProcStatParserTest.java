@@ -15,6 +15,8 @@
 package org.eclipse.cdt.dsf.gdb.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -74,6 +76,17 @@ public class ProcStatParserTest {
 			+ "softirq 187794229 0 82852274 104540 3978034 3827918 0 3881474 12354181 94845 80700963";
 	final static String stat_wrong_content_file = "/tmp/stat_wrong_content";
 
+	// counters above the range of an int, as on machines with many cores and a long uptime
+	final static String stat_large_t0 = "cpu  9000000000 0 0 9000000000 0 0 0 0 0 0\n"
+			+ "cpu0 3000000000 0 0 6000000000 0 0 0 0 0 0\n" + "cpu1 6000000000 0 0 3000000000 0 0 0 0 0 0\n"
+			+ "intr 255070028 1785 9 0 0 0";
+	final static String stat_large_t0_file = "/tmp/stat_large_t0";
+
+	final static String stat_large_t1 = "cpu  9000000400 0 0 9000000400 0 0 0 0 0 0\n"
+			+ "cpu0 3000000100 0 0 6000000300 0 0 0 0 0 0\n" + "cpu1 6000000300 0 0 3000000100 0 0 0 0 0 0\n"
+			+ "intr 255070028 1785 9 0 0 0";
+	final static String stat_large_t1_file = "/tmp/stat_large_t1";
+
 	@BeforeClass
 	public static void init_once() {
 		// generate test input files once at beginning of tests
@@ -81,6 +94,8 @@ public class ProcStatParserTest {
 		writeStr2File(stat_t1, stat_t1_file);
 		writeStr2File(stat_t2, stat_t2_file);
 		writeStr2File(stat_wrong_content, stat_wrong_content_file);
+		writeStr2File(stat_large_t0, stat_large_t0_file);
+		writeStr2File(stat_large_t1, stat_large_t1_file);
 	}
 
 	@AfterClass
@@ -90,6 +105,8 @@ public class ProcStatParserTest {
 		new File(stat_t1_file).delete();
 		new File(stat_t2_file).delete();
 		new File(stat_wrong_content_file).delete();
+		new File(stat_large_t0_file).delete();
+		new File(stat_large_t1_file).delete();
 	}
 
 	// testcases
@@ -161,6 +178,52 @@ public class ProcStatParserTest {
 		assertEquals(13, l3);
 	}
 
+	@Test
+	public void testProcStatParseConsecutiveSamples() throws Exception {
+		// the load is computed from the last two samples
+		ProcStatParser procStatParser = new ProcStatParser();
+		procStatParser.parseStatFile(stat_t0_file);
+		procStatParser.parseStatFile(stat_t1_file);
+		procStatParser.parseStatFile(stat_t2_file);
+		ProcStatCoreLoads load = procStatParser.getCpuLoad();
+
+		int l0 = (int) load.getLoad("0").floatValue();
+		assertEquals(100, l0);
+		int l3 = (int) load.getLoad("3").floatValue();
+		assertEquals(100, l3);
+	}
+
+	@Test
+	public void testProcStatParseLargeCounters() throws Exception {
+		ProcStatParser procStatParser = new ProcStatParser();
+		procStatParser.parseStatFile(stat_large_t0_file);
+		procStatParser.parseStatFile(stat_large_t1_file);
+		ProcStatCoreLoads load = procStatParser.getCpuLoad();
+
+		int l0 = (int) load.getLoad("0").floatValue();
+		assertEquals(25, l0);
+		int l1 = (int) load.getLoad("1").floatValue();
+		assertEquals(75, l1);
+		assertNull(load.getLoad("2"));
+	}
+
+	@Test
+	public void testStatFileDoesntParseKeepsPreviousSample() throws Exception {
+		ProcStatParser procStatParser = new ProcStatParser();
+		procStatParser.parseStatFile(stat_t0_file);
+		procStatParser.parseStatFile(stat_t1_file);
+		try {
+			procStatParser.parseStatFile(stat_wrong_content_file);
+			fail();
+		} catch (NumberFormatException e) {
+			// expected
+		}
+		ProcStatCoreLoads load = procStatParser.getCpuLoad();
+
+		int l0 = (int) load.getLoad("0").floatValue();
+		assertEquals(8, l0);
+	}
+
 	@Test(expected = FileNotFoundException.class)
 	public void testStatFileDoesNotExist() throws Exception {
 		ProcStatParser procStatParser = new ProcStatParser();
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class DebuggerPathCacheTest {
+	private static final String HOST_PATH = "C:\\work\\src\\main.c"; //$NON-NLS-1$
+	private static final String DEBUGGER_PATH = "/work/src/main.c"; //$NON-NLS-1$
+
+	@Test
+	public void testCachedLookup() {
+		DebuggerPathCache<String> cache = new DebuggerPathCache<>();
+		assertNull(cache.get("ctx", HOST_PATH)); //$NON-NLS-1$
+
+		cache.put("ctx", HOST_PATH, DEBUGGER_PATH, cache.getGeneration()); //$NON-NLS-1$
+		assertEquals(DEBUGGER_PATH, cache.get("ctx", HOST_PATH)); //$NON-NLS-1$
+
+		// Paths are kept per source lookup context
+		assertNull(cache.get("other", HOST_PATH)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testInvalidatedLookup() {
+		DebuggerPathCache<String> cache = new DebuggerPathCache<>();
+		cache.put("ctx", HOST_PATH, DEBUGGER_PATH, cache.getGeneration()); //$NON-NLS-1$
+
+		cache.clear();
+		assertNull(cache.get("ctx", HOST_PATH)); //$NON-NLS-1$
+
+		// The result of a lookup started before the cache was cleared is dropped
+		int generation = cache.getGeneration();
+		cache.clear();
+		cache.put("ctx", HOST_PATH, DEBUGGER_PATH, generation); //$NON-NLS-1$
+		assertNull(cache.get("ctx", HOST_PATH)); //$NON-NLS-1$
+
+		// A lookup started after it is cached again
+		cache.put("ctx", HOST_PATH, "/other/main.c", cache.getGeneration()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("/other/main.c", cache.get("ctx", HOST_PATH)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.mi.service.MemoryRangeCache.Range;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MemoryRangeCacheTest {
+	private static final BigInteger LIMIT = BigInteger.ONE.shiftLeft(64);
+
+	private static BigInteger addr(long value) {
+		return BigInteger.valueOf(value);
+	}
+
+	private static MemoryByte[] bytes(int start, int length) {
+		MemoryByte[] result = new MemoryByte[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = new MemoryByte((byte) (start + i));
+		}
+		return result;
+	}
+
+	private static void assertRange(long start, int length, Range range) {
+		assertEquals(addr(start), range.fStart);
+		assertEquals(length, range.fLength);
+	}
+
+	@Test
+	public void testMissingRanges() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 0);
+		cache.put(addr(100), bytes(100, 10), 1);
+		cache.put(addr(200), bytes(200, 10), 1);
+
+		List<Range> missing = cache.getMissingRanges(addr(90), 130);
+		assertEquals(3, missing.size());
+		assertRange(90, 10, missing.get(0));
+		assertRange(110, 90, missing.get(1));
+		assertRange(210, 10, missing.get(2));
+
+		// Starting within a cached block
+		missing = cache.getMissingRanges(addr(105), 10);
+		assertEquals(1, missing.size());
+		assertRange(110, 5, missing.get(0));
+
+		assertEquals(0, cache.getMissingRanges(addr(102), 5).size());
+	}
+
+	@Test
+	public void testPutMergesContiguousAndOverlappingBlocks() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 0);
+		cache.put(addr(100), bytes(100, 10), 1);
+		cache.put(addr(120), bytes(120, 10), 1);
+		cache.put(addr(110), bytes(110, 10), 1);
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(30, cache.getCachedOctets());
+
+		// A read overlapping the cached content replaces it
+		MemoryByte[] fresh = bytes(0, 20);
+		cache.put(addr(125), fresh, 1);
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(45, cache.getCachedOctets());
+
+		MemoryByte[] content = cache.get(addr(100), 45, 1);
+		for (int i = 0; i < 25; i++) {
+			assertEquals((byte) (100 + i), content[i].getValue());
+		}
+		for (int i = 0; i < 20; i++) {
+			assertEquals((byte) i, content[25 + i].getValue());
+		}
+	}
+
+	@Test
+	public void testGetLeavesMissingBytesNull() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 0);
+		cache.put(addr(10), bytes(10, 4), 2);
+
+		MemoryByte[] content = cache.get(addr(8), 6, 2);
+		assertEquals(12, content.length);
+		assertNull(content[3]);
+		assertEquals((byte) 10, content[4].getValue());
+		assertEquals((byte) 13, content[7].getValue());
+		assertNull(content[8]);
+	}
+
+	@Test
+	public void testUpdateOnlyTouchesCachedBytes() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 0);
+		cache.put(addr(10), bytes(10, 10), 1);
+		cache.update(addr(15), bytes(50, 10), 1);
+
+		assertEquals(10, cache.getCachedOctets());
+		MemoryByte[] content = cache.get(addr(10), 10, 1);
+		assertEquals((byte) 14, content[4].getValue());
+		assertEquals((byte) 50, content[5].getValue());
+		assertEquals((byte) 54, content[9].getValue());
+	}
+
+	@Test
+	public void testCoalesce() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 0);
+		cache.put(addr(100), bytes(0, 10), 1);
+		cache.put(addr(1000), bytes(0, MemoryRangeCache.COALESCE_GAP + 1), 1);
+
+		List<Range> ranges = MemoryRangeCache.coalesce(cache.getMissingRanges(addr(0), 2000), 1);
+		assertEquals(2, ranges.size());
+		// The small cached gap is read again, the large one is not
+		assertRange(0, 1000, ranges.get(0));
+		assertRange(1000 + MemoryRangeCache.COALESCE_GAP + 1, 2000 - 1000 - MemoryRangeCache.COALESCE_GAP - 1,
+				ranges.get(1));
+	}
+
+	@Test
+	public void testPrefetchFollowsScrolling() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 64);
+
+		// A first request gives no direction
+		assertNull(cache.getPrefetchRange(addr(1000), 64, 1, LIMIT));
+		cache.put(addr(1000), bytes(0, 64), 1);
+
+		// Scrolling down reads ahead of the request
+		Range prefetch = cache.getPrefetchRange(addr(1016), 64, 1, LIMIT);
+		assertNotNull(prefetch);
+		assertRange(1080, 64, prefetch);
+		cache.put(prefetch.fStart, bytes(0, prefetch.fLength), 1);
+
+		// Most of the window is cached, nothing to read
+		assertNull(cache.getPrefetchRange(addr(1032), 64, 1, LIMIT));
+
+		// Scrolling up reads before the request
+		prefetch = cache.getPrefetchRange(addr(1000), 64, 1, LIMIT);
+		assertNotNull(prefetch);
+		assertRange(936, 64, prefetch);
+
+		// A jump stops the read-ahead
+		assertNull(cache.getPrefetchRange(addr(100000), 64, 1, LIMIT));
+	}
+
+	@Test
+	public void testPrefetchWindowGrows() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 1024);
+		cache.getPrefetchRange(addr(0), 64, 1, LIMIT);
+
+		// The window starts at the request length and doubles on each read-ahead
+		assertRange(128, 64, cache.getPrefetchRange(addr(64), 64, 1, LIMIT));
+		assertRange(192, 128, cache.getPrefetchRange(addr(128), 64, 1, LIMIT));
+		assertRange(256, 256, cache.getPrefetchRange(addr(192), 64, 1, LIMIT));
+	}
+
+	@Test
+	public void testPrefetchWindowIsBounded() {
+		MemoryRangeCache cache = new MemoryRangeCache(Long.MAX_VALUE, 256);
+		cache.getPrefetchRange(addr(0), 200, 1, LIMIT);
+		Range prefetch = null;
+		for (int i = 1; i <= 5; i++) {
+			prefetch = cache.getPrefetchRange(addr(i * 200), 200, 1, LIMIT);
+		}
+		assertNotNull(prefetch);
+		assertEquals(256, prefetch.fLength);
+
+		// Reading backwards stops at address 0
+		cache.clear();
+		cache.getPrefetchRange(addr(150), 100, 1, LIMIT);
+		assertRange(0, 80, cache.getPrefetchRange(addr(80), 100, 1, LIMIT));
+	}
+
+	@Test
+	public void testTrimEvictsFarthestBlocks() {
+		MemoryRangeCache cache = new MemoryRangeCache(30, 0);
+		cache.put(addr(0), bytes(0, 10), 1);
+		cache.put(addr(100), bytes(0, 10), 1);
+		cache.put(addr(200), bytes(0, 10), 1);
+		cache.put(addr(300), bytes(0, 10), 1);
+		cache.put(addr(900), bytes(0, 10), 1);
+		cache.getPrefetchRange(addr(200), 10, 1, LIMIT);
+
+		cache.trim();
+		assertEquals(3, cache.getBlockCount());
+		assertEquals(30, cache.getCachedOctets());
+		assertEquals(0, cache.getMissingRanges(addr(100), 10).size());
+		assertEquals(0, cache.getMissingRanges(addr(200), 10).size());
+		assertEquals(0, cache.getMissingRanges(addr(300), 10).size());
+	}
+
+	@Test
+	public void testReadablePrefixLength() {
+		MemoryByte[] block = bytes(0, 8);
+		assertEquals(8, MemoryRangeCache.getReadablePrefixLength(block, 1));
+		// Bytes that could not be read are returned without any flag
+		block[5] = new MemoryByte((byte) 0, (byte) 0);
+		assertEquals(5, MemoryRangeCache.getReadablePrefixLength(block, 1));
+		assertEquals(4, MemoryRangeCache.getReadablePrefixLength(block, 2));
+		block[0] = new MemoryByte((byte) 0, (byte) 0);
+		assertEquals(0, MemoryRangeCache.getReadablePrefixLength(block, 1));
+	}
+}
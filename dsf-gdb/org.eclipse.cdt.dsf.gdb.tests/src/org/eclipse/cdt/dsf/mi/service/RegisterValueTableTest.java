@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.cdt.dsf.mi.service.RegisterValueTable.FrameValues;
+import org.junit.Test;
+
+public class RegisterValueTableTest {
+	private static final int HEX = MIFormat.HEXADECIMAL;
+	private static final int NATURAL = MIFormat.NATURAL;
+
+	@Test
+	public void testPutAndGet() {
+		RegisterValueTable<String> table = new RegisterValueTable<>();
+		table.put("frame", HEX, 3, "0x3"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", HEX, 40, "0x28"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", NATURAL, 3, "3"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals("0x3", table.get("frame", HEX, 3)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("0x28", table.get("frame", HEX, 40)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("3", table.get("frame", NATURAL, 3)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(table.get("frame", HEX, 4)); //$NON-NLS-1$
+		assertNull(table.get("frame", HEX, 100)); //$NON-NLS-1$
+		assertNull(table.get("other", HEX, 3)); //$NON-NLS-1$
+		assertEquals(3, table.size());
+	}
+
+	@Test
+	public void testGetMissing() {
+		RegisterValueTable<String> table = new RegisterValueTable<>();
+		int[] group = { 0, 1, 2, 3 };
+		assertArrayEquals(group, table.getMissing("frame", HEX, group)); //$NON-NLS-1$
+
+		table.put("frame", HEX, 1, "0x1"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", HEX, 3, "0x3"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertArrayEquals(new int[] { 0, 2 }, table.getMissing("frame", HEX, group)); //$NON-NLS-1$
+		assertArrayEquals(group, table.getMissing("frame", NATURAL, group)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRemoveFrames() {
+		RegisterValueTable<String> table = new RegisterValueTable<>();
+		table.put("thread1.frame0", HEX, 0, "0x0"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("thread1.frame1", HEX, 0, "0x1"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("thread2.frame0", HEX, 0, "0x2"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		table.removeFrames(frame -> frame.startsWith("thread1.")); //$NON-NLS-1$
+		assertNull(table.get("thread1.frame0", HEX, 0)); //$NON-NLS-1$
+		assertNull(table.get("thread1.frame1", HEX, 0)); //$NON-NLS-1$
+		assertEquals("0x2", table.get("thread2.frame0", HEX, 0)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testRestoreFrame() {
+		RegisterValueTable<String> table = new RegisterValueTable<>();
+		table.put("frame", HEX, 0, "0x0"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", HEX, 1, "0x1"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", HEX, 2, "0x2"); //$NON-NLS-1$ //$NON-NLS-2$
+		table.put("frame", NATURAL, 1, "1"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		FrameValues previous = table.removeFrame("frame"); //$NON-NLS-1$
+		assertEquals(0, table.size());
+
+		// A value fetched after the stop is more recent than the retained one
+		table.put("frame", HEX, 2, "0x22"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		table.restoreFrame("frame", previous, new int[] { 1 }); //$NON-NLS-1$
+		assertEquals("0x0", table.get("frame", HEX, 0)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(table.get("frame", HEX, 1)); //$NON-NLS-1$
+		assertNull(table.get("frame", NATURAL, 1)); //$NON-NLS-1$
+		assertEquals("0x22", table.get("frame", HEX, 2)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(2, table.size());
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.cdt.dsf.mi.service.command.MICommandStatistics.Entry;
+import org.junit.Test;
+
+public class MICommandStatisticsTest {
+	@Test
+	public void testEntriesPerOperation() {
+		MICommandStatistics statistics = new MICommandStatistics();
+		statistics.commandQueued("-stack-list-frames", 4);
+		statistics.commandQueued("-stack-list-frames", 2);
+		statistics.commandCompleted("-stack-list-frames", 10, 100);
+		statistics.commandCompleted("-stack-list-frames", 30, 300);
+		statistics.commandCompleted("-data-evaluate-expression", 5, 50);
+
+		Entry[] entries = statistics.getEntries();
+		assertEquals(2, entries.length);
+		// Sorted by operation
+		assertEquals("-data-evaluate-expression", entries[0].getOperation());
+		assertEquals(1, entries[0].getCount());
+		assertEquals(0, entries[0].getMaxQueueDepth());
+
+		Entry frames = entries[1];
+		assertEquals("-stack-list-frames", frames.getOperation());
+		assertEquals(2, frames.getCount());
+		assertEquals(40, frames.getTotalQueueTime());
+		assertEquals(400, frames.getTotalRoundTripTime());
+		assertEquals(300, frames.getMaxRoundTripTime());
+		assertEquals(4, frames.getMaxQueueDepth());
+	}
+
+	@Test
+	public void testSnapshotAndReset() {
+		MICommandStatistics statistics = new MICommandStatistics();
+		statistics.commandCompleted("-var-update", 1, 2);
+		Entry[] snapshot = statistics.getEntries();
+		statistics.commandCompleted("-var-update", 1, 2);
+		assertEquals(1, snapshot[0].getCount());
+
+		statistics.reset();
+		assertEquals(0, statistics.getEntries().length);
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.cdt.dsf.mi.service.command.RingBufferPipe.OverflowPolicy;
+import org.junit.Test;
+
+public class RingBufferPipeTest {
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		byte[] buffer = new byte[7];
+		int count;
+		while ((count = in.read(buffer)) >= 0) {
+			result.write(buffer, 0, count);
+		}
+		return result.toByteArray();
+	}
+
+	@Test
+	public void testReadAfterWrite() throws IOException {
+		RingBufferPipe pipe = new RingBufferPipe(16, OverflowPolicy.BLOCK);
+		OutputStream out = pipe.getOutputStream();
+		InputStream in = pipe.getInputStream();
+		out.write("abcdefghij".getBytes());
+		assertEquals(10, in.available());
+		byte[] buffer = new byte[6];
+		assertEquals(6, in.read(buffer));
+		// Wraps around the end of the buffer
+		out.write("klmnopqr".getBytes());
+		out.close();
+		assertEquals("ghijklmnopqr", new String(readAll(in)));
+		assertEquals(-1, in.read());
+	}
+
+	@Test
+	public void testBlockWaitsForReader() throws Exception {
+		RingBufferPipe pipe = new RingBufferPipe(8, OverflowPolicy.BLOCK);
+		byte[] data = new byte[10000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		Thread writer = new Thread(() -> {
+			try (OutputStream out = pipe.getOutputStream()) {
+				out.write(data);
+			} catch (IOException e) {
+			}
+		});
+		writer.start();
+		assertArrayEquals(data, readAll(pipe.getInputStream()));
+		writer.join();
+	}
+
+	@Test
+	public void testDropOldest() throws IOException {
+		RingBufferPipe pipe = new RingBufferPipe(8, OverflowPolicy.DROP_OLDEST);
+		OutputStream out = pipe.getOutputStream();
+		out.write("0123456".getBytes());
+		out.write("789".getBytes());
+		assertEquals(8, pipe.getInputStream().available());
+		out.write("abcdefghijklmnop".getBytes());
+		out.close();
+		// The dropped data is replaced by a marker
+		assertEquals(new String(RingBufferPipe.getDroppedMarker(18)) + "ijklmnop", //$NON-NLS-1$
+				new String(readAll(pipe.getInputStream())));
+	}
+
+	@Test
+	public void testDroppedMarkerBetweenReads() throws IOException {
+		RingBufferPipe pipe = new RingBufferPipe(8, OverflowPolicy.DROP_OLDEST);
+		OutputStream out = pipe.getOutputStream();
+		InputStream in = pipe.getInputStream();
+		out.write("0123".getBytes());
+		byte[] buffer = new byte[2];
+		assertEquals(2, in.read(buffer));
+		out.write("456789ab".getBytes());
+		out.close();
+		assertEquals("01", new String(buffer)); //$NON-NLS-1$
+		assertEquals(new String(RingBufferPipe.getDroppedMarker(2)) + "456789ab", //$NON-NLS-1$
+				new String(readAll(in)));
+	}
+
+	@Test
+	public void testBlockedWriterTimesOut() throws Exception {
+		RingBufferPipe pipe = new RingBufferPipe(8, OverflowPolicy.BLOCK, 100);
+		OutputStream out = pipe.getOutputStream();
+		out.write("01234567".getBytes());
+		long start = System.nanoTime();
+		try {
+			// Nobody reads the pipe
+			out.write('8');
+			fail("The writer must give up on a reader that doesn't read"); //$NON-NLS-1$
+		} catch (IOException e) {
+			// expected
+		}
+		assertFalse(System.nanoTime() - start > 10_000_000_000L);
+		// Later writes fail right away
+		try {
+			out.write('9');
+			fail("The pipe must stay closed"); //$NON-NLS-1$
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testWriteAfterReaderClosed() throws IOException {
+		RingBufferPipe pipe = new RingBufferPipe(8, OverflowPolicy.BLOCK);
+		pipe.getInputStream().close();
+		pipe.getOutputStream().write(1);
+	}
+}
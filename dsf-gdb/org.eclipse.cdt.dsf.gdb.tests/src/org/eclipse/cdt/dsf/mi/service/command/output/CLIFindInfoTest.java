@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class CLIFindInfoTest {
+	private final MIParser fParser = new MIParser();
+
+	private CLIFindInfo parse(String... consoleLines) {
+		MIOOBRecord[] oobs = new MIOOBRecord[consoleLines.length];
+		for (int i = 0; i < consoleLines.length; i++) {
+			oobs[i] = fParser.parseMIOOBRecord("~\"" + consoleLines[i] + "\\n\""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return new CLIFindInfo(new MIOutput(fParser.parseMIResultRecord("^done"), oobs)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testMatches() {
+		CLIFindInfo info = parse("0x601040 <buffer>", "0x7ffff7dd1a80", "2 patterns found."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertArrayEquals(new BigInteger[] { new BigInteger("601040", 16), new BigInteger("7ffff7dd1a80", 16) }, //$NON-NLS-1$ //$NON-NLS-2$
+				info.getAddresses());
+	}
+
+	@Test
+	public void testNoMatch() {
+		CLIFindInfo info = parse("Pattern not found."); //$NON-NLS-1$
+		assertEquals(0, info.getAddresses().length);
+		assertFalse(info.isHalted());
+	}
+
+	@Test
+	public void testHaltedOnUnreadableMemory() {
+		MIOOBRecord[] oobs = {
+				fParser.parseMIOOBRecord("~\"0x601040 <buffer>\\n\""), //$NON-NLS-1$
+				fParser.parseMIOOBRecord(
+						"&\"warning: Unable to access 16000 bytes of target memory at 0x602000, halting search.\\n\""), //$NON-NLS-1$
+				fParser.parseMIOOBRecord("~\"1 pattern found.\\n\"") }; //$NON-NLS-1$
+		CLIFindInfo info = new CLIFindInfo(new MIOutput(fParser.parseMIResultRecord("^done"), oobs)); //$NON-NLS-1$
+		assertArrayEquals(new BigInteger[] { new BigInteger("601040", 16) }, info.getAddresses()); //$NON-NLS-1$
+		assertTrue(info.isHalted());
+		assertEquals(new BigInteger("602000", 16), info.getUnreadableAddress()); //$NON-NLS-1$
+	}
+}
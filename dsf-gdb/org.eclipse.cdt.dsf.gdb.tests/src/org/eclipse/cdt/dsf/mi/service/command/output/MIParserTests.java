@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MIParserTests {
+	private final MIParser fParser = new MIParser();
+
+	@Test
+	public void testResultRecord() {
+		String line = "12^done,stack=[frame={level=\"0\",func=\"main\",file=\"a \\\"b\\\".c\"},frame={level=\"1\"}]";
+		assertEquals(MIParser.RecordType.ResultRecord, fParser.getRecordType(line));
+		MIResultRecord rr = fParser.parseMIResultRecord(line);
+		assertEquals(12, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+
+		MIResult[] results = rr.getMIResults();
+		assertEquals(1, results.length);
+		assertEquals("stack", results[0].getVariable());
+		MIList stack = (MIList) results[0].getMIValue();
+		assertEquals(2, stack.getMIResults().length);
+		MITuple frame = (MITuple) stack.getMIResults()[0].getMIValue();
+		assertEquals("main", ((MIConst) frame.getField("func")).getCString());
+		assertEquals("a \"b\".c", ((MIConst) frame.getField("file")).getCString());
+	}
+
+	@Test
+	public void testEscapedBackslashes() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^error,msg=\"a\\\\b\\nc\"");
+		assertEquals(MIResultRecord.ERROR, rr.getResultClass());
+		assertEquals(-1, rr.getToken());
+		// Escaped backslashes are parsed, other escape sequences are kept.
+		assertEquals("a\\b\\nc", ((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+	}
+
+	@Test
+	public void testValuesOnly() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,list=[\"a\",\"b\",{x=\"1\"}],empty=[],t={}");
+		MIList list = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(3, list.getMIValues().length);
+		assertEquals("b", ((MIConst) list.getMIValues()[1]).getCString());
+		assertEquals(0, ((MIList) rr.getMIResults()[1].getMIValue()).getMIValues().length);
+		assertEquals(0, ((MITuple) rr.getMIResults()[2].getMIValue()).getMIResults().length);
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIOOBRecord oob = fParser.parseMIOOBRecord("7*stopped,reason=\"breakpoint-hit\",thread-id=\"1\"");
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIExecAsyncOutput exec = (MIExecAsyncOutput) oob;
+		assertEquals(7, exec.getToken());
+		assertEquals("stopped", exec.getAsyncClass());
+		assertEquals(2, exec.getMIResults().length);
+		assertEquals("thread-id", exec.getMIResults()[1].getVariable());
+
+		oob = fParser.parseMIOOBRecord("*running");
+		assertEquals("running", ((MIAsyncRecord) oob).getAsyncClass());
+	}
+
+	@Test
+	public void testStreamRecord() {
+		// Backslashes within stream records are not parsed.
+		MIOOBRecord oob = fParser.parseMIOOBRecord("~\"Hello \\\\ \\\"world\\\"\\n\"");
+		assertTrue(oob instanceof MIConsoleStreamOutput);
+		assertEquals("Hello \\\\ \"world\"\\n", ((MIStreamRecord) oob).getCString());
+
+		oob = fParser.parseMIOOBRecord("not an MI record");
+		assertTrue(oob instanceof MITargetStreamOutput);
+		assertEquals("not an MI record\n", ((MIStreamRecord) oob).getCString());
+	}
+
+	@Test
+	public void testUnterminatedString() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"abc");
+		assertEquals("abc", ((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+	}
+
+	@Test
+	public void testSetCStringReplacesLazyValue() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"abc\"");
+		MIConst value = (MIConst) rr.getMIResults()[0].getMIValue();
+		value.setCString("xyz");
+		assertEquals("xyz", value.getCString());
+	}
+
+	@Test
+	public void testTranslateCStringWithinRange() {
+		String line = "\"abc\",\"d\\\\e\"";
+		// The backslashes following the range are not part of it.
+		assertEquals("abc", MIParser.translateCString(line, 1, 4, true));
+		assertEquals("d\\e", MIParser.translateCString(line, 7, 11, true));
+	}
+
+	@Test
+	public void testLargeStackListFrames() {
+		final int frames = 10000;
+		StringBuilder line = new StringBuilder("42^done,stack=[");
+		for (int i = 0; i < frames; i++) {
+			if (i > 0)
+				line.append(',');
+			line.append("frame={level=\"").append(i).append("\",addr=\"0x401136\",func=\"f\\\\").append(i)
+					.append("\",file=\"recurse.c\",line=\"").append(i % 100).append("\"}");
+		}
+		line.append(']');
+
+		MIResultRecord rr = fParser.parseMIResultRecord(line.toString());
+		MIList stack = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(frames, stack.getMIResults().length);
+		MITuple last = (MITuple) stack.getMIResults()[frames - 1].getMIValue();
+		assertEquals(String.valueOf(frames - 1), ((MIConst) last.getField("level")).getCString());
+		assertEquals("f\\" + (frames - 1), ((MIConst) last.getField("func")).getCString());
+	}
+}
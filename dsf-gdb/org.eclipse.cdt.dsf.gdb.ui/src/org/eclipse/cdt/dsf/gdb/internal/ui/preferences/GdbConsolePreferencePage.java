@@ -33,6 +33,9 @@ public class GdbConsolePreferencePage extends FieldEditorPreferencePage implemen
 	// Instead of using a maximum of Integer.MAX_VALUE (which is some obscure number),
 	// let's use a well defined limit e.g. 2 billion lines, which is readable.
 	private static final int MAX_BUFFER_LINES = 2000000000;
+	// Size in KiB of the buffer of the program output
+	private static final int MIN_OUTPUT_BUFFER_SIZE = 4;
+	private static final int MAX_OUTPUT_BUFFER_SIZE = 1024 * 1024;
 
 	public GdbConsolePreferencePage() {
 		super(GRID);
@@ -66,8 +69,17 @@ public class GdbConsolePreferencePage extends FieldEditorPreferencePage implemen
 				MessagesForPreferences.GdbConsolePreferencePage_BufferLines, getFieldEditorParent());
 
 		editorBufferSize.setValidRange(MIN_BUFFER_LINES, MAX_BUFFER_LINES);
+		IntegerFieldEditor editorOutputBufferSize = new IntegerFieldEditor(
+				IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_BUFFER_SIZE,
+				MessagesForPreferences.GdbConsolePreferencePage_OutputBufferSize, getFieldEditorParent());
+		editorOutputBufferSize.setValidRange(MIN_OUTPUT_BUFFER_SIZE, MAX_OUTPUT_BUFFER_SIZE);
+		BooleanFieldEditor dropOldestOutput = new BooleanFieldEditor(
+				IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_DROP_OLDEST,
+				MessagesForPreferences.GdbConsolePreferencePage_DropOldestOutput, getFieldEditorParent());
 
 		addField(invertColors);
 		addField(editorBufferSize);
+		addField(editorOutputBufferSize);
+		addField(dropOldestOutput);
 	}
 }
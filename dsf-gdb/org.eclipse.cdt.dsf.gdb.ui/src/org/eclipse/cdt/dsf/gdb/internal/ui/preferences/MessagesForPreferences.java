@@ -80,6 +80,8 @@ class MessagesForPreferences extends NLS {
 
 	public static String GdbConsolePreferencePage_InvertColors;
 	public static String GdbConsolePreferencePage_BufferLines;
+	public static String GdbConsolePreferencePage_OutputBufferSize;
+	public static String GdbConsolePreferencePage_DropOldestOutput;
 	public static String GdbDebugPreferencePage_remoteTimeout_label;
 	public static String GdbDebugPreferencePage_remoteTimeout_tooltip;
 
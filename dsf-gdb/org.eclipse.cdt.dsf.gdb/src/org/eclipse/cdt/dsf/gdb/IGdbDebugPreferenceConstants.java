@@ -261,4 +261,98 @@ public interface IGdbDebugPreferenceConstants {
 	 * @since 6.5
 	 */
 	public static final int SUSPEND_TIMEOUT_VALUE_DEFAULT = 10;
+
+	/**
+	 * The maximum number of MI commands sent to GDB before their results have been
+	 * received, if GDB supports concurrent commands.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_MAX_CONCURRENT_COMMANDS = "maxConcurrentCommands"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MAX_CONCURRENT_COMMANDS}
+	 *
+	 * @since 6.6
+	 */
+	public static final int MAX_CONCURRENT_COMMANDS_DEFAULT = 3;
+
+	/**
+	 * Whether the variable objects of all the expressions are updated with a single
+	 * <code>-var-update *</code> command after the program stops, rather than one
+	 * command per expression.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_BATCH_VARIABLE_UPDATES = "batchVariableUpdates"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_BATCH_VARIABLE_UPDATES}
+	 *
+	 * @since 6.6
+	 */
+	public static final boolean BATCH_VARIABLE_UPDATES_DEFAULT = true;
+
+	/**
+	 * Whether the disassembly of address ranges is kept on disk, keyed by the
+	 * build-id of the program, and reused by later sessions when the code in
+	 * memory is unchanged.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_DISASSEMBLY_DISK_CACHE = "disassemblyDiskCache"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_DISASSEMBLY_DISK_CACHE}
+	 *
+	 * @since 6.6
+	 */
+	public static final boolean DISASSEMBLY_DISK_CACHE_DEFAULT = true;
+
+	/**
+	 * The time in milliseconds during which the coalescable events of a DSF
+	 * session wait before being dispatched, so that later events can be merged
+	 * with them. 0 only merges the events waiting in the executor queue.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_EVENT_COALESCING_WINDOW = "eventCoalescingWindow"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_EVENT_COALESCING_WINDOW}
+	 *
+	 * @since 6.6
+	 */
+	public static final int EVENT_COALESCING_WINDOW_DEFAULT = 0;
+
+	/**
+	 * The size in KiB of the buffer holding the output of the program until the
+	 * console reads it, when the program has no terminal of its own.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_INFERIOR_OUTPUT_BUFFER_SIZE = "inferiorOutputBufferSize"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_INFERIOR_OUTPUT_BUFFER_SIZE}
+	 *
+	 * @since 6.6
+	 */
+	public static final int INFERIOR_OUTPUT_BUFFER_SIZE_DEFAULT = 1024;
+
+	/**
+	 * Whether the oldest output of the program is dropped when its buffer is
+	 * full, so that a slow console never holds up the reading of GDB's output.
+	 * Otherwise the reading of GDB's output waits for the console.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_INFERIOR_OUTPUT_DROP_OLDEST = "inferiorOutputDropOldest"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_INFERIOR_OUTPUT_DROP_OLDEST}
+	 *
+	 * @since 6.6
+	 */
+	public static final boolean INFERIOR_OUTPUT_DROP_OLDEST_DEFAULT = true;
 }
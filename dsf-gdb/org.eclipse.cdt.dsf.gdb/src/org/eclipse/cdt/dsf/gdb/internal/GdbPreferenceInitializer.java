@@ -73,5 +73,17 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_VALUE_DEFAULT);
 		node.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_TIMEOUT_VALUE,
 				IGdbDebugPreferenceConstants.SUSPEND_TIMEOUT_VALUE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MAX_CONCURRENT_COMMANDS,
+				IGdbDebugPreferenceConstants.MAX_CONCURRENT_COMMANDS_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_BATCH_VARIABLE_UPDATES,
+				IGdbDebugPreferenceConstants.BATCH_VARIABLE_UPDATES_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_DISASSEMBLY_DISK_CACHE,
+				IGdbDebugPreferenceConstants.DISASSEMBLY_DISK_CACHE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_EVENT_COALESCING_WINDOW,
+				IGdbDebugPreferenceConstants.EVENT_COALESCING_WINDOW_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_BUFFER_SIZE,
+				IGdbDebugPreferenceConstants.INFERIOR_OUTPUT_BUFFER_SIZE_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_DROP_OLDEST,
+				IGdbDebugPreferenceConstants.INFERIOR_OUTPUT_DROP_OLDEST_DEFAULT);
 	}
 }
@@ -13,8 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.internal;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * This class provides a container to store the computed
@@ -22,14 +21,47 @@ import java.util.Map;
  *
  */
 public class ProcStatCoreLoads {
-	private Map<String, Float> m_coreLoads;
+	// load per core number, NaN for the cores without a load
+	private float[] m_coreLoads;
 
 	public ProcStatCoreLoads() {
-		m_coreLoads = new HashMap<>();
+		this(0);
 	}
 
+	/**
+	 * @param cores: the expected number of cores
+	 */
+	public ProcStatCoreLoads(int cores) {
+		m_coreLoads = new float[cores];
+		Arrays.fill(m_coreLoads, Float.NaN);
+	}
+
+	/**
+	 * @param coreId: the core id, as listed in /proc/stat (e.g. "cpu0").
+	 */
 	public void put(String coreId, Float load) {
-		m_coreLoads.put(coreId, load);
+		if (coreId.startsWith("cpu")) { //$NON-NLS-1$
+			try {
+				put(Integer.parseInt(coreId.substring(3)), load);
+			} catch (NumberFormatException e) {
+				// not a core id
+			}
+		}
+	}
+
+	/**
+	 * @param core: the core number, as listed in /proc/stat (e.g. 0 for "cpu0").
+	 */
+	public void put(int core, float load) {
+		if (core < 0) {
+			return;
+		}
+		if (core >= m_coreLoads.length) {
+			int oldLength = m_coreLoads.length;
+			m_coreLoads = Arrays.copyOf(m_coreLoads, Math.max(core + 1, oldLength * 2));
+			Arrays.fill(m_coreLoads, oldLength, m_coreLoads.length, Float.NaN);
+		}
+		m_coreLoads[core] = load;
 	}
 
 	/**
@@ -39,6 +71,15 @@ public class ProcStatCoreLoads {
 	 * @return The measured load for that core
 	 */
 	public Float getLoad(String cpuId) {
-		return m_coreLoads.get("cpu" + cpuId); //$NON-NLS-1$
+		int core;
+		try {
+			core = Integer.parseInt(cpuId);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		if (core < 0 || core >= m_coreLoads.length || Float.isNaN(m_coreLoads[core])) {
+			return null;
+		}
+		return m_coreLoads[core];
 	}
 }
@@ -14,72 +14,47 @@
 
 package org.eclipse.cdt.dsf.gdb.internal;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * A class that holds one set of /proc/stat counters.
+ * The counters are kept in primitive arrays indexed by core number, so that
+ * machines with many cores can be sampled often.
  * TODO: extend to more than the tick counters.
  */
 public class ProcStatCounters {
-	private Map<String, OneCoreTickCounters> fTickCounters = new HashMap<>();
-
-	/**
-	 * An object of this class holds one set of core/CPU tick counter values, for a single CPU core
-	 */
-	private class OneCoreTickCounters {
-		private int fUser;
-		private int fNice;
-		private int fSystem;
-		private int fIdle;
-		private int fIowait;
-		private int fIrq;
-		private int fSoftirq;
-
-		public OneCoreTickCounters(Integer[] c) {
-			// sanity checks
-			assert (c != null && c.length >= 7);
-			if (c == null || c.length < 7)
-				return;
-
-			fUser = c[0];
-			fNice = c[1];
-			fSystem = c[2];
-			fIdle = c[3];
-			fIowait = c[4];
-			fIrq = c[5];
-			fSoftirq = c[6];
-		}
-
-		/**
-		 * @return The sum of all "active" (i.e. non-idle) tick counters
-		 */
-		private int getActiveTicks() {
-			return fUser + fNice + fSystem + fIowait + fIrq + fSoftirq;
-		}
-
-		/**
-		 * @return The "idle" tick counter
-		 */
-		private int getIdleTicks() {
-			return fIdle;
-		}
-	}
+	// Sum of all "active" (i.e. non-idle) tick counters, per core
+	private long[] fActiveTicks = new long[0];
+	// The "idle" tick counter per core, -1 for the cores not listed
+	private long[] fIdleTicks = new long[0];
 
 	/**
 	 *
 	 */
 	public ProcStatCounters() {
-		fTickCounters = new HashMap<>();
 	}
 
 	/**
 	 * Saves the tick counters for one core
-	 * @param core: the core id, as seen in /proc/stat.
+	 * @param core: the core number, as seen in /proc/stat (e.g. 3 for "cpu3").
 	 * @param ticks: Array of tick counters, as read from a CPU/core line in /proc/stat
 	 */
-	public void addTickCounters(String core, Integer[] ticks) {
-		fTickCounters.put(core, new OneCoreTickCounters(ticks));
+	public void addTickCounters(int core, long[] ticks) {
+		// sanity checks
+		assert (ticks != null && ticks.length >= 7);
+		if (ticks == null || ticks.length < 7 || core < 0)
+			return;
+
+		if (core >= fIdleTicks.length) {
+			int length = Math.max(core + 1, fIdleTicks.length * 2);
+			int oldLength = fIdleTicks.length;
+			fActiveTicks = Arrays.copyOf(fActiveTicks, length);
+			fIdleTicks = Arrays.copyOf(fIdleTicks, length);
+			Arrays.fill(fIdleTicks, oldLength, length, -1);
+		}
+		// user + nice + system + iowait + irq + softirq
+		fActiveTicks[core] = ticks[0] + ticks[1] + ticks[2] + ticks[4] + ticks[5] + ticks[6];
+		fIdleTicks[core] = ticks[3];
 	}
 
 	/**
@@ -92,21 +67,27 @@ public class ProcStatCounters {
 	 * happen, we handle the case and assign a load of zero, when it does.
 	 *
 	 * @param old: another ProcStatCounters object.  If null, will compute the
-	 * average load from boot time (i.e. historical load).
+	 * average load from boot time (i.e. historical load).  The same applies to
+	 * the cores that are not in the old set of counters.
 	 * @return the load, for each CPU core, computed from the two
 	 * sets of counters.
 	 */
 	public final ProcStatCoreLoads computeLoads(final ProcStatCounters old) {
-		ProcStatCoreLoads loads = new ProcStatCoreLoads();
+		ProcStatCoreLoads loads = new ProcStatCoreLoads(fIdleTicks.length);
 
 		// for each core
-		for (String coreId : fTickCounters.keySet()) {
-			OneCoreTickCounters coreCountersNew = fTickCounters.get(coreId);
+		for (int core = 0; core < fIdleTicks.length; core++) {
+			if (fIdleTicks[core] < 0) {
+				continue;
+			}
+			long diffIdle = fIdleTicks[core];
+			long diffActive = fActiveTicks[core];
 			// Do we have 2 sets of counters to compute the load from?
-			if (old != null) {
-				OneCoreTickCounters coreCountersOld = old.fTickCounters.get(coreId);
-				int diffIdle = coreCountersNew.getIdleTicks() - coreCountersOld.getIdleTicks();
-				int diffActive = coreCountersNew.getActiveTicks() - coreCountersOld.getActiveTicks();
+			// Otherwise we will effectively compute the historical load,
+			// from boot time until now.
+			if (old != null && core < old.fIdleTicks.length && old.fIdleTicks[core] >= 0) {
+				diffIdle -= old.fIdleTicks[core];
+				diffActive -= old.fActiveTicks[core];
 
 				// Sanity check - we do not expect that the counter should decrease
 				assert (diffIdle >= 0);
@@ -115,27 +96,18 @@ public class ProcStatCounters {
 				if (diffIdle < 0 || diffActive < 0) {
 					return null;
 				}
+			}
 
-				float load;
-				if (diffIdle + diffActive != 0) {
-					load = diffActive / (float) (diffActive + diffIdle);
-				}
-				// Here we catch the cases where a core has been asleep for the whole
-				// measurement period.  See note above this method.
-				else {
-					load = 0;
-				}
-				loads.put(coreId, load * 100.0f);
+			float load;
+			if (diffIdle + diffActive != 0) {
+				load = diffActive / (float) (diffActive + diffIdle);
 			}
-			// we have only one set of counters; we will effectively compute the historical load,
-			// from boot time until now.
+			// Here we catch the cases where a core has been asleep for the whole
+			// measurement period.  See note above this method.
 			else {
-				int diffIdle = coreCountersNew.getIdleTicks();
-				int diffActive = coreCountersNew.getActiveTicks();
-				assert (diffActive + diffIdle != 0);
-				float load = diffActive / (float) (diffActive + diffIdle);
-				loads.put(coreId, load * 100.0f);
+				load = 0;
 			}
+			loads.put(core, load * 100.0f);
 		}
 
 		return loads;
@@ -19,76 +19,102 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.Reader;
-import java.util.Vector;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Parses /proc/stat files. Each parse keeps the counters of the previous one,
+ * so the load can be computed from consecutive samples, with a single read
+ * of the file per sample.
+ *
  * @author Marc Dumais
  * TODO: extend to more than the tick counters.
  * @see also http://www.linuxhowtos.org/System/procstat.htm
  */
 public class ProcStatParser {
 
+	// Number of tick counters used per cpu line
+	private static final int TICK_COUNTERS = 7;
+
 	private ProcStatCounters cpuCoreCounters;
 	private ProcStatCounters cpuCoreCountersOld;
+	// reused for each cpu line
+	private final long[] ticks = new long[TICK_COUNTERS];
 
 	public ProcStatParser() {
 
 	}
 
 	/**
-	 * Read and parse the /proc/stat file given as param
+	 * Read and parse the /proc/stat file given as param.  The counters
+	 * previously parsed are kept to compute the load, unless parsing fails.
 	 * @param fileName
 	 */
 	public void parseStatFile(String fileName) throws FileNotFoundException, NumberFormatException {
-		cpuCoreCountersOld = cpuCoreCounters;
-
 		File statFile = new File(fileName);
 		if (!statFile.exists()) {
 			throw new FileNotFoundException();
 		}
 
-		cpuCoreCounters = new ProcStatCounters();
-		BufferedReader reader = null;
-		try {
-			String coreId;
-			Reader r = new InputStreamReader(new FileInputStream(statFile));
-			reader = new BufferedReader(r);
+		ProcStatCounters counters = new ProcStatCounters();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(statFile)))) {
 			String line;
-			// ex: "cpu0 2048635 3195 385292 66149962 895977 22 36130 0 0 0"
-			// note: we intentionally do not catch the "cpu" (without a core number) line.
-			Pattern patternCpu = Pattern.compile("^(cpu[0-9]+)(.*)$"); //$NON-NLS-1$
-
+			boolean cpuLines = false;
 			while ((line = reader.readLine()) != null) {
-				line = line.trim();
-
 				// catch "cpu" lines from /proc/stat
-				Matcher matcherCpu = patternCpu.matcher(line);
-				if (matcherCpu.find()) {
-					Vector<Integer> ticks = new Vector<>();
-					coreId = matcherCpu.group(1);
-					// extract the counters for current cpu line
-					for (String tick : matcherCpu.group(2).trim().split("\\s+")) { //$NON-NLS-1$
-						ticks.add(Integer.parseInt(tick));
-					}
-
-					cpuCoreCounters.addTickCounters(coreId, ticks.toArray(new Integer[ticks.size()]));
+				if (parseCpuLine(line.trim(), counters)) {
+					cpuLines = true;
+				} else if (cpuLines) {
+					// the cpu lines come first, the rest of the file is not needed
+					break;
 				}
 			}
-
 		} catch (IOException e) {
-		} finally {
-			try {
-				if (reader != null) {
-					reader.close();
-				}
-			} catch (IOException e) {
-				/* Don't care */}
-			reader = null;
 		}
 
+		cpuCoreCountersOld = cpuCoreCounters;
+		cpuCoreCounters = counters;
+	}
+
+	/**
+	 * Parses one line of /proc/stat, if it's a "cpu" line.
+	 * ex: "cpu0 2048635 3195 385292 66149962 895977 22 36130 0 0 0"
+	 * note: we intentionally do not catch the "cpu" (without a core number) line.
+	 *
+	 * @return whether the line is a "cpu" line
+	 */
+	private boolean parseCpuLine(String line, ProcStatCounters counters) throws NumberFormatException {
+		if (!line.startsWith("cpu")) { //$NON-NLS-1$
+			return false;
+		}
+		int length = line.length();
+		int pos = 3;
+		while (pos < length && Character.isDigit(line.charAt(pos))) {
+			pos++;
+		}
+		if (pos == 3) {
+			// the total of all the cores
+			return true;
+		}
+		int core = Integer.parseInt(line, 3, pos, 10);
+
+		// extract the counters for current cpu line
+		int count = 0;
+		while (count < TICK_COUNTERS) {
+			while (pos < length && Character.isWhitespace(line.charAt(pos))) {
+				pos++;
+			}
+			if (pos == length) {
+				break;
+			}
+			int start = pos;
+			while (pos < length && !Character.isWhitespace(line.charAt(pos))) {
+				pos++;
+			}
+			ticks[count++] = Long.parseLong(line, start, pos, 10);
+		}
+		if (count == TICK_COUNTERS) {
+			counters.addTickCounters(core, ticks);
+		}
+		return true;
 	}
 
 	/**
@@ -17,9 +17,13 @@
 package org.eclipse.cdt.dsf.gdb.internal.memory;
 
 import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.cdt.debug.core.model.provisional.IMemorySpaceAwareMemoryBlock;
+import org.eclipse.cdt.debug.core.model.provisional.ISearchableMemoryBlock;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
+import org.eclipse.cdt.dsf.concurrent.Query;
 import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
 import org.eclipse.cdt.dsf.datamodel.IDMContext;
 import org.eclipse.cdt.dsf.debug.model.DsfMemoryBlock;
@@ -30,7 +34,10 @@ import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBMemory;
+import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIFindInfo;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
@@ -43,7 +50,7 @@ import org.eclipse.debug.core.DebugPlugin;
  *
  * @author Alain Lee and John Cortell
  */
-public class GdbMemoryBlock extends DsfMemoryBlock implements IMemorySpaceAwareMemoryBlock {
+public class GdbMemoryBlock extends DsfMemoryBlock implements IMemorySpaceAwareMemoryBlock, ISearchableMemoryBlock {
 
 	private final String fMemorySpaceID;
 
@@ -160,6 +167,61 @@ public class GdbMemoryBlock extends DsfMemoryBlock implements IMemorySpaceAwareM
 				Messages.Err_MemoryServiceNotAvailable, null));
 	}
 
+	/**
+	 * The search is done with GDB's "find" command, which doesn't know about
+	 * memory spaces nor addressable units of more than one octet.
+	 */
+	@Override
+	public boolean supportsFindPattern() {
+		try {
+			return fMemorySpaceID == null && getAddressableSize() == 1;
+		} catch (DebugException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public BigInteger[] findPattern(final BigInteger start, final BigInteger end, final byte[] pattern,
+			final int maxCount) throws DebugException {
+		final DsfMemoryBlockRetrieval retrieval = (DsfMemoryBlockRetrieval) getMemoryBlockRetrieval();
+		Query<BigInteger[]> query = new Query<>() {
+			@Override
+			protected void execute(final DataRequestMonitor<BigInteger[]> rm) {
+				DsfServicesTracker tracker = new DsfServicesTracker(GdbPlugin.getBundleContext(),
+						retrieval.getSession().getId());
+				IMICommandControl commandControl = tracker.getService(IMICommandControl.class);
+				tracker.dispose();
+				if (commandControl == null) {
+					rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, IDsfStatusConstants.INVALID_STATE,
+							"Command control not available", null)); //$NON-NLS-1$
+					return;
+				}
+				commandControl.queueCommand(
+						commandControl.getCommandFactory().createCLIFind(getContext(), start, end, pattern, maxCount),
+						new DataRequestMonitor<CLIFindInfo>(retrieval.getExecutor(), rm) {
+							@Override
+							protected void handleSuccess() {
+								if (getData().isHalted()) {
+									// The matches past the unreadable memory are unknown
+									rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID,
+											IDsfStatusConstants.REQUEST_FAILED, Messages.Err_MemorySearchFailed, null));
+								} else {
+									rm.done(getData().getAddresses());
+								}
+							}
+						});
+			}
+		};
+		retrieval.getExecutor().execute(query);
+
+		try {
+			return query.get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new DebugException(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, DebugException.TARGET_REQUEST_FAILED,
+					Messages.Err_MemorySearchFailed, e));
+		}
+	}
+
 	@Override
 	@DsfServiceEventHandler
 	public void eventDispatched(ISuspendedDMEvent e) {
@@ -29,4 +29,5 @@ public class Messages extends NLS {
 	public static String Err_MemoryReadFailed;
 	public static String Err_MemoryWriteFailed;
 	public static String Err_InvalidEncodedAddress;
+	public static String Err_MemorySearchFailed;
 }
@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.internal.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIList;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResult;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MITuple;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIValue;
+import org.eclipse.cdt.utils.elf.Elf;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Disk-backed cache of the disassembly of a program, shared by the debug
+ * sessions of that program.
+ * <p>
+ * The results of <code>-data-disassemble</code> for address ranges are stored
+ * in the state location of the plug-in, in a directory named after the GNU
+ * build-id of the program, or after the hash of its content when it has none.
+ * The entry of a range is also keyed by the hash of the code found in memory at
+ * that range, so that it is never used for code that was relocated or modified
+ * since, nor for a shared library that differs from the one it was computed
+ * for. The results of the mixed modes hold the file names GDB found for the
+ * source lines, so their entries are also keyed by the state of the source
+ * lookup of the session.
+ * <p>
+ * The identity of the program is computed in the background and the cache
+ * stays empty until it is known. Entries are small and are read and written
+ * synchronously.
+ * <p>
+ * The directories of all the programs together are limited to
+ * {@link #MAX_CACHE_SIZE}. When a session starts, the directories of the
+ * programs that were debugged the least recently are deleted to stay below
+ * that size.
+ */
+public class DisassemblyDiskCache {
+	private static final String CACHE_DIRECTORY = "disassembly"; //$NON-NLS-1$
+	private static final String ENTRY_EXTENSION = ".mi"; //$NON-NLS-1$
+
+	/** Maximum size in bytes of the entries of all the programs */
+	static final long MAX_CACHE_SIZE = 64 * 1024 * 1024;
+
+	/** The identities computed so far, which remain valid while the binary is unchanged */
+	private static final Map<File, BinaryIdentity> fgIdentities = new HashMap<>();
+
+	private static class BinaryIdentity {
+		final long fLastModified;
+		final long fLength;
+		final String fKey;
+
+		BinaryIdentity(long lastModified, long length, String key) {
+			fLastModified = lastModified;
+			fLength = length;
+			fKey = key;
+		}
+	}
+
+	/** Directory of the entries, null until the identity of the binary is known */
+	private volatile File fDirectory;
+
+	/** Size in bytes of the entries in the directory */
+	private long fDirectorySize;
+
+	/**
+	 * Creates the cache of the given binary and starts computing its identity.
+	 */
+	public DisassemblyDiskCache(final File binary) {
+		new Job("Compute binary identity for disassembly cache") { //$NON-NLS-1$
+			{
+				setSystem(true);
+			}
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					String key = getBinaryKey(binary);
+					GdbPlugin plugin = GdbPlugin.getDefault();
+					if (plugin != null) {
+						open(plugin.getStateLocation().append(CACHE_DIRECTORY).toFile(), key);
+					}
+				} catch (IOException | IllegalStateException e) {
+					// Without an identity for the binary, nothing gets cached
+				}
+				return Status.OK_STATUS;
+			}
+		}.schedule();
+	}
+
+	/**
+	 * Creates the cache of the binary with the given identity, in the given
+	 * directory.
+	 */
+	DisassemblyDiskCache(File root, String key) {
+		open(root, key);
+	}
+
+	/**
+	 * Marks the directory of the binary as the most recently used one, and
+	 * deletes the least recently used directories beyond the size limit.
+	 */
+	private void open(File root, String key) {
+		File directory = new File(root, key);
+		if (directory.isDirectory()) {
+			directory.setLastModified(System.currentTimeMillis());
+		}
+		File[] directories = root.listFiles(File::isDirectory);
+		long total = 0;
+		if (directories != null) {
+			Arrays.sort(directories, Comparator.comparingLong(File::lastModified).reversed());
+			for (File other : directories) {
+				long size = getSize(other);
+				if (total + size > MAX_CACHE_SIZE) {
+					delete(other);
+				} else {
+					total += size;
+				}
+			}
+		}
+		synchronized (this) {
+			fDirectorySize = directory.isDirectory() ? getSize(directory) : 0;
+		}
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return whether the cache can be used, i.e. the identity of the binary is
+	 *         known
+	 */
+	public boolean isReady() {
+		return fDirectory != null;
+	}
+
+	/**
+	 * Returns the result record stored for the given range.
+	 *
+	 * @param mode the disassembly mode
+	 * @param sourceState the state of the source lookup for the mixed modes, or
+	 *            <code>null</code> if the mode has no source lines
+	 * @param start the start address of the range
+	 * @param end the end address of the range
+	 * @param code the content of the memory from the start address, which must
+	 *            cover the last instruction of the range
+	 * @return the MI result record, or <code>null</code> if there is none
+	 */
+	public MIResultRecord get(int mode, String sourceState, BigInteger start, BigInteger end, byte[] code) {
+		File directory = fDirectory;
+		if (directory == null) {
+			return null;
+		}
+		File entry = new File(directory, getEntryName(mode, sourceState, start, end, code));
+		if (!entry.isFile()) {
+			return null;
+		}
+		try {
+			return new MIParser()
+					.parseMIResultRecord(new String(Files.readAllBytes(entry.toPath()), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the result record of the given range, see
+	 * {@link #get(int, String, BigInteger, BigInteger, byte[])}.
+	 */
+	public void put(int mode, String sourceState, BigInteger start, BigInteger end, byte[] code,
+			MIResultRecord resultRecord) {
+		File directory = fDirectory;
+		if (directory == null) {
+			return;
+		}
+		StringBuilder record = new StringBuilder("^").append(resultRecord.getResultClass()); //$NON-NLS-1$
+		for (MIResult result : resultRecord.getMIResults()) {
+			appendResult(record.append(','), result);
+		}
+		byte[] content = record.toString().getBytes(StandardCharsets.UTF_8);
+		synchronized (this) {
+			if (fDirectorySize + content.length > MAX_CACHE_SIZE) {
+				return;
+			}
+			fDirectorySize += content.length;
+		}
+		try {
+			Files.createDirectories(directory.toPath());
+			// Write to a temporary file first so that other sessions never read a partial entry
+			File entry = new File(directory, getEntryName(mode, sourceState, start, end, code));
+			File tmp = File.createTempFile("entry", null, directory); //$NON-NLS-1$
+			Files.write(tmp.toPath(), content);
+			try {
+				Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			// The cache is only an optimization
+		}
+	}
+
+	/**
+	 * Appends the given result in MI syntax. Unlike the toString() methods of
+	 * the MI output, the C-Strings are escaped so that they are parsed back
+	 * unchanged.
+	 */
+	private static void appendResult(StringBuilder builder, MIResult result) {
+		builder.append(result.getVariable()).append('=');
+		appendValue(builder, result.getMIValue());
+	}
+
+	private static void appendValue(StringBuilder builder, MIValue value) {
+		if (value instanceof MITuple) {
+			appendValues(builder.append('{'), ((MITuple) value).getMIResults(), ((MITuple) value).getMIValues());
+			builder.append('}');
+		} else if (value instanceof MIList) {
+			appendValues(builder.append('['), ((MIList) value).getMIResults(), ((MIList) value).getMIValues());
+			builder.append(']');
+		} else {
+			String string = value instanceof MIConst ? ((MIConst) value).getCString() : String.valueOf(value);
+			builder.append('"');
+			for (int i = 0; i < string.length(); i++) {
+				char c = string.charAt(i);
+				if (c == '"' || c == '\\') {
+					builder.append('\\');
+				}
+				builder.append(c);
+			}
+			builder.append('"');
+		}
+	}
+
+	private static void appendValues(StringBuilder builder, MIResult[] results, MIValue[] values) {
+		for (int i = 0; i < results.length; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			appendResult(builder, results[i]);
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0 || results.length > 0) {
+				builder.append(',');
+			}
+			appendValue(builder, values[i]);
+		}
+	}
+
+	private static long getSize(File directory) {
+		long size = 0;
+		File[] entries = directory.listFiles();
+		if (entries != null) {
+			for (File entry : entries) {
+				size += entry.length();
+			}
+		}
+		return size;
+	}
+
+	private static void delete(File directory) {
+		File[] entries = directory.listFiles();
+		if (entries != null) {
+			for (File entry : entries) {
+				entry.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	private static String getEntryName(int mode, String sourceState, BigInteger start, BigInteger end,
+			byte[] code) {
+		StringBuilder name = new StringBuilder().append(mode).append('_').append(start.toString(16)).append('_')
+				.append(end.toString(16)).append('_').append(toHex(sha1().digest(code)));
+		if (sourceState != null) {
+			name.append('_').append(toHex(sha1().digest(sourceState.getBytes(StandardCharsets.UTF_8))));
+		}
+		return name.append(ENTRY_EXTENSION).toString();
+	}
+
+	/**
+	 * Returns the GNU build-id of the given binary, or the hash of its content
+	 * if it doesn't have one.
+	 */
+	static String getBinaryKey(File binary) throws IOException {
+		long lastModified = binary.lastModified();
+		long length = binary.length();
+		synchronized (fgIdentities) {
+			BinaryIdentity identity = fgIdentities.get(binary);
+			if (identity != null && identity.fLastModified == lastModified && identity.fLength == length) {
+				return identity.fKey;
+			}
+		}
+
+		String key = readBuildId(binary);
+		if (key == null) {
+			MessageDigest digest = sha1();
+			byte[] buffer = new byte[64 * 1024];
+			try (InputStream in = Files.newInputStream(binary.toPath())) {
+				int read;
+				while ((read = in.read(buffer)) > 0) {
+					digest.update(buffer, 0, read);
+				}
+			}
+			key = "sha1-" + toHex(digest.digest()); //$NON-NLS-1$
+		}
+
+		synchronized (fgIdentities) {
+			fgIdentities.put(binary, new BinaryIdentity(lastModified, length, key));
+		}
+		return key;
+	}
+
+	/**
+	 * @return the content of the GNU build-id note of the given ELF file, as an
+	 *         hexadecimal string, or <code>null</code> if there is none
+	 */
+	private static String readBuildId(File binary) {
+		try (Elf elf = new Elf(binary.getAbsolutePath())) {
+			ByteOrder order = elf.getELFhdr().e_ident[Elf.ELFhdr.EI_DATA] == Elf.ELFhdr.ELFDATA2LSB
+					? ByteOrder.LITTLE_ENDIAN
+					: ByteOrder.BIG_ENDIAN;
+			for (Elf.Section section : elf.getSections(Elf.Section.SHT_NOTE)) {
+				ByteBuffer data = ByteBuffer.wrap(section.loadSectionData()).order(order);
+				// Each note is a header of three words followed by the name and the
+				// descriptor, both padded to a multiple of four bytes
+				while (data.remaining() >= 12) {
+					int nameSize = data.getInt();
+					int descSize = data.getInt();
+					int type = data.getInt();
+					if (nameSize < 0 || descSize < 0
+							|| data.remaining() < align(nameSize) + (long) align(descSize)) {
+						break;
+					}
+					byte[] name = new byte[nameSize];
+					data.get(name);
+					data.position(data.position() + align(nameSize) - nameSize);
+					byte[] desc = new byte[descSize];
+					data.get(desc);
+					data.position(data.position() + align(descSize) - descSize);
+					if (type == Elf.Section.NT_GNU_BUILD_ID && descSize > 0
+							&& "GNU\0".equals(new String(name, StandardCharsets.US_ASCII))) { //$NON-NLS-1$
+						return toHex(desc);
+					}
+				}
+			}
+		} catch (IOException e) {
+			// Not an ELF file
+		}
+		return null;
+	}
+
+	private static int align(int size) {
+		return (size + 3) & ~3;
+	}
+
+	private static MessageDigest sha1() {
+		try {
+			return MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return builder.toString();
+	}
+}
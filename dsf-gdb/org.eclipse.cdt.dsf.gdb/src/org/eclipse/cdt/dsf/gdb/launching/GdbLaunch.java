@@ -122,6 +122,9 @@ public class GdbLaunch extends DsfLaunch implements ITracedLaunch, ITargetedLaun
 		dsfExecutor.prestartCoreThread();
 		fExecutor = dsfExecutor;
 		fSession = DsfSession.startSession(fExecutor, GdbLaunchDelegate.GDB_DEBUG_MODEL_ID);
+		fSession.setEventCoalescingWindow(Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_EVENT_COALESCING_WINDOW,
+				IGdbDebugPreferenceConstants.EVENT_COALESCING_WINDOW_DEFAULT, null));
 	}
 
 	public DsfExecutor getDsfExecutor() {
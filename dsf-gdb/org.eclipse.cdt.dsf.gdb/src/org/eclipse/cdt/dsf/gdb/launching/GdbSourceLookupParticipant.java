@@ -26,6 +26,7 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.debug.sourcelookup.DsfSourceLookupParticipant;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBSourceLookup;
+import org.eclipse.cdt.dsf.mi.service.MIBreakpointsManager;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
@@ -115,6 +116,13 @@ public class GdbSourceLookupParticipant extends DsfSourceLookupParticipant {
 				cachingStackService.flushCache(null);
 			}
 
+			// The debugger paths of the breakpoint files depend on the source
+			// containers, even when the path substitutions of GDB are unchanged
+			MIBreakpointsManager breakpointsManager = fServicesTracker.getService(MIBreakpointsManager.class);
+			if (breakpointsManager != null) {
+				breakpointsManager.flushCache(null);
+			}
+
 			ICommandControlService command = fServicesTracker.getService(ICommandControlService.class);
 			ISourceLookupDMContext context = (ISourceLookupDMContext) command.getContext();
 			lookup.sourceContainersChanged(context, new DataRequestMonitor<Boolean>(fExecutor, rm));
@@ -38,6 +38,7 @@ import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.Immutable;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
@@ -216,7 +217,7 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 	}
 
 	// to save queued load info requests for later processing
-	private Map<IDMContext, DataRequestMonitor<ILoadInfo>> fLoadInfoRequestCache;
+	private Map<IDMContext, List<DataRequestMonitor<ILoadInfo>>> fLoadInfoRequestCache;
 
 	private IGDBControl fCommandControl;
 	private IGDBBackend fBackend;
@@ -247,6 +248,14 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 	private ProcStatCoreLoads fCachedLoads = null;
 	// lifetime of the load cache, in ms
 	private final static int LOAD_CACHE_LIFETIME = 500;
+	// The parser is kept between requests, so that the load is computed from
+	// the previous sample of /proc/stat and a new one, with a single read.
+	private final ProcStatParser fProcStatParser = new ProcStatParser();
+	// when the last sample of /proc/stat was taken, 0 if none
+	private long fLastSampleTime = 0;
+	// Maximum age of the previous sample, in ms, to compute the load from.
+	// Beyond it, two samples are taken again, LOAD_SAMPLE_DELAY apart.
+	private final static int LOAD_SAMPLE_MAX_AGE = 10000;
 
 	public GDBHardwareAndOS(DsfSession session) {
 		super(session);
@@ -632,7 +641,9 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 	 * This method processes "load info" requests.  The load is computed using a
 	 * sampling method; two readings of a local or remote /proc/stat file are done
 	 * with a delay in between.  Then the load is computed from the two samples,
-	 * for all CPUs/cores known in the system.
+	 * for all CPUs/cores known in the system.  The last sample is kept, so that
+	 * later requests only need one new reading to compute the load since then,
+	 * unless it is older than LOAD_SAMPLE_MAX_AGE.
 	 *
 	 * Because of the method used, it's possible that fast variations in CPU usage will
 	 * be missed.  However longer load trends should be reflected in the results.
@@ -668,7 +679,7 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 		// Is a request is already ongoing?
 		if (fLoadRequestOngoing) {
 			// queue current new request
-			fLoadInfoRequestCache.put(context, rm);
+			fLoadInfoRequestCache.computeIfAbsent(context, c -> new ArrayList<>()).add(rm);
 			return;
 		}
 		// no request ongoing, so proceed
@@ -688,110 +699,108 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 			return;
 		}
 
-		final ProcStatParser procStatParser = new ProcStatParser();
 		final ICommandControlDMContext dmc = DMContexts.getAncestorOfType(context, ICommandControlDMContext.class);
+
+		// A recent sample lets us compute the load from a single new one.
+		// Otherwise, take a first sample and another one after a delay.
+		if (fLastSampleTime != 0 && currentTime - fLastSampleTime < LOAD_SAMPLE_MAX_AGE) {
+			sampleProcStat(dmc, new ImmediateRequestMonitor() {
+				@Override
+				protected void handleCompleted() {
+					processSampledLoads(context, rm, getStatus());
+				}
+			});
+		} else {
+			sampleProcStat(dmc, new ImmediateRequestMonitor() {
+				@Override
+				protected void handleCompleted() {
+					if (!isSuccess()) {
+						processSampledLoads(context, rm, getStatus());
+						return;
+					}
+					getExecutor().schedule(() -> sampleProcStat(dmc, new ImmediateRequestMonitor() {
+						@Override
+						protected void handleCompleted() {
+							processSampledLoads(context, rm, getStatus());
+						}
+					}), LOAD_SAMPLE_DELAY, TimeUnit.MILLISECONDS);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Reads the local or remote /proc/stat file and parses its counters.
+	 * @param dmc
+	 * @param rm
+	 */
+	private void sampleProcStat(ICommandControlDMContext dmc, final RequestMonitor rm) {
 		final String statFile = "/proc/stat"; //$NON-NLS-1$
-		final String localFile = sTempFolder + "proc.stat." + getSession().getId(); //$NON-NLS-1$
 
-		// Remote debugging? We will ask GDB to get us the /proc/stat file from target, twice, with a delay between.
+		// Remote debugging? We will ask GDB to get us the /proc/stat file from target.
 		if (fBackend.getSessionType() == SessionType.REMOTE) {
+			final String localFile = sTempFolder + "proc.stat." + getSession().getId(); //$NON-NLS-1$
 			fCommandControl.queueCommand(fCommandFactory.createCLIRemoteGet(dmc, statFile, localFile),
 					new ImmediateDataRequestMonitor<MIInfo>(rm) {
 						@Override
-						protected void handleCompleted() {
-							if (!isSuccess()) {
-								fLoadRequestOngoing = false;
-								rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
-										"Can't get load info for CPU", null)); //$NON-NLS-1$
-								return;
-							}
-
-							// Success - parse first set of stat counters
-							try {
-								procStatParser.parseStatFile(localFile);
-							} catch (Exception e) {
-								rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
-										"Can't get load info for CPU", null)); //$NON-NLS-1$
-								fLoadRequestOngoing = false;
-								return;
-							}
+						protected void handleSuccess() {
+							parseProcStat(localFile, rm);
 							// delete temp file
 							new File(localFile).delete();
-
-							getExecutor().schedule(() -> fCommandControl.queueCommand(
-									fCommandFactory.createCLIRemoteGet(dmc, statFile, localFile),
-									new ImmediateDataRequestMonitor<MIInfo>(rm) {
-										@Override
-										protected void handleCompleted() {
-											if (!isSuccess()) {
-												fLoadRequestOngoing = false;
-												rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
-														"Can't get load info for CPU", null)); //$NON-NLS-1$
-												return;
-											}
-
-											// Success - parse the second set of stat counters and compute loads
-											try {
-												procStatParser.parseStatFile(localFile);
-											} catch (Exception e) {
-												rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
-														"Can't get load info for CPU", null)); //$NON-NLS-1$
-												fLoadRequestOngoing = false;
-												return;
-											}
-											// delete temp file
-											new File(localFile).delete();
-
-											// Compute load
-											fCachedLoads = procStatParser.getCpuLoad();
-											processLoads(context, rm, fCachedLoads);
-
-											// done with request
-											fLoadRequestOngoing = false;
-											// process any queued request
-											for (Entry<IDMContext, DataRequestMonitor<ILoadInfo>> e : fLoadInfoRequestCache
-													.entrySet()) {
-												processLoads(e.getKey(), e.getValue(), fCachedLoads);
-											}
-											fLoadInfoRequestCache.clear();
-										}
-									}), LOAD_SAMPLE_DELAY, TimeUnit.MILLISECONDS);
 						}
 					});
 			// Local debugging?  Then we can read /proc/stat directly
 		} else {
-			// Read /proc/stat file for the first time
-			try {
-				procStatParser.parseStatFile(statFile);
-			} catch (Exception e) {
-				rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR, "Can't get load info for CPU", //$NON-NLS-1$
-						null));
-				fLoadRequestOngoing = false;
-				return;
-			}
+			parseProcStat(statFile, rm);
+		}
+	}
+
+	private void parseProcStat(String file, RequestMonitor rm) {
+		try {
+			fProcStatParser.parseStatFile(file);
+		} catch (Exception e) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR, "Can't get load info for CPU", //$NON-NLS-1$
+					null));
+			return;
+		}
+		fLastSampleTime = System.currentTimeMillis();
+		rm.done();
+	}
 
-			// Read /proc/stat file again after a delay
-			getExecutor().schedule(() -> {
-				try {
-					procStatParser.parseStatFile(statFile);
-				} catch (Exception e1) {
-					rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
+	/**
+	 * Computes the load from the last samples of /proc/stat, then answers the
+	 * given request and any request queued in the meantime.
+	 * @param context
+	 * @param rm
+	 * @param status the status of the sampling
+	 */
+	private void processSampledLoads(IDMContext context, DataRequestMonitor<ILoadInfo> rm, IStatus status) {
+		Map<IDMContext, List<DataRequestMonitor<ILoadInfo>>> queued = new HashMap<>(fLoadInfoRequestCache);
+		fLoadInfoRequestCache.clear();
+		// done with request
+		fLoadRequestOngoing = false;
+
+		if (!status.isOK()) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR, "Can't get load info for CPU", //$NON-NLS-1$
+					null));
+			for (List<DataRequestMonitor<ILoadInfo>> monitors : queued.values()) {
+				for (DataRequestMonitor<ILoadInfo> monitor : monitors) {
+					monitor.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
 							"Can't get load info for CPU", null)); //$NON-NLS-1$
-					fLoadRequestOngoing = false;
-					return;
 				}
-				// compute load
-				fCachedLoads = procStatParser.getCpuLoad();
-				processLoads(context, rm, fCachedLoads);
-
-				// done with request
-				fLoadRequestOngoing = false;
-				// process any queued request
-				for (Entry<IDMContext, DataRequestMonitor<ILoadInfo>> e2 : fLoadInfoRequestCache.entrySet()) {
-					processLoads(e2.getKey(), e2.getValue(), fCachedLoads);
-				}
-				fLoadInfoRequestCache.clear();
-			}, LOAD_SAMPLE_DELAY, TimeUnit.MILLISECONDS);
+			}
+			return;
+		}
+
+		// compute load
+		fCachedLoads = fProcStatParser.getCpuLoad();
+		processLoads(context, rm, fCachedLoads);
+
+		// process any queued request
+		for (Entry<IDMContext, List<DataRequestMonitor<ILoadInfo>>> e : queued.entrySet()) {
+			for (DataRequestMonitor<ILoadInfo> monitor : e.getValue()) {
+				processLoads(e.getKey(), monitor, fCachedLoads);
+			}
 		}
 	}
 
@@ -813,9 +822,13 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 		// core context?
 		if (context instanceof ICoreDMContext) {
 			String coreId = ((ICoreDMContext) context).getId();
+			Float load = loads.getLoad(coreId);
+			if (load == null) {
+				rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR, "Can't get load info", null)); //$NON-NLS-1$
+				return;
+			}
 			// Integer precision sufficient for our purpose
-			float load = loads.getLoad(coreId);
-			rm.done(new GDBLoadInfo(Integer.toString((int) load)));
+			rm.done(new GDBLoadInfo(Integer.toString(load.intValue())));
 		} else if (context instanceof ICPUDMContext) {
 			// get the list of cores in that CPU
 			getCores(context, new ImmediateDataRequestMonitor<ICoreDMContext[]>() {
@@ -834,9 +847,16 @@ public class GDBHardwareAndOS extends AbstractDsfService implements IGDBHardware
 					float load = 0.0f;
 					// compute the average load of cores in that CPU
 					for (ICoreDMContext coreCtx : coreContexts) {
-						String coreId = coreCtx.getId();
-						load += loads.getLoad(coreId);
-						i++;
+						Float coreLoad = loads.getLoad(coreCtx.getId());
+						if (coreLoad != null) {
+							load += coreLoad;
+							i++;
+						}
+					}
+					if (i == 0) {
+						rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INTERNAL_ERROR,
+								"Can't get load info for CPU", null)); //$NON-NLS-1$
+						return;
 					}
 					load /= i;
 					rm.done(new GDBLoadInfo(Integer.toString((int) load)));
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -630,6 +631,19 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	//A cache for commands about the threads
 	private CommandCache fThreadCommandCache;
 
+	/**
+	 * The thread ids of each thread group, kept up-to-date with the =thread-created
+	 * and =thread-exited notifications once listed, so that programs with many threads
+	 * don't need their full thread list again from GDB each time a thread starts or exits.
+	 */
+	private final Map<String, Set<String>> fThreadLists = new HashMap<>();
+
+	/**
+	 * Incremented with each thread notification, to detect those received while a
+	 * thread list is being fetched.
+	 */
+	private int fThreadNotificationCount;
+
 	// A temporary cache to avoid using -list-thread-groups --available more than once at the same time.
 	// We cannot cache this command because it lists all available processes, which can
 	// change at any time.  However, it is inefficient to send more than one of this command at
@@ -1463,11 +1477,27 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 				return;
 			}
 
+			Set<String> threadIds = fThreadLists.get(containerDmc.getGroupId());
+			if (threadIds != null) {
+				rm.done(makeExecutionDMCs(containerDmc, threadIds));
+				return;
+			}
+
+			final int notificationCount = fThreadNotificationCount;
 			fThreadCommandCache.execute(fCommandFactory.createMIListThreadGroups(controlDmc, containerDmc.getGroupId()),
 					new DataRequestMonitor<MIListThreadGroupsInfo>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
-							rm.setData(makeExecutionDMCs(containerDmc, getData().getThreadInfo().getThreadList()));
+							MIThread[] threads = getData().getThreadInfo().getThreadList();
+							// The list is only complete if no thread started or exited since it was requested
+							if (notificationCount == fThreadNotificationCount && isThreadListIncremental()) {
+								Set<String> ids = new LinkedHashSet<>();
+								for (MIThread thread : threads) {
+									ids.add(thread.getThreadId());
+								}
+								fThreadLists.put(containerDmc.getGroupId(), ids);
+							}
+							rm.setData(makeExecutionDMCs(containerDmc, threads));
 							rm.done();
 						}
 					});
@@ -1516,9 +1546,17 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	}
 
 	private IExecutionDMContext[] makeExecutionDMCs(IContainerDMContext containerDmc, MIThread[] threadInfos) {
+		List<String> threadIds = new ArrayList<>(threadInfos.length);
+		for (MIThread threadInfo : threadInfos) {
+			threadIds.add(threadInfo.getThreadId());
+		}
+		return makeExecutionDMCs(containerDmc, threadIds);
+	}
+
+	private IExecutionDMContext[] makeExecutionDMCs(IContainerDMContext containerDmc, Collection<String> threadIds) {
 		final IProcessDMContext procDmc = DMContexts.getAncestorOfType(containerDmc, IProcessDMContext.class);
 
-		if (threadInfos.length == 0) {
+		if (threadIds.isEmpty()) {
 			// Main thread always exist even if it is not reported by GDB.
 			// So create thread-id = 0 when no thread is reported.
 			// This hack is necessary to prevent AbstractMIControl from issuing a thread-select
@@ -1526,16 +1564,28 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 			return new IMIExecutionDMContext[] { createExecutionContext(containerDmc,
 					createThreadContext(procDmc, FAKE_THREAD_ID), FAKE_THREAD_ID) };
 		} else {
-			IExecutionDMContext[] executionDmcs = new IMIExecutionDMContext[threadInfos.length];
-			for (int i = 0; i < threadInfos.length; i++) {
-				String threadId = threadInfos[i].getThreadId();
-				executionDmcs[i] = createExecutionContext(containerDmc, createThreadContext(procDmc, threadId),
+			IExecutionDMContext[] executionDmcs = new IMIExecutionDMContext[threadIds.size()];
+			int i = 0;
+			for (String threadId : threadIds) {
+				executionDmcs[i++] = createExecutionContext(containerDmc, createThreadContext(procDmc, threadId),
 						threadId);
 			}
 			return executionDmcs;
 		}
 	}
 
+	/**
+	 * Returns whether the thread lists can be maintained from the thread
+	 * notifications of GDB, i.e. whether the target reports them.
+	 */
+	private boolean isThreadListIncremental() {
+		try {
+			return !fBackend.getUpdateThreadListOnSuspend();
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
 	private IMIContainerDMContext[] makeContainerDMCs(ICommandControlDMContext controlDmc, IThreadGroupInfo[] groups) {
 		// This is a workaround for post-mortem tracing because the early GDB release
 		// does not report a process when we do -list-thread-group
@@ -1974,8 +2024,9 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 			}
 
 			fContainerCommandCache.reset();
+			fThreadLists.remove(groupId);
 			fNumConnected++;
-		} else {
+		} else if (!hasThreadList(e.getDMContext())) {
 			fThreadCommandCache.reset();
 		}
 	}
@@ -1985,6 +2036,7 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	public void eventDispatched(IExitedDMEvent e) {
 		if (e.getDMContext() instanceof IMIContainerDMContext) {
 			fExitedGroupId.add(((IMIContainerDMContext) e.getDMContext()).getGroupId());
+			fThreadLists.remove(((IMIContainerDMContext) e.getDMContext()).getGroupId());
 
 			fContainerCommandCache.reset();
 
@@ -2008,11 +2060,21 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 					}
 				}, 500, TimeUnit.MILLISECONDS);
 			}
-		} else {
+		} else if (!hasThreadList(e.getDMContext())) {
 			fThreadCommandCache.reset();
 		}
 	}
 
+	/**
+	 * Returns whether the thread list of the process of the given thread is
+	 * maintained from the thread notifications, in which case the cached thread
+	 * commands remain valid when the thread starts or exits.
+	 */
+	private boolean hasThreadList(IDMContext threadDmc) {
+		IMIContainerDMContext containerDmc = DMContexts.getAncestorOfType(threadDmc, IMIContainerDMContext.class);
+		return containerDmc != null && fThreadLists.containsKey(containerDmc.getGroupId());
+	}
+
 	/**
 	 * @since 5.2
 	 */
@@ -2036,6 +2098,7 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	public void flushCache(IDMContext context) {
 		fContainerCommandCache.reset(context);
 		fThreadCommandCache.reset(context);
+		fThreadLists.clear();
 		// Not technically needed since we are supposed to have
 		// cleared this cache as soon as the it gets the answer
 		// from GDB; but to be more future-proof, might as well
@@ -2072,11 +2135,19 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 						}
 					}
 
+					fThreadNotificationCount++;
+					Set<String> threadIds = groupId != null ? fThreadLists.get(groupId) : null;
 					if ("thread-created".equals(miEvent)) { //$NON-NLS-1$
 						// Update the thread to groupId map with the new groupId
 						getThreadToGroupMap().put(threadId, groupId);
+						if (threadIds != null) {
+							threadIds.add(threadId);
+						}
 					} else {
 						getThreadToGroupMap().remove(threadId);
+						if (threadIds != null) {
+							threadIds.remove(threadId);
+						}
 					}
 					// "thread-group-created" was used before GDB 7.2, while "thread-group-started" is used with GDB 7.2
 				} else if ("thread-group-created".equals(miEvent) || "thread-group-started".equals(miEvent)) { //$NON-NLS-1$ //$NON-NLS-2$
@@ -2136,6 +2207,7 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 					}
 
 					if (groupId != null) {
+						fThreadLists.remove(groupId);
 						String pId = getGroupToPidMap().remove(groupId);
 
 						// GDB is no longer debugging this process.  Remove it from our list
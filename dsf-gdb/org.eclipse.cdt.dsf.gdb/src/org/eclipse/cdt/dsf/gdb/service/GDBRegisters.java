@@ -498,6 +498,18 @@ public class GDBRegisters extends MIRegisters implements IRegisters2 {
 		});
 	}
 
+	/**
+	 * @since 6.6
+	 */
+	@Override
+	protected int[] getGroupRegisterNumbers(MIRegisterGroupDMC groupDmc) {
+		MIRegisterDMC[] registers = fGroupToRegistersMap.get(groupDmc);
+		if (registers == null || registers.length == 0) {
+			return super.getGroupRegisterNumbers(groupDmc);
+		}
+		return getRegisterNumbers(registers);
+	}
+
 	@Override
 	public void canAddRegisterGroup(IDMContext selectionContext, DataRequestMonitor<Boolean> rm) {
 		// Not relevant checks at this point
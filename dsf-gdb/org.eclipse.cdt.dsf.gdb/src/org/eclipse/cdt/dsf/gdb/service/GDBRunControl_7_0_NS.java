@@ -387,6 +387,18 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 	// ThreadStates indexed by the execution context
 	protected Map<IMIExecutionDMContext, MIThreadRunState> fThreadRunStates = new HashMap<>();
 
+	private static class ContainerRunState {
+		final Set<IMIExecutionDMContext> fThreads = new HashSet<>();
+		int fSuspendedCount;
+	}
+
+	/**
+	 * The threads of each process and how many of them are suspended, maintained
+	 * along with {@link #fThreadRunStates} so that the state of a process does not
+	 * require going through every thread of the session.
+	 */
+	private final Map<IMIContainerDMContext, ContainerRunState> fContainerRunStates = new HashMap<>();
+
 	private RunToLineActiveOperation fRunToLineActiveOperation = null;
 
 	private StepIntoSelectionActiveOperation fStepInToSelectionActiveOperation = null;
@@ -498,18 +510,12 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 		// Process case.  The process is considered suspended as long
 		// as one of its thread is suspended
 		if (context instanceof IMIContainerDMContext) {
-			boolean hasThread = false;
-			for (IMIExecutionDMContext threadContext : fThreadRunStates.keySet()) {
-				if (DMContexts.isAncestorOf(threadContext, context)) {
-					hasThread = true;
-					if (isSuspended(threadContext))
-						return true;
-				}
-			}
+			ContainerRunState containerState = fContainerRunStates.get(context);
 			// If this container does not have any threads, it means it wasn't started
 			// yet or it was terminated, so we can consider it suspended
-			if (hasThread == false)
+			if (containerState == null || containerState.fThreads.isEmpty())
 				return true;
+			return !fTerminated && containerState.fSuspendedCount > 0;
 		}
 
 		// Default case
@@ -538,14 +544,9 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 
 		// Process case
 		if (context instanceof IMIContainerDMContext) {
-			for (IMIExecutionDMContext threadContext : fThreadRunStates.keySet()) {
-				if (DMContexts.isAncestorOf(threadContext, context)) {
-					if (doCanSuspend(threadContext)) {
-						return true;
-					}
-				}
-			}
-			return false;
+			ContainerRunState containerState = fContainerRunStates.get(context);
+			return containerState != null && !fTerminated
+					&& containerState.fSuspendedCount < containerState.fThreads.size();
 		}
 
 		// Default case
@@ -729,11 +730,13 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 
 		// Process case
 		if (context instanceof IMIContainerDMContext) {
-			for (IMIExecutionDMContext threadContext : fThreadRunStates.keySet()) {
-				if (DMContexts.isAncestorOf(threadContext, context)) {
-					if (doCanResume(threadContext)) {
-						return true;
-					}
+			ContainerRunState containerState = fContainerRunStates.get(context);
+			if (containerState == null || containerState.fSuspendedCount == 0) {
+				return false;
+			}
+			for (IMIExecutionDMContext threadContext : containerState.fThreads) {
+				if (doCanResume(threadContext)) {
+					return true;
 				}
 			}
 			return false;
@@ -1185,15 +1188,44 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 		return procService.createExecutionContext(container, threadDmc, threadId);
 	}
 
-	private void updateThreadState(IMIExecutionDMContext context, ResumedEvent event) {
-		StateChangeReason reason = event.getReason();
-		boolean isStepping = reason.equals(StateChangeReason.STEP);
+	/**
+	 * Returns the run state of the given thread, adding it to the threads of its process if it is new.
+	 */
+	private MIThreadRunState getThreadRunState(IMIExecutionDMContext context) {
 		MIThreadRunState threadState = fThreadRunStates.get(context);
 		if (threadState == null) {
 			threadState = new MIThreadRunState();
 			fThreadRunStates.put(context, threadState);
+
+			IMIContainerDMContext containerDmc = DMContexts.getAncestorOfType(context, IMIContainerDMContext.class);
+			if (containerDmc != null) {
+				ContainerRunState containerState = fContainerRunStates.get(containerDmc);
+				if (containerState == null) {
+					containerState = new ContainerRunState();
+					fContainerRunStates.put(containerDmc, containerState);
+				}
+				containerState.fThreads.add(context);
+			}
+		}
+		return threadState;
+	}
+
+	private void setSuspended(IMIExecutionDMContext context, MIThreadRunState threadState, boolean suspended) {
+		if (threadState.fSuspended != suspended) {
+			ContainerRunState containerState = fContainerRunStates
+					.get(DMContexts.getAncestorOfType(context, IMIContainerDMContext.class));
+			if (containerState != null) {
+				containerState.fSuspendedCount += suspended ? 1 : -1;
+			}
 		}
-		threadState.fSuspended = false;
+		threadState.fSuspended = suspended;
+	}
+
+	private void updateThreadState(IMIExecutionDMContext context, ResumedEvent event) {
+		StateChangeReason reason = event.getReason();
+		boolean isStepping = reason.equals(StateChangeReason.STEP);
+		MIThreadRunState threadState = getThreadRunState(context);
+		setSuspended(context, threadState, false);
 		threadState.fResumePending = false;
 		threadState.fStateChangeReason = reason;
 		threadState.fStateChangeDetails = null; // we have no details of interest for a resume
@@ -1203,12 +1235,8 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 
 	private void updateThreadState(IMIExecutionDMContext context, SuspendedEvent event) {
 		StateChangeReason reason = event.getReason();
-		MIThreadRunState threadState = fThreadRunStates.get(context);
-		if (threadState == null) {
-			threadState = new MIThreadRunState();
-			fThreadRunStates.put(context, threadState);
-		}
-		threadState.fSuspended = true;
+		MIThreadRunState threadState = getThreadRunState(context);
+		setSuspended(context, threadState, true);
 		threadState.fResumePending = false;
 		threadState.fStepping = false;
 		threadState.fStateChangeReason = reason;
@@ -2000,9 +2028,7 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 	public void eventDispatched(StartedDMEvent e) {
 		IExecutionDMContext executionCtx = e.getDMContext();
 		if (executionCtx instanceof IMIExecutionDMContext) {
-			if (fThreadRunStates.get(executionCtx) == null) {
-				fThreadRunStates.put((IMIExecutionDMContext) executionCtx, new MIThreadRunState());
-			}
+			getThreadRunState((IMIExecutionDMContext) executionCtx);
 		}
 	}
 
@@ -2012,7 +2038,19 @@ public class GDBRunControl_7_0_NS extends AbstractDsfService
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(ExitedDMEvent e) {
-		fThreadRunStates.remove(e.getDMContext());
+		MIThreadRunState threadState = fThreadRunStates.remove(e.getDMContext());
+		IMIContainerDMContext containerDmc = DMContexts.getAncestorOfType(e.getDMContext(),
+				IMIContainerDMContext.class);
+		ContainerRunState containerState = fContainerRunStates.get(containerDmc);
+		if (threadState != null && containerState != null) {
+			containerState.fThreads.remove(e.getDMContext());
+			if (threadState.fSuspended) {
+				containerState.fSuspendedCount--;
+			}
+			if (containerState.fThreads.isEmpty()) {
+				fContainerRunStates.remove(containerDmc);
+			}
+		}
 	}
 
 	/**
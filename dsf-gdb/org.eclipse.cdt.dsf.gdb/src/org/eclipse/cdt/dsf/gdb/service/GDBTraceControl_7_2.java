@@ -1139,7 +1139,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 			// if not, we should first select the record.
 			// This is because 'tdump' does not take any parameters to specify
 			// which record we want to dump.
-			if (fCurrentRecordDmc.equals(context)) {
+			if (context.equals(fCurrentRecordDmc)) {
 				tdumpRm.done();
 			} else {
 				selectTraceRecord(context, tdumpRm);
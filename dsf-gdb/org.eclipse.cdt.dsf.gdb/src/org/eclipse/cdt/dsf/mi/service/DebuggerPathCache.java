@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Debugger paths of the source files of breakpoints, per source lookup
+ * context, indexed by host path, backing {@link MIBreakpointsManager}.
+ * <p>
+ * The cache is cleared when the source lookup changes. A lookup started before
+ * the cache was cleared may complete after it, so the paths are stored with
+ * the generation of the cache read when the lookup started, and are dropped if
+ * the cache was cleared since.
+ * <p>
+ * This class is not thread safe, it is meant to be used on the session executor.
+ *
+ * @param <C> the type of the source lookup contexts
+ */
+class DebuggerPathCache<C> {
+
+	private final Map<C, Map<String, String>> fPaths = new HashMap<>();
+
+	// Incremented when the cache is cleared
+	private int fGeneration;
+
+	/**
+	 * @return the debugger path of the given host path, or <code>null</code>
+	 *         if it is not cached
+	 */
+	public String get(C context, String hostPath) {
+		Map<String, String> paths = fPaths.get(context);
+		return paths != null ? paths.get(hostPath) : null;
+	}
+
+	/**
+	 * @return the current generation of the cache, to be given to
+	 *         {@link #put(Object, String, String, int)} once the lookup is done
+	 */
+	public int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Stores the debugger path of the given host path, unless the cache was
+	 * cleared since the given generation.
+	 */
+	public void put(C context, String hostPath, String debuggerPath, int generation) {
+		if (generation == fGeneration) {
+			fPaths.computeIfAbsent(context, c -> new HashMap<>()).put(hostPath, debuggerPath);
+		}
+	}
+
+	/**
+	 * Drops all the paths, and the ones of the lookups in progress.
+	 */
+	public void clear() {
+		fPaths.clear();
+		fGeneration++;
+	}
+}
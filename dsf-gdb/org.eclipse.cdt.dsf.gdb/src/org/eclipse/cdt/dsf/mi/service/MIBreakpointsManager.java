@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,6 +67,7 @@ import org.eclipse.cdt.dsf.debug.service.IBreakpoints;
 import org.eclipse.cdt.dsf.debug.service.IBreakpoints.IBreakpointDMContext;
 import org.eclipse.cdt.dsf.debug.service.IBreakpoints.IBreakpointDMData;
 import org.eclipse.cdt.dsf.debug.service.IBreakpoints.IBreakpointsTargetDMContext;
+import org.eclipse.cdt.dsf.debug.service.ICachingService;
 import org.eclipse.cdt.dsf.debug.service.IDsfBreakpointExtension;
 import org.eclipse.cdt.dsf.debug.service.IProcesses;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
@@ -78,6 +80,7 @@ import org.eclipse.cdt.dsf.debug.service.ISourceLookup.ISourceLookupDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlShutdownDMEvent;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.service.IDebugSourceFiles.IDebugSourceFilesChangedEvent;
 import org.eclipse.cdt.dsf.mi.service.MIBreakpoints.BreakpointAddedEvent;
 import org.eclipse.cdt.dsf.mi.service.MIBreakpoints.BreakpointRemovedEvent;
 import org.eclipse.cdt.dsf.mi.service.MIBreakpoints.BreakpointUpdatedEvent;
@@ -120,7 +123,7 @@ import org.osgi.framework.BundleContext;
  * It relies on MIBreakpoints for the actual back-end interface.
  */
 public class MIBreakpointsManager extends AbstractDsfService
-		implements IBreakpointManagerListener, IBreakpointListener {
+		implements IBreakpointManagerListener, IBreakpointListener, ICachingService {
 	/**
 	 * A listener is notified by {@link MIBreakpointsManager} when
 	 * the breakpoints tracking starts or stops.
@@ -141,6 +144,10 @@ public class MIBreakpointsManager extends AbstractDsfService
 	private static final String ATTR_THREAD_FILTER = GdbPlugin.PLUGIN_ID + ".threadFilter"; //$NON-NLS-1$
 	private static final String ATTR_THREAD_ID = GdbPlugin.PLUGIN_ID + ".threadID"; //$NON-NLS-1$
 
+	// Maximum number of breakpoints being installed at the same time when
+	// the tracking of a context starts
+	private static final int MAX_CONCURRENT_INSTALLS = 32;
+
 	// Services
 	private ICommandControlService fConnection;
 	private ISourceLookup fSourceLookup;
@@ -184,6 +191,20 @@ public class MIBreakpointsManager extends AbstractDsfService
 	// - A thread filter is applied/removed
 	private Map<IBreakpointsTargetDMContext, Map<IBreakpointDMContext, ICBreakpoint>> fBPToPlatformMaps = new HashMap<>();
 
+	// Holds the debugger paths of the source files of breakpoints, per source
+	// lookup context, indexed by host path. Many breakpoints are usually set in
+	// the same files, so each path is looked up once and reused for the other
+	// breakpoints and for the processes started later in the session.
+	// Updated when:
+	// - The debugger path of a host path is determined
+	// - The source lookup or its source containers change (cleared)
+	// - The cache is flushed (cleared)
+	private final DebuggerPathCache<ISourceLookupDMContext> fDebuggerPaths = new DebuggerPathCache<>();
+
+	// Holds the monitors waiting for the debugger path of a host path which is
+	// being looked up, so that concurrent requests share the lookup.
+	private final Map<ISourceLookupDMContext, Map<String, List<DataRequestMonitor<String>>>> fPendingDebuggerPaths = new HashMap<>();
+
 	/**
 	 * Returns the structure that maps each breakpoint target to a map of back-end breakpoints
 	 * and their corresponding platform breakpoint.
@@ -346,6 +367,7 @@ public class MIBreakpointsManager extends AbstractDsfService
 		fBreakpointManager.removeBreakpointListener(this);
 		fBreakpointManager.removeBreakpointManagerListener(this);
 		fTrackingListeners.clear();
+		fDebuggerPaths.clear();
 
 		// Cleanup the breakpoints that are still installed by the service.
 		// Use a counting monitor which will call mom to complete the shutdown
@@ -514,20 +536,44 @@ public class MIBreakpointsManager extends AbstractDsfService
 		final CountingRequestMonitor countingRm = new CountingRequestMonitor(getExecutor(), rm);
 		countingRm.setDoneCount(platformBPs.size());
 
-		for (final ICBreakpoint breakpoint : platformBPs.keySet()) {
-			final Map<String, Object> attributes = platformBPs.get(breakpoint);
-			// Upon determining the debuggerPath, the breakpoint is installed
-			determineDebuggerPath(dmc, attributes, new RequestMonitor(getExecutor(), countingRm) {
-				@Override
-				protected void handleSuccess() {
-					// Must install breakpoints right away, even if disabled, so that
-					// we can find out if they apply to this target (Bug 389070)
-					installBreakpoint(dmc, breakpoint, attributes, countingRm);
-				}
-			});
+		// Keep a bounded number of installations in progress, each one that
+		// completes starts the next, so that large sets of breakpoints don't
+		// flood the command queue of the debugger all at once
+		final Iterator<ICBreakpoint> pending = new ArrayList<>(platformBPs.keySet()).iterator();
+		for (int i = 0; i < MAX_CONCURRENT_INSTALLS && pending.hasNext(); i++) {
+			installNextInitialBreakpoint(dmc, platformBPs, pending, countingRm);
 		}
 	}
 
+	/**
+	 * Installs the next breakpoint of the given initial breakpoints and, once
+	 * it is installed (successfully or not), the following one.
+	 */
+	private void installNextInitialBreakpoint(final IBreakpointsTargetDMContext dmc,
+			final Map<ICBreakpoint, Map<String, Object>> platformBPs, final Iterator<ICBreakpoint> pending,
+			final CountingRequestMonitor countingRm) {
+		final ICBreakpoint breakpoint = pending.next();
+		final Map<String, Object> attributes = platformBPs.get(breakpoint);
+		final RequestMonitor installRm = new RequestMonitor(getExecutor(), countingRm) {
+			@Override
+			protected void handleCompleted() {
+				if (pending.hasNext()) {
+					installNextInitialBreakpoint(dmc, platformBPs, pending, countingRm);
+				}
+				super.handleCompleted();
+			}
+		};
+		// Upon determining the debuggerPath, the breakpoint is installed
+		determineDebuggerPath(dmc, attributes, new RequestMonitor(getExecutor(), installRm) {
+			@Override
+			protected void handleSuccess() {
+				// Must install breakpoints right away, even if disabled, so that
+				// we can find out if they apply to this target (Bug 389070)
+				installBreakpoint(dmc, breakpoint, attributes, installRm);
+			}
+		});
+	}
+
 	//-------------------------------------------------------------------------
 	// stopTrackingBreakpoints
 	//-------------------------------------------------------------------------
@@ -1563,6 +1609,28 @@ public class MIBreakpointsManager extends AbstractDsfService
 	public void eventDispatched(MIWatchpointScopeEvent e) {
 	}
 
+	/**
+	 * The source lookup changed, the debugger paths of the source files must
+	 * be looked up again.
+	 *
+	 * @since 6.6
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IDebugSourceFilesChangedEvent e) {
+		fDebuggerPaths.clear();
+	}
+
+	/**
+	 * Clears the debugger paths of the source files, e.g. when the source
+	 * containers of the source lookup director change.
+	 *
+	 * @since 6.6
+	 */
+	@Override
+	public void flushCache(IDMContext context) {
+		fDebuggerPaths.clear();
+	}
+
 	//-------------------------------------------------------------------------
 	// Breakpoint actions
 	//-------------------------------------------------------------------------
@@ -1862,10 +1930,10 @@ public class MIBreakpointsManager extends AbstractDsfService
 
 			ISourceLookupDMContext srcDmc = DMContexts.getAncestorOfType(dmc, ISourceLookupDMContext.class);
 			if (srcDmc != null) {
-				fSourceLookup.getDebuggerPath(srcDmc, hostPath, new DataRequestMonitor<String>(getExecutor(), rm) {
+				getDebuggerPath(srcDmc, hostPath, new DataRequestMonitor<String>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
-						attributes.put(ATTR_DEBUGGER_PATH, adjustDebuggerPath(getData()));
+						attributes.put(ATTR_DEBUGGER_PATH, getData());
 						rm.done();
 					}
 				});
@@ -1882,6 +1950,59 @@ public class MIBreakpointsManager extends AbstractDsfService
 		}
 	}
 
+	/**
+	 * Returns the adjusted debugger path of the given host path, from the
+	 * paths already determined in the session if possible. Concurrent requests
+	 * for the same host path share a single source lookup.
+	 *
+	 * @param srcDmc
+	 * @param hostPath
+	 * @param rm
+	 */
+	private void getDebuggerPath(final ISourceLookupDMContext srcDmc, final String hostPath,
+			final DataRequestMonitor<String> rm) {
+		String debuggerPath = fDebuggerPaths.get(srcDmc, hostPath);
+		if (debuggerPath != null) {
+			rm.done(debuggerPath);
+			return;
+		}
+
+		final Map<String, List<DataRequestMonitor<String>>> pending = fPendingDebuggerPaths.computeIfAbsent(srcDmc,
+				c -> new HashMap<>());
+		List<DataRequestMonitor<String>> waiting = pending.get(hostPath);
+		if (waiting != null) {
+			// Already being looked up
+			waiting.add(rm);
+			return;
+		}
+		waiting = new ArrayList<>();
+		waiting.add(rm);
+		pending.put(hostPath, waiting);
+
+		final int generation = fDebuggerPaths.getGeneration();
+		fSourceLookup.getDebuggerPath(srcDmc, hostPath, new DataRequestMonitor<String>(getExecutor(), null) {
+			@Override
+			protected void handleCompleted() {
+				List<DataRequestMonitor<String>> monitors = pending.remove(hostPath);
+				if (pending.isEmpty()) {
+					fPendingDebuggerPaths.remove(srcDmc);
+				}
+				String path = null;
+				if (isSuccess()) {
+					path = adjustDebuggerPath(getData());
+					fDebuggerPaths.put(srcDmc, hostPath, path, generation);
+				}
+				for (DataRequestMonitor<String> monitor : monitors) {
+					if (isSuccess()) {
+						monitor.done(path);
+					} else {
+						monitor.done(getStatus());
+					}
+				}
+			}
+		});
+	}
+
 	/**
 	 * For some platforms (MinGW) the debugger path needs to be adjusted to work
 	 * with earlier GDB versions.
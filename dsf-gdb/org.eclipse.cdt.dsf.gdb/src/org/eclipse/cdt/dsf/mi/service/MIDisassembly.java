@@ -20,26 +20,57 @@ import java.util.Hashtable;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.debug.service.IDisassembly;
 import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IMemory;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
 import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.internal.service.DisassemblyDiskCache;
+import org.eclipse.cdt.dsf.gdb.service.IDebugSourceFiles.IDebugSourceFilesChangedEvent;
+import org.eclipse.cdt.dsf.gdb.service.IGDBBackend;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.ISourceLocator;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
 import org.osgi.framework.BundleContext;
 
 public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 
+	// Largest address range whose disassembly is kept in the disk cache, in octets
+	private static final int DISK_CACHE_RANGE_LIMIT = 64 * 1024;
+	// Longest instruction that can start before the end of a range, in octets
+	private static final int MAX_INSTRUCTION_SIZE = 16;
+
 	// Services
 	ICommandControl fConnection;
 	private CommandFactory fCommandFactory;
 
+	// Disassembly kept across sessions, null if disabled
+	private DisassemblyDiskCache fDiskCache;
+
+	// State of the source lookup the file names of mixed mode results depend on, null until computed
+	private String fSourceLookupState;
+
 	///////////////////////////////////////////////////////////////////////////
 	// AbstractDsfService
 	///////////////////////////////////////////////////////////////////////////
@@ -70,6 +101,17 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 		fConnection = getServicesTracker().getService(ICommandControl.class);
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
+		if (Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_DISASSEMBLY_DISK_CACHE,
+				IGdbDebugPreferenceConstants.DISASSEMBLY_DISK_CACHE_DEFAULT, null)) {
+			IGDBBackend backend = getServicesTracker().getService(IGDBBackend.class);
+			IPath program = backend != null ? backend.getProgramPath() : null;
+			if (program != null && program.toFile().isFile()) {
+				fDiskCache = new DisassemblyDiskCache(program.toFile());
+				getSession().addServiceEventListener(this, null);
+			}
+		}
+
 		register(new String[] { IDisassembly.class.getName(), MIDisassembly.class.getName() },
 				new Hashtable<String, String>());
 		rm.done();
@@ -80,6 +122,9 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 	 */
 	@Override
 	public void shutdown(RequestMonitor rm) {
+		if (fDiskCache != null) {
+			getSession().removeServiceEventListener(this);
+		}
 		unregister();
 		super.shutdown(rm);
 	}
@@ -122,9 +167,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
-		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
-		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
+		disassemble(context, startAddress, endAddress, mode,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -198,9 +241,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
-		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
-		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
+		disassemble(context, startAddress, endAddress, mode,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -247,4 +288,114 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 					}
 				});
 	}
+
+	/**
+	 * Disassembles the given address range, using the disk cache when the code
+	 * currently in memory is the same as when the range was cached.
+	 */
+	private void disassemble(IDisassemblyDMContext context, final BigInteger startAddress,
+			final BigInteger endAddress, final int mode, final DataRequestMonitor<MIDataDisassembleInfo> drm) {
+		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
+		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
+		final ICommand<MIDataDisassembleInfo> command = fCommandFactory.createMIDataDisassemble(context, start, end,
+				mode);
+
+		IMemoryDMContext memoryDmc = DMContexts.getAncestorOfType(context, IMemoryDMContext.class);
+		IMemory memory = getServicesTracker().getService(IMemory.class);
+		// The file names of the source lines of the mixed modes are looked up by GDB
+		final boolean mixed = mode != MIDataDisassemble.DATA_DISASSEMBLE_MODE_DISASSEMBLY
+				&& mode != MIDataDisassemble.DATA_DISASSEMBLE_MODE_DISASSEMBLY_OPCODES;
+		final String sourceState = mixed ? getSourceLookupState() : null;
+		if (fDiskCache == null || !fDiskCache.isReady() || startAddress == null || endAddress == null
+				|| memoryDmc == null || memory == null || endAddress.compareTo(startAddress) <= 0
+				|| endAddress.subtract(startAddress).compareTo(BigInteger.valueOf(DISK_CACHE_RANGE_LIMIT)) > 0
+				|| (mixed && sourceState == null)) {
+			fConnection.queueCommand(command, drm);
+			return;
+		}
+
+		final int length = endAddress.subtract(startAddress).intValue();
+		memory.getMemory(memoryDmc, new Addr64(startAddress), 0, 1, length + MAX_INSTRUCTION_SIZE,
+				new DataRequestMonitor<MemoryByte[]>(getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						final byte[] code = isSuccess() ? getReadableCode(getData(), length) : null;
+						if (code == null) {
+							fConnection.queueCommand(command, drm);
+							return;
+						}
+
+						MIResultRecord record = fDiskCache.get(mode, sourceState, startAddress, endAddress, code);
+						if (record != null) {
+							MIOutput output = new MIOutput(record, new MIOOBRecord[0]);
+							drm.setData(new MIDataDisassembleInfo(output));
+							drm.done();
+							return;
+						}
+
+						fConnection.queueCommand(command,
+								new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
+									@Override
+									protected void handleSuccess() {
+										fDiskCache.put(mode, sourceState, startAddress, endAddress, code,
+												getData().getMIOutput().getMIResultRecord());
+										drm.setData(getData());
+										drm.done();
+									}
+								});
+					}
+				});
+	}
+
+	/**
+	 * Returns the memento of the source lookup director of the launch, which
+	 * holds the path mappings and directories the source files are looked up
+	 * with, or <code>null</code> if it is not known.
+	 */
+	private String getSourceLookupState() {
+		if (fSourceLookupState == null) {
+			ILaunch launch = (ILaunch) getSession().getModelAdapter(ILaunch.class);
+			ISourceLocator locator = launch != null ? launch.getSourceLocator() : null;
+			if (locator instanceof ISourceLookupDirector) {
+				try {
+					fSourceLookupState = ((ISourceLookupDirector) locator).getMemento();
+				} catch (CoreException e) {
+					// Mixed mode results are not cached
+				}
+			}
+		}
+		return fSourceLookupState;
+	}
+
+	/**
+	 * The source lookup changed, the entries of the disk cache for the
+	 * previous state must no longer be used.
+	 *
+	 * @nooverride This method is not intended to be re-implemented or extended by clients.
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 6.6
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IDebugSourceFilesChangedEvent e) {
+		fSourceLookupState = null;
+	}
+
+	/**
+	 * Returns the readable prefix of the given memory, or <code>null</code> if
+	 * it is shorter than the given length.
+	 */
+	private static byte[] getReadableCode(MemoryByte[] bytes, int length) {
+		int readable = 0;
+		while (readable < bytes.length && bytes[readable].isReadable()) {
+			readable++;
+		}
+		if (readable < length) {
+			return null;
+		}
+		byte[] code = new byte[readable];
+		for (int i = 0; i < readable; i++) {
+			code[i] = bytes[i].getValue();
+		}
+		return code;
+	}
 }
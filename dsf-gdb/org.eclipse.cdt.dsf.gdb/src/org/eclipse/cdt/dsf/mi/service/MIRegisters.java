@@ -19,10 +19,14 @@
 package org.eclipse.cdt.dsf.mi.service;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
@@ -38,14 +42,16 @@ import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRegisters;
 import org.eclipse.cdt.dsf.debug.service.IRunControl;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
-import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.IStack;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.RegisterValueTable.FrameValues;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListChangedRegistersInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
@@ -254,7 +260,49 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	private final Map<IContainerDMContext, MIRegisterGroupDMC> fContainerToGroupMap = new HashMap<>();
 
 	private CommandCache fRegisterNameCache; // Cache for holding the Register Names in the single Group
-	private CommandCache fRegisterValueCache; // Cache for holding the Register Values
+	private final RegisterValueTable<IFrameDMContext> fRegisterValues = new RegisterValueTable<>(); // Cache for holding the Register Values
+
+	/** A request for the value of one register */
+	private static class ValueRequest {
+		final int fRegNo;
+		final DataRequestMonitor<String> fRm;
+
+		ValueRequest(int regNo, DataRequestMonitor<String> rm) {
+			fRegNo = regNo;
+			fRm = rm;
+		}
+	}
+
+	/** A -data-list-register-values command being prepared or waiting for its result */
+	private static class ValueFetch {
+		final IFrameDMContext fFrameDmc;
+		final int fFormat;
+		final int fGeneration;
+		final BitSet fRegNos = new BitSet();
+		final List<ValueRequest> fRequests = new ArrayList<>();
+		boolean fSent = false;
+
+		ValueFetch(IFrameDMContext frameDmc, int format, int generation) {
+			fFrameDmc = frameDmc;
+			fFormat = format;
+			fGeneration = generation;
+		}
+	}
+
+	private ICommandControl fValueCommandControl;
+	private final Set<IDMContext> fAvailableContexts = new HashSet<>();
+	private final List<ValueFetch> fValueFetches = new ArrayList<>();
+	private final Map<MIRegisterGroupDMC, int[]> fGroupRegisterNumbers = new HashMap<>();
+
+	// Incremented whenever register values may have changed. Values fetched
+	// before that are returned to the requests but not cached.
+	private int fValueGeneration = 0;
+
+	// Top frame whose registers GDB compared the last time -data-list-changed-registers
+	// was sent. The values of this frame survive the thread running, minus the
+	// registers reported as changed once it stops again.
+	private IFrameDMContext fDeltaFrameDmc;
+	private boolean fDeltaSupported = true;
 
 	public MIRegisters(DsfSession session) {
 		super(session);
@@ -284,7 +332,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
-		// This cache stores the result of a command when received; also, this cache
+		// The register values are cached when a command result is received; also, this cache
 		// is manipulated when receiving events.  Currently, events are received after
 		// three scheduling of the executor, while command results after only one.  This
 		// can cause problems because command results might be processed before an event
@@ -292,8 +340,8 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 		// To solve this, we use a bufferedCommandControl that will delay the command
 		// result by two scheduling of the executor.
 		// See bug 280461
-		fRegisterValueCache = new CommandCache(getSession(), bufferedCommandControl);
-		fRegisterValueCache.setContextAvailable(commandControl.getContext(), true);
+		fValueCommandControl = bufferedCommandControl;
+		fAvailableContexts.add(commandControl.getContext());
 
 		// This cache is not affected by events so does not need the bufferedCommandControl
 		fRegisterNameCache = new CommandCache(getSession(), commandControl);
@@ -382,36 +430,30 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				return;
 			}
 
-			int[] regnos = { miRegDmc.getRegNo() };
-			fRegisterValueCache.execute(
-					fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, regnos),
-					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+			getRegisterValue(miRegDmc, frameDmc, MIFormat.HEXADECIMAL,
+					new DataRequestMonitor<String>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
 							// Retrieve the register value.
-							MIRegisterValue[] regValue = getData().getMIRegisterValues();
+							String regValue = getData();
 
-							// If the list is empty just return empty handed.
+							// If GDB didn't return the value just return empty handed.
 							// The only known case this happens is caused by a bug in GDB's Python
 							// scripts. See https://sourceware.org/bugzilla/show_bug.cgi?id=19637
 							// In this case, we know the register name anyway, we just guess that
 							// it is not floating point. The matching code in getRegisterDataValue()
 							// displays the error with link to a workaround
-							if (regValue.length == 0) {
+							if (regValue == null) {
 								rm.setData(new RegisterData(frameDmc, miRegDmc.getName(), BLANK_STRING, false));
 								rm.done();
 								return;
 							}
 
-							// the request was for only one register
-							assert regValue.length == 1;
-
 							// We can determine if the register is floating point because
 							// GDB returns this additional information as part of the value.
-							MIRegisterValue reg = regValue[0];
 							boolean isFloat = false;
 
-							if (reg.getValue().contains("float")) { //$NON-NLS-1$
+							if (regValue.contains("float")) { //$NON-NLS-1$
 								isFloat = true;
 							}
 
@@ -455,20 +497,19 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 			NumberFormat = MIFormat.DECIMAL;
 		}
 
-		int[] regnos = { regDmc.getRegNo() };
-		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, NumberFormat, regnos),
-				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+		getRegisterValue(regDmc, frameDmc, NumberFormat,
+				new DataRequestMonitor<String>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						// Retrieve the register value.
-						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						String regValue = getData();
 
-						// If the list is empty just return empty handed.
+						// If GDB didn't return the value just return empty handed.
 						// The only known case this happens is caused by a bug in GDB's Python
 						// scripts. See https://sourceware.org/bugzilla/show_bug.cgi?id=19637
 						// In the display data, we show link to Eclipse Bugzilla entry which has
 						// a comment on how to fix this manually.
-						if (regValue.length == 0) {
+						if (regValue == null) {
 							rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID,
 									IDsfStatusConstants.REQUEST_FAILED,
 									"Encountered a GDB Error See http://eclip.se/506382#c7 for workarounds", null)); //$NON-NLS-1$
@@ -476,15 +517,205 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 							return;
 						}
 
-						MIRegisterValue reg = regValue[0];
-
 						// Return the new register value.
-						rm.setData(new FormattedValueDMData(reg.getValue()));
+						rm.setData(new FormattedValueDMData(regValue));
 						rm.done();
 					}
 				});
 	}
 
+	/**
+	 * Returns the value of the given register in the given format, or
+	 * <code>null</code> if GDB didn't provide it.
+	 * <p>
+	 * Values not in the cache are fetched along with the values of the other
+	 * registers of the same group that are missing, since a view showing the
+	 * register is likely to show the rest of its group. The requests made
+	 * during the same dispatch cycle for a frame and a format are sent as one
+	 * command.
+	 */
+	private void getRegisterValue(MIRegisterDMC regDmc, IFrameDMContext frameDmc, int format,
+			DataRequestMonitor<String> rm) {
+		if (!isAvailable(frameDmc)) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, IDsfStatusConstants.INVALID_STATE,
+					"Target not available.", null)); //$NON-NLS-1$
+			return;
+		}
+
+		int regNo = regDmc.getRegNo();
+		String value = fRegisterValues.get(frameDmc, format, regNo);
+		if (value != null) {
+			rm.done(value);
+			return;
+		}
+
+		ValueFetch pendingFetch = null;
+		for (ValueFetch fetch : fValueFetches) {
+			if (fetch.fFrameDmc.equals(frameDmc) && fetch.fFormat == format) {
+				if (fetch.fRegNos.get(regNo)) {
+					fetch.fRequests.add(new ValueRequest(regNo, rm));
+					return;
+				}
+				if (!fetch.fSent) {
+					pendingFetch = fetch;
+				}
+			}
+		}
+
+		if (pendingFetch == null) {
+			final ValueFetch fetch = new ValueFetch(frameDmc, format, fValueGeneration);
+			fValueFetches.add(fetch);
+			getExecutor().execute(() -> sendValueFetch(fetch));
+			pendingFetch = fetch;
+		}
+		pendingFetch.fRegNos.set(regNo);
+		pendingFetch.fRequests.add(new ValueRequest(regNo, rm));
+
+		MIRegisterGroupDMC groupDmc = DMContexts.getAncestorOfType(regDmc, MIRegisterGroupDMC.class);
+		int[] groupRegNos = groupDmc != null ? getGroupRegisterNumbers(groupDmc) : null;
+		if (groupRegNos != null) {
+			for (int groupRegNo : fRegisterValues.getMissing(frameDmc, format, groupRegNos)) {
+				pendingFetch.fRegNos.set(groupRegNo);
+			}
+		}
+	}
+
+	private void sendValueFetch(final ValueFetch fetch) {
+		fetch.fSent = true;
+
+		// Have GDB take the reference for the next -data-list-changed-registers,
+		// so that these values can be refreshed incrementally after the next stop.
+		if (fDeltaSupported && fetch.fFrameDmc.getLevel() == 0 && !fetch.fFrameDmc.equals(fDeltaFrameDmc)
+				&& fetch.fGeneration == fValueGeneration) {
+			fDeltaFrameDmc = fetch.fFrameDmc;
+			fValueCommandControl.queueCommand(fCommandFactory.createMIDataListChangedRegisters(fetch.fFrameDmc),
+					new DataRequestMonitor<MIDataListChangedRegistersInfo>(getExecutor(), null) {
+						@Override
+						protected void handleFailure() {
+							fDeltaSupported = false;
+							fDeltaFrameDmc = null;
+						}
+					});
+		}
+
+		final int[] regNos = fetch.fRegNos.stream().toArray();
+		fValueCommandControl.queueCommand(
+				fCommandFactory.createMIDataListRegisterValues(fetch.fFrameDmc, fetch.fFormat, regNos),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						fValueFetches.remove(fetch);
+						if (!isSuccess()) {
+							if (regNos.length > 1) {
+								// A register of the group may be the one GDB fails on, fetch
+								// the requested registers one by one to isolate it.
+								for (ValueRequest request : fetch.fRequests) {
+									fetchSingleValue(fetch, request);
+								}
+							} else {
+								for (ValueRequest request : fetch.fRequests) {
+									request.fRm.done(getStatus());
+								}
+							}
+							return;
+						}
+
+						Map<Integer, String> values = new HashMap<>();
+						for (MIRegisterValue regValue : getData().getMIRegisterValues()) {
+							values.put(regValue.getNumber(), regValue.getValue());
+							if (fetch.fGeneration == fValueGeneration) {
+								fRegisterValues.put(fetch.fFrameDmc, fetch.fFormat, regValue.getNumber(),
+										regValue.getValue());
+							}
+						}
+						for (ValueRequest request : fetch.fRequests) {
+							request.fRm.done(values.get(request.fRegNo));
+						}
+					}
+				});
+	}
+
+	private void fetchSingleValue(final ValueFetch fetch, final ValueRequest request) {
+		fValueCommandControl.queueCommand(
+				fCommandFactory.createMIDataListRegisterValues(fetch.fFrameDmc, fetch.fFormat,
+						new int[] { request.fRegNo }),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), request.fRm) {
+					@Override
+					protected void handleSuccess() {
+						MIRegisterValue[] regValues = getData().getMIRegisterValues();
+						String value = regValues.length > 0 ? regValues[0].getValue() : null;
+						if (value != null && fetch.fGeneration == fValueGeneration) {
+							fRegisterValues.put(fetch.fFrameDmc, fetch.fFormat, request.fRegNo, value);
+						}
+						request.fRm.done(value);
+					}
+				});
+	}
+
+	/**
+	 * Returns the numbers of the registers of the given group, whose values are
+	 * fetched together, or <code>null</code> if they are not known.
+	 *
+	 * @since 6.6
+	 */
+	protected int[] getGroupRegisterNumbers(MIRegisterGroupDMC groupDmc) {
+		return fGroupRegisterNumbers.get(groupDmc);
+	}
+
+	/**
+	 * Returns the numbers of the given registers.
+	 *
+	 * @since 6.6
+	 */
+	protected static int[] getRegisterNumbers(MIRegisterDMC[] registers) {
+		int[] regNos = new int[registers.length];
+		for (int i = 0; i < registers.length; i++) {
+			regNos[i] = registers[i].getRegNo();
+		}
+		return regNos;
+	}
+
+	private void setContextAvailable(IDMContext context, boolean isAvailable) {
+		if (isAvailable) {
+			fAvailableContexts.add(context);
+		} else {
+			fAvailableContexts.remove(context);
+			for (Iterator<IDMContext> itr = fAvailableContexts.iterator(); itr.hasNext();) {
+				if (DMContexts.isAncestorOf(itr.next(), context)) {
+					itr.remove();
+				}
+			}
+		}
+	}
+
+	private boolean isAvailable(IDMContext context) {
+		for (IDMContext availableContext : fAvailableContexts) {
+			if (context.equals(availableContext) || DMContexts.isAncestorOf(context, availableContext)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the cached values of the given context, and of all contexts if it
+	 * is <code>null</code>, except for the values of the frame used as reference
+	 * by -data-list-changed-registers, which are returned.
+	 */
+	private FrameValues resetRegisterValues(IDMContext context) {
+		fValueGeneration++;
+		FrameValues deltaValues = null;
+		if (fDeltaFrameDmc != null && (context == null || DMContexts.isAncestorOf(fDeltaFrameDmc, context))) {
+			deltaValues = fRegisterValues.removeFrame(fDeltaFrameDmc);
+		}
+		if (context == null) {
+			fRegisterValues.clear();
+		} else {
+			fRegisterValues.removeFrames(frameDmc -> DMContexts.isAncestorOf(frameDmc, context));
+		}
+		return deltaValues;
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -585,9 +816,11 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.IResumedDMEvent e) {
-		fRegisterValueCache.setContextAvailable(e.getDMContext(), false);
-		if (e.getReason() != StateChangeReason.STEP) {
-			fRegisterValueCache.reset();
+		setContextAvailable(e.getDMContext(), false);
+		FrameValues deltaValues = resetRegisterValues(e.getDMContext());
+		if (deltaValues != null) {
+			// Keep the values of the reference frame until the next stop tells which changed
+			fRegisterValues.restoreFrame(fDeltaFrameDmc, deltaValues, new int[0]);
 		}
 	}
 
@@ -597,8 +830,28 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.ISuspendedDMEvent e) {
-		fRegisterValueCache.setContextAvailable(e.getDMContext(), true);
-		fRegisterValueCache.reset();
+		setContextAvailable(e.getDMContext(), true);
+		final FrameValues deltaValues = resetRegisterValues(e.getDMContext());
+		if (deltaValues == null) {
+			return;
+		}
+
+		// Only the registers GDB reports as changed need to be fetched again
+		final IFrameDMContext deltaFrameDmc = fDeltaFrameDmc;
+		final int generation = fValueGeneration;
+		fValueCommandControl.queueCommand(fCommandFactory.createMIDataListChangedRegisters(deltaFrameDmc),
+				new DataRequestMonitor<MIDataListChangedRegistersInfo>(getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						if (!isSuccess()) {
+							fDeltaFrameDmc = null;
+							return;
+						}
+						if (generation == fValueGeneration && deltaFrameDmc.equals(fDeltaFrameDmc)) {
+							fRegisterValues.restoreFrame(deltaFrameDmc, deltaValues, getData().getRegisterNumbers());
+						}
+					}
+				});
 	}
 
 	/**
@@ -607,7 +860,8 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(final IRegisters.IRegisterChangedDMEvent e) {
-		fRegisterValueCache.reset();
+		resetRegisterValues(null);
+		fDeltaFrameDmc = null;
 	}
 
 	/**
@@ -738,14 +992,17 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 							return;
 						}
 
+						MIRegisterDMC[] registers;
 						if (frameDmc == null)
 							// The selection does not provide a frame or thread context,
 							// This can happen e.g. if a container /process is selected
 							// Lets provide the list of register names applicable to the selected process
 							// i.e. instances with only name information which can not resolve a value
-							rm.setData(makeRegisterDMCs(groupDmc, regNames));
+							registers = makeRegisterDMCs(groupDmc, regNames);
 						else
-							rm.setData(makeRegisterDMCs(groupDmc, frameDmc, regNames));
+							registers = makeRegisterDMCs(groupDmc, frameDmc, regNames);
+						fGroupRegisterNumbers.put(groupDmc, getRegisterNumbers(registers));
+						rm.setData(registers);
 						rm.done();
 					}
 				});
@@ -869,6 +1126,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@Override
 	public void flushCache(IDMContext context) {
 		fRegisterNameCache.reset(context);
-		fRegisterValueCache.reset(context);
+		resetRegisterValues(context);
+		fDeltaFrameDmc = null;
 	}
 }
@@ -19,15 +19,21 @@ package org.eclipse.cdt.dsf.mi.service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ICache;
+import org.eclipse.cdt.dsf.concurrent.ImmediateInDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.RangeCache;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
@@ -46,7 +52,10 @@ import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.service.IGDBBackend;
+import org.eclipse.cdt.dsf.gdb.service.SessionType;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.events.IMIDMEvent;
@@ -58,6 +67,8 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIStackInfoDepthInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListArgumentsInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListFramesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListLocalsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIThread;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadInfoInfo;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
@@ -70,6 +81,11 @@ import org.osgi.framework.BundleContext;
 public class MIStack extends AbstractDsfService implements IStack, ICachingService {
 	private static final int DEFAULT_STACK_DEPTH = 5;
 
+	/**
+	 * Number of stack frames retrieved from GDB at once.
+	 */
+	private static final int FRAME_BLOCK_SIZE = 64;
+
 	protected static class MIFrameDMC extends AbstractDMContext implements IFrameDMContext {
 		private final int fLevel;
 
@@ -196,6 +212,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		// The actual depth we received
 		private int stackDepth = -1;
 		private final List<FrameData> frames = new ArrayList<>();
+		// Frames retrieved by blocks of levels, created on first use
+		private FrameRangeCache rangeCache;
 
 		/**
 		 * Return currently cached stack depth if cache value if valid, otherwise return -1.
@@ -244,9 +262,20 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			return stackDepth;
 		}
 
+		/**
+		 * Return true if the cached stack depth is the actual depth of the stack,
+		 * rather than a lower bound.
+		 */
+		public boolean isStackDepthExact() {
+			return !limited && stackDepth > 0;
+		}
+
 		public void updateFrameData(FrameData frame) {
+			updateFrameData(frame.getMIFrame().getLevel(), frame);
+		}
+
+		public void updateFrameData(int level, FrameData frame) {
 			try {
-				int level = frame.getMIFrame().getLevel();
 				if (stackDepth < level + 1) {
 					stackDepth = level + 1;
 				}
@@ -334,9 +363,31 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	private FramesCache fFramesCache = new FramesCache();
 
+	/**
+	 * The frames of the previous stop of the threads that were stepped since
+	 * then, so that the outer frames of deep stacks can be reused.
+	 */
+	private FramesCache fPreviousFramesCache;
+
+	/**
+	 * Whether all the resume events since the last suspend were steps.
+	 */
+	private boolean fSteppedSinceSuspend;
+
+	/**
+	 * The threads that were stepped since the last suspend. In all-stop mode the
+	 * other threads also ran during the step, so their frames cannot be reused.
+	 */
+	private final Set<String> fSteppedThreadIds = new HashSet<>();
+
 	private MIStoppedEvent fCachedStoppedEvent;
 	private IRunControl fRunControl;
 
+	/**
+	 * Whether the session is a post-mortem session, whose threads never run.
+	 */
+	private boolean fIsCoreSession;
+
 	/**
 	 * Indicates that we are currently visualizing trace data.
 	 * In this case, some errors should not be reported.
@@ -421,6 +472,19 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 	}
 
+	private class FrameDataFromMIFrame extends FrameData {
+		private final MIFrame fFrame;
+
+		FrameDataFromMIFrame(MIFrame frame) {
+			fFrame = frame;
+		}
+
+		@Override
+		protected MIFrame getMIFrame() {
+			return fFrame;
+		}
+	}
+
 	private class FrameDataFromMIStackFrameListInfo extends FrameData {
 		private MIStackListFramesInfo fFrameDataCacheInfo;
 		private int fFrameIndex;
@@ -436,6 +500,168 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 	}
 
+	/**
+	 * Frame of the previous stop that is known to be unchanged, possibly at a different level.
+	 */
+	private class FrameDataFromPreviousStop extends FrameData {
+		private final FrameData fFrame;
+
+		FrameDataFromPreviousStop(FrameData frame) {
+			fFrame = frame;
+		}
+
+		@Override
+		protected MIFrame getMIFrame() {
+			return fFrame.getMIFrame();
+		}
+	}
+
+	/**
+	 * Retrieves the frames of a thread by blocks of {@link #FRAME_BLOCK_SIZE}
+	 * levels, rather than the whole stack at once.
+	 * <p>
+	 * After a step, the frames of the block below the top one are taken from the
+	 * previous stop when the stack is known to be unchanged there: the levels are
+	 * shifted by the difference of the stack depths, and the deepest frame of the
+	 * freshly retrieved top block must match its counterpart of the previous stop.
+	 * A step cannot modify the frames below the ones it returned from, so stepping
+	 * in a deep stack only retrieves the top frames again.
+	 */
+	private class FrameRangeCache extends RangeCache<FrameData> {
+		private final IMIExecutionDMContext fExecDmc;
+		private final FramesCacheInfo fInfo;
+
+		FrameRangeCache(IMIExecutionDMContext execDmc, FramesCacheInfo info) {
+			super(new ImmediateInDsfExecutor(getExecutor()));
+			fExecDmc = execDmc;
+			fInfo = info;
+		}
+
+		@Override
+		protected void retrieve(final long offset, final int count, final DataRequestMonitor<List<FrameData>> rm) {
+			final FramesCacheInfo previous = fPreviousFramesCache != null
+					? fPreviousFramesCache.get(fExecDmc.getThreadId())
+					: null;
+			if (offset == 0 || previous == null || !previous.isStackDepthExact() || fTraceVisualization) {
+				fetchFrames(offset, count, rm);
+				return;
+			}
+
+			// The exact depth gives the level shift between the two stops. A step only
+			// changes the depth by a few levels, so don't count the frames of a stack
+			// that has grown past the previous depth by more than a block.
+			int maxDepth = previous.stackDepth + FRAME_BLOCK_SIZE;
+			getStackDepth(fExecDmc, maxDepth, new DataRequestMonitor<Integer>(getExecutor(), rm) {
+				@Override
+				protected void handleCompleted() {
+					if (!fInfo.isStackDepthExact()) {
+						fetchFrames(offset, count, rm);
+						return;
+					}
+					final ICache<List<FrameData>> top = getRange(0, FRAME_BLOCK_SIZE);
+					top.update(new RequestMonitor(getExecutor(), rm) {
+						@Override
+						protected void handleCompleted() {
+							List<FrameData> frames = null;
+							if (top.isValid() && top.getStatus().isOK()) {
+								frames = getFramesFromPreviousStop(previous, top.getData(), offset, count);
+							}
+							if (frames != null) {
+								rm.done(frames);
+							} else {
+								fetchFrames(offset, count, rm);
+							}
+						}
+					});
+				}
+			});
+		}
+
+		private List<FrameData> getFramesFromPreviousStop(FramesCacheInfo previous, List<FrameData> topFrames,
+				long offset, int count) {
+			int depth = fInfo.stackDepth;
+			int shift = depth - previous.stackDepth;
+
+			// Check the deepest frame of the top block, it must be at or above the requested levels
+			int anchor = Math.min(topFrames.size(), depth) - 1;
+			if (anchor < 0 || anchor >= offset) {
+				return null;
+			}
+			if (!isSameFrame(topFrames.get(anchor), previous.getFrameData(anchor - shift))) {
+				return null;
+			}
+			if (anchor > 0 && !isSameFrame(topFrames.get(anchor - 1), previous.getFrameData(anchor - 1 - shift))) {
+				return null;
+			}
+
+			List<FrameData> frames = new ArrayList<>(count);
+			for (int level = (int) offset; level < offset + count; level++) {
+				if (level >= depth) {
+					frames.add(null);
+					continue;
+				}
+				FrameData frame = previous.getFrameData(level - shift);
+				if (frame == null) {
+					return null;
+				}
+				frames.add(new FrameDataFromPreviousStop(frame));
+			}
+			for (int i = 0; i < frames.size(); i++) {
+				if (frames.get(i) != null) {
+					fInfo.updateFrameData((int) offset + i, frames.get(i));
+				}
+			}
+			return frames;
+		}
+
+		private boolean isSameFrame(FrameData frame, FrameData previousFrame) {
+			if (frame == null || previousFrame == null) {
+				return false;
+			}
+			MIFrame miFrame = frame.getMIFrame();
+			MIFrame previousMIFrame = previousFrame.getMIFrame();
+			return Objects.equals(miFrame.getAddress(), previousMIFrame.getAddress())
+					&& Objects.equals(miFrame.getFunction(), previousMIFrame.getFunction())
+					&& Objects.equals(miFrame.getFile(), previousMIFrame.getFile())
+					&& miFrame.getLine() == previousMIFrame.getLine();
+		}
+
+		private void fetchFrames(final long offset, final int count, final DataRequestMonitor<List<FrameData>> rm) {
+			fMICommandCache.execute(createMIStackListFrames(fExecDmc, (int) offset, (int) offset + count - 1),
+					new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
+						@Override
+						protected void handleSuccess() {
+							MIFrame[] miFrames = getData().getMIFrames();
+							List<FrameData> frames = new ArrayList<>(count);
+							for (int i = 0; i < count; i++) {
+								frames.add(null);
+							}
+							for (int i = 0; i < miFrames.length; i++) {
+								int level = miFrames[i].getLevel();
+								if (level >= offset && level < offset + count) {
+									FrameData frame = new FrameDataFromMIStackFrameListInfo(getData(), i);
+									frames.set(level - (int) offset, frame);
+									fInfo.updateFrameData(level, frame);
+								}
+							}
+							if (miFrames.length > 0 && miFrames.length < count) {
+								// The block goes past the bottom of the stack
+								fInfo.setStackDepth((int) offset + miFrames.length, (int) offset + count);
+							}
+							rm.done(frames);
+						}
+					});
+		}
+	}
+
+	private FrameRangeCache getFrameRangeCache(IMIExecutionDMContext execDmc) {
+		FramesCacheInfo info = fFramesCache.getThreadFramesCache(execDmc.getThreadId());
+		if (info.rangeCache == null) {
+			info.rangeCache = new FrameRangeCache(execDmc, info);
+		}
+		return info.rangeCache;
+	}
+
 	@Override
 	protected BundleContext getBundleContext() {
 		return GdbPlugin.getBundleContext();
@@ -466,6 +692,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		fMICommandCache = new CommandCache(getSession(), bufferedCommandControl);
 		fMICommandCache.setContextAvailable(commandControl.getContext(), true);
 		fRunControl = getServicesTracker().getService(IRunControl.class);
+		IGDBBackend backend = getServicesTracker().getService(IGDBBackend.class);
+		fIsCoreSession = backend != null && backend.getSessionType() == SessionType.CORE;
 
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
@@ -538,8 +766,27 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 				rm.done();
 				return;
 			}
+
+			if (fIsCoreSession && fFramesCache.getThreadFramesCache(execDmc.getThreadId()).getStackDepth(1) <= 0) {
+				getCoreTopFrameData(execDmc, new DataRequestMonitor<FrameData>(getExecutor(), rm) {
+					@Override
+					protected void handleCompleted() {
+						if (isSuccess()) {
+							rm.done(new IFrameDMContext[] { createFrameDMContext(execDmc, 0) });
+						} else {
+							getFramesFromStackDepth(execDmc, startIndex, endIndex, rm);
+						}
+					}
+				});
+				return;
+			}
 		}
 
+		getFramesFromStackDepth(execDmc, startIndex, endIndex, rm);
+	}
+
+	private void getFramesFromStackDepth(final IMIExecutionDMContext execDmc, final int startIndex,
+			final int endIndex, final DataRequestMonitor<IFrameDMContext[]> rm) {
 		String threadId = execDmc.getThreadId();
 		// if requested stack limit is bigger then currently cached this call will return -1
 		final int maxDepth = endIndex > 0 ? endIndex + 1 : -1;
@@ -563,6 +810,39 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		});
 	}
 
+	/**
+	 * Retrieves the top frame of a thread of a core file. The threads of a core
+	 * never run, so the top frames of all of them are fetched and cached at
+	 * once, rather than querying the depth and a block of frames per thread.
+	 */
+	private void getCoreTopFrameData(final IMIExecutionDMContext execDmc, final DataRequestMonitor<FrameData> rm) {
+		ICommandControlDMContext controlDmc = DMContexts.getAncestorOfType(execDmc, ICommandControlDMContext.class);
+		fMICommandCache.execute(fCommandFactory.createMIThreadInfo(controlDmc),
+				new DataRequestMonitor<MIThreadInfoInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						FrameData topFrame = null;
+						for (MIThread thread : getData().getThreadList()) {
+							MIFrame frame = thread.getTopFrame();
+							if (frame == null) {
+								continue;
+							}
+							FrameData frameData = new FrameDataFromMIFrame(frame);
+							fFramesCache.getThreadFramesCache(thread.getThreadId()).updateFrameData(0, frameData);
+							if (thread.getThreadId().equals(execDmc.getThreadId())) {
+								topFrame = frameData;
+							}
+						}
+						if (topFrame == null) {
+							rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED,
+									"No top frame found for " + execDmc, null)); //$NON-NLS-1$
+						} else {
+							rm.done(topFrame);
+						}
+					}
+				});
+	}
+
 	private IFrameDMContext[] getDMFrames(final IMIExecutionDMContext execDmc, int startIndex, int endIndex,
 			int stackDepth) {
 		if (endIndex > stackDepth - 1 || endIndex < 0) {
@@ -667,43 +947,65 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			}
 		}
 
-		// If not, retrieve the full list of frame data.
-		fMICommandCache.execute(createMIStackListFrames(execDmc),
-				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
-					@Override
-					protected void handleSuccess() {
-						FramesCacheInfo info = fFramesCache.update(threadId, getData());
-						FrameData frameData = info.getFrameData(frameLevel);
-						if (frameData == null) {
-							rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
-									"Invalid frame " + frameDmc, null)); //$NON-NLS-1$
-						} else {
-							rm.done(frameData);
-						}
+		if (frameLevel == 0 && fIsCoreSession) {
+			getCoreTopFrameData(execDmc, new DataRequestMonitor<FrameData>(getExecutor(), rm) {
+				@Override
+				protected void handleCompleted() {
+					if (isSuccess()) {
+						rm.done(getData());
+					} else {
+						getFrameRangeData(execDmc, frameDmc, rm);
 					}
+				}
+			});
+			return;
+		}
 
-					@Override
-					protected void handleError() {
-						// We're seeing gdb in some cases fail when it's being asked for the stack
-						// frames with no limits, but the same command succeeds if the request is limited
-						// to one frame. So try again with a limit of 1.
-						// It's better to show just one frame than none at all
-						fMICommandCache.execute(createMIStackListFrames(execDmc, frameLevel, frameLevel),
-								new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
-									@Override
-									protected void handleSuccess() {
-										FrameData frameData = fFramesCache.update(threadId, getData())
-												.getFrameData(frameLevel);
-										if (frameData == null) {
-											rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
-													"Invalid frame " + frameDmc, null)); //$NON-NLS-1$
-										} else {
-											rm.done(frameData);
-										}
-									}
-								});
+		getFrameRangeData(execDmc, frameDmc, rm);
+	}
+
+	/**
+	 * Retrieves the data of a frame from the block of frames containing it.
+	 */
+	private void getFrameRangeData(final IMIExecutionDMContext execDmc, final IFrameDMContext frameDmc,
+			final DataRequestMonitor<IFrameDMData> rm) {
+		final String threadId = execDmc.getThreadId();
+		final int frameLevel = frameDmc.getLevel();
+
+		// If not, retrieve the block of frames containing the requested one
+		final ICache<List<FrameData>> range = getFrameRangeCache(execDmc)
+				.getRange(frameLevel - frameLevel % FRAME_BLOCK_SIZE, FRAME_BLOCK_SIZE);
+		range.update(new RequestMonitor(getExecutor(), rm) {
+			@Override
+			protected void handleCompleted() {
+				if (range.isValid() && range.getStatus().isOK()) {
+					FrameData frameData = range.getData().get(frameLevel % FRAME_BLOCK_SIZE);
+					if (frameData != null) {
+						rm.done(frameData);
+						return;
 					}
-				});
+				}
+
+				// We're seeing gdb in some cases fail when it's being asked for several
+				// stack frames, but the same command succeeds if the request is limited
+				// to one frame. So try again with a limit of 1.
+				// It's better to show just one frame than none at all
+				fMICommandCache.execute(createMIStackListFrames(execDmc, frameLevel, frameLevel),
+						new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
+							@Override
+							protected void handleSuccess() {
+								FrameData frameData = fFramesCache.update(threadId, getData())
+										.getFrameData(frameLevel);
+								if (frameData == null) {
+									rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
+											"Invalid frame " + frameDmc, null)); //$NON-NLS-1$
+								} else {
+									rm.done(frameData);
+								}
+							}
+						});
+			}
+		});
 	}
 
 	@Override
@@ -727,8 +1029,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			return;
 		}
 
-		// If not, retrieve the full list of frame data.  Although we only need one frame
-		// for this call, it will be stored the cache and made available for other calls.
+		// If not, retrieve the arguments of the block of frames containing the requested one.
+		// Although we only need one frame for this call, the others will be stored in the cache
+		// and made available for other calls.
+		final int low = frameDmc.getLevel() - frameDmc.getLevel() % FRAME_BLOCK_SIZE;
+		final int high = low + FRAME_BLOCK_SIZE - 1;
 		fMICommandCache.execute(
 				// We don't actually need to ask for the values in this case, but since
 				// we will ask for them right after, it is more efficient to ask for them now
@@ -736,28 +1041,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 				// the result without the values
 				// Don't ask for value when we are visualizing trace data, since some
 				// data will not be there, and the command will fail
-				fCommandFactory.createMIStackListArguments(execDmc, true),
+				fCommandFactory.createMIStackListArguments(execDmc, true, low, high),
 				new DataRequestMonitor<MIStackListArgumentsInfo>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
-						// Find the index to the correct MI frame object.
-						// Note: this is a short-cut, but it won't work once we implement retrieving
-						// partial lists of stack frames.
-						int idx = frameDmc.getLevel();
-						if (idx == -1 || idx >= getData().getMIFrames().length) {
-							rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
-									"Invalid frame " + frameDmc, null)); //$NON-NLS-1$
-							rm.done();
-							return;
-						}
-
-						// Create the variable array out of MIArg array.
-						MIArg[] args = getData().getMIFrames()[idx].getArgs();
-						if (args == null) {
-							args = new MIArg[0];
-						}
-						rm.setData(makeVariableDMCs(frameDmc, MIVariableDMC.Type.ARGUMENT, args));
-						rm.done();
+						handleArguments(frameDmc, getData(), rm);
 					}
 
 					@Override
@@ -766,34 +1054,43 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						// This can happen with uninitialized values and pretty printers (bug 307614).
 						// Since asking for values was simply an optimization
 						// to store the command in the cache, let's retry the command without asking for values.
-						fMICommandCache.execute(fCommandFactory.createMIStackListArguments(execDmc, false),
+						fMICommandCache.execute(fCommandFactory.createMIStackListArguments(execDmc, false, low, high),
 								new DataRequestMonitor<MIStackListArgumentsInfo>(getExecutor(), rm) {
 									@Override
 									protected void handleSuccess() {
-										// Find the index to the correct MI frame object.
-										// Note: this is a short-cut, but it won't work once we implement retrieving
-										// partial lists of stack frames.
-										int idx = frameDmc.getLevel();
-										if (idx == -1 || idx >= getData().getMIFrames().length) {
-											rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
-													"Invalid frame " + frameDmc, null)); //$NON-NLS-1$
-											rm.done();
-											return;
-										}
-
-										// Create the variable array out of MIArg array.
-										MIArg[] args = getData().getMIFrames()[idx].getArgs();
-										if (args == null) {
-											args = new MIArg[0];
-										}
-										rm.setData(makeVariableDMCs(frameDmc, MIVariableDMC.Type.ARGUMENT, args));
-										rm.done();
+										handleArguments(frameDmc, getData(), rm);
 									}
 								});
 					}
 				});
 	}
 
+	private void handleArguments(IFrameDMContext frameDmc, MIStackListArgumentsInfo info,
+			DataRequestMonitor<IVariableDMContext[]> rm) {
+		// Find the MI frame object of the requested level in the retrieved block.
+		MIFrame frame = null;
+		for (MIFrame miFrame : info.getMIFrames()) {
+			if (miFrame.getLevel() == frameDmc.getLevel()) {
+				frame = miFrame;
+				break;
+			}
+		}
+		if (frame == null) {
+			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Invalid frame " + frameDmc, //$NON-NLS-1$
+					null));
+			rm.done();
+			return;
+		}
+
+		// Create the variable array out of MIArg array.
+		MIArg[] args = frame.getArgs();
+		if (args == null) {
+			args = new MIArg[0];
+		}
+		rm.setData(makeVariableDMCs(frameDmc, MIVariableDMC.Type.ARGUMENT, args));
+		rm.done();
+	}
+
 	@Override
 	public void getVariableData(IVariableDMContext variableDmc, final DataRequestMonitor<IVariableDMData> rm) {
 		if (!(variableDmc instanceof MIVariableDMC)) {
@@ -1141,6 +1438,18 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			fCachedStoppedEvent = null;
 			fMICommandCache.reset();
 			fFramesCache.clear();
+			fPreviousFramesCache = null;
+			fSteppedSinceSuspend = false;
+			fSteppedThreadIds.clear();
+		} else {
+			IDMContext[] steppedContexts = e instanceof IContainerResumedDMEvent
+					? ((IContainerResumedDMEvent) e).getTriggeringContexts()
+					: new IDMContext[] { e.getDMContext() };
+			for (IDMContext ctx : steppedContexts) {
+				if (ctx instanceof IMIExecutionDMContext) {
+					fSteppedThreadIds.add(((IMIExecutionDMContext) ctx).getThreadId());
+				}
+			}
 		}
 
 		handleReturnValues(e);
@@ -1176,7 +1485,21 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void eventDispatched(ISuspendedDMEvent e) {
 		fMICommandCache.setContextAvailable(e.getDMContext(), true);
 		fMICommandCache.reset();
-		fFramesCache.clear();
+		// Keep the frames of the previous stop of the stepped threads if the threads
+		// were only stepped since then
+		fPreviousFramesCache = null;
+		if (fSteppedSinceSuspend) {
+			fPreviousFramesCache = new FramesCache();
+			for (String threadId : fSteppedThreadIds) {
+				FramesCacheInfo info = fFramesCache.get(threadId);
+				if (info != null) {
+					fPreviousFramesCache.put(threadId, info);
+				}
+			}
+		}
+		fFramesCache = new FramesCache();
+		fSteppedSinceSuspend = true;
+		fSteppedThreadIds.clear();
 
 		handleReturnValues(e);
 	}
@@ -1252,6 +1575,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void flushCache(IDMContext context) {
 		fMICommandCache.reset(context);
 		fFramesCache.clear(context);
+		fPreviousFramesCache = null;
+		fSteppedThreadIds.clear();
 		fCachedStoppedEvent = null;
 	}
 
@@ -35,6 +35,7 @@ import java.util.Map;
 
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
@@ -59,8 +60,11 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser.GDBType;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbDebugOptions;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
+import org.eclipse.cdt.dsf.mi.service.IMIRunControl.MIRunMode;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionInfo;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.MIExpressionDMC;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
@@ -95,6 +99,7 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
 /**
@@ -2332,84 +2337,104 @@ public class MIVariableManager implements ICommandControl {
 				// The simplest way to do this is that whenever we change the format
 				// of a variable object, we immediately set it back to natural with a second
 				// var-set-format command.  This is done in the getValue() method
+				if (isBatchUpdateEnabled()) {
+					queueBatchUpdate(this, rm);
+					return;
+				}
+
+				final long startTime = System.nanoTime();
 				fCommandControl.queueCommand(
 						fCommandFactory.createMIVarUpdate(getRootToUpdate().getControlDMContext(), getGdbName()),
 						new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), rm) {
 							@Override
 							protected void handleCompleted() {
-								if (isSuccess()) {
-									setOutOfDate(false);
-
-									MIVarChange[] changes = getData().getMIVarChanges();
-									if (changes.length > 0 && !changes[0].isInScope()) {
-										// Object is out-of-scope
-										currentState = STATE_READY;
+								recordUpdate(1, System.nanoTime() - startTime);
+								processUpdate(getStatus(), isSuccess() ? getData().getMIVarChanges() : null, rm);
+							}
+						});
+			}
+		}
 
-										outOfScope = true;
+		/**
+		 * Completes an update of this root with the changes reported by GDB.
+		 *
+		 * @param status
+		 *            The status of the <code>-var-update</code> command
+		 * @param changes
+		 *            The changes of this root and its descendants, if the
+		 *            command succeeded
+		 */
+		private void processUpdate(final IStatus status, MIVarChange[] changes,
+				final DataRequestMonitor<Boolean> rm) {
+			if (status.isOK()) {
+				setOutOfDate(false);
+
+				if (changes.length > 0 && !changes[0].isInScope()) {
+					// Object is out-of-scope
+					currentState = STATE_READY;
+
+					outOfScope = true;
+
+					// We can delete this root in GDB right away.  This is safe, even
+					// if the root has children, because they are also out-of-scope.
+					// We -must- also remove this entry from our LRU.  If we don't
+					// we can end-up with a race condition that create this object
+					// twice, or have an infinite loop while never re-creating the object.
+					// The can happen if we update a child first then we request
+					// the root later,
+					lruVariableList.remove(getInternalId());
+
+					rm.setData(true);
+					rm.done();
 
-										// We can delete this root in GDB right away.  This is safe, even
-										// if the root has children, because they are also out-of-scope.
-										// We -must- also remove this entry from our LRU.  If we don't
-										// we can end-up with a race condition that create this object
-										// twice, or have an infinite loop while never re-creating the object.
-										// The can happen if we update a child first then we request
-										// the root later,
-										lruVariableList.remove(getInternalId());
+					while (!updatesPending.isEmpty()) {
+						DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+						pendingRm.setData(false);
+						pendingRm.done();
+					}
+				} else {
+					// The root object is now up-to-date, we must parse the changes, if any.
+					processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
+						@Override
+						protected void handleCompleted() {
+							currentState = STATE_READY;
 
-										rm.setData(true);
-										rm.done();
+							// We only mark this root as updated in our list if it is in-scope.
+							// For out-of-scope object, we don't ever need to re-update them so
+							// we don't need to add them to this list.
+							rootVariableUpdated(MIRootVariableObject.this);
 
-										while (!updatesPending.isEmpty()) {
-											DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-											pendingRm.setData(false);
-											pendingRm.done();
-										}
-									} else {
-										// The root object is now up-to-date, we must parse the changes, if any.
-										processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
-											@Override
-											protected void handleCompleted() {
-												currentState = STATE_READY;
-
-												// We only mark this root as updated in our list if it is in-scope.
-												// For out-of-scope object, we don't ever need to re-update them so
-												// we don't need to add them to this list.
-												rootVariableUpdated(MIRootVariableObject.this);
-
-												if (isSuccess()) {
-													rm.setData(false);
-												} else {
-													rm.setStatus(getStatus());
-												}
-												rm.done();
+							if (isSuccess()) {
+								rm.setData(false);
+							} else {
+								rm.setStatus(getStatus());
+							}
+							rm.done();
 
-												while (!updatesPending.isEmpty()) {
-													DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-													if (isSuccess()) {
-														pendingRm.setData(false);
-													} else {
-														pendingRm.setStatus(getStatus());
-													}
-													pendingRm.done();
-												}
-											}
-										});
-									}
+							while (!updatesPending.isEmpty()) {
+								DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+								if (isSuccess()) {
+									pendingRm.setData(false);
 								} else {
-									// We were not able to update for some reason
-									currentState = STATE_READY;
-
-									rm.setData(false);
-									rm.done();
-
-									while (!updatesPending.isEmpty()) {
-										DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-										pendingRm.setStatus(getStatus());
-										pendingRm.done();
-									}
+									pendingRm.setStatus(getStatus());
 								}
+								pendingRm.done();
 							}
-						});
+						}
+					});
+				}
+			} else {
+				// We were not able to update for some reason
+				currentState = STATE_READY;
+
+				rm.setData(false);
+				rm.done();
+
+				while (!updatesPending.isEmpty()) {
+					DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+					pendingRm.setStatus(status);
+					pendingRm.done();
+				}
 			}
 		}
 
@@ -2642,6 +2667,25 @@ public class MIVariableManager implements ICommandControl {
 	/** The list of root variable objects that have been updated */
 	private final LinkedList<MIRootVariableObject> updatedRootList = new LinkedList<>();
 
+	private final IMIRunControl fRunControl;
+
+	/** Whether root variable objects are updated together, see {@link #isBatchUpdateEnabled()} */
+	private final boolean fBatchUpdates;
+
+	/**
+	 * The roots waiting for the next batched update, with the request monitor
+	 * of their update, or null if no batched update is scheduled.
+	 */
+	private Map<MIRootVariableObject, DataRequestMonitor<Boolean>> fBatchedRoots;
+
+	private static final String VAR_UPDATE_TRACE_IDENTIFIER = "[VAR-UPDATE]"; //$NON-NLS-1$
+
+	// Statistics of the -var-update commands, traced with the debug option
+	private int fUpdateCount;
+	private int fUpdatedRootCount;
+	private long fTotalUpdateTime;
+	private long fMaxUpdateTime;
+
 	/**
 	 * MIVariableManager constructor
 	 *
@@ -2657,6 +2701,10 @@ public class MIVariableManager implements ICommandControl {
 		fStackService = tracker.getService(IStack.class);
 		fExpressionService = tracker.getService(IExpressions.class);
 		fCommandFactory = tracker.getService(IMICommandControl.class).getCommandFactory();
+		fRunControl = tracker.getService(IMIRunControl.class);
+		fBatchUpdates = Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_BATCH_VARIABLE_UPDATES,
+				IGdbDebugPreferenceConstants.BATCH_VARIABLE_UPDATES_DEFAULT, null);
 
 		// Register to receive service events for this session.
 		fSession.addServiceEventListener(this, null);
@@ -2694,6 +2742,98 @@ public class MIVariableManager implements ICommandControl {
 		return lruVariableList;
 	}
 
+	/**
+	 * Returns whether out-of-date roots are updated together with a single
+	 * <code>-var-update *</code> command. This is only done in all-stop mode,
+	 * since in non-stop mode GDB skips the variable objects of running threads.
+	 *
+	 * @since 6.6
+	 */
+	protected boolean isBatchUpdateEnabled() {
+		return fBatchUpdates && fRunControl != null && fRunControl.getRunMode() == MIRunMode.ALL_STOP;
+	}
+
+	private void queueBatchUpdate(MIRootVariableObject root, DataRequestMonitor<Boolean> rm) {
+		if (fBatchedRoots == null) {
+			fBatchedRoots = new LinkedHashMap<>();
+			// Send the command once the roots requested by the current
+			// requests of the views have joined the batch
+			fSession.getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					sendBatchUpdate();
+				}
+			});
+		}
+		fBatchedRoots.put(root, rm);
+	}
+
+	private void sendBatchUpdate() {
+		final Map<MIRootVariableObject, DataRequestMonitor<Boolean>> roots = fBatchedRoots;
+		fBatchedRoots = null;
+
+		// -var-update * reports the changes of every variable object only once, so
+		// all the out-of-date roots must take part in the update, even if they
+		// were not requested, or their changes would be lost.
+		for (MIVariableObject varObj : lruVariableList.values()) {
+			if (varObj instanceof MIRootVariableObject) {
+				MIRootVariableObject root = (MIRootVariableObject) varObj;
+				if (!roots.containsKey(root) && root.currentState == MIVariableObject.STATE_READY
+						&& root.getOutOfDate() && !root.isOutOfScope() && root.getGdbName() != null) {
+					root.currentState = MIVariableObject.STATE_UPDATING;
+					// Nobody waits for these roots, their failures are not reported
+					roots.put(root, new DataRequestMonitor<Boolean>(fSession.getExecutor(), null) {
+						@Override
+						protected void handleFailure() {
+						}
+					});
+				}
+			}
+		}
+
+		ICommandControlDMContext controlDmc = roots.keySet().iterator().next().getControlDMContext();
+		final long startTime = System.nanoTime();
+		fCommandControl.queueCommand(fCommandFactory.createMIVarUpdate(controlDmc, "*"), //$NON-NLS-1$
+				new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						recordUpdate(roots.size(), System.nanoTime() - startTime);
+
+						// Children are named after their root, e.g. var1.public.x
+						Map<String, List<MIVarChange>> rootChanges = new HashMap<>();
+						if (isSuccess()) {
+							for (MIVarChange change : getData().getMIVarChanges()) {
+								String name = change.getVarName();
+								int dot = name.indexOf('.');
+								String rootName = dot == -1 ? name : name.substring(0, dot);
+								rootChanges.computeIfAbsent(rootName, k -> new ArrayList<>()).add(change);
+							}
+						}
+
+						for (Map.Entry<MIRootVariableObject, DataRequestMonitor<Boolean>> entry : roots.entrySet()) {
+							MIRootVariableObject root = entry.getKey();
+							List<MIVarChange> changes = rootChanges.getOrDefault(root.getGdbName(),
+									new ArrayList<>());
+							root.processUpdate(getStatus(), changes.toArray(new MIVarChange[changes.size()]),
+									entry.getValue());
+						}
+					}
+				});
+	}
+
+	private void recordUpdate(int rootCount, long time) {
+		fUpdateCount++;
+		fUpdatedRootCount += rootCount;
+		fTotalUpdateTime += time;
+		fMaxUpdateTime = Math.max(fMaxUpdateTime, time);
+		if (GdbDebugOptions.DEBUG) {
+			GdbDebugOptions.trace(String.format("%s %s  %d roots in %d us, " //$NON-NLS-1$
+					+ "total %d commands, %d roots, %d us, max %d us, %d varobjs\n", //$NON-NLS-1$
+					GdbPlugin.getDebugTime(), VAR_UPDATE_TRACE_IDENTIFIER, rootCount, time / 1000, fUpdateCount,
+					fUpdatedRootCount, fTotalUpdateTime / 1000, fMaxUpdateTime / 1000, lruVariableList.size()));
+		}
+	}
+
 	private GDBTypeParser getGDBTypeParser() {
 		if (fGDBTypeParser == null) {
 			fGDBTypeParser = createGDBTypeParser();
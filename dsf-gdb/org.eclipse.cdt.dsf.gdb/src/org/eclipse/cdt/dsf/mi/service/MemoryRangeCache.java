@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Address-ordered store of the memory blocks read from the target, backing
+ * {@link MIMemory.MIMemoryCache}.
+ * <p>
+ * Addresses and lengths are expressed in addressable units, block contents in
+ * octets. Cached blocks never overlap and contiguous blocks are merged. The
+ * blocks are kept in a tree keyed by their start address, so the blocks
+ * intersecting a range are found without walking the whole cache.
+ * <p>
+ * The store also decides how reads are issued: missing ranges separated by
+ * small cached gaps are coalesced into a single read, and a read-ahead window
+ * follows the direction in which the client scrolls, doubling as long as the
+ * accesses stay sequential. The number of cached octets is bounded; when the
+ * bound is exceeded the blocks farthest from the last request are dropped.
+ * <p>
+ * This class is not thread safe, it is meant to be used on the session executor.
+ */
+class MemoryRangeCache {
+
+	/** Cached gaps of up to this many octets are read again rather than splitting a read in two. */
+	static final int COALESCE_GAP = 256;
+
+	private static final int NO_DIRECTION = 0;
+	private static final int FORWARD = 1;
+	private static final int BACKWARD = -1;
+
+	/** A range of addresses, in addressable units. */
+	static class Range {
+		final BigInteger fStart;
+		final int fLength;
+
+		Range(BigInteger start, int length) {
+			fStart = start;
+			fLength = length;
+		}
+
+		BigInteger getEnd() {
+			return fStart.add(BigInteger.valueOf(fLength));
+		}
+
+		@Override
+		public String toString() {
+			return "[" + fStart.toString(16) + ", " + getEnd().toString(16) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private static class Block {
+		final BigInteger fStart;
+		final BigInteger fEnd;
+		final MemoryByte[] fBytes;
+
+		Block(BigInteger start, int lengthInAddressableUnits, MemoryByte[] bytes) {
+			fStart = start;
+			fEnd = start.add(BigInteger.valueOf(lengthInAddressableUnits));
+			fBytes = bytes;
+		}
+	}
+
+	private final TreeMap<BigInteger, Block> fBlocks = new TreeMap<>();
+	private final long fMaxCachedOctets;
+	private final int fMaxPrefetchOctets;
+	private long fCachedOctets;
+
+	// Read-ahead state
+	private BigInteger fLastStart;
+	private BigInteger fLastEnd;
+	private int fDirection = NO_DIRECTION;
+	private int fPrefetchOctets;
+
+	/**
+	 * @param maxCachedOctets the number of octets above which blocks get evicted
+	 * @param maxPrefetchOctets the largest read-ahead window, 0 disables read-ahead
+	 */
+	MemoryRangeCache(long maxCachedOctets, int maxPrefetchOctets) {
+		fMaxCachedOctets = maxCachedOctets;
+		fMaxPrefetchOctets = maxPrefetchOctets;
+	}
+
+	void clear() {
+		fBlocks.clear();
+		fCachedOctets = 0;
+		fLastStart = null;
+		fLastEnd = null;
+		fDirection = NO_DIRECTION;
+		fPrefetchOctets = 0;
+	}
+
+	long getCachedOctets() {
+		return fCachedOctets;
+	}
+
+	int getBlockCount() {
+		return fBlocks.size();
+	}
+
+	/**
+	 * Returns the cached blocks intersecting [start, end), in address order.
+	 */
+	private Collection<Block> getBlocks(BigInteger start, BigInteger end) {
+		BigInteger from = start;
+		Map.Entry<BigInteger, Block> floor = fBlocks.floorEntry(start);
+		if (floor != null && floor.getValue().fEnd.compareTo(start) > 0) {
+			from = floor.getKey();
+		}
+		return fBlocks.subMap(from, true, end, false).values();
+	}
+
+	/**
+	 * Returns the ranges of [start, start + count) that are not cached, in address order.
+	 */
+	List<Range> getMissingRanges(BigInteger start, int count) {
+		List<Range> missing = new ArrayList<>();
+		BigInteger end = start.add(BigInteger.valueOf(count));
+		BigInteger pos = start;
+		for (Block block : getBlocks(start, end)) {
+			if (block.fStart.compareTo(pos) > 0) {
+				missing.add(new Range(pos, block.fStart.subtract(pos).intValue()));
+			}
+			if (block.fEnd.compareTo(pos) > 0) {
+				pos = block.fEnd;
+			}
+		}
+		if (pos.compareTo(end) < 0) {
+			missing.add(new Range(pos, end.subtract(pos).intValue()));
+		}
+		return missing;
+	}
+
+	/**
+	 * Returns the number of octets at the start of the given bytes that could be read from the
+	 * target, rounded down to whole words.
+	 */
+	static int getReadablePrefixLength(MemoryByte[] bytes, int wordSize) {
+		int length = 0;
+		while (length < bytes.length && bytes[length].isReadable()) {
+			length++;
+		}
+		return length - length % wordSize;
+	}
+
+	/**
+	 * Merges the address-ordered ranges separated by no more than {@link #COALESCE_GAP}
+	 * octets, so that they can be fetched with a single read.
+	 */
+	static List<Range> coalesce(List<Range> ranges, int wordSize) {
+		if (ranges.size() < 2) {
+			return ranges;
+		}
+		BigInteger maxGap = BigInteger.valueOf(COALESCE_GAP / wordSize);
+		List<Range> result = new ArrayList<>(ranges.size());
+		Range current = ranges.get(0);
+		for (int i = 1; i < ranges.size(); i++) {
+			Range next = ranges.get(i);
+			BigInteger length = next.getEnd().subtract(current.fStart);
+			if (next.fStart.subtract(current.getEnd()).compareTo(maxGap) <= 0
+					&& length.multiply(BigInteger.valueOf(wordSize)).bitLength() < 32) {
+				current = new Range(current.fStart, length.intValue());
+			} else {
+				result.add(current);
+				current = next;
+			}
+		}
+		result.add(current);
+		return result;
+	}
+
+	/**
+	 * Returns the cached content of [start, start + count). The octets that are
+	 * not cached are left <code>null</code>.
+	 */
+	MemoryByte[] get(BigInteger start, int count, int wordSize) {
+		MemoryByte[] result = new MemoryByte[count * wordSize];
+		BigInteger end = start.add(BigInteger.valueOf(count));
+		for (Block block : getBlocks(start, end)) {
+			copyOverlap(block.fStart, block.fBytes, start, result, wordSize);
+		}
+		return result;
+	}
+
+	/**
+	 * Stores content read from the target. The new content replaces any cached
+	 * content it overlaps, and is merged with the overlapped and contiguous blocks.
+	 */
+	void put(BigInteger start, MemoryByte[] bytes, int wordSize) {
+		if (bytes.length == 0) {
+			return;
+		}
+		Block block = new Block(start, bytes.length / wordSize, bytes);
+
+		// Collect the overlapping blocks plus the contiguous neighbours
+		List<Block> merged = new ArrayList<>();
+		Map.Entry<BigInteger, Block> floor = fBlocks.floorEntry(start);
+		if (floor != null && floor.getValue().fEnd.compareTo(start) >= 0) {
+			merged.add(floor.getValue());
+		}
+		for (Block b : fBlocks.subMap(start, false, block.fEnd, true).values()) {
+			merged.add(b);
+		}
+
+		BigInteger unionStart = merged.isEmpty() ? start : start.min(merged.get(0).fStart);
+		BigInteger unionEnd = merged.isEmpty() ? block.fEnd : block.fEnd.max(merged.get(merged.size() - 1).fEnd);
+		BigInteger unionOctets = unionEnd.subtract(unionStart).multiply(BigInteger.valueOf(wordSize));
+
+		for (Block b : merged) {
+			fBlocks.remove(b.fStart);
+			fCachedOctets -= b.fBytes.length;
+		}
+
+		if (!merged.isEmpty() && unionOctets.bitLength() < 32) {
+			MemoryByte[] union = new MemoryByte[unionOctets.intValue()];
+			for (Block b : merged) {
+				copyOverlap(b.fStart, b.fBytes, unionStart, union, wordSize);
+			}
+			copyOverlap(start, bytes, unionStart, union, wordSize);
+			block = new Block(unionStart, union.length / wordSize, union);
+		}
+		// Otherwise the merged block would be too large for an array, so the
+		// blocks it would replace are simply dropped
+
+		fBlocks.put(block.fStart, block);
+		fCachedOctets += block.fBytes.length;
+	}
+
+	/**
+	 * Updates the cached part of [start, start + bytes.length / wordSize) with
+	 * new content; the part that is not cached is ignored.
+	 */
+	void update(BigInteger start, MemoryByte[] bytes, int wordSize) {
+		BigInteger end = start.add(BigInteger.valueOf(bytes.length / wordSize));
+		for (Block block : getBlocks(start, end)) {
+			copyOverlap(start, bytes, block.fStart, block.fBytes, wordSize);
+		}
+	}
+
+	/**
+	 * Copies the octets of the source block that fall within the destination block.
+	 */
+	private static void copyOverlap(BigInteger srcStart, MemoryByte[] src, BigInteger dstStart, MemoryByte[] dst,
+			int wordSize) {
+		BigInteger srcEnd = srcStart.add(BigInteger.valueOf(src.length / wordSize));
+		BigInteger dstEnd = dstStart.add(BigInteger.valueOf(dst.length / wordSize));
+		BigInteger from = srcStart.max(dstStart);
+		BigInteger to = srcEnd.min(dstEnd);
+		if (from.compareTo(to) >= 0) {
+			return;
+		}
+		int srcPos = from.subtract(srcStart).intValue() * wordSize;
+		int dstPos = from.subtract(dstStart).intValue() * wordSize;
+		System.arraycopy(src, srcPos, dst, dstPos, to.subtract(from).intValue() * wordSize);
+	}
+
+	/**
+	 * Records a request for [start, start + count) and returns the range to read
+	 * ahead of it, or <code>null</code> if no read-ahead is worthwhile.
+	 * <p>
+	 * A request is sequential when it starts after the previous one and not
+	 * farther than its own length beyond the previous end (or the mirror image
+	 * when scrolling backwards). The read-ahead window starts at the request
+	 * length and doubles each time it is used, up to the configured maximum; a
+	 * non-sequential request resets it. Nothing is read ahead while at least
+	 * half of the window is already cached.
+	 *
+	 * @param limit the end of the address space (exclusive)
+	 */
+	Range getPrefetchRange(BigInteger start, int count, int wordSize, BigInteger limit) {
+		BigInteger end = start.add(BigInteger.valueOf(count));
+		if (start.equals(fLastStart) && end.equals(fLastEnd)) {
+			// Same request again, e.g. a refresh, keep going the same way
+			return null;
+		}
+
+		int direction = NO_DIRECTION;
+		if (fLastStart != null) {
+			BigInteger reach = BigInteger.valueOf(count);
+			if (start.compareTo(fLastStart) > 0 && start.compareTo(fLastEnd.add(reach)) <= 0) {
+				direction = FORWARD;
+			} else if (end.compareTo(fLastEnd) < 0 && end.compareTo(fLastStart.subtract(reach)) >= 0) {
+				direction = BACKWARD;
+			}
+		}
+		if (direction != fDirection) {
+			fPrefetchOctets = 0;
+		}
+		fDirection = direction;
+		fLastStart = start;
+		fLastEnd = end;
+
+		if (direction == NO_DIRECTION || fMaxPrefetchOctets < wordSize) {
+			return null;
+		}
+
+		int windowOctets = fPrefetchOctets > 0 ? fPrefetchOctets
+				: (int) Math.min((long) count * wordSize, fMaxPrefetchOctets);
+		BigInteger window = BigInteger.valueOf(Math.max(1, windowOctets / wordSize));
+		BigInteger aheadStart = direction == FORWARD ? end : start.subtract(window).max(BigInteger.ZERO);
+		BigInteger aheadEnd = direction == FORWARD ? end.add(window).min(limit) : start;
+		if (aheadStart.compareTo(aheadEnd) >= 0) {
+			return null;
+		}
+
+		List<Range> missing = getMissingRanges(aheadStart, aheadEnd.subtract(aheadStart).intValue());
+		long missingUnits = 0;
+		for (Range range : missing) {
+			missingUnits += range.fLength;
+		}
+		if (missingUnits * 2 < window.longValue()) {
+			return null;
+		}
+
+		fPrefetchOctets = (int) Math.min((long) windowOctets * 2, fMaxPrefetchOctets);
+		Range first = missing.get(0);
+		Range last = missing.get(missing.size() - 1);
+		return new Range(first.fStart, last.getEnd().subtract(first.fStart).intValue());
+	}
+
+	/**
+	 * Drops blocks, farthest from the last request first, until the number of
+	 * cached octets is within bounds. The block closest to the last request is
+	 * always kept.
+	 */
+	void trim() {
+		BigInteger center = fLastStart != null ? fLastStart : BigInteger.ZERO;
+		while (fCachedOctets > fMaxCachedOctets && fBlocks.size() > 1) {
+			Block first = fBlocks.firstEntry().getValue();
+			Block last = fBlocks.lastEntry().getValue();
+			Block victim = center.subtract(first.fEnd).compareTo(last.fStart.subtract(center)) >= 0 ? first : last;
+			fBlocks.remove(victim.fStart);
+			fCachedOctets -= victim.fBytes.length;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Register values by stack frame and format. The values of a frame in one
+ * format are kept in an array indexed by register number, rather than as the
+ * results of the commands that fetched them, so that a value can be found and
+ * replaced without knowing how it was fetched.
+ *
+ * @param <K> the type of the frame keys
+ */
+class RegisterValueTable<K> {
+
+	/** Values of one frame, by format */
+	static class FrameValues {
+		private final Map<Integer, String[]> fValues = new HashMap<>(4);
+
+		String get(int format, int regNo) {
+			String[] values = fValues.get(format);
+			return values != null && regNo >= 0 && regNo < values.length ? values[regNo] : null;
+		}
+
+		void put(int format, int regNo, String value) {
+			String[] values = fValues.get(format);
+			if (values == null || regNo >= values.length) {
+				values = values == null ? new String[regNo + 1] : Arrays.copyOf(values, regNo + 1);
+				fValues.put(format, values);
+			}
+			values[regNo] = value;
+		}
+
+		void remove(int regNo) {
+			for (String[] values : fValues.values()) {
+				if (regNo >= 0 && regNo < values.length) {
+					values[regNo] = null;
+				}
+			}
+		}
+
+		int size() {
+			int size = 0;
+			for (String[] values : fValues.values()) {
+				for (String value : values) {
+					if (value != null) {
+						size++;
+					}
+				}
+			}
+			return size;
+		}
+	}
+
+	private final Map<K, FrameValues> fFrames = new HashMap<>();
+
+	String get(K frame, int format, int regNo) {
+		FrameValues values = fFrames.get(frame);
+		return values != null ? values.get(format, regNo) : null;
+	}
+
+	void put(K frame, int format, int regNo, String value) {
+		fFrames.computeIfAbsent(frame, f -> new FrameValues()).put(format, regNo, value);
+	}
+
+	/**
+	 * Returns the given register numbers that have no value for the given frame
+	 * and format.
+	 */
+	int[] getMissing(K frame, int format, int[] regNos) {
+		FrameValues values = fFrames.get(frame);
+		if (values == null) {
+			return regNos;
+		}
+		return Arrays.stream(regNos).filter(regNo -> values.get(format, regNo) == null).toArray();
+	}
+
+	/**
+	 * Removes the values of the given frame and returns them.
+	 */
+	FrameValues removeFrame(K frame) {
+		return fFrames.remove(frame);
+	}
+
+	/**
+	 * Removes the values of the frames accepted by the given filter.
+	 */
+	void removeFrames(Predicate<K> filter) {
+		for (Iterator<K> itr = fFrames.keySet().iterator(); itr.hasNext();) {
+			if (filter.test(itr.next())) {
+				itr.remove();
+			}
+		}
+	}
+
+	/**
+	 * Puts back values previously removed from the given frame, except for the
+	 * given registers, which changed since. Values stored for the frame in the
+	 * meantime are more recent and are kept.
+	 */
+	void restoreFrame(K frame, FrameValues previous, int[] changedRegNos) {
+		for (int regNo : changedRegNos) {
+			previous.remove(regNo);
+		}
+		FrameValues current = fFrames.get(frame);
+		if (current == null) {
+			fFrames.put(frame, previous);
+			return;
+		}
+		for (Map.Entry<Integer, String[]> entry : previous.fValues.entrySet()) {
+			String[] values = entry.getValue();
+			for (int regNo = 0; regNo < values.length; regNo++) {
+				if (values[regNo] != null && current.get(entry.getKey(), regNo) == null) {
+					current.put(entry.getKey(), regNo, values[regNo]);
+				}
+			}
+		}
+	}
+
+	void clear() {
+		fFrames.clear();
+	}
+
+	/**
+	 * @return the number of values in the table
+	 */
+	int size() {
+		int size = 0;
+		for (FrameValues values : fFrames.values()) {
+			size += values.size();
+		}
+		return size;
+	}
+}
@@ -19,8 +19,6 @@ package org.eclipse.cdt.dsf.mi.service.command;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
@@ -33,7 +31,6 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
-import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLICommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIInterpreterExecConsole;
@@ -44,9 +41,6 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MILogStreamOutput;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
 import org.eclipse.cdt.dsf.service.DsfSession;
-import org.eclipse.core.runtime.ILog;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 
 /**
  * This Process implementation tracks the GDB process.  This
@@ -73,10 +67,10 @@ public abstract class AbstractCLIProcess extends Process implements IEventListen
 	private OutputStream fOutputStream;
 
 	// Client process console stream.
-	private PipedInputStream fMIInConsolePipe;
-	private PipedOutputStream fMIOutConsolePipe;
-	private PipedInputStream fMIInLogPipe;
-	private PipedOutputStream fMIOutLogPipe;
+	private InputStream fMIInConsolePipe;
+	private OutputStream fMIOutConsolePipe;
+	private InputStream fMIInLogPipe;
+	private OutputStream fMIOutLogPipe;
 
 	private boolean fDisposed = false;
 
@@ -118,27 +112,13 @@ public abstract class AbstractCLIProcess extends Process implements IEventListen
 			commandControl.addEventListener(this);
 			commandControl.addCommandListener(this);
 
-			PipedInputStream miInConsolePipe = null;
-			PipedOutputStream miOutConsolePipe = null;
-			PipedInputStream miInLogPipe = null;
-			PipedOutputStream miOutLogPipe = null;
-
-			try {
-				// Using a LargePipedInputStream see https://bugs.eclipse.org/bugs/show_bug.cgi?id=223154
-				miOutConsolePipe = new PipedOutputStream();
-				miInConsolePipe = new LargePipedInputStream(miOutConsolePipe);
-				miOutLogPipe = new PipedOutputStream();
-				miInLogPipe = new LargePipedInputStream(miOutLogPipe);
-			} catch (IOException e) {
-				ILog log = GdbPlugin.getDefault().getLog();
-				if (log != null) {
-					log.log(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, -1, "Error when creating log pipes", e)); //$NON-NLS-1$
-				}
-			}
-			fMIOutConsolePipe = miOutConsolePipe;
-			fMIInConsolePipe = miInConsolePipe;
-			fMIOutLogPipe = miOutLogPipe;
-			fMIInLogPipe = miInLogPipe;
+			// The commands and their output must not be lost, so GDB waits for the console
+			RingBufferPipe consolePipe = new RingBufferPipe(RingBufferPipe.OverflowPolicy.BLOCK);
+			RingBufferPipe logPipe = new RingBufferPipe(RingBufferPipe.OverflowPolicy.BLOCK);
+			fMIOutConsolePipe = consolePipe.getOutputStream();
+			fMIInConsolePipe = consolePipe.getInputStream();
+			fMIOutLogPipe = logPipe.getOutputStream();
+			fMIInLogPipe = logPipe.getInputStream();
 		}
 	}
 
@@ -178,11 +158,11 @@ public abstract class AbstractCLIProcess extends Process implements IEventListen
 
 		// We have memory leaks that prevent this class from being
 		// GCed.  The problem becomes bad because we are holding
-		// two LargePipedInputStream and eventually, the JUnit tests
+		// two pipes with large buffers and eventually, the JUnit tests
 		// run out of memory.  To address this particular problem,
 		// before the actual causes of the leaks are fixed, lets
 		// make sure we release all our four streams which all have
-		// a reference to a LargePipedInputStream
+		// a reference to a pipe buffer
 		// Bug 323071
 		fMIInConsolePipe = null;
 		fMIInLogPipe = null;
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -97,7 +98,10 @@ import org.eclipse.osgi.util.NLS;
  */
 public abstract class AbstractMIControl extends AbstractDsfService implements IMICommandControl {
 	private static final String MI_TRACE_IDENTIFIER = "[MI]"; //$NON-NLS-1$
-	private static final int NUMBER_CONCURRENT_COMMANDS = 3;
+	/**
+	 * Upper limit for the number of commands written to GDB with a single write.
+	 */
+	private static final int MAX_COMMANDS_PER_WRITE = 32;
 	private static final int DEVELOPMENT_TRACE_LIMIT_CHARS = 5000;
 
 	/*
@@ -122,6 +126,12 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private boolean fUseThreadGroupOption;
 
 	private final BlockingQueue<CommandHandle> fTxCommands = new LinkedBlockingQueue<>();
+	/**
+	 * Number of commands expecting a result that were handed to the transmitter thread but
+	 * are not yet in {@link #fRxCommands}.
+	 */
+	private final AtomicInteger fCommandsInTransit = new AtomicInteger();
+	private final MICommandStatistics fCommandStatistics = new MICommandStatistics();
 	private final Map<Integer, CommandHandle> fRxCommands = Collections
 			.synchronizedMap(new HashMap<Integer, CommandHandle>());
 
@@ -199,7 +209,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		fCommandFactory = factory;
 
 		if (isConcurrentCommandsSupported()) {
-			fNumberOfConcurrentCommands = NUMBER_CONCURRENT_COMMANDS;
+			fNumberOfConcurrentCommands = Math.max(1, getMaxConcurrentCommands());
 		} else {
 			fNumberOfConcurrentCommands = 1;
 		}
@@ -391,6 +401,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			 *  existing commands on a state change. So we add it to the waiting list and let
 			 *  the user know they can now work with this item if need be.
 			 */
+			fCommandStatistics.commandQueued(miCommand.getOperation(), fCommandQueue.size());
 			fCommandQueue.add(handle);
 			processCommandQueued(handle);
 
@@ -408,7 +419,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	}
 
 	private void processNextQueuedCommand() {
-		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
+		// Fill the window of commands on the wire. Commands handed to the transmitter
+		// thread in the same dispatch cycle are written to GDB together.
+		while (!fCommandQueue.isEmpty()
+				&& fRxCommands.size() + fCommandsInTransit.get() < fNumberOfConcurrentCommands) {
 			final CommandHandle handle = fCommandQueue.remove(0);
 			if (handle != null) {
 				processCommandSent(handle);
@@ -438,7 +452,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIThreadSelect(targetContext, targetThread), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmit(cmdHandle);
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
@@ -448,7 +462,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIStackSelectFrame(targetContext, targetFrame), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmit(cmdHandle);
 						}
 					}
 				}
@@ -459,11 +473,38 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					// need a token id.  In fact, GDB will fail if we send one in this case.
 					handle.generateTokenId();
 				}
-				fTxCommands.add(handle);
+				transmit(handle);
 			}
 		}
 	}
 
+	private void transmit(CommandHandle handle) {
+		if (!(handle.getCommand() instanceof RawCommand)) {
+			fCommandsInTransit.incrementAndGet();
+		}
+		fTxCommands.add(handle);
+	}
+
+	/**
+	 * Returns the maximum number of commands that are sent to GDB before their results
+	 * have been received, in case the back end supports concurrent commands.
+	 * @see #isConcurrentCommandsSupported()
+	 * @since 6.6
+	 */
+	protected int getMaxConcurrentCommands() {
+		return Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MAX_CONCURRENT_COMMANDS,
+				IGdbDebugPreferenceConstants.MAX_CONCURRENT_COMMANDS_DEFAULT, null);
+	}
+
+	/**
+	 * Returns the latency and queue depth figures of the commands sent to GDB.
+	 * @since 6.6
+	 */
+	public MICommandStatistics getCommandStatistics() {
+		return fCommandStatistics;
+	}
+
 	/*
 	 *   This is the command which allows the user to retract a previously issued command. The
 	 *   state of the command  is that it is in the waiting queue  and has not yet been handed
@@ -656,6 +697,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private MICommand<MIInfo> fCommand;
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
+		private final long fQueuedTime = System.nanoTime();
+		private volatile long fSentTime;
 
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
@@ -663,6 +706,14 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fTokenId = -1; // Only initialize to a real value when needed
 		}
 
+		void recordCompletion() {
+			long sentTime = fSentTime;
+			if (sentTime != 0) {
+				fCommandStatistics.commandCompleted(fCommand.getOperation(), sentTime - fQueuedTime,
+						System.nanoTime() - sentTime);
+			}
+		}
+
 		@Override
 		public MICommand<MIInfo> getCommand() {
 			return fCommand;
@@ -729,9 +780,54 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fOutputStream = outStream;
 		}
 
+		/**
+		 * Registers the command as outstanding and returns the text to be sent to GDB.
+		 */
+		private String prepareForTransmission(CommandHandle commandHandle) {
+			/*
+			 *  We note that this is an outstanding request at this point.
+			 */
+			if (!(commandHandle.getCommand() instanceof RawCommand)) {
+				// RawCommands will not get an answer, so we cannot put them in the receive queue.
+				commandHandle.fSentTime = System.nanoTime();
+				fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+				fCommandsInTransit.decrementAndGet();
+			}
+
+			/*
+			 *   Construct the new command and push this command out the pipeline.
+			 */
+
+			final String str;
+			if (commandHandle.getCommand() instanceof RawCommand) {
+				// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+				str = commandHandle.getCommand().constructCommand();
+			} else if (fUseThreadGroupOption) {
+				// Implies that fUseThreadAndFrameOptions == true
+				str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
+						commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
+			} else if (fUseThreadAndFrameOptions) {
+				str = commandHandle.getTokenId() + commandHandle.getCommand()
+						.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
+			} else {
+				str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+			}
+
+			if (fOutputStream != null) {
+				if (GdbDebugOptions.DEBUG) {
+					GdbDebugOptions.trace(
+							String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+				}
+				writeToTracingStream(true, str);
+			}
+			return str;
+		}
+
 		@Override
 		public void run() {
-			while (true) {
+			StringBuilder batch = new StringBuilder();
+			boolean terminate = false;
+			while (!terminate) {
 				CommandHandle commandHandle = null;
 
 				try {
@@ -740,53 +836,23 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					break; // Shutting down.
 				}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
-				}
-
-				/*
-				 *  We note that this is an outstanding request at this point.
-				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
-
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
-
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+				// Commands that were handed over together are written with a single write,
+				// instead of one write and flush per command.
+				batch.setLength(0);
+				for (int count = 0; commandHandle != null; count++) {
+					if (commandHandle == fTerminatorHandle) {
+						terminate = true;
+						break;
+					}
+					batch.append(prepareForTransmission(commandHandle));
+					if (count + 1 >= MAX_COMMANDS_PER_WRITE)
+						break;
+					commandHandle = fTxCommands.poll();
 				}
 
 				try {
-					if (fOutputStream != null) {
-
-						if (GdbDebugOptions.DEBUG) {
-							GdbDebugOptions.trace(
-									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
-						}
-						writeToTracingStream(true, str);
-
-						fOutputStream.write(str.getBytes());
+					if (fOutputStream != null && batch.length() > 0) {
+						fOutputStream.write(batch.toString().getBytes());
 						fOutputStream.flush();
 					}
 				} catch (IOException e) {
@@ -794,6 +860,14 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					break;
 				}
 			}
+			if (terminate) {
+				// There is a small possibility that a new command was inserted
+				// in the fRxCommands map after we cleared that map.
+				// Just to be safe, clear it again.
+				// We do this to avoid synchronizing the handling of fRxCommands
+				// because this is more efficient, as it happens only once at shutdown.
+				cancelRxCommands();
+			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
 			try {
@@ -998,6 +1072,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				final CommandHandle commandHandle = fRxCommands.remove(id);
 
 				if (commandHandle != null) {
+					commandHandle.recordCompletion();
 					final MIOutput response = new MIOutput(rr,
 							fAccumulatedOOBRecords.toArray(new MIOOBRecord[fAccumulatedOOBRecords.size()]));
 					fAccumulatedOOBRecords.clear();
@@ -1232,6 +1307,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		if (h == null)
 			// Command has already been processed by RxThread.
 			return;
+		h.recordCompletion();
 
 		MIConst value = new MIConst();
 		value.setCString(errorMessage);
@@ -35,6 +35,8 @@
 
 package org.eclipse.cdt.dsf.mi.service.command;
 
+import java.math.BigInteger;
+
 import org.eclipse.cdt.debug.core.model.IChangeReverseMethodHandler.ReverseDebugMethod;
 import org.eclipse.cdt.dsf.datamodel.IDMContext;
 import org.eclipse.cdt.dsf.debug.service.IBreakpoints.IBreakpointsTargetDMContext;
@@ -58,6 +60,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.CLIAttach;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLICatch;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIDetach;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIExecAbort;
+import org.eclipse.cdt.dsf.mi.service.command.commands.CLIFind;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInferior;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInfoBreak;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIInfoProgram;
@@ -91,6 +94,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.MIBreakWatch;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDPrintfInsert;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataEvaluateExpression;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListChangedRegisters;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterNames;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterValues;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataReadMemory;
@@ -205,6 +209,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.MIVarShowFormat;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIVarUpdate;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIAddressableSizeInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLICatchInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIFindInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoBreakInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoProgramInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoRecordInfo;
@@ -219,6 +224,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakInsertInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakListInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataEvaluateExpressionInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListChangedRegistersInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataReadMemoryBytesInfo;
@@ -292,6 +298,12 @@ public class CommandFactory {
 		return new CLIExecAbort(ctx);
 	}
 
+	/** @since 6.6 */
+	public ICommand<CLIFindInfo> createCLIFind(IMemoryDMContext ctx, BigInteger start, BigInteger end, byte[] pattern,
+			int maxCount) {
+		return new CLIFind(ctx, start, end, pattern, maxCount);
+	}
+
 	/** @since 5.2 */
 	public ICommand<MIInfo> createCLIInferior(ICommandControlDMContext ctx, String inferiorId) {
 		return new CLIInferior(ctx, inferiorId);
@@ -520,6 +532,11 @@ public class CommandFactory {
 		return new MIDataEvaluateExpression<>(exprDmc);
 	}
 
+	/** @since 6.6 */
+	public ICommand<MIDataListChangedRegistersInfo> createMIDataListChangedRegisters(IFrameDMContext ctx) {
+		return new MIDataListChangedRegisters(ctx);
+	}
+
 	public ICommand<MIDataListRegisterNamesInfo> createMIDataListRegisterNames(IContainerDMContext ctx) {
 		return new MIDataListRegisterNames(ctx);
 	}
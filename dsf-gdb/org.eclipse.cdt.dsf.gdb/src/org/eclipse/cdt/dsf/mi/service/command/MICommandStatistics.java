@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency and queue depth figures of the MI commands sent to GDB, grouped by
+ * the MI operation (e.g. <code>-stack-list-frames</code>).
+ * <p>
+ * The statistics are updated by the command control from its executor and
+ * its transmitter and receiver threads, all methods are thread safe.
+ *
+ * @since 6.6
+ */
+public class MICommandStatistics {
+
+	/**
+	 * Figures for a single MI operation. Times are in nanoseconds.
+	 */
+	public static class Entry {
+		private final String fOperation;
+		private int fCount;
+		private long fTotalQueueTime;
+		private long fTotalRoundTripTime;
+		private long fMaxRoundTripTime;
+		private int fMaxQueueDepth;
+
+		Entry(String operation) {
+			fOperation = operation;
+		}
+
+		Entry(Entry other) {
+			fOperation = other.fOperation;
+			fCount = other.fCount;
+			fTotalQueueTime = other.fTotalQueueTime;
+			fTotalRoundTripTime = other.fTotalRoundTripTime;
+			fMaxRoundTripTime = other.fMaxRoundTripTime;
+			fMaxQueueDepth = other.fMaxQueueDepth;
+		}
+
+		public String getOperation() {
+			return fOperation;
+		}
+
+		/**
+		 * Returns the number of completed commands.
+		 */
+		public int getCount() {
+			return fCount;
+		}
+
+		/**
+		 * Returns the total time the completed commands waited before being sent to GDB.
+		 */
+		public long getTotalQueueTime() {
+			return fTotalQueueTime;
+		}
+
+		/**
+		 * Returns the total time between sending the completed commands and receiving their results.
+		 */
+		public long getTotalRoundTripTime() {
+			return fTotalRoundTripTime;
+		}
+
+		public long getMaxRoundTripTime() {
+			return fMaxRoundTripTime;
+		}
+
+		/**
+		 * Returns the maximum number of commands that were waiting to be sent when a command
+		 * of this operation was queued.
+		 */
+		public int getMaxQueueDepth() {
+			return fMaxQueueDepth;
+		}
+
+		@Override
+		public String toString() {
+			long avgQueue = fCount == 0 ? 0 : fTotalQueueTime / fCount / 1000;
+			long avgRoundTrip = fCount == 0 ? 0 : fTotalRoundTripTime / fCount / 1000;
+			return fOperation + ": count=" + fCount + ", avgQueue=" + avgQueue + "us, avgRoundTrip=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ avgRoundTrip + "us, maxRoundTrip=" + fMaxRoundTripTime / 1000 + "us, maxQueueDepth=" //$NON-NLS-1$ //$NON-NLS-2$
+					+ fMaxQueueDepth;
+		}
+	}
+
+	private final Map<String, Entry> fEntries = new TreeMap<>();
+
+	/**
+	 * Records that a command was queued while the given number of commands were
+	 * waiting to be sent.
+	 */
+	public synchronized void commandQueued(String operation, int queueDepth) {
+		Entry entry = getEntry(operation);
+		entry.fMaxQueueDepth = Math.max(entry.fMaxQueueDepth, queueDepth);
+	}
+
+	/**
+	 * Records the completion of a command.
+	 *
+	 * @param queueTime the time the command waited before being sent
+	 * @param roundTripTime the time between sending the command and receiving its result
+	 */
+	public synchronized void commandCompleted(String operation, long queueTime, long roundTripTime) {
+		Entry entry = getEntry(operation);
+		entry.fCount++;
+		entry.fTotalQueueTime += queueTime;
+		entry.fTotalRoundTripTime += roundTripTime;
+		entry.fMaxRoundTripTime = Math.max(entry.fMaxRoundTripTime, roundTripTime);
+	}
+
+	private Entry getEntry(String operation) {
+		Entry entry = fEntries.get(operation);
+		if (entry == null) {
+			entry = new Entry(operation);
+			fEntries.put(operation, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns a snapshot of the figures, sorted by operation.
+	 */
+	public synchronized Entry[] getEntries() {
+		Entry[] result = new Entry[fEntries.size()];
+		int i = 0;
+		for (Entry entry : fEntries.values()) {
+			result[i++] = new Entry(entry);
+		}
+		return result;
+	}
+
+	public synchronized void reset() {
+		fEntries.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buf = new StringBuilder();
+		for (Entry entry : fEntries.values()) {
+			buf.append(entry).append('\n');
+		}
+		return buf.toString();
+	}
+}
@@ -20,8 +20,6 @@ package org.eclipse.cdt.dsf.mi.service.command;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
@@ -45,6 +43,7 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
 import org.eclipse.cdt.dsf.mi.service.IMIContainerDMContext;
@@ -62,6 +61,7 @@ import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.utils.pty.PTY;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
 /**
@@ -84,10 +84,10 @@ public class MIInferiorProcess extends Process implements IEventListener, IComma
 	private OutputStream fOutputStream;
 	private InputStream fInputStream;
 
-	private PipedOutputStream fInputStreamPiped;
+	private OutputStream fInputStreamPiped;
 
-	private PipedInputStream fErrorStream;
-	private PipedOutputStream fErrorStreamPiped;
+	private InputStream fErrorStream;
+	private OutputStream fErrorStreamPiped;
 
 	private final DsfSession fSession;
 
@@ -198,27 +198,26 @@ public class MIInferiorProcess extends Process implements IEventListener, IComma
 				}
 			};
 
-			fInputStreamPiped = new PipedOutputStream();
-			PipedInputStream inputStream = null;
-			try {
-				// Using a LargePipedInputStream see https://bugs.eclipse.org/bugs/show_bug.cgi?id=223154
-				inputStream = new LargePipedInputStream(fInputStreamPiped);
-			} catch (IOException e) {
-			}
-			fInputStream = inputStream;
+			// By default, a program printing heavily must not hold up the reading of
+			// GDB's output while the console catches up, so its oldest output is dropped
+			int bufferSize = Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_BUFFER_SIZE,
+					IGdbDebugPreferenceConstants.INFERIOR_OUTPUT_BUFFER_SIZE_DEFAULT, null);
+			boolean dropOldest = Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_INFERIOR_OUTPUT_DROP_OLDEST,
+					IGdbDebugPreferenceConstants.INFERIOR_OUTPUT_DROP_OLDEST_DEFAULT, null);
+			RingBufferPipe inputPipe = new RingBufferPipe(Math.max(bufferSize, 1) * 1024,
+					dropOldest ? RingBufferPipe.OverflowPolicy.DROP_OLDEST : RingBufferPipe.OverflowPolicy.BLOCK);
+			fInputStreamPiped = inputPipe.getOutputStream();
+			fInputStream = inputPipe.getInputStream();
 
 		}
 
 		// Note: We do not have any err stream from gdb/mi so this gdb
 		// err channel instead.
-		fErrorStreamPiped = new PipedOutputStream();
-		PipedInputStream errorStream = null;
-		try {
-			// Using a LargePipedInputStream see https://bugs.eclipse.org/bugs/show_bug.cgi?id=223154
-			errorStream = new LargePipedInputStream(fErrorStreamPiped);
-		} catch (IOException e) {
-		}
-		fErrorStream = errorStream;
+		RingBufferPipe errorPipe = new RingBufferPipe(RingBufferPipe.OverflowPolicy.BLOCK);
+		fErrorStreamPiped = errorPipe.getOutputStream();
+		fErrorStream = errorPipe.getInputStream();
 	}
 
 	@ConfinedToDsfExecutor("fSession#getExecutor")
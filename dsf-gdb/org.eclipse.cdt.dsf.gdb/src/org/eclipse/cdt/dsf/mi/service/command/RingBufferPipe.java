@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Pipe between the thread reading the output of GDB and the stream read by a
+ * console, backed by a ring buffer of bounded size. It replaces a
+ * {@link java.io.PipedInputStream}, whose reader and writer share a monitor
+ * and poll each other once per second.
+ * <p>
+ * The reader and the writer share no lock, they publish their positions in the
+ * buffer through volatile fields. A side waiting for the other one is parked,
+ * and woken up as soon as the other side progresses. When the buffer is full,
+ * the writer either waits for the reader or overwrites the oldest data,
+ * depending on the {@link OverflowPolicy}. In the latter case the reader skips
+ * the data that was overwritten, so that the thread reading GDB is never
+ * blocked by a slow console, and reads a marker telling how many bytes were
+ * dropped in their place. A writer waiting for a reader that makes no progress
+ * for {@link #DEFAULT_WRITE_TIMEOUT} milliseconds considers it gone and closes
+ * the pipe.
+ * <p>
+ * Several threads may write to the pipe, and several threads may read it, but
+ * the writers are serialized with each other, as are the readers.
+ */
+final class RingBufferPipe {
+
+	/** What the writer does when the buffer is full */
+	enum OverflowPolicy {
+		/** Wait for the reader to make room */
+		BLOCK,
+		/** Overwrite the oldest data not read yet */
+		DROP_OLDEST
+	}
+
+	/** Default capacity of the buffer, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=223154 */
+	static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+	/** Default time in milliseconds a writer waits for the reader to make room */
+	static final long DEFAULT_WRITE_TIMEOUT = 30_000;
+
+	private final byte[] fBuffer;
+	private final int fMask;
+	private final OverflowPolicy fPolicy;
+	private final long fWriteTimeout;
+
+	/** Position following the last byte read */
+	private volatile long fReadPosition;
+	/** Position following the last byte written */
+	private volatile long fWritePosition;
+	/**
+	 * Position following the last byte being written, set before the bytes
+	 * are copied so that the reader can tell whether the bytes it copied were
+	 * overwritten meanwhile.
+	 */
+	private volatile long fReservedPosition;
+
+	private volatile boolean fReadClosed;
+	private volatile boolean fWriteClosed;
+
+	private volatile Thread fWaitingReader;
+	private volatile Thread fWaitingWriter;
+
+	// Only accessed by the readers: the number of bytes dropped since the last
+	// marker, and the marker being read
+	private long fDroppedCount;
+	private byte[] fMarker;
+	private int fMarkerOffset;
+
+	private final InputStream fInputStream = new PipeInputStream();
+	private final OutputStream fOutputStream = new PipeOutputStream();
+
+	/**
+	 * @param capacity the size of the buffer, rounded up to a power of two
+	 * @param policy what to do when the buffer is full
+	 * @param writeTimeout the time in milliseconds a writer waits for the
+	 *            reader to make room before closing the pipe
+	 */
+	RingBufferPipe(int capacity, OverflowPolicy policy, long writeTimeout) {
+		int size = Integer.highestOneBit(Math.max(capacity, 1));
+		if (size < capacity) {
+			size <<= 1;
+		}
+		fBuffer = new byte[size];
+		fMask = size - 1;
+		fPolicy = policy;
+		fWriteTimeout = writeTimeout;
+	}
+
+	RingBufferPipe(int capacity, OverflowPolicy policy) {
+		this(capacity, policy, DEFAULT_WRITE_TIMEOUT);
+	}
+
+	RingBufferPipe(OverflowPolicy policy) {
+		this(DEFAULT_CAPACITY, policy);
+	}
+
+	/**
+	 * @return the marker read in place of the given number of dropped bytes
+	 */
+	static byte[] getDroppedMarker(long count) {
+		return NLS.bind(Messages.RingBufferPipe_output_dropped, count).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the stream reading the data written to the pipe
+	 */
+	InputStream getInputStream() {
+		return fInputStream;
+	}
+
+	/**
+	 * @return the stream writing to the pipe; it never has to be flushed
+	 */
+	OutputStream getOutputStream() {
+		return fOutputStream;
+	}
+
+	private void write(byte[] b, int off, int len) throws IOException {
+		int capacity = fBuffer.length;
+		if (fPolicy == OverflowPolicy.DROP_OLDEST && len > capacity) {
+			// Only the end of the data would remain in the buffer
+			long end = fWritePosition + len;
+			fReservedPosition = end;
+			fWritePosition = end - capacity;
+			off += len - capacity;
+			len = capacity;
+		}
+		while (len > 0) {
+			if (fReadClosed || fWriteClosed) {
+				throw new IOException("Pipe closed"); //$NON-NLS-1$
+			}
+			long write = fWritePosition;
+			int count = len;
+			if (fPolicy == OverflowPolicy.BLOCK) {
+				long free = capacity - (write - fReadPosition);
+				if (free == 0) {
+					awaitSpace(write);
+					continue;
+				}
+				count = (int) Math.min(count, free);
+			}
+			fReservedPosition = write + count;
+			// Don't let the copy be visible before the reservation
+			VarHandle.releaseFence();
+			int start = (int) (write & fMask);
+			int first = Math.min(count, capacity - start);
+			System.arraycopy(b, off, fBuffer, start, first);
+			System.arraycopy(b, off + first, fBuffer, 0, count - first);
+			fWritePosition = write + count;
+			off += count;
+			len -= count;
+			unpark(fWaitingReader);
+		}
+	}
+
+	private int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		int capacity = fBuffer.length;
+		while (true) {
+			if (fReadClosed) {
+				throw new IOException("Pipe closed"); //$NON-NLS-1$
+			}
+			if (fMarker == null && fDroppedCount > 0) {
+				fMarker = getDroppedMarker(fDroppedCount);
+				fMarkerOffset = 0;
+				fDroppedCount = 0;
+			}
+			if (fMarker != null) {
+				int count = Math.min(len, fMarker.length - fMarkerOffset);
+				System.arraycopy(fMarker, fMarkerOffset, b, off, count);
+				fMarkerOffset += count;
+				if (fMarkerOffset == fMarker.length) {
+					fMarker = null;
+				}
+				return count;
+			}
+			long read = fReadPosition;
+			long write = fWritePosition;
+			if (write == read) {
+				if (fWriteClosed) {
+					return -1;
+				}
+				awaitData(read);
+				continue;
+			}
+			if (write - read > capacity) {
+				// The oldest data was overwritten
+				fDroppedCount += write - capacity - read;
+				fReadPosition = write - capacity;
+				continue;
+			}
+			int count = (int) Math.min(len, write - read);
+			int start = (int) (read & fMask);
+			int first = Math.min(count, capacity - start);
+			System.arraycopy(fBuffer, start, b, off, first);
+			System.arraycopy(fBuffer, 0, b, off + first, count - first);
+			// Check the reservation only once the copy is done
+			VarHandle.acquireFence();
+			long oldest = fReservedPosition - capacity;
+			if (oldest > read) {
+				// The writer overwrote part of what was copied
+				fDroppedCount += oldest - read;
+				fReadPosition = oldest;
+				continue;
+			}
+			fReadPosition = read + count;
+			unpark(fWaitingWriter);
+			return count;
+		}
+	}
+
+	private int available() throws IOException {
+		if (fReadClosed) {
+			throw new IOException("Pipe closed"); //$NON-NLS-1$
+		}
+		return (int) Math.min(fWritePosition - fReadPosition, fBuffer.length);
+	}
+
+	private void awaitData(long read) throws InterruptedIOException {
+		// The waiting thread is published before checking the position again,
+		// so a writer either sees it or its data is seen.
+		fWaitingReader = Thread.currentThread();
+		try {
+			while (fWritePosition == read && !fWriteClosed && !fReadClosed) {
+				LockSupport.park(this);
+				if (Thread.interrupted()) {
+					throw new InterruptedIOException();
+				}
+			}
+		} finally {
+			fWaitingReader = null;
+		}
+	}
+
+	private void awaitSpace(long write) throws IOException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fWriteTimeout);
+		fWaitingWriter = Thread.currentThread();
+		try {
+			while (write - fReadPosition >= fBuffer.length && !fWriteClosed && !fReadClosed) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					// The reader is gone without closing the pipe, e.g. its console was
+					// disposed, don't let it block the writer again
+					fReadClosed = true;
+					unpark(fWaitingReader);
+					throw new IOException("Pipe reader not responding"); //$NON-NLS-1$
+				}
+				LockSupport.parkNanos(this, remaining);
+				if (Thread.interrupted()) {
+					throw new InterruptedIOException();
+				}
+			}
+		} finally {
+			fWaitingWriter = null;
+		}
+	}
+
+	private static void unpark(Thread thread) {
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private class PipeInputStream extends InputStream {
+		private final byte[] fSingle = new byte[1];
+
+		@Override
+		public synchronized int read() throws IOException {
+			return RingBufferPipe.this.read(fSingle, 0, 1) < 0 ? -1 : fSingle[0] & 0xff;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || len > b.length - off) {
+				throw new IndexOutOfBoundsException();
+			}
+			return RingBufferPipe.this.read(b, off, len);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return RingBufferPipe.this.available();
+		}
+
+		@Override
+		public void close() {
+			fReadClosed = true;
+			unpark(fWaitingReader);
+			unpark(fWaitingWriter);
+		}
+	}
+
+	private class PipeOutputStream extends OutputStream {
+		private final byte[] fSingle = new byte[1];
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			fSingle[0] = (byte) b;
+			RingBufferPipe.this.write(fSingle, 0, 1);
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || len > b.length - off) {
+				throw new IndexOutOfBoundsException();
+			}
+			RingBufferPipe.this.write(b, off, len);
+		}
+
+		@Override
+		public void close() {
+			fWriteClosed = true;
+			unpark(fWaitingReader);
+			unpark(fWaitingWriter);
+		}
+	}
+}
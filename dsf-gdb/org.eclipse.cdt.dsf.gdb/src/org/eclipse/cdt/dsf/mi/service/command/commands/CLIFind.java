@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.commands;
+
+import java.math.BigInteger;
+
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIFindInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+
+/**
+ * CLI command searching memory for a sequence of bytes.
+ * <p>
+ * find /b<i>maxCount</i> <i>start</i>, <i>end</i>, <i>byte</i> [, <i>byte</i> ...]
+ * <p>
+ * The range is inclusive of the end address. There is no MI equivalent, the
+ * matches are printed on the console, one address per line.
+ *
+ * @since 6.6
+ */
+public class CLIFind extends MIInterpreterExecConsole<CLIFindInfo> {
+
+	public CLIFind(IMemoryDMContext ctx, BigInteger start, BigInteger end, byte[] pattern, int maxCount) {
+		super(ctx, buildCommand(start, end, pattern, maxCount));
+	}
+
+	private static String buildCommand(BigInteger start, BigInteger end, byte[] pattern, int maxCount) {
+		StringBuilder command = new StringBuilder("find /b"); //$NON-NLS-1$
+		command.append(maxCount).append(" 0x").append(start.toString(16)); //$NON-NLS-1$
+		command.append(", 0x").append(end.toString(16)); //$NON-NLS-1$
+		for (byte b : pattern) {
+			command.append(", 0x").append(Integer.toHexString(b & 0xff)); //$NON-NLS-1$
+		}
+		return command.toString();
+	}
+
+	@Override
+	public CLIFindInfo getResult(MIOutput miResult) {
+		return new CLIFindInfo(miResult);
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of the CLI command "find".
+ *
+ * <p>E.g. the console output of 'find /b10 0x1000, 0x2000, 0x7f, 0x45' is</p>
+ * 0x1000
+ * 0x1840 &lt;symbol+16&gt;
+ * 2 patterns found.
+ * <p>
+ * GDB stops searching at the first memory it can't read, with a warning such
+ * as "Unable to access 16000 bytes of target memory at 0x1840, halting search."
+ * The command still succeeds, with the matches found before that memory.
+ *
+ * @since 6.6
+ */
+public class CLIFindInfo extends MIInfo {
+
+	private static final String HALTING_SEARCH = "halting search"; //$NON-NLS-1$
+	private static final String AT_ADDRESS = " at 0x"; //$NON-NLS-1$
+
+	private final List<BigInteger> fAddresses = new ArrayList<>();
+	private boolean fHalted;
+	private BigInteger fUnreadableAddress;
+
+	public CLIFindInfo(MIOutput record) {
+		super(record);
+		parse();
+	}
+
+	protected void parse() {
+		if (isDone()) {
+			for (MIOOBRecord oob : getMIOutput().getMIOOBRecords()) {
+				if (oob instanceof MIConsoleStreamOutput || oob instanceof MILogStreamOutput) {
+					String[] lines = ((MIStreamRecord) oob).getString().split("\n"); //$NON-NLS-1$
+					for (String line : lines) {
+						parseLine(line.trim());
+					}
+				}
+			}
+		}
+	}
+
+	private void parseLine(String line) {
+		if (line.contains(HALTING_SEARCH)) {
+			fHalted = true;
+			int at = line.lastIndexOf(AT_ADDRESS);
+			if (at >= 0) {
+				fUnreadableAddress = parseAddress(line, at + AT_ADDRESS.length());
+			}
+		} else if (line.startsWith("0x")) { //$NON-NLS-1$
+			BigInteger address = parseAddress(line, 2);
+			if (address != null) {
+				fAddresses.add(address);
+			}
+		}
+	}
+
+	/**
+	 * @return the hexadecimal number starting at the given index, or
+	 *         <code>null</code>
+	 */
+	private static BigInteger parseAddress(String line, int start) {
+		int end = start;
+		while (end < line.length() && Character.digit(line.charAt(end), 16) >= 0) {
+			end++;
+		}
+		return end > start ? new BigInteger(line.substring(start, end), 16) : null;
+	}
+
+	/**
+	 * @return the addresses of the matches, in increasing order
+	 */
+	public BigInteger[] getAddresses() {
+		return fAddresses.toArray(new BigInteger[fAddresses.size()]);
+	}
+
+	/**
+	 * @return whether GDB stopped searching before the end of the range
+	 *         because some memory could not be read
+	 */
+	public boolean isHalted() {
+		return fHalted;
+	}
+
+	/**
+	 * @return the address of the memory GDB could not read when it halted the
+	 *         search, or <code>null</code>
+	 */
+	public BigInteger getUnreadableAddress() {
+		return fUnreadableAddress;
+	}
+}
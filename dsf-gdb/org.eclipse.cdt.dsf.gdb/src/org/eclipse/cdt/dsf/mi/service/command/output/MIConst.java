@@ -23,13 +23,43 @@ package org.eclipse.cdt.dsf.mi.service.command.output;
  */
 public class MIConst extends MIValue {
 
-	private String cstring = ""; //$NON-NLS-1$
+	private volatile String cstring = ""; //$NON-NLS-1$
+	/** Line and bounds of the escaped content, as long as it was not translated, yet. */
+	private volatile String fSource;
+	private int fBegin;
+	private int fEnd;
+
+	public MIConst() {
+	}
+
+	/**
+	 * Creates a constant whose C string is translated from the given part of an
+	 * MI output line when it is first accessed.
+	 */
+	MIConst(String source, int begin, int end) {
+		fBegin = begin;
+		fEnd = end;
+		fSource = source;
+		cstring = null;
+	}
 
 	public String getCString() {
-		return cstring;
+		String result = cstring;
+		if (result == null) {
+			String source = fSource;
+			if (source != null) {
+				result = MIParser.translateCString(source, fBegin, fEnd, true);
+				cstring = result;
+				fSource = null;
+			} else {
+				result = cstring;
+			}
+		}
+		return result;
 	}
 
 	public void setCString(String str) {
+		fSource = null;
 		cstring = str;
 	}
 
@@ -38,7 +68,7 @@ public class MIConst extends MIValue {
 	 * @return The translated string.
 	 */
 	public String getString() {
-		return MIStringHandler.translateCString(cstring, true);
+		return MIStringHandler.translateCString(getCString(), true);
 	}
 
 	public static String getString(String str) {
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GDB/MI data list changed registers response extraction.
+ *
+ *     ^done,changed-registers=["0","1","2","4","5","6","7","8","9"]
+ *
+ * @since 6.6
+ */
+public class MIDataListChangedRegistersInfo extends MIInfo {
+
+	private int[] fRegisterNumbers = new int[0];
+
+	public MIDataListChangedRegistersInfo(MIOutput rr) {
+		super(rr);
+		if (isDone()) {
+			MIOutput out = getMIOutput();
+			MIResultRecord outr = out.getMIResultRecord();
+			if (outr != null) {
+				MIResult[] results = outr.getMIResults();
+				for (int i = 0; i < results.length; i++) {
+					String var = results[i].getVariable();
+					if (var.equals("changed-registers")) { //$NON-NLS-1$
+						MIValue value = results[i].getMIValue();
+						if (value instanceof MIList) {
+							fRegisterNumbers = parseRegisterNumbers((MIList) value);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the numbers of the registers that changed.
+	 */
+	public int[] getRegisterNumbers() {
+		return fRegisterNumbers;
+	}
+
+	private static int[] parseRegisterNumbers(MIList list) {
+		MIValue[] values = list.getMIValues();
+		List<Integer> numbers = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] instanceof MIConst) {
+				try {
+					numbers.add(Integer.parseInt(((MIConst) values[i]).getCString().trim()));
+				} catch (NumberFormatException e) {
+				}
+			}
+		}
+		int[] result = new int[numbers.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = numbers.get(i);
+		}
+		return result;
+	}
+}
@@ -126,37 +126,31 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Cursor cursor = new Cursor(line);
 		// Fetch the Token/Id
-		int id = parseToken(buffer);
+		int id = parseToken(cursor);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		cursor.fPos++;
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
+		if (cursor.consume(MIResultRecord.DONE)) {
 			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
+		} else if (cursor.consume(MIResultRecord.ERROR)) {
 			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
+		} else if (cursor.consume(MIResultRecord.EXIT)) {
 			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
+		} else if (cursor.consume(MIResultRecord.RUNNING)) {
 			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
+		} else if (cursor.consume(MIResultRecord.CONNECTED)) {
 			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
 		} else {
 			// Error throw an exception?
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (cursor.consume(',')) {
+			MIResult[] res = processMIResults(cursor);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +160,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
-		int id = parseToken(buffer);
+		Cursor cursor = new Cursor(line);
+		int id = parseToken(cursor);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = cursor.peek();
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			cursor.fPos++;
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +186,21 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = line.indexOf(',', cursor.fPos);
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
-				async.setAsyncClass(asyncClass);
+				async.setAsyncClass(line.substring(cursor.fPos, i));
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				cursor.fPos = i + 1;
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(line.substring(cursor.fPos).trim());
+				cursor.fPos = line.length();
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(cursor);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			cursor.fPos++;
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +218,13 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-			}
+			// translateCString() assumes that the leading " is consumed
+			cursor.consume('"');
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			int begin = cursor.fPos;
+			int end = skipCString(cursor);
+			stream.setCString(translateCString(line, begin, end, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,21 +235,23 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Cursor cursor) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
-			int i = 1;
-			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
-				i++;
+		final String line = cursor.fLine;
+		int i = cursor.fPos;
+		if (i < line.length() && Character.isDigit(line.charAt(i))) {
+			long value = 0;
+			for (; i < line.length() && Character.isDigit(line.charAt(i)); i++) {
+				if (value <= Integer.MAX_VALUE) {
+					value = value * 10 + Character.digit(line.charAt(i), 10);
+				}
 			}
-			String numbers = buffer.substring(0, i);
-			try {
-				id = Integer.parseInt(numbers);
-			} catch (NumberFormatException e) {
+			if (value <= Integer.MAX_VALUE) {
+				id = (int) value;
 			}
 			// Consume the token.
-			buffer.delete(0, i);
+			cursor.fPos = i;
 		}
 		return id;
 	}
@@ -265,15 +260,14 @@ public class MIParser {
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private MIResult[] processMIResults(Cursor cursor) {
 		List<MIResult> aList = new ArrayList<>();
-		MIResult result = processMIResult(buffer);
+		MIResult result = processMIResult(cursor);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			result = processMIResult(buffer);
+		while (cursor.consume(',')) {
+			result = processMIResult(cursor);
 			if (result != null) {
 				aList.add(result);
 			}
@@ -282,28 +276,28 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
-	 * moving forward constructing the AST.
+	 * Construct the DsfMIResult. The cursor moves forward over the
+	 * characters consumed while constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
+	private MIResult processMIResult(Cursor cursor) {
+		final String line = cursor.fLine;
 		MIResult result = new MIResult();
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (cursor.hasMore() && Character.isLetter(cursor.peek()) && (equal = line.indexOf('=', cursor.fPos)) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
-			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
-			MIValue value = processMIValue(buffer);
+			result.setVariable(line.substring(cursor.fPos, equal));
+			cursor.fPos = equal + 1;
+			MIValue value = processMIValue(cursor);
 			result.setMIValue(value);
 		} else {
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(cursor);
 			if (value != null) {
 				// Result is a value only (bug 527419)
 				result.setMIValue(value);
 			} else {
-				result.setVariable(buffer.toString());
+				result.setVariable(line.substring(Math.min(cursor.fPos, line.length())));
 				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
+				cursor.fPos = line.length();
 			}
 		}
 		return result;
@@ -312,118 +306,134 @@ public class MIParser {
 	/**
 	 * Find a DsfMIValue implementation or return null.
 	 */
-	private MIValue processMIValue(FSB buffer) {
+	private MIValue processMIValue(Cursor cursor) {
 		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-				MIConst cnst = new MIConst();
-				// Parse backslashes - backslashes within result
-				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
-				value = cnst;
-			}
+		if (cursor.consume('{')) {
+			value = processMITuple(cursor);
+		} else if (cursor.consume('[')) {
+			value = processMIList(cursor);
+		} else if (cursor.consume('"')) {
+			// Parse backslashes - backslashes within result
+			// and out of band records are escaped. The string is
+			// only translated when it is accessed.
+			int begin = cursor.fPos;
+			int end = skipCString(cursor);
+			value = new MIConst(cursor.fLine, begin, end);
 		}
 		return value;
 	}
 
 	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
+	 * Assuming the starting '{' was consumed, go to the closing '}'
+	 * consuming all the characters.
 	 * This is usually call by processMIvalue();
 	 */
-	private MIValue processMITuple(FSB buffer) {
+	private MIValue processMITuple(Cursor cursor) {
 		MITuple tuple = new MITuple();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
-			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
-				valueList.add(value);
-			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
-				}
-			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
+		processMIValuesAndResults(cursor, '}', valueList, resultList);
+		if (!valueList.isEmpty()) {
+			tuple.setMIValues(valueList.toArray(new MIValue[valueList.size()]));
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
+		if (!resultList.isEmpty()) {
+			tuple.setMIResults(resultList.toArray(new MIResult[resultList.size()]));
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		tuple.setMIValues(values);
-		tuple.setMIResults(res);
 		return tuple;
 	}
 
 	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
+	 * Assuming the leading '[' was consumed, find the closing
+	 * ']' consuming the characters.
 	 */
-	private MIValue processMIList(FSB buffer) {
+	private MIValue processMIList(Cursor cursor) {
 		MIList list = new MIList();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
+		processMIValuesAndResults(cursor, ']', valueList, resultList);
+		if (!valueList.isEmpty()) {
+			list.setMIValues(valueList.toArray(new MIValue[valueList.size()]));
+		}
+		if (!resultList.isEmpty()) {
+			list.setMIResults(resultList.toArray(new MIResult[resultList.size()]));
+		}
+		return list;
+	}
+
+	private void processMIValuesAndResults(Cursor cursor, char closing, List<MIValue> valueList,
+			List<MIResult> resultList) {
+		// Catch closing char
+		while (cursor.hasMore() && cursor.peek() != closing) {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(cursor);
 			if (value != null) {
 				valueList.add(value);
 			} else {
-				MIResult result = processMIResult(buffer);
+				MIResult result = processMIResult(cursor);
 				if (result != null) {
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
+			cursor.consume(',');
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+		cursor.consume(closing);
+	}
+
+	/**
+	 * Assuming the starting double quote was consumed, moves the cursor
+	 * behind the closing double quote of a C-String.
+	 * @return the end of the C-String content, i.e. the position of the
+	 * closing double quote or the end of the line.
+	 */
+	private static int skipCString(Cursor cursor) {
+		final String line = cursor.fLine;
+		final int length = line.length();
+		int i = cursor.fPos;
+		while (i < length) {
+			char c = line.charAt(i);
+			if (c == '"') {
+				cursor.fPos = i + 1;
+				return i;
+			}
+			if (c == '\\') {
+				// Skip the escaped character.
+				i++;
+			}
+			i++;
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
-		return list;
+		cursor.fPos = length;
+		return length;
 	}
 
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
-	 * stop at the closing double quote, remove the extra backslash escaping
-	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * This method removes the extra backslash escaping from the content
+	 * between the given offsets and returns the string __without__ the
+	 * enclosing double quotes.
+	 * @param line The line to read from.
+	 * @param begin The offset behind the opening double quote.
+	 * @param end The offset of the closing double quote, or the end of the line.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
 	 * @return The translated C string.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
-		boolean escape = false;
-		boolean closingQuotes = false;
-
-		StringBuffer sb = new StringBuffer();
+	static String translateCString(String line, int begin, int end, boolean parseBackslashes) {
+		int firstBackslash = begin;
+		while (firstBackslash < end && line.charAt(firstBackslash) != '\\') {
+			firstBackslash++;
+		}
+		if (firstBackslash == end) {
+			// Nothing is escaped.
+			return line.substring(begin, end);
+		}
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		StringBuilder sb = new StringBuilder(end - begin);
+		sb.append(line, begin, firstBackslash);
+		boolean escape = false;
+		for (int index = firstBackslash; index < end; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
 				if (escape) {
 					sb.append(c);
@@ -435,13 +445,9 @@ public class MIParser {
 					escape = true;
 				}
 			} else if (c == '"') {
-				if (escape) {
-					sb.append(c);
-					escape = false;
-				} else {
-					// Bail out.
-					closingQuotes = true;
-				}
+				// Only escaped double quotes are within the C-String.
+				sb.append(c);
+				escape = false;
 			} else {
 				if (escape) {
 					sb.append('\\');
@@ -450,10 +456,46 @@ public class MIParser {
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
 		return sb.toString();
 	}
 
+	/**
+	 * Position within the line that is parsed. The parser only moves the position
+	 * forward and never copies the not yet parsed remainder of the line.
+	 */
+	private static final class Cursor {
+		final String fLine;
+		int fPos;
+
+		Cursor(String line) {
+			fLine = line;
+		}
+
+		boolean hasMore() {
+			return fPos < fLine.length();
+		}
+
+		char peek() {
+			return fPos < fLine.length() ? fLine.charAt(fPos) : 0;
+		}
+
+		boolean consume(char c) {
+			if (fPos < fLine.length() && fLine.charAt(fPos) == c) {
+				fPos++;
+				return true;
+			}
+			return false;
+		}
+
+		boolean consume(String s) {
+			if (fLine.startsWith(s, fPos)) {
+				fPos += s.length();
+				return true;
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Tests if this string starts with the specified prefix beginning
 	 * a specified index.
@@ -66,6 +66,14 @@ public interface IDsfDebugUIConstants {
 	 */
 	public static final String PREF_MIN_STEP_INTERVAL = "minStepInterval"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference to enforce a minimum time interval in milliseconds
+	 * between two updates of the Debug view. Default is <code>50</code>.
+	 *
+	 * @since 2.7
+	 */
+	public static final String PREF_MIN_DELTA_INTERVAL = "minDeltaInterval"; //$NON-NLS-1$
+
 	/**
 	 * @since 1.1
 	 */
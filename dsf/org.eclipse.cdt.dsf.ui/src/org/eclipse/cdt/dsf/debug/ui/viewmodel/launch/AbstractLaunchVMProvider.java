@@ -14,8 +14,11 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.debug.ui.viewmodel.launch;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -28,10 +31,13 @@ import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.datamodel.IDMContext;
 import org.eclipse.cdt.dsf.datamodel.IDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IResumedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IStartedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.ui.IDsfDebugUIConstants;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.launch.LaunchRootVMNode.LaunchesEvent;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.launch.StackFramesVMNode.IncompleteStackVMContext;
@@ -82,6 +88,7 @@ public class AbstractLaunchVMProvider extends AbstractDMVMProvider
 			getPresentationContext().setProperty(IDsfDebugUIConstants.PREF_STACK_FRAME_LIMIT,
 					store.getInt(IDsfDebugUIConstants.PREF_STACK_FRAME_LIMIT));
 		}
+		setMinDeltaInterval(store.getInt(IDsfDebugUIConstants.PREF_MIN_DELTA_INTERVAL));
 
 		fPreferencesListener = event -> handlePropertyChanged(store, event);
 		store.addPropertyChangeListener(fPreferencesListener);
@@ -287,6 +294,83 @@ public class AbstractLaunchVMProvider extends AbstractDMVMProvider
 		return false;
 	}
 
+	@Override
+	protected Object coalesceEvents(Object newEvent, Object queuedEvent) {
+		// In non-stop mode, every thread of a container that stops or resumes
+		// produces its own event.  Merge the events of the threads of the same
+		// container that are waiting to be handled into a container event, whose
+		// delta refreshes the container and its threads at once.
+		if (newEvent instanceof FullStackRefreshEvent && queuedEvent instanceof FullStackRefreshEvent) {
+			Object trigger = coalesceEvents(((FullStackRefreshEvent) newEvent).getTriggeringEvent(),
+					((FullStackRefreshEvent) queuedEvent).getTriggeringEvent());
+			if (trigger instanceof CoalescedSuspendedEvent) {
+				CoalescedSuspendedEvent suspendedEvent = (CoalescedSuspendedEvent) trigger;
+				return new FullStackRefreshEvent(suspendedEvent.getDMContext(), suspendedEvent);
+			}
+		} else if (newEvent instanceof ISuspendedDMEvent && queuedEvent instanceof ISuspendedDMEvent) {
+			StateChangeReason reason = ((ISuspendedDMEvent) newEvent).getReason();
+			if (reason == ((ISuspendedDMEvent) queuedEvent).getReason()) {
+				IContainerDMContext container = getCoalescingContainer((IDMEvent<?>) newEvent, queuedEvent);
+				if (container != null) {
+					return new CoalescedSuspendedEvent(container,
+							getCoalescedContexts((IDMEvent<?>) newEvent, queuedEvent), reason);
+				}
+			}
+		} else if (newEvent instanceof IResumedDMEvent && queuedEvent instanceof IResumedDMEvent) {
+			StateChangeReason reason = ((IResumedDMEvent) newEvent).getReason();
+			// Steps are not refreshed on resume, see AbstractThreadVMNode
+			if (reason != StateChangeReason.STEP && reason == ((IResumedDMEvent) queuedEvent).getReason()) {
+				IContainerDMContext container = getCoalescingContainer((IDMEvent<?>) newEvent, queuedEvent);
+				if (container != null) {
+					return new CoalescedResumedEvent(container,
+							getCoalescedContexts((IDMEvent<?>) newEvent, queuedEvent), reason);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the container of the thread of the new event if the queued event
+	 * is for another thread of this container, or is a coalesced event of this
+	 * container, <code>null</code> otherwise.
+	 */
+	private IContainerDMContext getCoalescingContainer(IDMEvent<?> newEvent, Object queuedEvent) {
+		IDMContext threadDmc = newEvent.getDMContext();
+		if (threadDmc instanceof IContainerDMContext) {
+			return null;
+		}
+		IContainerDMContext container = DMContexts.getAncestorOfType(threadDmc, IContainerDMContext.class);
+		if (container == null) {
+			return null;
+		}
+		IDMContext queuedDmc = ((IDMEvent<?>) queuedEvent).getDMContext();
+		if (queuedEvent instanceof CoalescedSuspendedEvent || queuedEvent instanceof CoalescedResumedEvent) {
+			return container.equals(queuedDmc) ? container : null;
+		}
+		if (queuedDmc instanceof IContainerDMContext
+				|| !container.equals(DMContexts.getAncestorOfType(queuedDmc, IContainerDMContext.class))) {
+			return null;
+		}
+		return container;
+	}
+
+	/**
+	 * Returns the threads of the queued event followed by the thread of the new event.
+	 */
+	private IExecutionDMContext[] getCoalescedContexts(IDMEvent<?> newEvent, Object queuedEvent) {
+		Set<IExecutionDMContext> contexts = new LinkedHashSet<>();
+		if (queuedEvent instanceof CoalescedSuspendedEvent) {
+			contexts.addAll(Arrays.asList(((CoalescedSuspendedEvent) queuedEvent).getTriggeringContexts()));
+		} else if (queuedEvent instanceof CoalescedResumedEvent) {
+			contexts.addAll(Arrays.asList(((CoalescedResumedEvent) queuedEvent).getTriggeringContexts()));
+		} else {
+			contexts.add((IExecutionDMContext) ((IDMEvent<?>) queuedEvent).getDMContext());
+		}
+		contexts.add((IExecutionDMContext) newEvent.getDMContext());
+		return contexts.toArray(new IExecutionDMContext[contexts.size()]);
+	}
+
 	protected void handlePropertyChanged(final IPreferenceStore store, final PropertyChangeEvent event) {
 		String property = event.getProperty();
 		boolean processEvent = false;
@@ -304,6 +388,14 @@ public class AbstractLaunchVMProvider extends AbstractDMVMProvider
 			getPresentationContext().setProperty(IDsfDebugUIConstants.DEBUG_VIEW_SHOW_FULL_PATH_PROPERTY,
 					event.getNewValue());
 			processEvent = true;
+		} else if (IDsfDebugUIConstants.PREF_MIN_DELTA_INTERVAL.equals(property)) {
+			final int interval = store.getInt(IDsfDebugUIConstants.PREF_MIN_DELTA_INTERVAL);
+			getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					setMinDeltaInterval(interval);
+				}
+			});
 		}
 
 		if (processEvent) {
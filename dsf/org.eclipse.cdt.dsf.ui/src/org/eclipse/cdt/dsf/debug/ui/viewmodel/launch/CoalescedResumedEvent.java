@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.debug.ui.viewmodel.launch;
+
+import org.eclipse.cdt.dsf.datamodel.AbstractDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerResumedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
+
+/**
+ * Resumed events of several threads of a container, handled by the view
+ * model as a single resumed event of the container.
+ *
+ * @see AbstractLaunchVMProvider#coalesceEvents(Object, Object)
+ */
+class CoalescedResumedEvent extends AbstractDMEvent<IExecutionDMContext> implements IContainerResumedDMEvent {
+
+	private final IExecutionDMContext[] fTriggeringContexts;
+	private final StateChangeReason fReason;
+
+	CoalescedResumedEvent(IContainerDMContext container, IExecutionDMContext[] triggeringContexts,
+			StateChangeReason reason) {
+		super(container);
+		fTriggeringContexts = triggeringContexts;
+		fReason = reason;
+	}
+
+	@Override
+	public IExecutionDMContext[] getTriggeringContexts() {
+		return fTriggeringContexts;
+	}
+
+	@Override
+	public StateChangeReason getReason() {
+		return fReason;
+	}
+}
@@ -171,10 +171,25 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 
 		/** The queue */
 		List<EventInfo> fEventQueue = new LinkedList<>();
+
+		/** Time when the handling of the last event started */
+		long fLastEventTime;
 	}
 
 	private Map<IVMModelProxy, ModelProxyEventQueue> fProxyEventQueues = new HashMap<>();
 
+	/**
+	 * Minimum time in milliseconds between the handling of two events by the
+	 * same proxy, <code>0</code> if events are handled as soon as possible.
+	 */
+	private int fMinDeltaInterval = 0;
+
+	/** Statistics on the events that didn't need to be turned into deltas */
+	private int fSkippedEventCount = 0;
+	private int fCanceledEventCount = 0;
+	private int fDeferredEventCount = 0;
+	private int fCoalescedEventCount = 0;
+
 	/**
 	 * Constructs the view model provider for given DSF session.  The
 	 * constructor is thread-safe to allow VM provider to be constructed
@@ -301,6 +316,7 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 							}
 							queue.fEventQueue.remove(queue.fEventQueue.size() - 1);
 							eventToSkipInfo.fClientRm.done();
+							fSkippedEventCount++;
 						} else {
 							break;
 						}
@@ -314,6 +330,24 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 							trace(event, queue.fCurrentEvent.fEvent, proxyStrategy, EventHandlerAction.canceled);
 						}
 						queue.fCurrentRm.cancel();
+						fCanceledEventCount++;
+					}
+
+					// Merge the new event into the last queued event if possible,
+					// the merged event is handled in place of both.
+					if (!queue.fEventQueue.isEmpty()) {
+						EventInfo lastEventInfo = queue.fEventQueue.get(queue.fEventQueue.size() - 1);
+						Object mergedEvent = coalesceEvents(event, lastEventInfo.fEvent);
+						if (mergedEvent != null) {
+							if (DEBUG_DELTA && (DEBUG_PRESENTATION_ID == null
+									|| getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
+								trace(event, lastEventInfo.fEvent, proxyStrategy, EventHandlerAction.coalesced);
+							}
+							lastEventInfo.fEvent = mergedEvent;
+							crm.done();
+							fCoalescedEventCount++;
+							continue;
+						}
 					}
 
 					if (DEBUG_DELTA && (DEBUG_PRESENTATION_ID == null
@@ -349,7 +383,7 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 		assert queue.fCurrentEvent == null && queue.fCurrentRm == null;
 
 		queue.fCurrentEvent = eventInfo;
-		queue.fCurrentRm = new RequestMonitor(getExecutor(), eventInfo.fClientRm) {
+		final RequestMonitor rm = new RequestMonitor(getExecutor(), eventInfo.fClientRm) {
 			@Override
 			protected void handleCompleted() {
 				eventInfo.fClientRm.done();
@@ -361,7 +395,27 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 				}
 			}
 		};
-		handleEvent(proxyStrategy, eventInfo.fEvent, queue.fCurrentRm);
+		queue.fCurrentRm = rm;
+
+		// If the previous event was handled too recently, hold this one back.
+		// It stays the current event of the queue meanwhile, so that the events
+		// received until the delay expires can cancel it the same way they
+		// would cancel an event being processed.
+		long delay = queue.fLastEventTime + fMinDeltaInterval - System.currentTimeMillis();
+		if (fMinDeltaInterval > 0 && delay > 0) {
+			fDeferredEventCount++;
+			Display.getDefault().timerExec((int) delay, () -> getExecutor().execute(() -> {
+				if (rm.isCanceled() || fDisposed) {
+					rm.done();
+				} else {
+					queue.fLastEventTime = System.currentTimeMillis();
+					handleEvent(proxyStrategy, eventInfo.fEvent, rm);
+				}
+			}));
+		} else {
+			queue.fLastEventTime = System.currentTimeMillis();
+			handleEvent(proxyStrategy, eventInfo.fEvent, rm);
+		}
 	}
 
 	/**
@@ -428,6 +482,90 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 		return false;
 	}
 
+	/**
+	 * Merges a new event with the event at the end of the queue of a model
+	 * proxy. This method is called after the queued events that can be skipped
+	 * in favor of the new event (see
+	 * {@link #canSkipHandlingEvent(Object, Object)}) have been removed. If it
+	 * returns an event, that event takes the place of the queued event and the
+	 * new event is not queued.
+	 * <p>
+	 * This method may be overriden by specific view model provider
+	 * implementations extending this abstract class.
+	 * </p>
+	 * @param newEvent New event that was received from the model.
+	 * @param queuedEvent Event which is currently at the end of the queue.
+	 * @return The event whose delta covers both events, or <code>null</code>
+	 * if the events cannot be merged.
+	 * @since 2.7
+	 */
+	protected Object coalesceEvents(Object newEvent, Object queuedEvent) {
+		return null;
+	}
+
+	/**
+	 * Sets the minimum time between the handling of two consecutive events by
+	 * the same model proxy. An event received sooner is held back until the
+	 * interval expires, which gives the events that follow it a chance to skip
+	 * it (see {@link #canSkipHandlingEvent(Object, Object)}) rather than having
+	 * the viewer process a delta for each of them. This should only be called
+	 * on the provider's executor thread.
+	 *
+	 * @param interval the interval in milliseconds, <code>0</code> to handle
+	 *            events as soon as possible
+	 * @since 2.7
+	 */
+	public void setMinDeltaInterval(int interval) {
+		fMinDeltaInterval = Math.max(interval, 0);
+	}
+
+	/**
+	 * @return the minimum time in milliseconds between the handling of two
+	 *         consecutive events by the same model proxy
+	 * @see #setMinDeltaInterval(int)
+	 * @since 2.7
+	 */
+	public int getMinDeltaInterval() {
+		return fMinDeltaInterval;
+	}
+
+	/**
+	 * @return the number of queued events that were dropped in favor of a
+	 *         newer event
+	 * @since 2.7
+	 */
+	public int getSkippedEventCount() {
+		return fSkippedEventCount;
+	}
+
+	/**
+	 * @return the number of events whose handling was canceled in favor of a
+	 *         newer event
+	 * @since 2.7
+	 */
+	public int getCanceledEventCount() {
+		return fCanceledEventCount;
+	}
+
+	/**
+	 * @return the number of events that were held back by the minimum delta
+	 *         interval
+	 * @see #setMinDeltaInterval(int)
+	 * @since 2.7
+	 */
+	public int getDeferredEventCount() {
+		return fDeferredEventCount;
+	}
+
+	/**
+	 * @return the number of events that were merged into a queued event
+	 * @see #coalesceEvents(Object, Object)
+	 * @since 2.7
+	 */
+	public int getCoalescedEventCount() {
+		return fCoalescedEventCount;
+	}
+
 	/** @since 1.1 */
 	@Override
 	public boolean shouldWaitHandleEventToComplete() {
@@ -802,7 +940,7 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 	 * Used for tracing event handling
 	 */
 	private enum EventHandlerAction {
-		received, queued, processing, firedDeltaFor, skipped, canceled
+		received, queued, processing, firedDeltaFor, skipped, canceled, coalesced
 	}
 
 	/**
@@ -813,7 +951,8 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 	 *            the event being handled
 	 * @param skippedOrCanceledEvent
 	 *            for a 'skip' or 'cancel' action, this is the event that is
-	 *            being dismissed. Otherwise null
+	 *            being dismissed, for a 'coalesced' action the event that the
+	 *            handled event is merged into. Otherwise null
 	 * @param proxy
 	 *            the target proxy; n/a (null) for a 'received' action.
 	 * @param action
@@ -828,6 +967,10 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 			str.append(LoggingUtils.toString(this)).append(' ').append(action).append(" event ") //$NON-NLS-1$
 					.append(LoggingUtils.toString(skippedOrCanceledEvent)).append(" because of event ") //$NON-NLS-1$
 					.append(LoggingUtils.toString(event));
+		} else if (action == EventHandlerAction.coalesced) {
+			str.append(LoggingUtils.toString(this)).append(' ').append(action).append(" event ") //$NON-NLS-1$
+					.append(LoggingUtils.toString(event)).append(" into event ") //$NON-NLS-1$
+					.append(LoggingUtils.toString(skippedOrCanceledEvent));
 		} else {
 			str.append(LoggingUtils.toString(this)).append(' ').append(action).append(" event ") //$NON-NLS-1$
 					.append(LoggingUtils.toString(event));
@@ -69,6 +69,9 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		}
 	}
 
+	/** Runnable statistics, null unless enabled */
+	private volatile DsfExecutorStatistics fStatistics;
+
 	public DefaultDsfExecutor() {
 		this("DSF Executor"); //$NON-NLS-1$
 	}
@@ -86,6 +89,10 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 			prestartAllCoreThreads();
 			fThreadToExecutorMap.put(((DsfThreadFactory) getThreadFactory()).fThread, DefaultDsfExecutor.this);
 		}
+
+		if (DEBUG_EXECUTOR_STATISTICS) {
+			setStatisticsEnabled(true);
+		}
 	}
 
 	@Override
@@ -107,6 +114,84 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		return fName;
 	}
 
+	/**
+	 * Returns the number of runnables waiting to be executed.
+	 * @since 2.12
+	 */
+	public int getQueueLength() {
+		return getQueue().size();
+	}
+
+	/**
+	 * Enables or disables the recording of runnable statistics. Enabling them
+	 * when already enabled keeps the figures collected so far.
+	 * <p>
+	 * Statistics can also be enabled for all executors with the
+	 * <code>org.eclipse.cdt.dsf/debug/executorStatistics</code> trace option.
+	 *
+	 * @see #getStatistics()
+	 * @since 2.12
+	 */
+	public void setStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			fStatistics = null;
+		} else if (fStatistics == null) {
+			fStatistics = new DsfExecutorStatistics();
+		}
+	}
+
+	/**
+	 * Returns the runnable statistics, or <code>null</code> if they are not enabled.
+	 * @since 2.12
+	 */
+	public DsfExecutorStatistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * Wraps the runnable to record its statistics, if enabled.
+	 */
+	private Runnable instrument(Runnable command) {
+		DsfExecutorStatistics statistics = fStatistics;
+		if (statistics == null) {
+			return command;
+		}
+		statistics.runnableQueued(getQueueLength());
+		return new StatisticsRunnable(command, statistics);
+	}
+
+	/**
+	 * Wrapper for runnables, measures their queue and run time.
+	 */
+	private static class StatisticsRunnable implements Runnable {
+		final Runnable fRunnable;
+		final DsfExecutorStatistics fStatistics;
+		final long fQueuedTime = System.nanoTime();
+
+		StatisticsRunnable(Runnable runnable, DsfExecutorStatistics statistics) {
+			if (runnable == null)
+				throw new NullPointerException();
+			fRunnable = runnable;
+			fStatistics = statistics;
+		}
+
+		@Override
+		public void run() {
+			long start = System.nanoTime();
+			try {
+				fRunnable.run();
+			} finally {
+				fStatistics.runnableExecuted(DsfExecutable.getInstrumentationType(fRunnable), start - fQueuedTime,
+						System.nanoTime() - start);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return fRunnable.toString();
+		}
+	}
+
 	static void logException(Throwable t) {
 		DsfPlugin plugin = DsfPlugin.getDefault();
 		if (plugin == null)
@@ -135,9 +220,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 	protected static boolean DEBUG_EXECUTOR = false;
 	protected static String DEBUG_EXECUTOR_NAME = ""; //$NON-NLS-1$
 	protected static boolean ASSERTIONS_ENABLED = false;
+	private static boolean DEBUG_EXECUTOR_STATISTICS = false;
 	static {
 		DEBUG_EXECUTOR = DsfPlugin.DEBUG
 				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executor")); //$NON-NLS-1$
+		DEBUG_EXECUTOR_STATISTICS = DsfPlugin.DEBUG
+				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executorStatistics")); //$NON-NLS-1$
 		DEBUG_EXECUTOR_NAME = DsfPlugin.DEBUG ? Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executorName") : ""; //$NON-NLS-1$ //$NON-NLS-2$
 		assert (ASSERTIONS_ENABLED = true) == true;
 	}
@@ -361,14 +449,18 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 			fRunnable = runnable;
 
 			// Check if executable wasn't executed already.
-			if (DEBUG_EXECUTOR && fRunnable instanceof DsfExecutable) {
-				assert !((DsfExecutable) fRunnable).getSubmitted() : "Executable was previously executed."; //$NON-NLS-1$
-				((DsfExecutable) fRunnable).setSubmitted();
+			Object executable = getExecutable();
+			if (DEBUG_EXECUTOR && executable instanceof DsfExecutable) {
+				assert !((DsfExecutable) executable).getSubmitted() : "Executable was previously executed."; //$NON-NLS-1$
+				((DsfExecutable) executable).setSubmitted();
 			}
 		}
 
 		@Override
 		protected Object getExecutable() {
+			if (fRunnable instanceof StatisticsRunnable) {
+				return ((StatisticsRunnable) fRunnable).fRunnable;
+			}
 			return fRunnable;
 		}
 
@@ -468,6 +560,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public void execute(Runnable command) {
+		command = instrument(command);
 		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
@@ -476,6 +569,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public Future<?> submit(Runnable command) {
+		command = instrument(command);
 		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
@@ -492,6 +586,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <T> Future<T> submit(Runnable command, T result) {
+		command = instrument(command);
 		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
 			command = new TracingWrapperRunnable(command);
 		}
@@ -183,6 +183,21 @@ public class DsfExecutable {
 		return true;
 	}
 
+	/**
+	 * Returns the type under which the executor statistics account for the
+	 * execution of this object, see {@link DsfExecutorStatistics}.
+	 */
+	String getInstrumentationType() {
+		return getClass().getName();
+	}
+
+	static String getInstrumentationType(Object executable) {
+		if (executable instanceof DsfExecutable) {
+			return ((DsfExecutable) executable).getInstrumentationType();
+		}
+		return executable.getClass().getName();
+	}
+
 	// Bug 306982
 	//  Disable the use of finalize() method in DSF runnables tracing to avoid
 	//  a performance penalty in garbage collection.
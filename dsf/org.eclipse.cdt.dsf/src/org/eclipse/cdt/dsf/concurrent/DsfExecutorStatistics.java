@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Queue length and latency figures of the runnables executed by a
+ * {@link DefaultDsfExecutor}, grouped by runnable type. For a
+ * {@link DsfExecutable} the type is the one it reports for instrumentation,
+ * e.g. the class of the request monitor being completed; for other runnables
+ * it is their class.
+ * <p>
+ * All methods are thread safe.
+ *
+ * @see DefaultDsfExecutor#setStatisticsEnabled(boolean)
+ * @since 2.12
+ */
+@ThreadSafe
+public class DsfExecutorStatistics {
+
+	/**
+	 * Figures for a single runnable type. Times are in nanoseconds.
+	 */
+	public static class Entry {
+		private final String fType;
+		private int fCount;
+		private long fTotalQueueTime;
+		private long fMaxQueueTime;
+		private long fTotalRunTime;
+		private long fMaxRunTime;
+
+		Entry(String type) {
+			fType = type;
+		}
+
+		Entry(Entry other) {
+			fType = other.fType;
+			fCount = other.fCount;
+			fTotalQueueTime = other.fTotalQueueTime;
+			fMaxQueueTime = other.fMaxQueueTime;
+			fTotalRunTime = other.fTotalRunTime;
+			fMaxRunTime = other.fMaxRunTime;
+		}
+
+		public String getType() {
+			return fType;
+		}
+
+		/**
+		 * Returns the number of executed runnables.
+		 */
+		public int getCount() {
+			return fCount;
+		}
+
+		/**
+		 * Returns the total time the runnables waited in the executor queue.
+		 */
+		public long getTotalQueueTime() {
+			return fTotalQueueTime;
+		}
+
+		public long getMaxQueueTime() {
+			return fMaxQueueTime;
+		}
+
+		/**
+		 * Returns the total time spent running the runnables.
+		 */
+		public long getTotalRunTime() {
+			return fTotalRunTime;
+		}
+
+		public long getMaxRunTime() {
+			return fMaxRunTime;
+		}
+
+		@Override
+		public String toString() {
+			long avgQueue = fCount == 0 ? 0 : fTotalQueueTime / fCount / 1000;
+			long avgRun = fCount == 0 ? 0 : fTotalRunTime / fCount / 1000;
+			return fType + ": count=" + fCount + ", avgQueue=" + avgQueue + "us, maxQueue=" + fMaxQueueTime / 1000 //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ "us, avgRun=" + avgRun + "us, maxRun=" + fMaxRunTime / 1000 + "us"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private final Map<String, Entry> fEntries = new TreeMap<>();
+	private int fMaxQueueLength;
+
+	/**
+	 * Records that a runnable was queued behind the given number of runnables.
+	 */
+	public synchronized void runnableQueued(int queueLength) {
+		fMaxQueueLength = Math.max(fMaxQueueLength, queueLength);
+	}
+
+	/**
+	 * Records the execution of a runnable.
+	 *
+	 * @param queueTime the time the runnable waited in the executor queue
+	 * @param runTime the time spent running the runnable
+	 */
+	public synchronized void runnableExecuted(String type, long queueTime, long runTime) {
+		Entry entry = fEntries.get(type);
+		if (entry == null) {
+			entry = new Entry(type);
+			fEntries.put(type, entry);
+		}
+		entry.fCount++;
+		entry.fTotalQueueTime += queueTime;
+		entry.fMaxQueueTime = Math.max(entry.fMaxQueueTime, queueTime);
+		entry.fTotalRunTime += runTime;
+		entry.fMaxRunTime = Math.max(entry.fMaxRunTime, runTime);
+	}
+
+	/**
+	 * Returns the largest number of runnables found waiting in the executor
+	 * queue when a runnable was submitted.
+	 */
+	public synchronized int getMaxQueueLength() {
+		return fMaxQueueLength;
+	}
+
+	/**
+	 * Returns a snapshot of the figures, sorted by runnable type.
+	 */
+	public synchronized Entry[] getEntries() {
+		Entry[] result = new Entry[fEntries.size()];
+		int i = 0;
+		for (Entry entry : fEntries.values()) {
+			result[i++] = new Entry(entry);
+		}
+		return result;
+	}
+
+	public synchronized void reset() {
+		fEntries.clear();
+		fMaxQueueLength = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("maxQueueLength=").append(fMaxQueueLength).append('\n'); //$NON-NLS-1$
+		for (Entry entry : fEntries.values()) {
+			buf.append(entry).append('\n');
+		}
+		return buf.toString();
+	}
+}
@@ -45,6 +45,11 @@ public class ImmediateInDsfExecutor implements Executor {
 				public void run() {
 					command.run();
 				}
+
+				@Override
+				String getInstrumentationType() {
+					return getInstrumentationType(command);
+				}
 			});
 		}
 	}
@@ -321,6 +321,12 @@ public class RequestMonitor extends DsfExecutable {
 				public String toString() {
 					return "Completed: " + RequestMonitor.this.toString(); //$NON-NLS-1$
 				}
+
+				@Override
+				String getInstrumentationType() {
+					// Account for the completion code of the monitor, not for this runnable
+					return RequestMonitor.this.getInstrumentationType();
+				}
 			});
 		} catch (RejectedExecutionException e) {
 			handleRejectedExecutionException();
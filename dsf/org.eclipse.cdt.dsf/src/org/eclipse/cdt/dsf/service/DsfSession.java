@@ -22,11 +22,15 @@ import java.util.Dictionary;
 import java.util.Formatter;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
@@ -296,6 +300,28 @@ public class DsfSession {
 	 */
 	private Map<Class<?>, Object> fAdapters = Collections.synchronizedMap(new HashMap<Class<?>, Object>());
 
+	private static class PendingEvent {
+		PendingEvent(Object event, Dictionary<?, ?> serviceProperties) {
+			fEvent = event;
+			fServiceProperties = serviceProperties;
+		}
+
+		Object fEvent;
+		final Dictionary<?, ?> fServiceProperties;
+	}
+
+	/**
+	 * Coalescable events submitted but not dispatched yet, in submission order.
+	 * Accessed from any thread, synchronized on itself.
+	 */
+	private final List<PendingEvent> fPendingEvents = new LinkedList<>();
+
+	/** Number of coalescable events merged into an earlier pending event */
+	private int fCoalescedEventCount;
+
+	/** Time in milliseconds coalescable events wait for later events to merge with */
+	private volatile int fEventCoalescingWindow;
+
 	/** Returns the owner ID of this session */
 	@ThreadSafe
 	public String getOwnerId() {
@@ -402,6 +428,10 @@ public class DsfSession {
 
 			DsfPlugin.debug(msg);
 		}
+		if (event instanceof ICoalescableEvent) {
+			dispatchCoalescableEvent(event, serviceProperties);
+			return;
+		}
 		getExecutor().submit(new DsfRunnable() {
 			@Override
 			public void run() {
@@ -415,6 +445,84 @@ public class DsfSession {
 		});
 	}
 
+	private void dispatchCoalescableEvent(Object event, Dictionary<?, ?> serviceProperties) {
+		final PendingEvent pendingEvent;
+		synchronized (fPendingEvents) {
+			// Merge with the latest pending event of the same service that accepts it,
+			// the merged event is dispatched when that pending event was due.
+			for (ListIterator<PendingEvent> itr = fPendingEvents.listIterator(fPendingEvents.size()); itr
+					.hasPrevious();) {
+				PendingEvent pending = itr.previous();
+				if (Objects.equals(pending.fServiceProperties, serviceProperties)) {
+					Object merged = ((ICoalescableEvent) event).coalesce(pending.fEvent);
+					if (merged != null) {
+						pending.fEvent = merged;
+						fCoalescedEventCount++;
+						return;
+					}
+				}
+			}
+			pendingEvent = new PendingEvent(event, serviceProperties);
+			fPendingEvents.add(pendingEvent);
+		}
+
+		DsfRunnable dispatch = new DsfRunnable() {
+			@Override
+			public void run() {
+				synchronized (fPendingEvents) {
+					fPendingEvents.remove(pendingEvent);
+				}
+				doDispatchEvent(pendingEvent.fEvent, pendingEvent.fServiceProperties);
+			}
+
+			@Override
+			public String toString() {
+				return "Event: " + pendingEvent.fEvent + ", from service " + serviceProperties; //$NON-NLS-1$//$NON-NLS-2$
+			}
+		};
+		int window = fEventCoalescingWindow;
+		if (window > 0) {
+			getExecutor().schedule(dispatch, window, TimeUnit.MILLISECONDS);
+		} else {
+			getExecutor().submit(dispatch);
+		}
+	}
+
+	/**
+	 * Sets the time during which a {@link ICoalescableEvent} waits before being
+	 * dispatched, so that later events can be merged with it. With a window of
+	 * 0, the default, events are only merged while they wait in the executor
+	 * queue.
+	 *
+	 * @param milliseconds the coalescing window
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public void setEventCoalescingWindow(int milliseconds) {
+		fEventCoalescingWindow = milliseconds;
+	}
+
+	/**
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public int getEventCoalescingWindow() {
+		return fEventCoalescingWindow;
+	}
+
+	/**
+	 * Returns the number of coalescable events that were merged into an earlier
+	 * event instead of being dispatched.
+	 *
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public int getCoalescedEventCount() {
+		synchronized (fPendingEvents) {
+			return fCoalescedEventCount;
+		}
+	}
+
 	/**
 	 * Registers a <code>IDMContext</code> adapter of given type.
 	 * @param adapterType class type to register the adapter for
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.service;
+
+import org.eclipse.cdt.dsf.concurrent.ThreadSafe;
+
+/**
+ * Service event that can be merged with an earlier event that is still
+ * waiting to be dispatched by the session. The merged event is dispatched in
+ * place of both, which saves the listeners from handling a burst of
+ * equivalent events one by one.
+ * <p>
+ * Only events whose listeners don't need to see every occurrence should
+ * implement this interface, e.g. notifications that some data needs to be
+ * refreshed. As the merged event is dispatched in place of the earlier one,
+ * its content can reach the listeners before events submitted in between.
+ *
+ * @see DsfSession#setEventCoalescingWindow(int)
+ * @since 2.12
+ */
+@ThreadSafe
+public interface ICoalescableEvent {
+	/**
+	 * Merges this event with the given one, which was submitted before this
+	 * event but is not dispatched yet.
+	 *
+	 * @param pendingEvent the earlier event
+	 * @return the event equivalent to dispatching the pending event followed by
+	 *         this one, or <code>null</code> if the events cannot be merged
+	 */
+	Object coalesce(Object pendingEvent);
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorStatistics;
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for the statistics of the DSF executor.
+ */
+public class DsfExecutorTests {
+	private DefaultDsfExecutor fExecutor;
+
+	private static class CountingRunnable extends DsfRunnable {
+		@Override
+		public void run() {
+		}
+	}
+
+	@After
+	public void shutdown() throws InterruptedException {
+		if (fExecutor != null) {
+			fExecutor.shutdown();
+			fExecutor.awaitTermination(10, TimeUnit.SECONDS);
+			fExecutor = null;
+		}
+	}
+
+	@Test
+	public void testStatistics() throws Exception {
+		fExecutor = new DefaultDsfExecutor("Test"); //$NON-NLS-1$
+		fExecutor.setStatisticsEnabled(false);
+		assertNull(fExecutor.getStatistics());
+
+		fExecutor.setStatisticsEnabled(true);
+		DsfExecutorStatistics statistics = fExecutor.getStatistics();
+		assertNotNull(statistics);
+
+		for (int i = 0; i < 10; i++) {
+			fExecutor.execute(new CountingRunnable());
+		}
+		fExecutor.submit(new CountingRunnable()).get(10, TimeUnit.SECONDS);
+
+		DsfExecutorStatistics.Entry[] entries = statistics.getEntries();
+		assertEquals(1, entries.length);
+		assertEquals(CountingRunnable.class.getName(), entries[0].getType());
+		assertEquals(11, entries[0].getCount());
+		assertTrue(entries[0].getTotalQueueTime() >= entries[0].getMaxQueueTime());
+		assertTrue(entries[0].getTotalRunTime() >= entries[0].getMaxRunTime());
+		assertTrue(statistics.getMaxQueueLength() <= 10);
+
+		statistics.reset();
+		assertEquals(0, statistics.getEntries().length);
+		assertEquals(0, fExecutor.getQueueLength());
+	}
+}
@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.cdt.tests.dsf.events;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.dsf.service.ICoalescableEvent;
 import org.eclipse.cdt.tests.dsf.DsfTestPlugin;
 import org.eclipse.cdt.tests.dsf.TestDsfExecutor;
 import org.junit.After;
@@ -250,4 +254,59 @@ public class EventTest {
 			}
 		}).get();
 	}
+
+	/** Event carrying a count, consecutive events of the same count sign merge */
+	public static class CountEvent implements ICoalescableEvent {
+		final int fCount;
+
+		CountEvent(int count) {
+			fCount = count;
+		}
+
+		@Override
+		public Object coalesce(Object pendingEvent) {
+			if (pendingEvent instanceof CountEvent && (((CountEvent) pendingEvent).fCount > 0) == (fCount > 0)) {
+				return new CountEvent(((CountEvent) pendingEvent).fCount + fCount);
+			}
+			return null;
+		}
+	}
+
+	public static class CountEventListener {
+		final List<Integer> fCounts = new ArrayList<>();
+
+		@DsfServiceEventHandler
+		public void eventDispatched(CountEvent e) {
+			fCounts.add(e.fCount);
+		}
+	}
+
+	/**
+	 * Tests that coalescable events submitted before the first of them is
+	 * dispatched are merged, and that events refusing to merge are kept.
+	 */
+	@Test
+	public void coalescedEventTest() throws ExecutionException, InterruptedException {
+		final CountEventListener listener = new CountEventListener();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				fSession.addServiceEventListener(listener, null);
+				fSession.dispatchEvent(new CountEvent(1), fService1.getProperties());
+				fSession.dispatchEvent(new CountEvent(2), fService1.getProperties());
+				fSession.dispatchEvent(new CountEvent(-1), fService1.getProperties());
+				fSession.dispatchEvent(new CountEvent(3), fService1.getProperties());
+				fSession.dispatchEvent(new CountEvent(4), fService2.getProperties());
+			}
+		}).get();
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				fSession.removeServiceEventListener(listener);
+				// The event 3 merges with the latest pending event of service 1 that accepts it
+				Assert.assertEquals(List.of(6, -1, 4), listener.fCounts);
+				Assert.assertEquals(2, fSession.getCoalescedEventCount());
+			}
+		}).get();
+	}
 }
@@ -14,16 +14,13 @@
 package org.eclipse.cdt.debug.core.memory.tests;
 
 import java.math.BigInteger;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
 import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.MemoryByte;
-import org.eclipse.osgi.util.NLS;
 
 /**
  * Simple emulator of memory block to control the memory transport without real device
@@ -33,36 +30,28 @@ final class EmulateMemory implements WriteMemory, IReadMemory {
 
 	private final BigInteger addressable;
 	private final BigInteger base;
-	//FIXME: needs improvements, assumes identical pattern during write and read
-	private final Map<BigInteger, byte[]> storage;
+	private final Map<BigInteger, Byte> storage;
 
 	EmulateMemory(BigInteger addressable, BigInteger base) {
 		this.addressable = addressable;
 		this.base = base;
-		this.storage = new LinkedHashMap<>();
+		this.storage = new HashMap<>();
 	}
 
 	@Override
 	public MemoryByte[] from(BigInteger offset, long units) throws DebugException {
 		int length = (int) (units * addressable.longValue());
 		MemoryByte[] result = new MemoryByte[length];
-		int i = 0;
-		while (i < length) {
-			byte[] raw = storage.getOrDefault(offset.add(BigInteger.valueOf(i)), new byte[0]);
-			int obtained = raw.length;
-			if (obtained > 0) {
-				for (int j = 0; j < obtained; j++) {
-					result[i + j] = new MemoryByte(raw[j]);
+		synchronized (storage) {
+			for (int i = 0; i < length; i++) {
+				Byte raw = storage.get(offset.add(BigInteger.valueOf(i)));
+				if (raw != null) {
+					result[i] = new MemoryByte(raw);
+				} else {
+					MemoryByte unavailable = new MemoryByte();
+					unavailable.setReadable(false);
+					result[i] = unavailable;
 				}
-				i = i + obtained;
-			} else {
-				//unreachable with current test data
-				MemoryByte unavailable = new MemoryByte();
-				unavailable.setReadable(false);
-				for (int j = i; j < length; j++) {
-					result[i + j] = unavailable;
-				}
-				i = length;
 			}
 		}
 		return result;
@@ -70,7 +59,12 @@ final class EmulateMemory implements WriteMemory, IReadMemory {
 
 	@Override
 	public void to(BigInteger offset, byte[] data) throws DebugException {
-		storage.put(base.add(offset), data);
+		BigInteger address = base.add(offset);
+		synchronized (storage) {
+			for (int i = 0; i < data.length; i++) {
+				storage.put(address.add(BigInteger.valueOf(i)), data[i]);
+			}
+		}
 	}
 
 	@Override
@@ -78,9 +72,4 @@ final class EmulateMemory implements WriteMemory, IReadMemory {
 		//do nothing
 	}
 
-	private DebugException failed(BigInteger offset) {
-		return new DebugException(
-				new Status(IStatus.ERROR, getClass().getName(), NLS.bind("Invalid memory access at {0}", offset))); //$NON-NLS-1$
-	}
-
 }
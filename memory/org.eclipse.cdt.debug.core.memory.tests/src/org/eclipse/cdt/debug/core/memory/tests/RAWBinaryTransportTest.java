@@ -26,6 +26,7 @@ import org.eclipse.cdt.debug.internal.core.memory.transport.RAWBinaryExport;
 import org.eclipse.cdt.debug.internal.core.memory.transport.RAWBinaryImport;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -57,6 +58,25 @@ public final class RAWBinaryTransportTest {
 		transport("memory_10001.bin", end); //$NON-NLS-1$
 	}
 
+	@Test
+	public void exportCanceled() throws CoreException, IOException {
+		EmulateMemory memory = new EmulateMemory(BigInteger.valueOf(1), base);
+		File input = new InputFile("memory_10000.bin").get(); //$NON-NLS-1$
+		new RAWBinaryImport(input, new ImportRequest(base, start, memory), new CollectScrolls())//
+				.run(new NullProgressMonitor());
+		File output = new OutputFile("memory_canceled.bin").get(); //$NON-NLS-1$
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		try {
+			new RAWBinaryExport(output, new ExportRequest(start, start.add(new BigInteger("10000", 16)), //$NON-NLS-1$
+					BigInteger.ONE, memory)).run(monitor);
+			Assert.fail("A canceled export must not complete"); //$NON-NLS-1$
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		Assert.assertFalse(output.exists());
+	}
+
 	private void transport(String name, BigInteger end) throws CoreException, IOException {
 		EmulateMemory memory = new EmulateMemory(BigInteger.valueOf(1), base);
 		CollectScrolls scroll = new CollectScrolls();
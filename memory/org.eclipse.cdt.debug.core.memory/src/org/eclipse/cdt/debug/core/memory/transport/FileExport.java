@@ -20,18 +20,26 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigInteger;
 
+import org.eclipse.cdt.debug.internal.core.memory.transport.MemoryReadAhead;
 import org.eclipse.cdt.debug.internal.core.memory.transport.Messages;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
 import org.osgi.framework.FrameworkUtil;
 
 /**
  * Exports memory information to a given file
+ * <p>
+ * The memory is read ahead in a background thread, in blocks sized after the
+ * throughput of the target, while the previous blocks are formatted and written
+ * to the file. When the export is canceled, the partial file is deleted and
+ * {@link OperationCanceledException} is thrown.
  *
  * @since 0.1
  */
@@ -64,6 +72,10 @@ public abstract class FileExport implements ICoreRunnable {
 			monitor.beginTask(Messages.FileExport_task_transferring, jobs.intValue());
 			transfer(output, factor, monitor);
 			output.flush();
+		} catch (OperationCanceledException ex) {
+			// Don't leave a truncated file that looks like a complete export
+			file.delete();
+			throw ex;
 		} catch (IOException ex) {
 			requestFailed(Messages.FileExport_e_write_file, ex);
 		} catch (DebugException ex) {
@@ -94,13 +106,87 @@ public abstract class FileExport implements ICoreRunnable {
 	 */
 	protected abstract BigInteger chunkSize();
 
-	protected abstract void transfer(OutputStream output, BigInteger factor, IProgressMonitor monitor)
-			throws IOException, DebugException;
+	/**
+	 * Reads the memory and writes it to the given output, block by block.
+	 *
+	 * @throws OperationCanceledException if the monitor is canceled or the
+	 *             thread is interrupted before the whole range is written
+	 * @since 0.2
+	 */
+	protected void transfer(OutputStream output, BigInteger factor, IProgressMonitor monitor)
+			throws IOException, DebugException {
+		BigInteger chunkSize = chunkSize();
+		BigInteger chunks = BigInteger.ZERO;
+		BigInteger reported = BigInteger.ZERO;
+		try (MemoryReadAhead reader = new MemoryReadAhead(read, start, end, chunkSize, this::units)) {
+			MemoryReadAhead.Block block = reader.next();
+			while (block != null && !monitor.isCanceled()) {
+				monitor.subTask(transferring(block.length, block.address, reader.megabytesPerSecond()));
+				write(output, block.address, block.length, block.bytes);
+				chunks = chunks.add(block.length.add(chunkSize).subtract(BigInteger.ONE).divide(chunkSize));
+				BigInteger work = chunks.divide(factor);
+				monitor.worked(work.subtract(reported).intValue());
+				reported = work;
+				block = reader.next();
+			}
+			if (block != null) {
+				throw new OperationCanceledException();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Formats a block of memory to the given output. The block starts at the
+	 * beginning of a data chunk and, except for the last one, its length is a
+	 * multiple of the {@link #chunkSize()}. The default implementation writes
+	 * the raw bytes.
+	 *
+	 * @param output the output to write to
+	 * @param address the address of the block
+	 * @param length the length of the block
+	 * @param bytes the memory read for the block
+	 * @throws IOException
+	 *
+	 * @since 0.2
+	 */
+	protected void write(OutputStream output, BigInteger address, BigInteger length, MemoryByte[] bytes)
+			throws IOException {
+		byte[] values = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			//FIXME: check MemoryByte#isReadable
+			values[i] = bytes[i].getValue();
+		}
+		output.write(values);
+	}
+
+	/**
+	 * Determines the number of addressable units to read for a block of the
+	 * given length
+	 *
+	 * @param length the length of the block
+	 * @return the number of addressable units
+	 *
+	 * @since 0.2
+	 */
+	protected long units(BigInteger length) {
+		return length.longValue() / addressable.longValue();
+	}
 
 	protected String transferring(BigInteger length, BigInteger address) {
 		return String.format(Messages.FileExport_sub_transferring, length.toString(10), address.toString(16));
 	}
 
+	/**
+	 * @since 0.2
+	 */
+	protected String transferring(BigInteger length, BigInteger address, double megabytesPerSecond) {
+		return String.format(Messages.FileExport_sub_transferring_rate, length.toString(10), address.toString(16),
+				String.format("%.1f", megabytesPerSecond)); //$NON-NLS-1$
+	}
+
 	protected void requestFailed(String message, Throwable exception) throws DebugException {
 		failed(DebugException.REQUEST_FAILED, message, exception);
 	}
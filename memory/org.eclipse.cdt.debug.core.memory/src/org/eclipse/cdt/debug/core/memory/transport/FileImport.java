@@ -18,6 +18,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.math.BigInteger;
 
+import org.eclipse.cdt.debug.internal.core.memory.transport.MemoryWriteBehind;
 import org.eclipse.cdt.debug.internal.core.memory.transport.Messages;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
@@ -30,6 +31,9 @@ import org.osgi.framework.FrameworkUtil;
 
 /**
  * Imports memory information from a given file
+ * <p>
+ * The data is written to the memory in a background thread, in contiguous
+ * batches, while the following part of the file is parsed.
  *
  * @since 0.1
  */
@@ -41,17 +45,20 @@ public abstract class FileImport<I extends AutoCloseable> implements ICoreRunnab
 	protected final IScrollMemory scroll;
 
 	private final File file;
+	private final MemoryWriteBehind writeBehind;
 
 	protected FileImport(File input, ImportRequest request, IScrollMemory scroll) {
 		this.file = input;
 		this.base = request.base();
 		this.start = request.start();
-		this.write = request.write();
+		this.writeBehind = new MemoryWriteBehind(request.write());
+		this.write = writeBehind;
 		this.scroll = scroll;
 	}
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
+		writeBehind.start(monitor::subTask);
 		try (I reader = input(file)) {
 			BigInteger jobs = BigInteger.valueOf(file.length());
 			BigInteger factor = BigInteger.ONE;
@@ -71,6 +78,7 @@ public abstract class FileImport<I extends AutoCloseable> implements ICoreRunnab
 		} catch (Exception ex) {
 			internalError(Messages.FileImport_e_import_file, ex);
 		} finally {
+			writeBehind.close();
 			monitor.done();
 		}
 	}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.math.BigInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Reads a range of memory in a background thread, ahead of the consumer of
+ * the data, so that the target is read while the previous blocks are formatted
+ * and written.
+ * <p>
+ * The size of the blocks adapts to the throughput of the target: it doubles
+ * while a read takes less than half of {@link #TARGET_READ_NANOS} and halves
+ * when a read takes more than twice as long, so that slow targets still report
+ * progress and can be canceled often. Block sizes stay multiples of the given
+ * alignment.
+ */
+public final class MemoryReadAhead implements AutoCloseable {
+
+	/** Number of blocks read and not consumed yet */
+	private static final int DEPTH = 2;
+
+	private static final long TARGET_READ_NANOS = 250_000_000L;
+	private static final long MIN_BLOCK_LENGTH = 4 * 1024;
+	private static final long MAX_BLOCK_LENGTH = 256 * 1024;
+
+	/** A block of memory */
+	public static final class Block {
+		public final BigInteger address;
+		public final BigInteger length;
+		public final MemoryByte[] bytes;
+
+		Block(BigInteger address, BigInteger length, MemoryByte[] bytes) {
+			this.address = address;
+			this.length = length;
+			this.bytes = bytes;
+		}
+	}
+
+	private static final Block END = new Block(null, null, null);
+
+	private final IReadMemory read;
+	private final BigInteger start;
+	private final BigInteger end;
+	private final Function<BigInteger, Long> units;
+	private final long minBlockLength;
+	private final long maxBlockLength;
+	private final BlockingQueue<Block> queue = new ArrayBlockingQueue<>(DEPTH);
+	private final Thread thread;
+
+	private volatile boolean closed;
+	private volatile Exception failure;
+	private volatile long bytesRead;
+	private final long startTime = System.nanoTime();
+
+	/**
+	 * Starts reading the given range.
+	 *
+	 * @param read the memory to read
+	 * @param start the first address to read
+	 * @param end the address following the last one to read
+	 * @param alignment the length that block lengths are a multiple of
+	 * @param units converts the length of a block to the number of
+	 *            addressable units to read
+	 */
+	public MemoryReadAhead(IReadMemory read, BigInteger start, BigInteger end, BigInteger alignment,
+			Function<BigInteger, Long> units) {
+		this.read = read;
+		this.start = start;
+		this.end = end;
+		this.units = units;
+		long align = Math.max(1, alignment.longValue());
+		this.minBlockLength = (MIN_BLOCK_LENGTH + align - 1) / align * align;
+		this.maxBlockLength = Math.max(minBlockLength, MAX_BLOCK_LENGTH / align * align);
+		this.thread = new Thread(this::readAll, "Memory read-ahead"); //$NON-NLS-1$
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	private void readAll() {
+		try {
+			BigInteger address = start;
+			long blockLength = minBlockLength;
+			while (address.compareTo(end) < 0 && !closed) {
+				BigInteger length = BigInteger.valueOf(blockLength).min(end.subtract(address));
+				long begin = System.nanoTime();
+				MemoryByte[] bytes = read.from(address, units.apply(length));
+				long elapsed = System.nanoTime() - begin;
+				bytesRead += bytes.length;
+				if (elapsed < TARGET_READ_NANOS / 2 && blockLength * 2 <= maxBlockLength) {
+					blockLength *= 2;
+				} else if (elapsed > TARGET_READ_NANOS * 2 && blockLength / 2 >= minBlockLength) {
+					blockLength /= 2;
+				}
+				queue.put(new Block(address, length, bytes));
+				address = address.add(length);
+			}
+		} catch (InterruptedException e) {
+			// closed by the consumer
+			return;
+		} catch (Exception e) {
+			failure = e;
+		}
+		try {
+			queue.put(END);
+		} catch (InterruptedException e) {
+			// closed by the consumer
+		}
+	}
+
+	/**
+	 * Returns the next block of memory, waiting for it to be read.
+	 *
+	 * @return the block, or <code>null</code> once the whole range was returned
+	 * @throws DebugException if the memory could not be read
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Block next() throws DebugException, InterruptedException {
+		Block block = queue.take();
+		if (block == END) {
+			// Let subsequent calls see the end too
+			queue.offer(END);
+			Exception e = failure;
+			if (e instanceof DebugException) {
+				throw (DebugException) e;
+			} else if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			}
+			return null;
+		}
+		return block;
+	}
+
+	/**
+	 * @return the average read throughput since the start, in megabytes per
+	 *         second
+	 */
+	public double megabytesPerSecond() {
+		long elapsed = System.nanoTime() - startTime;
+		return elapsed > 0 ? bytesRead * 1000.0 / elapsed : 0;
+	}
+
+	/**
+	 * Stops reading, the blocks not consumed yet are dropped.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		thread.interrupt();
+		queue.clear();
+	}
+}
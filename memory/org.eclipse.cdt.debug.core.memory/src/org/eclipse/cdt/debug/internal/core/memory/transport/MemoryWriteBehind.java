@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Writes memory in a background thread, behind the producer of the data, so
+ * that the file is parsed while the previous data is written to the target.
+ * <p>
+ * Contiguous writes are coalesced into batches of up to {@link #BATCH_LENGTH}
+ * bytes before they are handed to the writing thread. A failure to write is
+ * reported by the next call to {@link #to(BigInteger, byte[])} or
+ * {@link #flush()}.
+ */
+public final class MemoryWriteBehind implements WriteMemory, AutoCloseable {
+
+	private static final int BATCH_LENGTH = 64 * 1024;
+
+	/** Number of batches coalesced and not written yet */
+	private static final int DEPTH = 4;
+
+	/** Minimum interval between reports of the throughput */
+	private static final long REPORT_NANOS = 500_000_000L;
+
+	private static final class Batch {
+		final BigInteger offset;
+		final byte[] data;
+		final CountDownLatch flushed;
+
+		Batch(BigInteger offset, byte[] data, CountDownLatch flushed) {
+			this.offset = offset;
+			this.data = data;
+			this.flushed = flushed;
+		}
+	}
+
+	private static final Batch CLOSE = new Batch(null, null, null);
+
+	private final WriteMemory delegate;
+	private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(DEPTH);
+	private final ByteArrayOutputStream pending = new ByteArrayOutputStream(BATCH_LENGTH);
+	private BigInteger pendingOffset;
+	private Thread thread;
+	private Consumer<String> report;
+
+	private volatile Exception failure;
+	private volatile long bytesWritten;
+	private long startTime;
+
+	public MemoryWriteBehind(WriteMemory delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Starts the writing thread
+	 *
+	 * @param report receives the throughput of the writes, from the writing
+	 *            thread
+	 */
+	public void start(Consumer<String> report) {
+		this.report = report;
+		this.startTime = System.nanoTime();
+		this.thread = new Thread(this::writeAll, "Memory write-behind"); //$NON-NLS-1$
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	private void writeAll() {
+		long lastReport = System.nanoTime();
+		while (true) {
+			Batch batch;
+			try {
+				batch = queue.take();
+			} catch (InterruptedException e) {
+				// closed by the producer
+				return;
+			}
+			if (batch == CLOSE) {
+				return;
+			}
+			try {
+				if (failure != null) {
+					// drop the data following a failure
+				} else if (batch.flushed != null) {
+					delegate.flush();
+				} else {
+					delegate.to(batch.offset, batch.data);
+					bytesWritten += batch.data.length;
+				}
+			} catch (Exception e) {
+				failure = e;
+			} finally {
+				if (batch.flushed != null) {
+					batch.flushed.countDown();
+				}
+			}
+			long now = System.nanoTime();
+			if (now - lastReport > REPORT_NANOS) {
+				lastReport = now;
+				report.accept(String.format(Messages.FileImport_sub_transferring_rate,
+						Long.toString(bytesWritten), String.format("%.1f", megabytesPerSecond()))); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Override
+	public void to(BigInteger offset, byte[] data) throws DebugException {
+		checkFailure();
+		if (pendingOffset != null
+				&& (!pendingOffset.add(BigInteger.valueOf(pending.size())).equals(offset)
+						|| pending.size() + data.length > BATCH_LENGTH)) {
+			submitPending();
+		}
+		if (pendingOffset == null) {
+			pendingOffset = offset;
+		}
+		pending.write(data, 0, data.length);
+		if (pending.size() >= BATCH_LENGTH) {
+			submitPending();
+		}
+	}
+
+	@Override
+	public void flush() throws DebugException {
+		submitPending();
+		CountDownLatch flushed = new CountDownLatch(1);
+		submit(new Batch(null, null, flushed));
+		try {
+			flushed.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw interrupted(e);
+		}
+		checkFailure();
+	}
+
+	private void submitPending() throws DebugException {
+		if (pendingOffset != null) {
+			submit(new Batch(pendingOffset, pending.toByteArray(), null));
+			pendingOffset = null;
+			pending.reset();
+		}
+	}
+
+	private void submit(Batch batch) throws DebugException {
+		try {
+			queue.put(batch);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw interrupted(e);
+		}
+	}
+
+	private void checkFailure() throws DebugException {
+		Exception e = failure;
+		if (e instanceof DebugException) {
+			throw (DebugException) e;
+		} else if (e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		}
+	}
+
+	private DebugException interrupted(InterruptedException e) {
+		return new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.REQUEST_FAILED,
+				Messages.FileImport_e_write_target, e));
+	}
+
+	/**
+	 * @return the average write throughput since the start, in megabytes per
+	 *         second
+	 */
+	public double megabytesPerSecond() {
+		long elapsed = System.nanoTime() - startTime;
+		return elapsed > 0 ? bytesWritten * 1000.0 / elapsed : 0;
+	}
+
+	/**
+	 * Stops writing, the data not flushed yet is dropped.
+	 */
+	@Override
+	public void close() {
+		if (thread == null) {
+			return;
+		}
+		queue.clear();
+		if (!queue.offer(CLOSE)) {
+			thread.interrupt();
+		}
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		thread = null;
+	}
+}
@@ -21,10 +21,12 @@ public class Messages extends NLS {
 	public static String FileExport_e_read_target;
 	public static String FileExport_e_write_file;
 	public static String FileExport_sub_transferring;
+	public static String FileExport_sub_transferring_rate;
 	public static String FileExport_task_transferring;
 	public static String FileImport_e_import_file;
 	public static String FileImport_e_read_file;
 	public static String FileImport_e_write_target;
+	public static String FileImport_sub_transferring_rate;
 	public static String FileImport_task_transferring;
 	public static String PlainTextImport_e_invalid_format;
 	public static String SRecordImport_e_checksum_failure;
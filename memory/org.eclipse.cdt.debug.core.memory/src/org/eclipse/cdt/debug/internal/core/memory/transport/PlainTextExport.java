@@ -21,8 +21,6 @@ import java.math.BigInteger;
 
 import org.eclipse.cdt.debug.core.memory.transport.ExportRequest;
 import org.eclipse.cdt.debug.core.memory.transport.FileExport;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.MemoryByte;
 
 public final class PlainTextExport extends FileExport {
@@ -44,28 +42,25 @@ public final class PlainTextExport extends FileExport {
 	}
 
 	@Override
-	protected void transfer(OutputStream output, BigInteger factor, IProgressMonitor monitor)
-			throws IOException, DebugException {
-		// These variables control how the output will be formatted
-		// The output data is split by chunks of 1 addressable unit size.
-		final BigInteger dataCellSize = BigInteger.valueOf(1);
-		BigInteger transferAddress = start;
-		BigInteger jobCount = BigInteger.ZERO;
-		BigInteger dataCellsPerLine = chunkSize();
-		while (transferAddress.compareTo(end) < 0 && !monitor.isCanceled()) {
-			BigInteger length = dataCellsPerLine;
-			if (end.subtract(transferAddress).compareTo(length) < 0) {
-				length = end.subtract(transferAddress);
-			}
-			monitor.subTask(transferring(length, transferAddress));
+	protected long units(BigInteger length) {
+		// one addressable unit is read per data cell
+		return length.longValue();
+	}
+
+	@Override
+	protected void write(OutputStream output, BigInteger address, BigInteger length, MemoryByte[] bytes)
+			throws IOException {
+		final int cellsPerLine = chunkSize().intValue();
+		final int bytesPerCell = addressable.intValue();
+		final int cells = length.intValue();
+		for (int line = 0; line < cells; line += cellsPerLine) {
 			StringBuilder buf = new StringBuilder();
-			for (int i = 0; i < length.divide(dataCellSize).intValue(); i++) {
-				if (i != 0) {
+			for (int i = line; i < Math.min(line + cellsPerLine, cells); i++) {
+				if (i != line) {
 					buf.append(" "); //$NON-NLS-1$
 				}
-				BigInteger from = transferAddress.add(dataCellSize.multiply(BigInteger.valueOf(i)));
-				MemoryByte[] bytes = read.from(from, dataCellSize.longValue());
-				for (int byteIndex = 0; byteIndex < bytes.length; byteIndex++) {
+				for (int byteIndex = i * bytesPerCell; byteIndex < (i + 1) * bytesPerCell
+						&& byteIndex < bytes.length; byteIndex++) {
 					//FIXME: check MemoryByte#isReadable
 					String bString = BigInteger.valueOf(0xFF & bytes[byteIndex].getValue()).toString(16);
 					if (bString.length() == 1) {
@@ -76,12 +71,6 @@ public final class PlainTextExport extends FileExport {
 			}
 			output.write(buf.toString().toUpperCase().getBytes());
 			output.write("\n".getBytes()); //$NON-NLS-1$
-			transferAddress = transferAddress.add(length);
-			jobCount = jobCount.add(BigInteger.ONE);
-			if (jobCount.compareTo(factor) == 0) {
-				jobCount = BigInteger.ZERO;
-				monitor.worked(1);
-			}
 		}
 	}
 
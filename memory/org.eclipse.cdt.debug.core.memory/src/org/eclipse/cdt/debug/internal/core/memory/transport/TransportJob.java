@@ -17,6 +17,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
@@ -39,6 +40,8 @@ public final class TransportJob extends Job {
 			runnable.run(monitor);
 		} catch (CoreException e) {
 			return e.getStatus();
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
 		}
 		return Status.OK_STATUS;
 	}
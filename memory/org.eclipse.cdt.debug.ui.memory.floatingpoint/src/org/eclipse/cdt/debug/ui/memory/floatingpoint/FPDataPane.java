@@ -227,6 +227,14 @@ public class FPDataPane extends FPAbstractPane {
 			BigInteger cellEndAddr;
 
 			for (int row = 0; row < boundsHeight / cellHeight; row++) {
+				// Skip the rows outside of the damaged area
+
+				if (cellHeight * (row + 1) <= pe.y || cellHeight * row >= pe.y + pe.height) {
+					memoryAddr = memoryAddr
+							.add(BigInteger.valueOf(columns * fRendering.getFPDataType().getByteLength()));
+					continue;
+				}
+
 				for (int column = 0; column < columns; column++) {
 					// Set alternating colors for every other column and display the text
 					// FIXME: There is duplicate code in applyCustomColor() in this class
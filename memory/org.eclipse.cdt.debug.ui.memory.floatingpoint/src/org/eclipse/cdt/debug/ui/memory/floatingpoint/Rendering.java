@@ -20,12 +20,14 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.Vector;
 
 import org.eclipse.cdt.debug.ui.memory.floatingpoint.FPutilities.FPDataType;
+import org.eclipse.cdt.debug.ui.memory.traditional.MemoryViewportStore;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -643,38 +645,13 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		}
 
-		class MemoryUnit implements Cloneable {
-			BigInteger start;
-
-			BigInteger end;
-
-			FPMemoryByte[] bytes;
-
-			@Override
-			public MemoryUnit clone() {
-				MemoryUnit b = new MemoryUnit();
-
-				b.start = this.start;
-				b.end = this.end;
-				b.bytes = new FPMemoryByte[this.bytes.length];
-				for (int index = 0; index < this.bytes.length; index++)
-					b.bytes[index] = new FPMemoryByte(this.bytes[index].getValue());
-
-				return b;
-			}
-
-			public boolean isValid() {
-				return this.start != null && this.end != null && this.bytes != null;
-			}
-		}
-
 		@SuppressWarnings("hiding")
 		private HashMap<BigInteger, FPMemoryByte[]> fEditBuffer = new HashMap<>();
 		private boolean fDisposed = false;
 		private Object fLastQueued = null;
 		private Vector<Object> fQueue = new Vector<>();
-		protected MemoryUnit fCache = null;
-		protected MemoryUnit fHistoryCache[] = new MemoryUnit[0];
+		protected MemoryViewportStore fCache = null;
+		protected MemoryViewportStore fHistoryCache[] = new MemoryViewportStore[0];
 		protected int fHistoryDepth = 0;
 
 		public ViewportCache() {
@@ -695,7 +672,7 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		public void setHistoryDepth(int depth) {
 			fHistoryDepth = depth;
-			fHistoryCache = new MemoryUnit[fHistoryDepth];
+			fHistoryCache = new MemoryViewportStore[fHistoryDepth];
 		}
 
 		@Override
@@ -764,7 +741,7 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 					for (int i = fViewportCache.getHistoryDepth() - 1; i > 0; i--)
 						fHistoryCache[i] = fHistoryCache[i - 1];
 
-					fHistoryCache[0] = fCache.clone();
+					fHistoryCache[0] = fCache.copy();
 				} else if (pair != null) {
 					populateCache(pair.startAddress, pair.endAddress);
 				} else {
@@ -803,16 +780,12 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 				// only guaranteed to work for bytes within the address range of the MemoryBlock.
 
 				MemoryByte readBytes[] = memoryBlock.getBytesFromAddress(startAddress, units);
-				FPMemoryByte cachedBytes[] = new FPMemoryByte[readBytes.length];
-
-				for (int index = 0; index < readBytes.length; index++)
-					cachedBytes[index] = new FPMemoryByte(readBytes[index].getValue(), readBytes[index].getFlags());
 
 				// Derive the target endian from the read MemoryBytes.
 
-				if (cachedBytes.length > 0)
-					if (cachedBytes[0].isEndianessKnown())
-						setTargetLittleEndian(!cachedBytes[0].isBigEndian());
+				if (readBytes.length > 0)
+					if (readBytes[0].isEndianessKnown())
+						setTargetLittleEndian(!readBytes[0].isBigEndian());
 
 				// The first time we execute this method, set the display endianness to the target endianness.
 
@@ -823,214 +796,23 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 				// Re-order bytes within unit to be a sequential byte stream if the endian is already little
 
-				if (isTargetLittleEndian()) {
-					// There isn't an order when the unit size is one, so skip for performance
-
-					if (addressableSize.compareTo(BigInteger.ONE) != 0) {
-						int unitSize = addressableSize.intValue();
-						FPMemoryByte cachedBytesAsByteSequence[] = new FPMemoryByte[cachedBytes.length];
-						for (int unit = 0; unit < units; unit++) {
-							for (int unitbyte = 0; unitbyte < unitSize; unitbyte++) {
-								cachedBytesAsByteSequence[unit * unitSize + unitbyte] = cachedBytes[unit * unitSize
-										+ unitSize - unitbyte];
-							}
-						}
-						cachedBytes = cachedBytesAsByteSequence;
-					}
-				}
-
-				final FPMemoryByte[] cachedBytesFinal = cachedBytes;
-
-				fCache = new MemoryUnit();
-				fCache.start = startAddress;
-				fCache.end = endAddress;
-				fCache.bytes = cachedBytesFinal;
+				final MemoryViewportStore cache = new MemoryViewportStore(startAddress, endAddress,
+						getAddressableSize(), readBytes, isTargetLittleEndian());
+				final MemoryViewportStore previous = fCache;
+				fCache = cache;
 
 				Display.getDefault().asyncExec(() -> {
 					// Generate deltas
 
 					for (int historyIndex = 0; historyIndex < getHistoryDepth(); historyIndex++) {
-						if (fHistoryCache[historyIndex] != null && fHistoryCache[historyIndex].isValid()) {
-							BigInteger maxStart = startAddress.max(fHistoryCache[historyIndex].start);
-							BigInteger minEnd = endAddress.min(fHistoryCache[historyIndex].end)
-									.subtract(BigInteger.ONE);
-
-							BigInteger overlapLength = minEnd.subtract(maxStart);
-							if (overlapLength.compareTo(BigInteger.valueOf(0)) > 0) {
-								// there is overlap
-
-								int offsetIntoOld = maxStart.subtract(fHistoryCache[historyIndex].start).intValue();
-								int offsetIntoNew = maxStart.subtract(startAddress).intValue();
-
-								for (int i = overlapLength.intValue(); i >= 0; i--) {
-									cachedBytesFinal[offsetIntoNew + i].setChanged(historyIndex,
-											cachedBytesFinal[offsetIntoNew + i]
-													.getValue() != fHistoryCache[historyIndex].bytes[offsetIntoOld + i]
-															.getValue());
-								}
-
-								// There are several scenarios where the history cache must be updated from the data cache, so that when a
-								// cell is edited the font color changes appropriately. The following code deals with the different cases.
-
-								if (historyIndex != 0)
-									continue;
-
-								int dataStart = fCache.start.intValue();
-								int dataEnd = fCache.end.intValue();
-								int dataLength = fCache.bytes.length;
-
-								int historyStart = fHistoryCache[0].start.intValue();
-								int historyEnd = fHistoryCache[0].end.intValue();
-								int historyLength = fHistoryCache[0].bytes.length;
-
-								// Case 1: The data cache is smaller than the history cache; the data cache's
-								//         address range is fully covered by the history cache.  Do nothing.
-
-								if ((dataStart >= historyStart) && (dataEnd <= historyEnd))
-									continue;
-
-								// Case 2: The data and history cache's do not overlap at all
-
-								if (((dataStart < historyStart) && (dataEnd < historyStart))
-										|| (dataStart > historyEnd)) {
-									// Create a new history cache: Copy the data cache bytes to the history cache
-
-									MemoryUnit newHistoryCache1 = new MemoryUnit();
-
-									newHistoryCache1.start = fCache.start;
-									newHistoryCache1.end = fCache.end;
-									int newHistoryCacheSize1 = fCache.bytes.length;
-									newHistoryCache1.bytes = new FPMemoryByte[newHistoryCacheSize1];
-
-									for (int index1 = 0; index1 < newHistoryCacheSize1; index1++)
-										newHistoryCache1.bytes[index1] = new FPMemoryByte(
-												fCache.bytes[index1].getValue());
-
-									fHistoryCache[0] = newHistoryCache1;
-
-									continue;
-								}
-
-								// Case 3: The data cache starts at a lower address than the history cache, but overlaps the history cache
-
-								if ((dataStart < historyStart)
-										&& ((dataEnd >= historyStart) && (dataEnd <= historyEnd))) {
-									// Create a new history cache with the missing data from the main cache and append the old history to it.
-
-									int missingDataByteCount1 = historyStart - dataStart;
-									int historyCacheSize1 = historyLength;
-									int newHistoryCacheSize2 = missingDataByteCount1 + historyLength;
-
-									if (missingDataByteCount1 <= 0 && historyCacheSize1 <= 0)
-										break;
-
-									MemoryUnit newHistoryCache2 = new MemoryUnit();
-
-									newHistoryCache2.start = fCache.start;
-									newHistoryCache2.end = fHistoryCache[0].end;
-									newHistoryCache2.bytes = new FPMemoryByte[newHistoryCacheSize2];
-
-									// Copy the missing bytes from the beginning of the main cache to the history cache.
-
-									for (int index2 = 0; index2 < missingDataByteCount1; index2++)
-										newHistoryCache2.bytes[index2] = new FPMemoryByte(
-												fCache.bytes[index2].getValue());
-
-									// Copy the remaining bytes from the old history cache to the new history cache
+						if (fHistoryCache[historyIndex] != null) {
+							cache.computeChanges(historyIndex, fHistoryCache[historyIndex]);
 
-									for (int index3 = 0; index3 < historyCacheSize1; index3++)
-										newHistoryCache2.bytes[index3 + missingDataByteCount1] = new FPMemoryByte(
-												fHistoryCache[0].bytes[index3].getValue());
+							// The history cache must cover the data cache, so that when a cell is edited
+							// the font color changes appropriately.
 
-									fHistoryCache[0] = newHistoryCache2;
-
-									continue;
-								}
-
-								// Case 4: The data cache starts at a higher address than the history cache
-
-								if (((dataStart >= historyStart) && (dataStart <= historyEnd))
-										&& (dataEnd > historyEnd)) {
-									// Append the missing main cache bytes to the history cache.
-
-									int missingDataByteCount2 = dataEnd - historyEnd;
-									int historyCacheSize2 = historyEnd - historyStart;
-									int newHistoryCacheSize3 = missingDataByteCount2 + historyLength;
-
-									if (missingDataByteCount2 > 0 && historyCacheSize2 > 0) {
-										MemoryUnit newHistoryCache3 = new MemoryUnit();
-
-										newHistoryCache3.start = fHistoryCache[0].start;
-										newHistoryCache3.end = fCache.end;
-										newHistoryCache3.bytes = new FPMemoryByte[newHistoryCacheSize3];
-
-										// Copy the old history bytes to the new history cache
-
-										System.arraycopy(fHistoryCache[0].bytes, 0, newHistoryCache3.bytes, 0,
-												historyLength);
-
-										// Copy the bytes from the main cache that are not in the history cache to the end of the new history cache.
-
-										for (int index4 = 0; index4 < missingDataByteCount2; index4++) {
-											int srcIndex = dataLength - missingDataByteCount2 + index4;
-											int dstIndex = historyLength + index4;
-											newHistoryCache3.bytes[dstIndex] = new FPMemoryByte(
-													fCache.bytes[srcIndex].getValue());
-										}
-
-										fHistoryCache[0] = newHistoryCache3;
-
-										continue;
-									}
-								}
-
-								// Case 5 - The data cache is greater than the history cache and fully covers it
-
-								if (dataStart < historyStart && dataEnd > historyEnd) {
-									int start = 0;
-									int end = 0;
-
-									// Create a new history cache to reflect the entire data cache
-
-									MemoryUnit newHistoryCache4 = new MemoryUnit();
-
-									newHistoryCache4.start = fCache.start;
-									newHistoryCache4.end = fCache.end;
-									int newHistoryCacheSize4 = fCache.bytes.length;
-									newHistoryCache4.bytes = new FPMemoryByte[newHistoryCacheSize4];
-
-									int topByteCount = historyStart - dataStart;
-									int bottomByteCount = dataEnd - historyEnd;
-
-									// Copy the bytes from the beginning of the data cache to the new history cache
-
-									for (int index5 = 0; index5 < topByteCount; index5++)
-										newHistoryCache4.bytes[index5] = new FPMemoryByte(
-												fCache.bytes[index5].getValue());
-
-									// Copy the old history cache bytes to the new history cache
-
-									start = topByteCount;
-									end = topByteCount + historyLength;
-
-									for (int index6 = start; index6 < end; index6++)
-										newHistoryCache4.bytes[index6] = new FPMemoryByte(
-												fCache.bytes[index6].getValue());
-
-									// Copy the bytes from the end of the data cache to the new history cache
-
-									start = topByteCount + historyLength;
-									end = topByteCount + historyLength + bottomByteCount;
-
-									for (int index7 = start; index7 < end; index7++)
-										newHistoryCache4.bytes[index7] = new FPMemoryByte(
-												fCache.bytes[index7].getValue());
-
-									fHistoryCache[0] = newHistoryCache4;
-
-									continue;
-								}
-							}
+							if (historyIndex == 0)
+								fHistoryCache[0] = fHistoryCache[0].extend(cache);
 						}
 					}
 
@@ -1038,10 +820,20 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 					// cache.  This solves the use case of (1) connect to target; (2) edit memory
 					// before the first suspend debug event; (3) paint differences in changed color.
 
-					if (fHistoryCache[0] == null)
-						fHistoryCache[0] = fCache.clone();
+					if (getHistoryDepth() > 0 && fHistoryCache[0] == null)
+						fHistoryCache[0] = cache.copy();
+
+					// Only repaint the rows that changed when the viewport did not move
+
+					BitSet rows = null;
+					if (previous != null && startAddress.equals(fViewportAddress))
+						rows = cache.getChangedRows(previous,
+								getColumnCount() * getFPDataType().getByteLength());
 
-					Rendering.this.redrawPanes();
+					if (rows != null)
+						Rendering.this.redrawRows(rows);
+					else
+						Rendering.this.redrawPanes();
 				});
 
 			} catch (Exception e) {
@@ -1061,23 +853,18 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 			if (containsEditedCell(address)) // Cell size cannot be switched during an edit
 				return getEditedMemory(address);
 
-			boolean contains = false;
-			if (fCache != null && fCache.start != null) {
-				// See if all of the data requested is in the cache
-
-				BigInteger dataEnd = address.add(BigInteger.valueOf(bytesRequested));
-
-				if (fCache.start.compareTo(address) <= 0 && fCache.end.compareTo(dataEnd) >= 0
-						&& fCache.bytes.length > 0)
-					contains = true;
-			}
-
-			if (contains) {
-				int offset = address.subtract(fCache.start).intValue();
+			MemoryViewportStore cache = fCache;
+			if (cache != null && cache.contains(address, bytesRequested)) {
+				int offset = cache.getOffset(address);
+				int levels = cache.getChangeLevels();
 				FPMemoryByte bytes[] = new FPMemoryByte[bytesRequested];
 
-				for (int index = 0; index < bytes.length; index++)
-					bytes[index] = fCache.bytes[offset + index];
+				for (int index = 0; index < bytes.length; index++) {
+					bytes[index] = new FPMemoryByte(cache.getValue(offset + index), cache.getFlags(offset + index));
+					for (int level = 0; level < levels; level++)
+						if (cache.hasChanges(level))
+							bytes[index].setChanged(level, cache.isChanged(level, offset + index));
+				}
 
 				return bytes;
 			}
@@ -1791,6 +1578,23 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 		fParent.updateRenderingLabels();
 	}
 
+	/**
+	 * Repaints the given rows of the data pane, the addresses of the rows are unchanged.
+	 *
+	 * @param rows the indexes of the rows to repaint
+	 */
+	protected void redrawRows(BitSet rows) {
+		if (!isDisposed() && this.isVisible() && fDataPane.isPaneVisible()) {
+			int cellHeight = fDataPane.getCellHeight();
+			int width = fDataPane.getBounds().width;
+			for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row)) {
+				int end = rows.nextClearBit(row);
+				fDataPane.redraw(0, row * cellHeight, width, (end - row) * cellHeight, false);
+				row = end;
+			}
+		}
+	}
+
 	void layoutPanes() {
 		packColumns();
 		layout(true);
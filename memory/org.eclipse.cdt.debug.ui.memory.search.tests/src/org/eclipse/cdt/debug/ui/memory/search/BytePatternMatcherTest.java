@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.eclipse.cdt.debug.ui.memory.search.MemorySearchEngine.BytePatternMatcher;
+import org.junit.Test;
+
+public class BytePatternMatcherTest {
+
+	private static byte[] ascii(String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static int naiveIndexOf(byte[] text, byte[] pattern, int from) {
+		for (int i = Math.max(from, 0); i <= text.length - pattern.length; i++) {
+			int j = 0;
+			while (j < pattern.length && text[i + j] == pattern[j]) {
+				j++;
+			}
+			if (j == pattern.length) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int naiveLastIndexOf(byte[] text, byte[] pattern, int from) {
+		for (int i = Math.min(from, text.length - pattern.length); i >= 0; i--) {
+			int j = 0;
+			while (j < pattern.length && text[i + j] == pattern[j]) {
+				j++;
+			}
+			if (j == pattern.length) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Test
+	public void testIndexOf() {
+		BytePatternMatcher matcher = new BytePatternMatcher(ascii("abab"), false); //$NON-NLS-1$
+		byte[] text = ascii("xxababab-abab"); //$NON-NLS-1$
+		assertEquals(2, matcher.indexOf(text, 0));
+		// Overlapping matches are all found
+		assertEquals(4, matcher.indexOf(text, 3));
+		assertEquals(9, matcher.indexOf(text, 5));
+		assertEquals(-1, matcher.indexOf(text, 10));
+		assertEquals(-1, matcher.indexOf(ascii("aba"), 0)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLastIndexOf() {
+		BytePatternMatcher matcher = new BytePatternMatcher(ascii("abab"), false); //$NON-NLS-1$
+		byte[] text = ascii("xxababab-abab"); //$NON-NLS-1$
+		assertEquals(9, matcher.lastIndexOf(text, text.length - 1));
+		assertEquals(4, matcher.lastIndexOf(text, 8));
+		assertEquals(2, matcher.lastIndexOf(text, 3));
+		assertEquals(-1, matcher.lastIndexOf(text, 1));
+	}
+
+	@Test
+	public void testCaseInsensitive() {
+		BytePatternMatcher matcher = new BytePatternMatcher(ascii("MaIn"), true); //$NON-NLS-1$
+		byte[] text = ascii("__libc_start_main, MAIN, Main"); //$NON-NLS-1$
+		assertEquals(13, matcher.indexOf(text, 0));
+		assertEquals(19, matcher.indexOf(text, 14));
+		assertEquals(25, matcher.lastIndexOf(text, text.length - 1));
+		// Only ASCII letters are folded
+		assertEquals(-1, new BytePatternMatcher(ascii("@"), true).indexOf(ascii("`"), 0)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(-1, new BytePatternMatcher(ascii("main"), false).indexOf(ascii("MAIN"), 0)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testNonAsciiBytes() {
+		byte[] pattern = { (byte) 0xde, (byte) 0xad, (byte) 0xbe, (byte) 0xef };
+		byte[] text = { 0x00, (byte) 0xde, (byte) 0xad, (byte) 0xde, (byte) 0xad, (byte) 0xbe, (byte) 0xef, 0x7f };
+		BytePatternMatcher matcher = new BytePatternMatcher(pattern, true);
+		assertEquals(3, matcher.indexOf(text, 0));
+		assertEquals(3, matcher.lastIndexOf(text, text.length - 1));
+	}
+
+	@Test
+	public void testAgainstNaiveSearch() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			// A small alphabet gives many partial and overlapping matches
+			byte[] text = new byte[random.nextInt(300)];
+			for (int i = 0; i < text.length; i++) {
+				text[i] = (byte) random.nextInt(3);
+			}
+			byte[] pattern = new byte[1 + random.nextInt(6)];
+			for (int i = 0; i < pattern.length; i++) {
+				pattern[i] = (byte) random.nextInt(3);
+			}
+			BytePatternMatcher matcher = new BytePatternMatcher(pattern, false);
+			for (int from = -1; from <= text.length; from++) {
+				assertEquals(naiveIndexOf(text, pattern, from), matcher.indexOf(text, from));
+				assertEquals(naiveLastIndexOf(text, pattern, from), matcher.lastIndexOf(text, from));
+			}
+		}
+	}
+}
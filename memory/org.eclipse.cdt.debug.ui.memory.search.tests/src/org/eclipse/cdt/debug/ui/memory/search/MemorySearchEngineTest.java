@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.debug.core.model.provisional.ISearchableMemoryBlock;
+import org.eclipse.cdt.debug.ui.memory.search.FindReplaceDialog.SearchPhrase;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MemorySearchEngineTest {
+
+	private static final BigInteger BASE = BigInteger.valueOf(0x10000);
+	private static final byte[] PATTERN = { 0x12, 0x34 };
+
+	/**
+	 * Memory of the range searched, with the pattern at the given offsets and
+	 * the bytes from holeStart to holeEnd, exclusive, unreadable.
+	 */
+	private static class Memory {
+		final byte[] fValues;
+		final int fHoleStart;
+		final int fHoleEnd;
+		int fFindCount;
+
+		Memory(int length, int holeStart, int holeEnd, int... matches) {
+			fValues = new byte[length];
+			for (int match : matches) {
+				System.arraycopy(PATTERN, 0, fValues, match, PATTERN.length);
+			}
+			fHoleStart = holeStart;
+			fHoleEnd = holeEnd;
+		}
+
+		boolean isReadable(long offset) {
+			return offset < fHoleStart || offset >= fHoleEnd;
+		}
+
+		MemoryByte[] read(BigInteger address, long length) {
+			MemoryByte[] bytes = new MemoryByte[(int) length];
+			long offset = address.subtract(BASE).longValue();
+			for (int i = 0; i < length; i++) {
+				long position = offset + i;
+				if (position >= 0 && position < fValues.length && isReadable(position)) {
+					bytes[i] = new MemoryByte(fValues[(int) position],
+							(byte) (MemoryByte.READABLE | MemoryByte.ENDIANESS_KNOWN));
+				} else {
+					bytes[i] = new MemoryByte((byte) 0, (byte) 0);
+				}
+			}
+			return bytes;
+		}
+
+		/**
+		 * Searches like GDB's "find" command, which stops at the first memory
+		 * it can't read.
+		 */
+		BigInteger[] find(BigInteger start, BigInteger end, int maxCount) throws DebugException {
+			fFindCount++;
+			List<BigInteger> matches = new ArrayList<>();
+			long last = end.subtract(BASE).longValue() - PATTERN.length + 1;
+			for (long offset = start.subtract(BASE).longValue(); offset <= last; offset++) {
+				if (!isReadable(offset) || !isReadable(offset + PATTERN.length - 1)) {
+					throw new DebugException(new Status(IStatus.ERROR, "test", "Unreadable memory")); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				if (fValues[(int) offset] == PATTERN[0] && fValues[(int) offset + 1] == PATTERN[1]) {
+					matches.add(BASE.add(BigInteger.valueOf(offset)));
+					if (matches.size() == maxCount) {
+						break;
+					}
+				}
+			}
+			return matches.toArray(new BigInteger[matches.size()]);
+		}
+
+		IMemoryBlockExtension createMemoryBlock(boolean searchable) {
+			Class<?> type = searchable ? ISearchableMemoryBlock.class : IMemoryBlockExtension.class;
+			return (IMemoryBlockExtension) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type },
+					(proxy, method, args) -> {
+						switch (method.getName()) {
+						case "getBytesFromAddress": //$NON-NLS-1$
+							return read((BigInteger) args[0], (Long) args[1]);
+						case "supportsFindPattern": //$NON-NLS-1$
+							return true;
+						case "findPattern": //$NON-NLS-1$
+							return find((BigInteger) args[0], (BigInteger) args[1], (Integer) args[3]);
+						default:
+							throw new UnsupportedOperationException(method.getName());
+						}
+					});
+		}
+	}
+
+	private static final SearchPhrase PHRASE = new SearchPhrase() {
+		@Override
+		public byte[] getBytes(boolean littleEndian) {
+			return PATTERN;
+		}
+
+		@Override
+		public boolean isCaseInsensitive() {
+			return false;
+		}
+
+		@Override
+		public int getByteLength() {
+			return PATTERN.length;
+		}
+	};
+
+	private static List<Long> search(Memory memory, boolean searchable, boolean forward) throws DebugException {
+		List<Long> matches = new ArrayList<>();
+		new MemorySearchEngine(memory.createMemoryBlock(searchable), PHRASE, BASE,
+				BASE.add(BigInteger.valueOf(memory.fValues.length - 1))).search(forward, (address, littleEndian) -> {
+					matches.add(address.subtract(BASE).longValue());
+					return true;
+				}, "", new NullProgressMonitor()); //$NON-NLS-1$
+		return matches;
+	}
+
+	@Test
+	public void testForward() throws DebugException {
+		Memory memory = new Memory(3 * MemorySearchEngine.BLOCK_SIZE, 0, 0, 0, 5,
+				MemorySearchEngine.BLOCK_SIZE - 1, 3 * MemorySearchEngine.BLOCK_SIZE - 2);
+		List<Long> expected = Arrays.asList(0L, 5L, (long) MemorySearchEngine.BLOCK_SIZE - 1,
+				3L * MemorySearchEngine.BLOCK_SIZE - 2);
+		assertEquals(expected, search(memory, false, true));
+		assertEquals(expected, search(memory, true, true));
+	}
+
+	@Test
+	public void testBackward() throws DebugException {
+		Memory memory = new Memory(2 * MemorySearchEngine.BLOCK_SIZE, 0, 0, 1, MemorySearchEngine.BLOCK_SIZE - 1,
+				2 * MemorySearchEngine.BLOCK_SIZE - 2);
+		assertEquals(Arrays.asList(2L * MemorySearchEngine.BLOCK_SIZE - 2, (long) MemorySearchEngine.BLOCK_SIZE - 1,
+				1L), search(memory, true, false));
+	}
+
+	@Test
+	public void testMatchesPastUnreadableMemory() throws DebugException {
+		Memory memory = new Memory(4096, 1000, 2000, 10, 999, 1500, 2000, 4094);
+		// The matches overlapping the unreadable memory are not reported
+		List<Long> expected = Arrays.asList(10L, 2000L, 4094L);
+		assertEquals(expected, search(memory, false, true));
+		assertEquals(expected, search(memory, true, true));
+		assertEquals(1, memory.fFindCount);
+	}
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+import org.eclipse.cdt.debug.core.model.provisional.ISearchableMemoryBlock;
+import org.eclipse.cdt.debug.ui.memory.search.FindReplaceDialog.SearchPhrase;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Searches a range of memory for a phrase.
+ * <p>
+ * The memory is read in large blocks, which overlap by the length of the
+ * phrase minus one so that no match is missed at their boundaries, and each
+ * block is scanned with the Boyer-Moore-Horspool algorithm. Positions are kept
+ * as <code>long</code> offsets from the start of the range, only the addresses
+ * of the matches are computed as <code>BigInteger</code>.
+ * <p>
+ * When the memory block can search in its backend, forward searches for an
+ * exact sequence of bytes are delegated to it, which saves transferring the
+ * memory. The search falls back to reading the memory if the backend fails.
+ */
+class MemorySearchEngine {
+
+	/** Number of positions searched per block of memory read */
+	static final int BLOCK_SIZE = 1024 * 1024;
+
+	/** Number of matches requested from the backend at once */
+	private static final int FIND_BATCH_SIZE = 1000;
+
+	interface MatchListener {
+		/**
+		 * @param address the address of the match
+		 * @param littleEndian whether the memory is known to be little-endian
+		 * @return whether the search continues
+		 */
+		boolean matchFound(BigInteger address, boolean littleEndian);
+	}
+
+	private final IMemoryBlockExtension fMemoryBlock;
+	private final SearchPhrase fPhrase;
+	private final BigInteger fStart;
+
+	/** Number of addresses in the range */
+	private final long fLength;
+
+	/**
+	 * @param start the first address of the range
+	 * @param end the last address of the range, inclusive
+	 */
+	MemorySearchEngine(IMemoryBlockExtension memoryBlock, SearchPhrase phrase, BigInteger start, BigInteger end) {
+		fMemoryBlock = memoryBlock;
+		fPhrase = phrase;
+		fStart = start;
+		BigInteger length = end.subtract(start).add(BigInteger.ONE);
+		fLength = length.bitLength() < 64 ? length.longValue() : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Reports the matches to the given listener, in the order of the search,
+	 * until the range is exhausted, the listener stops the search or the
+	 * monitor is canceled.
+	 */
+	void search(boolean forward, MatchListener listener, String taskName, IProgressMonitor monitor)
+			throws DebugException {
+		if (fLength <= 0) {
+			return;
+		}
+		boolean littleEndian = isLittleEndian();
+		byte[] pattern = fPhrase.getBytes(littleEndian);
+		if (pattern.length == 0 || pattern.length > fLength) {
+			return;
+		}
+		long positions = fLength - pattern.length + 1;
+		SubMonitor progress = SubMonitor.convert(monitor, taskName, toBlockCount(positions));
+
+		if (!forward) {
+			searchBackward(pattern, littleEndian, listener, progress);
+			return;
+		}
+
+		long offset = 0;
+		if (!fPhrase.isCaseInsensitive() && fMemoryBlock instanceof ISearchableMemoryBlock
+				&& ((ISearchableMemoryBlock) fMemoryBlock).supportsFindPattern()) {
+			offset = findInBackend(pattern, littleEndian, listener, progress);
+		}
+		searchForward(offset, pattern, littleEndian, listener, progress);
+	}
+
+	/**
+	 * @return the offset from which the range remains to be searched
+	 */
+	private long findInBackend(byte[] pattern, boolean littleEndian, MatchListener listener, SubMonitor progress) {
+		ISearchableMemoryBlock memoryBlock = (ISearchableMemoryBlock) fMemoryBlock;
+		long positions = fLength - pattern.length + 1;
+		BigInteger end = toAddress(fLength - 1);
+		long offset = 0;
+		while (offset < positions && !progress.isCanceled()) {
+			BigInteger[] matches;
+			try {
+				matches = memoryBlock.findPattern(toAddress(offset), end, pattern, FIND_BATCH_SIZE);
+			} catch (DebugException e) {
+				// Typically part of the range can't be read, search the rest by reading it
+				return offset;
+			}
+			long next = positions;
+			for (BigInteger match : matches) {
+				if (!listener.matchFound(match, littleEndian)) {
+					return positions;
+				}
+				next = match.subtract(fStart).longValue() + 1;
+			}
+			if (matches.length < FIND_BATCH_SIZE) {
+				next = positions;
+			}
+			progress.worked(toBlockCount(next) - toBlockCount(offset));
+			offset = next;
+		}
+		return offset;
+	}
+
+	private void searchForward(long offset, byte[] pattern, boolean littleEndian, MatchListener listener,
+			SubMonitor progress) throws DebugException {
+		BytePatternMatcher matcher = new BytePatternMatcher(pattern, fPhrase.isCaseInsensitive());
+		long positions = fLength - pattern.length + 1;
+		while (offset < positions && !progress.isCanceled()) {
+			int count = (int) Math.min(BLOCK_SIZE, positions - offset);
+			MemoryBlockData data = read(offset, count + pattern.length - 1);
+			int position = matcher.indexOf(data.fValues, 0);
+			while (position >= 0 && position < count) {
+				if (data.isReadable(position, pattern.length)
+						&& !listener.matchFound(toAddress(offset + position), littleEndian)) {
+					return;
+				}
+				position = matcher.indexOf(data.fValues, position + 1);
+			}
+			offset += count;
+			progress.worked(1);
+		}
+	}
+
+	private void searchBackward(byte[] pattern, boolean littleEndian, MatchListener listener, SubMonitor progress)
+			throws DebugException {
+		BytePatternMatcher matcher = new BytePatternMatcher(pattern, fPhrase.isCaseInsensitive());
+		long end = fLength - pattern.length + 1;
+		while (end > 0 && !progress.isCanceled()) {
+			int count = (int) Math.min(BLOCK_SIZE, end);
+			long offset = end - count;
+			MemoryBlockData data = read(offset, count + pattern.length - 1);
+			int position = matcher.lastIndexOf(data.fValues, count - 1);
+			while (position >= 0) {
+				if (data.isReadable(position, pattern.length)
+						&& !listener.matchFound(toAddress(offset + position), littleEndian)) {
+					return;
+				}
+				position = matcher.lastIndexOf(data.fValues, position - 1);
+			}
+			end = offset;
+			progress.worked(1);
+		}
+	}
+
+	private boolean isLittleEndian() throws DebugException {
+		MemoryByte[] bytes = fMemoryBlock.getBytesFromAddress(fStart, 1);
+		return bytes.length > 0 && bytes[0].isEndianessKnown() && !bytes[0].isBigEndian();
+	}
+
+	private MemoryBlockData read(long offset, long length) throws DebugException {
+		return new MemoryBlockData(fMemoryBlock.getBytesFromAddress(toAddress(offset), length));
+	}
+
+	private BigInteger toAddress(long offset) {
+		return fStart.add(BigInteger.valueOf(offset));
+	}
+
+	private static int toBlockCount(long positions) {
+		return (int) Math.min(Integer.MAX_VALUE, (positions + BLOCK_SIZE - 1) / BLOCK_SIZE);
+	}
+
+	/** Values of a block of memory, with the bytes that could not be read */
+	private static class MemoryBlockData {
+		final byte[] fValues;
+		final BitSet fUnreadable = new BitSet();
+
+		MemoryBlockData(MemoryByte[] bytes) {
+			fValues = new byte[bytes.length];
+			for (int i = 0; i < bytes.length; i++) {
+				fValues[i] = bytes[i].getValue();
+				if (!bytes[i].isReadable()) {
+					fUnreadable.set(i);
+				}
+			}
+		}
+
+		boolean isReadable(int position, int length) {
+			int unreadable = fUnreadable.nextSetBit(position);
+			return unreadable < 0 || unreadable >= position + length;
+		}
+	}
+
+	/**
+	 * Boyer-Moore-Horspool matcher of a sequence of bytes. When the match is
+	 * case insensitive, the ASCII letters are folded to upper case in the
+	 * pattern and in the searched bytes.
+	 */
+	static class BytePatternMatcher {
+		private final byte[] fPattern;
+		private final byte[] fFold = new byte[256];
+		private final int[] fForwardShift = new int[256];
+		private final int[] fBackwardShift = new int[256];
+
+		BytePatternMatcher(byte[] pattern, boolean caseInsensitive) {
+			for (int b = 0; b < 256; b++) {
+				fFold[b] = (byte) (caseInsensitive && b >= 'a' && b <= 'z' ? b - 'a' + 'A' : b);
+			}
+			int m = pattern.length;
+			fPattern = new byte[m];
+			for (int i = 0; i < m; i++) {
+				fPattern[i] = fFold[pattern[i] & 0xff];
+			}
+
+			// Shifts by folded byte, for the last byte of the window when searching
+			// forward and the first one when searching backward
+			int[] forwardShift = new int[256];
+			int[] backwardShift = new int[256];
+			for (int b = 0; b < 256; b++) {
+				forwardShift[b] = m;
+				backwardShift[b] = m;
+			}
+			for (int i = 0; i < m - 1; i++) {
+				forwardShift[fPattern[i] & 0xff] = m - 1 - i;
+			}
+			for (int i = m - 1; i > 0; i--) {
+				backwardShift[fPattern[i] & 0xff] = i;
+			}
+			for (int b = 0; b < 256; b++) {
+				fForwardShift[b] = forwardShift[fFold[b] & 0xff];
+				fBackwardShift[b] = backwardShift[fFold[b] & 0xff];
+			}
+		}
+
+		/**
+		 * @return the first position not before the given one where the
+		 *         pattern is found, or -1
+		 */
+		int indexOf(byte[] text, int from) {
+			int m = fPattern.length;
+			int last = text.length - m;
+			int i = Math.max(from, 0);
+			while (i <= last) {
+				int j = m - 1;
+				while (j >= 0 && fFold[text[i + j] & 0xff] == fPattern[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+				i += fForwardShift[text[i + m - 1] & 0xff];
+			}
+			return -1;
+		}
+
+		/**
+		 * @return the last position not after the given one where the pattern
+		 *         is found, or -1
+		 */
+		int lastIndexOf(byte[] text, int from) {
+			int m = fPattern.length;
+			int i = Math.min(from, text.length - m);
+			while (i >= 0) {
+				int j = 0;
+				while (j < m && fFold[text[i + j] & 0xff] == fPattern[j]) {
+					j++;
+				}
+				if (j == m) {
+					return i;
+				}
+				i -= fBackwardShift[text[i] & 0xff];
+			}
+			return -1;
+		}
+	}
+}
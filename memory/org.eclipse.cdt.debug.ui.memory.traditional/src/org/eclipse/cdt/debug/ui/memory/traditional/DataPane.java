@@ -364,6 +364,10 @@ public class DataPane extends AbstractPane {
 			BigInteger startAddress = fRendering.getViewportStartAddress();
 
 			for (int i = 0; i < fRendering.getRowCount(); i++) {
+				// skip the rows outside of the damaged area
+				if (cellHeight * (i + 1) <= pe.y || cellHeight * i >= pe.y + pe.height)
+					continue;
+
 				for (int col = 0; col < columns; col++) {
 					gc.setFont(fRendering.getFont());
 
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.debug.ui.memory.traditional;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Memory of a viewport, kept in primitive arrays rather than as one
+ * {@link MemoryByte} object per byte. The changes from the history of the
+ * memory are kept as one bitmap per history level.
+ * <p>
+ * The bytes are stored as a sequential byte stream, the order of the bytes
+ * within an addressable unit is reversed when the target is little endian.
+ *
+ * @since 1.7
+ */
+public class MemoryViewportStore {
+
+	private final BigInteger fStart;
+
+	private final BigInteger fEnd;
+
+	private final int fAddressableSize;
+
+	private final byte[] fValues;
+
+	private final byte[] fFlags;
+
+	private BitSet[] fChanged = new BitSet[0];
+
+	/**
+	 * @param start the first address of the viewport
+	 * @param end the address following the viewport
+	 * @param addressableSize the number of bytes per address
+	 * @param bytes the memory read for the viewport
+	 * @param reverseUnits whether to reverse the order of the bytes within an
+	 *            addressable unit
+	 */
+	public MemoryViewportStore(BigInteger start, BigInteger end, int addressableSize, MemoryByte[] bytes,
+			boolean reverseUnits) {
+		this(start, end, addressableSize, new byte[bytes.length], new byte[bytes.length]);
+		for (int i = 0; i < bytes.length; i++) {
+			int index = i;
+			// there isn't an order when the unit size is one
+			if (reverseUnits && addressableSize > 1) {
+				int unitStart = i - i % addressableSize;
+				index = unitStart + addressableSize - 1 - (i - unitStart);
+				if (index >= bytes.length) {
+					index = i;
+				}
+			}
+			fValues[i] = bytes[index].getValue();
+			fFlags[i] = bytes[index].getFlags();
+		}
+	}
+
+	private MemoryViewportStore(BigInteger start, BigInteger end, int addressableSize, byte[] values, byte[] flags) {
+		fStart = start;
+		fEnd = end;
+		fAddressableSize = addressableSize;
+		fValues = values;
+		fFlags = flags;
+	}
+
+	public BigInteger getStart() {
+		return fStart;
+	}
+
+	public BigInteger getEnd() {
+		return fEnd;
+	}
+
+	/**
+	 * @return the number of bytes in the store
+	 */
+	public int getLength() {
+		return fValues.length;
+	}
+
+	/**
+	 * @return whether the given number of addressable units from the given
+	 *         address are in the store
+	 */
+	public boolean contains(BigInteger address, int units) {
+		return fValues.length > 0 && fStart.compareTo(address) <= 0
+				&& fEnd.compareTo(address.add(BigInteger.valueOf(units))) >= 0;
+	}
+
+	/**
+	 * @return the index in the store of the first byte of the given address
+	 */
+	public int getOffset(BigInteger address) {
+		return address.subtract(fStart).multiply(BigInteger.valueOf(fAddressableSize)).intValue();
+	}
+
+	public byte getValue(int offset) {
+		return fValues[offset];
+	}
+
+	public byte getFlags(int offset) {
+		return fFlags[offset];
+	}
+
+	/**
+	 * @return the number of history levels for which changes were computed,
+	 *         some of them may be missing
+	 */
+	public int getChangeLevels() {
+		return fChanged.length;
+	}
+
+	/**
+	 * @return whether the changes from the given history level were computed
+	 */
+	public boolean hasChanges(int level) {
+		return level < fChanged.length && fChanged[level] != null;
+	}
+
+	/**
+	 * @return whether the byte at the given index differs from the given
+	 *         history level
+	 */
+	public boolean isChanged(int level, int offset) {
+		return hasChanges(level) && fChanged[level].get(offset);
+	}
+
+	/**
+	 * @return a copy of the values of the store, without the changes
+	 */
+	public MemoryViewportStore copy() {
+		return new MemoryViewportStore(fStart, fEnd, fAddressableSize, fValues.clone(), fFlags.clone());
+	}
+
+	/**
+	 * Computes which bytes differ from the given history level, in the range
+	 * common to this store and the history. The bytes outside this range are
+	 * not marked as changed.
+	 */
+	public void computeChanges(int level, MemoryViewportStore history) {
+		if (level >= fChanged.length) {
+			fChanged = Arrays.copyOf(fChanged, level + 1);
+		}
+		BitSet changed = new BitSet(fValues.length);
+		BigInteger overlapStart = fStart.max(history.fStart);
+		BigInteger overlapEnd = fEnd.min(history.fEnd);
+		if (overlapEnd.compareTo(overlapStart) > 0) {
+			int offset = getOffset(overlapStart);
+			int historyOffset = history.getOffset(overlapStart);
+			int length = Math.min(getOffset(overlapEnd), fValues.length) - offset;
+			length = Math.min(length, history.fValues.length - historyOffset);
+			for (int i = 0; i < length; i++) {
+				if (fValues[offset + i] != history.fValues[historyOffset + i]) {
+					changed.set(offset + i);
+				}
+			}
+		}
+		fChanged[level] = changed;
+	}
+
+	/**
+	 * Returns a store covering the range of this store and the given one,
+	 * where the values of this store take precedence. When the ranges neither
+	 * overlap nor touch, the given store replaces this one.
+	 */
+	public MemoryViewportStore extend(MemoryViewportStore other) {
+		if (other.fEnd.compareTo(fStart) < 0 || other.fStart.compareTo(fEnd) > 0) {
+			return other.copy();
+		}
+		if (other.fStart.compareTo(fStart) >= 0 && other.fEnd.compareTo(fEnd) <= 0) {
+			return this;
+		}
+		BigInteger start = fStart.min(other.fStart);
+		BigInteger end = fEnd.max(other.fEnd);
+		int length = end.subtract(start).multiply(BigInteger.valueOf(fAddressableSize)).intValue();
+		byte[] values = new byte[length];
+		byte[] flags = new byte[length];
+		MemoryViewportStore result = new MemoryViewportStore(start, end, fAddressableSize, values, flags);
+		int otherOffset = result.getOffset(other.fStart);
+		int otherLength = Math.min(other.fValues.length, length - otherOffset);
+		System.arraycopy(other.fValues, 0, values, otherOffset, otherLength);
+		System.arraycopy(other.fFlags, 0, flags, otherOffset, otherLength);
+		int offset = result.getOffset(fStart);
+		int ownLength = Math.min(fValues.length, length - offset);
+		System.arraycopy(fValues, 0, values, offset, ownLength);
+		System.arraycopy(fFlags, 0, flags, offset, ownLength);
+		return result;
+	}
+
+	/**
+	 * Returns the rows in which the values, the flags or the changes differ
+	 * from the given store, which must start at the same address.
+	 *
+	 * @param previous the store previously painted
+	 * @param bytesPerRow the number of bytes painted per row
+	 * @return the indexes of the rows that need to be painted again, or
+	 *         <code>null</code> if the stores can't be compared
+	 */
+	public BitSet getChangedRows(MemoryViewportStore previous, int bytesPerRow) {
+		if (bytesPerRow <= 0 || !fStart.equals(previous.fStart) || fAddressableSize != previous.fAddressableSize) {
+			return null;
+		}
+		BitSet rows = new BitSet();
+		int length = Math.max(fValues.length, previous.fValues.length);
+		int levels = Math.max(fChanged.length, previous.fChanged.length);
+		for (int i = 0; i < length; i++) {
+			int row = i / bytesPerRow;
+			if (rows.get(row)) {
+				// skip the rest of the row
+				i = (row + 1) * bytesPerRow - 1;
+				continue;
+			}
+			boolean dirty = i >= fValues.length || i >= previous.fValues.length || fValues[i] != previous.fValues[i]
+					|| fFlags[i] != previous.fFlags[i];
+			for (int level = 0; level < levels && !dirty; level++) {
+				dirty = isChanged(level, i) != previous.isChanged(level, i);
+			}
+			if (dirty) {
+				rows.set(row);
+			}
+		}
+		return rows;
+	}
+}
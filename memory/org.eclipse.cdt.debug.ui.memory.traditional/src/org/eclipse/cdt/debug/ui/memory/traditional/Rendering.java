@@ -21,6 +21,7 @@ package org.eclipse.cdt.debug.ui.memory.traditional;
 import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -653,31 +654,6 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		}
 
-		class MemoryUnit {
-			BigInteger start;
-
-			BigInteger end;
-
-			TraditionalMemoryByte[] bytes;
-
-			@Override
-			public MemoryUnit clone() {
-				MemoryUnit b = new MemoryUnit();
-
-				b.start = this.start;
-				b.end = this.end;
-				b.bytes = new TraditionalMemoryByte[this.bytes.length];
-				for (int i = 0; i < this.bytes.length; i++)
-					b.bytes[i] = new TraditionalMemoryByte(this.bytes[i].getValue());
-
-				return b;
-			}
-
-			public boolean isValid() {
-				return this.start != null && this.end != null && this.bytes != null;
-			}
-		}
-
 		private HashMap<BigInteger, TraditionalMemoryByte[]> fEditBuffer = new HashMap<>();
 
 		private boolean fDisposed = false;
@@ -686,9 +662,9 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		private Vector<Object> fQueue = new Vector<>();
 
-		protected MemoryUnit fCache = null;
+		protected MemoryViewportStore fCache = null;
 
-		protected MemoryUnit fHistoryCache[] = new MemoryUnit[0];
+		protected MemoryViewportStore fHistoryCache[] = new MemoryViewportStore[0];
 
 		protected int fHistoryDepth = 0;
 
@@ -710,7 +686,7 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		public void setHistoryDepth(int depth) {
 			fHistoryDepth = depth;
-			fHistoryCache = new MemoryUnit[fHistoryDepth];
+			fHistoryCache = new MemoryViewportStore[fHistoryDepth];
 		}
 
 		@Override
@@ -778,7 +754,7 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 					for (int i = fViewportCache.getHistoryDepth() - 1; i > 0; i--)
 						fHistoryCache[i] = fHistoryCache[i - 1];
 
-					fHistoryCache[0] = fCache.clone();
+					fHistoryCache[0] = fCache.copy();
 				} else if (pair != null) {
 					populateCache(pair.startAddress, pair.endAddress);
 				} else {
@@ -817,74 +793,43 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 				// of the MemoryBlock.
 				MemoryByte readBytes[] = memoryBlock.getBytesFromAddress(startAddress, units);
 
-				TraditionalMemoryByte cachedBytes[] = new TraditionalMemoryByte[readBytes.length];
-				for (int i = 0; i < readBytes.length; i++)
-					cachedBytes[i] = new TraditionalMemoryByte(readBytes[i].getValue(), readBytes[i].getFlags());
-
 				// derive the target endian from the read MemoryBytes.
-				if (cachedBytes.length > 0) {
-					if (cachedBytes[0].isEndianessKnown()) {
-						setTargetLittleEndian(!cachedBytes[0].isBigEndian());
+				if (readBytes.length > 0) {
+					if (readBytes[0].isEndianessKnown()) {
+						setTargetLittleEndian(!readBytes[0].isBigEndian());
 					}
 				}
 
 				// reorder bytes within unit to be a sequential byte stream if the endian is already little
-				if (isTargetLittleEndian()) {
-					// there isn't an order when the unit size is one, so skip for performance
-					if (addressableSize.compareTo(BigInteger.ONE) != 0) {
-						int unitSize = addressableSize.intValue();
-						TraditionalMemoryByte cachedBytesAsByteSequence[] = new TraditionalMemoryByte[cachedBytes.length];
-						for (int unit = 0; unit < units; unit++) {
-							for (int unitbyte = 0; unitbyte < unitSize; unitbyte++) {
-								cachedBytesAsByteSequence[unit * unitSize + unitbyte] = cachedBytes[unit * unitSize
-										+ unitSize - unitbyte - 1];
-							}
-						}
-						cachedBytes = cachedBytesAsByteSequence;
-					}
-				}
-
-				final TraditionalMemoryByte[] cachedBytesFinal = cachedBytes;
-
-				fCache = new MemoryUnit();
-				fCache.start = startAddress;
-				fCache.end = endAddress;
-				fCache.bytes = cachedBytesFinal;
+				final MemoryViewportStore cache = new MemoryViewportStore(startAddress, endAddress,
+						getAddressableSize(), readBytes, isTargetLittleEndian());
+				final MemoryViewportStore previous = fCache;
+				fCache = cache;
 
 				Display.getDefault().asyncExec(() -> {
 					// generate deltas
 					for (int historyIndex = 0; historyIndex < getHistoryDepth(); historyIndex++) {
-						if (fHistoryCache[historyIndex] != null && fHistoryCache[historyIndex].isValid()) {
-							BigInteger maxStart = startAddress.max(fHistoryCache[historyIndex].start);
-							BigInteger minEnd = endAddress.min(fHistoryCache[historyIndex].end)
-									.subtract(BigInteger.valueOf(1));
-
-							BigInteger overlapLength = minEnd.subtract(maxStart).multiply(addressableSize);
-							if (overlapLength.compareTo(BigInteger.valueOf(0)) > 0) {
-								// there is overlap
-
-								int offsetIntoOld = (maxStart.subtract(fHistoryCache[historyIndex].start)
-										.multiply(addressableSize)).intValue();
-								int offsetIntoNew = maxStart.subtract(startAddress).multiply(addressableSize)
-										.intValue();
-
-								for (int i = overlapLength.intValue(); i >= 0; i--) {
-									cachedBytesFinal[offsetIntoNew + i].setChanged(historyIndex,
-											cachedBytesFinal[offsetIntoNew + i]
-													.getValue() != fHistoryCache[historyIndex].bytes[offsetIntoOld + i]
-															.getValue());
-								}
-							}
+						if (fHistoryCache[historyIndex] != null) {
+							cache.computeChanges(historyIndex, fHistoryCache[historyIndex]);
 						}
 					}
 
 					// If the history does not exist, populate the history with the just populated cache. This solves the
 					// use case of 1) connect to target; 2) edit memory before the first suspend debug event; 3) paint
 					// differences in changed color.
-					if (fHistoryCache[0] == null)
-						fHistoryCache[0] = fCache.clone();
+					if (getHistoryDepth() > 0 && fHistoryCache[0] == null)
+						fHistoryCache[0] = cache.copy();
 
-					Rendering.this.redrawPanes();
+					// only repaint the rows that changed when the viewport did not move
+					BitSet rows = null;
+					if (previous != null && startAddress.equals(fViewportAddress)) {
+						rows = cache.getChangedRows(previous, getBytesPerRow());
+					}
+					if (rows != null) {
+						Rendering.this.redrawRows(rows);
+					} else {
+						Rendering.this.redrawPanes();
+					}
 				});
 
 			} catch (Exception e) {
@@ -910,22 +855,18 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 			if (containsEditedCell(address)) // cell size cannot be switched during an edit
 				return getEditedMemory(address);
 
-			boolean contains = false;
-			if (fCache != null && fCache.start != null) {
-				// see if all of the data requested is in the cache
-				BigInteger dataEnd = address.add(BigInteger.valueOf(units));
-
-				if (fCache.start.compareTo(address) <= 0 && fCache.end.compareTo(dataEnd) >= 0
-						&& fCache.bytes.length > 0)
-					contains = true;
-			}
-
-			if (contains) {
-				int offset = address.subtract(fCache.start).multiply(BigInteger.valueOf(getAddressableSize()))
-						.intValue();
+			MemoryViewportStore cache = fCache;
+			if (cache != null && cache.contains(address, units)) {
+				int offset = cache.getOffset(address);
+				int levels = cache.getChangeLevels();
 				TraditionalMemoryByte bytes[] = new TraditionalMemoryByte[bytesRequested];
 				for (int i = 0; i < bytes.length; i++) {
-					bytes[i] = fCache.bytes[offset + i];
+					bytes[i] = new TraditionalMemoryByte(cache.getValue(offset + i), cache.getFlags(offset + i));
+					for (int level = 0; level < levels; level++) {
+						if (cache.hasChanges(level)) {
+							bytes[i].setChanged(level, cache.isChanged(level, offset + i));
+						}
+					}
 				}
 
 				return bytes;
@@ -1693,6 +1634,29 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 		fParent.updateRenderingLabels();
 	}
 
+	/**
+	 * Repaints the given rows of the data panes, the addresses of the rows are
+	 * unchanged.
+	 *
+	 * @param rows the indexes of the rows to repaint
+	 * @since 1.7
+	 */
+	protected void redrawRows(BitSet rows) {
+		if (!isDisposed() && this.isVisible()) {
+			for (AbstractPane pane : new AbstractPane[] { fBinaryPane, fTextPane }) {
+				if (pane.isPaneVisible()) {
+					int cellHeight = pane.getCellHeight();
+					int width = pane.getBounds().width;
+					for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row)) {
+						int end = rows.nextClearBit(row);
+						pane.redraw(0, row * cellHeight, width, (end - row) * cellHeight, false);
+						row = end;
+					}
+				}
+			}
+		}
+	}
+
 	private void layoutPanes() {
 		packColumns();
 		layout(true);
@@ -193,6 +193,10 @@ public class TextPane extends AbstractPane {
 			BigInteger start = fRendering.getViewportStartAddress();
 
 			for (int i = 0; i < fRendering.getRowCount(); i++) {
+				// skip the rows outside of the damaged area
+				if (cellHeight * (i + 1) <= pe.y || cellHeight * i >= pe.y + pe.height)
+					continue;
+
 				for (int col = 0; col < columns; col++) {
 					gc.setFont(fRendering.getFont());
 